@@ -5,6 +5,9 @@ import com.vladsch.flexmark.docx.converter.internal.DocxRendererOptions;
 import com.vladsch.flexmark.docx.converter.internal.DocxRendererPhase;
 import com.vladsch.flexmark.docx.converter.util.DocxContext;
 import com.vladsch.flexmark.html.renderer.LinkResolverContext;
+import com.vladsch.flexmark.html.renderer.LinkType;
+import com.vladsch.flexmark.html.renderer.ResolvedLink;
+import com.vladsch.flexmark.util.html.Attributes;
 
 import java.util.Collection;
 
@@ -44,5 +47,19 @@ public interface DocxRendererContext extends DocxContext<Node>, LinkResolverCont
      */
     DocxRendererOptions getDocxRendererOptions();
 
+    /**
+     * Resolve link as it would be resolved when rendering the given node, used to resolve links of nodes before they
+     * are rendered
+     *
+     * @param node       node whose link is resolved
+     * @param linkType   type of link being resolved
+     * @param url        link url text
+     * @param attributes link attributes
+     * @param urlEncode  whether the link should be url encoded, if null then the value of
+     *                   {@link com.vladsch.flexmark.html.HtmlRenderer#PERCENT_ENCODE_URLS} is used
+     * @return resolved link url for this link and its resolved status
+     */
+    ResolvedLink resolveLink(Node node, LinkType linkType, CharSequence url, Attributes attributes, Boolean urlEncode);
+
 
 }
@@ -18,7 +18,7 @@ import com.vladsch.flexmark.html.renderer.ResolvedLink;
 import com.vladsch.flexmark.parser.ListOptions;
 import com.vladsch.flexmark.parser.Parser;
 import com.vladsch.flexmark.superscript.Superscript;
-import com.vladsch.flexmark.util.ImageUtils;
+import com.vladsch.flexmark.util.ParallelTasks;
 import com.vladsch.flexmark.util.format.options.ListSpacing;
 import com.vladsch.flexmark.util.html.Attribute;
 import com.vladsch.flexmark.util.html.Escaping;
@@ -35,15 +35,12 @@ import org.docx4j.relationships.Relationship;
 import org.docx4j.wml.*;
 
 import javax.xml.bind.JAXBElement;
-import java.awt.image.BufferedImage;
-import java.io.File;
 import java.math.BigInteger;
 import java.nio.charset.Charset;
 import java.util.*;
 
 import static com.vladsch.flexmark.docx.converter.util.BlockFormatProvider.*;
 import static com.vladsch.flexmark.html.renderer.LinkStatus.UNKNOWN;
-import static java.lang.Character.isLetter;
 
 @SuppressWarnings("WeakerAccess")
 public class CoreNodeDocxRenderer implements PhasedNodeDocxRenderer {
@@ -54,6 +51,10 @@ public class CoreNodeDocxRenderer implements PhasedNodeDocxRenderer {
             DocxRendererPhase.DOCUMENT_TOP,
             DocxRendererPhase.DOCUMENT_BOTTOM
     ));
+    public static final HashSet<Class<?>> IMAGE_NODE_CLASSES = new HashSet<Class<?>>(Arrays.asList(
+            Image.class,
+            ImageRef.class
+    ));
 
     protected final ReferenceRepository referenceRepository;
 
@@ -65,6 +66,10 @@ public class CoreNodeDocxRenderer implements PhasedNodeDocxRenderer {
     protected final boolean tableCaptionToParagraph;
     protected final boolean tableCaptionBeforeTable;
     private int imageId;
+    private final DocxImageLoader imageLoader;
+    private final int imageLoaderThreads;
+    private final HashMap<String, DocxImage> images;                      // null if image could not be loaded
+    private final HashMap<String, BinaryPartAbstractImage> imageParts;    // one image part for all uses of an image
 
     public CoreNodeDocxRenderer(DataHolder options) {
         this.referenceRepository = getRepository(options);
@@ -73,6 +78,10 @@ public class CoreNodeDocxRenderer implements PhasedNodeDocxRenderer {
         this.tableCaptionToParagraph = DocxRenderer.TABLE_CAPTION_TO_PARAGRAPH.getFrom(options);
         this.tableCaptionBeforeTable = DocxRenderer.TABLE_CAPTION_BEFORE_TABLE.getFrom(options);
         this.repositoryNodesDone = false;
+        this.imageLoader = DocxRenderer.IMAGE_LOADER.getFrom(options);
+        this.imageLoaderThreads = DocxRenderer.IMAGE_LOADER_THREADS.getFrom(options);
+        this.images = new HashMap<String, DocxImage>();
+        this.imageParts = new HashMap<String, BinaryPartAbstractImage>();
 
         this.options = new DocxRendererOptions(options);
         this.listOptions = ListOptions.getFrom(options);
@@ -88,6 +97,7 @@ public class CoreNodeDocxRenderer implements PhasedNodeDocxRenderer {
         // here non-rendered elements can be collected so that they are rendered in another part of the document
         switch (phase) {
             case COLLECT:
+                loadImages(docx);
                 break;
 
             case DOCUMENT_TOP:
@@ -103,7 +113,7 @@ public class CoreNodeDocxRenderer implements PhasedNodeDocxRenderer {
 
     @Override
     public Set<Class<?>> getNodeClasses() {
-        return null;
+        return IMAGE_NODE_CLASSES;
     }
 
     public ReferenceRepository getRepository(final DataHolder options) {
@@ -824,8 +834,15 @@ public class CoreNodeDocxRenderer implements PhasedNodeDocxRenderer {
 
     public void newImage(final DocxRendererContext docx, byte[] bytes, String filenameHint, String altText, int id1, int id2, long cx) {
         try {
-            BinaryPartAbstractImage imagePart = null;
-            imagePart = BinaryPartAbstractImage.createImagePart(docx.getPackage(), bytes);
+            BinaryPartAbstractImage imagePart = BinaryPartAbstractImage.createImagePart(docx.getPackage(), bytes);
+            newImage(docx, imagePart, filenameHint, altText, id1, id2, cx);
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+
+    public void newImage(final DocxRendererContext docx, BinaryPartAbstractImage imagePart, String filenameHint, String altText, int id1, int id2, long cx) {
+        try {
             Inline inline = null;
             inline = cx > 0 ? imagePart.createImageInline(filenameHint, altText, id1, id2, cx, false)
                     : imagePart.createImageInline(filenameHint, altText, id1, id2, false);
@@ -842,7 +859,11 @@ public class CoreNodeDocxRenderer implements PhasedNodeDocxRenderer {
 
     private void render(final Image node, final DocxRendererContext docx) {
         String altText = new TextCollectingVisitor().collectAndGetText(node);
-        ResolvedLink resolvedLink = docx.resolveLink(LinkType.IMAGE, node.getUrl().unescape(), null, null);
+        renderImage(docx, altText, getImageUrl(node, docx));
+    }
+
+    private String getImageUrl(final Image node, final DocxRendererContext docx) {
+        ResolvedLink resolvedLink = docx.resolveLink(node, LinkType.IMAGE, node.getUrl().unescape(), null, null);
         String url = resolvedLink.getUrl();
 
         if (!node.getUrlContent().isEmpty()) {
@@ -850,13 +871,23 @@ public class CoreNodeDocxRenderer implements PhasedNodeDocxRenderer {
             String content = Escaping.percentEncodeUrl(node.getUrlContent()).replace("+", "%2B").replace("%3D", "=").replace("%26", "&amp;");
             url += content;
         }
+        return url;
+    }
 
-        String alt = node.getText().unescape();
+    private void render(final ImageRef node, final DocxRendererContext docx) {
+        ResolvedLink resolvedLink = getImageRefLink(node, docx);
 
-        renderImage(docx, altText, url);
+        if (resolvedLink == null) {
+            // empty ref, we treat it as text
+            docx.text(node.getChars().unescape());
+        } else {
+            String altText = new TextCollectingVisitor().collectAndGetText(node);
+            String url = resolvedLink.getUrl();
+            renderImage(docx, altText, url);
+        }
     }
 
-    private void render(final ImageRef node, final DocxRendererContext docx) {
+    private ResolvedLink getImageRefLink(final ImageRef node, final DocxRendererContext docx) {
         ResolvedLink resolvedLink = null;
 
         if (!node.isDefined() && recheckUndefinedReferences) {
@@ -869,7 +900,7 @@ public class CoreNodeDocxRenderer implements PhasedNodeDocxRenderer {
             Reference reference = node.getReferenceNode(referenceRepository);
             String url = reference.getUrl().unescape();
 
-            resolvedLink = docx.resolveLink(LinkType.IMAGE, url, null, null);
+            resolvedLink = docx.resolveLink(node, LinkType.IMAGE, url, null, null);
             if (reference.getTitle().isNotNull()) {
                 resolvedLink.getNonNullAttributes().replaceValue(Attribute.TITLE_ATTR, reference.getTitle().unescape());
             } else {
@@ -878,58 +909,100 @@ public class CoreNodeDocxRenderer implements PhasedNodeDocxRenderer {
         } else {
             // see if have reference resolver and this is resolved
             String normalizeRef = referenceRepository.normalizeKey(node.getReference());
-            resolvedLink = docx.resolveLink(LinkType.IMAGE_REF, normalizeRef, null, null);
+            resolvedLink = docx.resolveLink(node, LinkType.IMAGE_REF, normalizeRef, null, null);
             if (resolvedLink.getStatus() == UNKNOWN) {
                 resolvedLink = null;
             }
         }
-
-        if (resolvedLink == null) {
-            // empty ref, we treat it as text
-            docx.text(node.getChars().unescape());
-        } else {
-            String altText = new TextCollectingVisitor().collectAndGetText(node);
-            String url = resolvedLink.getUrl();
-            renderImage(docx, url, altText);
-        }
+        return resolvedLink;
     }
 
     private void renderImage(final DocxRendererContext docx, final String altText, final String url) {
-        BufferedImage image = null;
         int id1 = imageId++;
         int id2 = imageId++;
         String filenameHint = String.format("Image%d", id1 / 2 + 1);
         int cx = -1;
 
-        if (url.startsWith("http:") || url.startsWith("https:")) {
-            // hyperlinked image
-            image = ImageUtils.loadImageFromURL(url);
-        } else if (url.startsWith("file:")) {
-            // hyperlinked image
-            String path = url.substring("file:".length());
-            if (path.startsWith("///")) {
-                path = path.substring(2);
-            } else if (path.startsWith("//")) {
-                path = path.substring(1);
+        DocxImage image = getImage(url);
+        if (image != null) {
+            int width = image.getWidth();
+            if (options.maxImageWidth > 0 && options.maxImageWidth < width) {
+                // convert to twips
+                cx = options.maxImageWidth * 20;
             }
 
-            if (path.length() > 3 && path.charAt(0) == '/' && isLetter(path.charAt(1)) && path.charAt(2) == ':') {
-                // windows path, remove the leading '/'
-                path = path.substring(1);
+            BinaryPartAbstractImage imagePart = imageParts.get(url);
+            if (imagePart == null) {
+                try {
+                    imagePart = BinaryPartAbstractImage.createImagePart(docx.getPackage(), image.getBytes());
+                    imageParts.put(url, imagePart);
+                } catch (Exception e) {
+                    e.printStackTrace();
+                    return;
+                }
             }
+            newImage(docx, imagePart, filenameHint, altText, id1, id2, cx);
+        }
+    }
 
-            image = ImageUtils.loadImageFromFile(new File(path));
+    private DocxImage getImage(final String url) {
+        if (images.containsKey(url)) {
+            return images.get(url);
         }
 
-        if (image != null) {
-            int width = image.getWidth();
-            if (options.maxImageWidth > 0 && options.maxImageWidth < width) {
-                // convert to twips
-                cx = options.maxImageWidth * 20;
+        DocxImage image = loadImage(url);
+        images.put(url, image);
+        return image;
+    }
+
+    /**
+     * @param url resolved image url
+     * @return loaded image or null if the loader could not load it or failed, the image is then not rendered
+     */
+    private DocxImage loadImage(final String url) {
+        try {
+            byte[] bytes = imageLoader.loadImage(url);
+            return bytes == null ? null : DocxImage.of(bytes);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * Load images of the document in parallel, images are loaded when first rendered if not loaded here
+     *
+     * @param docx renderer context
+     */
+    private void loadImages(final DocxRendererContext docx) {
+        if (imageLoaderThreads <= 1) return;
+
+        LinkedHashSet<String> urls = new LinkedHashSet<String>();
+        for (Node node : docx.nodesOfType(IMAGE_NODE_CLASSES)) {
+            if (node instanceof Image) {
+                urls.add(getImageUrl((Image) node, docx));
+            } else if (node instanceof ImageRef) {
+                ResolvedLink resolvedLink = getImageRefLink((ImageRef) node, docx);
+                if (resolvedLink != null) urls.add(resolvedLink.getUrl());
             }
+        }
 
-            byte[] imageBytes = ImageUtils.getImageBytes(image);
-            newImage(docx, imageBytes, filenameHint, altText, id1, id2, cx);
+        if (urls.size() <= 1) return;
+
+        ArrayList<String> urlList = new ArrayList<String>(urls);
+        try {
+            List<DocxImage> loadedImages = ParallelTasks.run(urlList, imageLoaderThreads, "DocxImageLoader", new ParallelTasks.Task<String, DocxImage, RuntimeException>() {
+                @Override
+                public DocxImage run(String url) {
+                    return loadImage(url);
+                }
+            });
+
+            for (int i = 0; i < urlList.size(); i++) {
+                images.put(urlList.get(i), loadedImages.get(i));
+            }
+        } catch (InterruptedException e) {
+            // images not loaded yet will be loaded when rendered
+            Thread.currentThread().interrupt();
         }
     }
 
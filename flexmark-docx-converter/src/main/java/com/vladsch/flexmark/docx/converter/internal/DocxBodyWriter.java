@@ -0,0 +1,181 @@
+package com.vladsch.flexmark.docx.converter.internal;
+
+import org.docx4j.XmlUtils;
+import org.docx4j.jaxb.Context;
+import org.docx4j.jaxb.NamespacePrefixMapperUtils;
+import org.docx4j.openpackaging.exceptions.Docx4JException;
+import org.docx4j.openpackaging.packages.WordprocessingMLPackage;
+import org.docx4j.openpackaging.parts.WordprocessingML.MainDocumentPart;
+
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import java.io.*;
+import java.nio.charset.Charset;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Writes body content of the main document part to a temporary file as it is rendered and removed from the part, then
+ * saves the package with the written body in its document part.
+ * <p>
+ * The last body element is kept in the part until the document is saved since renderers can add to the last
+ * paragraph.
+ */
+public class DocxBodyWriter {
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private final MainDocumentPart documentPart;
+    private final File bodyFile;
+    private final OutputStream bodyStream;
+    private final XMLStreamWriter bodyWriter;
+    private final Marshaller marshaller;
+
+    public DocxBodyWriter(MainDocumentPart documentPart) throws IOException {
+        this.documentPart = documentPart;
+        this.bodyFile = File.createTempFile("docx-body", ".xml");
+        this.bodyStream = new BufferedOutputStream(new FileOutputStream(bodyFile));
+
+        try {
+            this.bodyWriter = XMLOutputFactory.newInstance().createXMLStreamWriter(bodyStream, "UTF-8");
+            this.marshaller = Context.jc.createMarshaller();
+            this.marshaller.setProperty(Marshaller.JAXB_FRAGMENT, true);
+            NamespacePrefixMapperUtils.setProperty(marshaller, NamespacePrefixMapperUtils.getPrefixMapper());
+        } catch (XMLStreamException e) {
+            close();
+            throw new IOException(e);
+        } catch (JAXBException e) {
+            close();
+            throw new IOException(e);
+        }
+    }
+
+    /**
+     * Write rendered body content and remove it from the document part
+     *
+     * @param all true to write all content, false to keep the last element in the part
+     * @throws IOException if content could not be written
+     */
+    public void flush(boolean all) throws IOException {
+        List<Object> content = documentPart.getContent();
+        int iMax = all ? content.size() : content.size() - 1;
+        if (iMax <= 0) return;
+
+        try {
+            for (int i = 0; i < iMax; i++) {
+                marshaller.marshal(content.get(i), bodyWriter);
+            }
+            bodyWriter.flush();
+        } catch (JAXBException e) {
+            throw new IOException(e);
+        } catch (XMLStreamException e) {
+            throw new IOException(e);
+        }
+
+        content.subList(0, iMax).clear();
+    }
+
+    /**
+     * Save the package with the written body content
+     *
+     * @param mlPackage    package of the document part
+     * @param outputStream output for the .docx package
+     * @throws IOException      if writing failed
+     * @throws Docx4JException  if package could not be saved
+     */
+    public void save(WordprocessingMLPackage mlPackage, OutputStream outputStream) throws IOException, Docx4JException {
+        flush(true);
+        close();
+
+        // body content is empty now, its element marks where the written content goes
+        String documentXml = XmlUtils.marshaltoString(documentPart.getJaxbElement(), false, false);
+        String documentPrefix;
+        String documentSuffix;
+
+        int pos = documentXml.indexOf("<w:body/>");
+        if (pos != -1) {
+            documentPrefix = documentXml.substring(0, pos) + "<w:body>";
+            documentSuffix = "</w:body>" + documentXml.substring(pos + "<w:body/>".length());
+        } else {
+            pos = documentXml.indexOf("<w:body>");
+            if (pos == -1) throw new IOException("Document part has no body element");
+            pos += "<w:body>".length();
+            documentPrefix = documentXml.substring(0, pos);
+            documentSuffix = documentXml.substring(pos);
+        }
+
+        String documentEntryName = documentPart.getPartName().getName().substring(1);
+        File packageFile = File.createTempFile("docx-package", ".docx");
+
+        try {
+            OutputStream packageStream = new BufferedOutputStream(new FileOutputStream(packageFile));
+            try {
+                mlPackage.save(packageStream);
+            } finally {
+                packageStream.close();
+            }
+
+            ZipInputStream zipInput = new ZipInputStream(new BufferedInputStream(new FileInputStream(packageFile)));
+            try {
+                ZipOutputStream zipOutput = new ZipOutputStream(outputStream);
+                byte[] buffer = new byte[8192];
+                ZipEntry entry;
+
+                while ((entry = zipInput.getNextEntry()) != null) {
+                    zipOutput.putNextEntry(new ZipEntry(entry.getName()));
+
+                    if (entry.getName().equals(documentEntryName)) {
+                        zipOutput.write(documentPrefix.getBytes(UTF_8));
+                        InputStream bodyInput = new FileInputStream(bodyFile);
+                        try {
+                            copy(bodyInput, zipOutput, buffer);
+                        } finally {
+                            bodyInput.close();
+                        }
+                        zipOutput.write(documentSuffix.getBytes(UTF_8));
+                    } else {
+                        copy(zipInput, zipOutput, buffer);
+                    }
+                    zipOutput.closeEntry();
+                }
+                zipOutput.finish();
+            } finally {
+                zipInput.close();
+            }
+        } finally {
+            packageFile.delete();
+            bodyFile.delete();
+        }
+    }
+
+    /**
+     * Release the temporary body file, if the package is not saved
+     */
+    public void discard() {
+        close();
+        bodyFile.delete();
+    }
+
+    private void close() {
+        try {
+            if (bodyWriter != null) bodyWriter.close();
+        } catch (XMLStreamException ignored) {
+        }
+
+        try {
+            bodyStream.close();
+        } catch (IOException ignored) {
+        }
+    }
+
+    private static void copy(InputStream input, OutputStream output, byte[] buffer) throws IOException {
+        int read;
+        while ((read = input.read(buffer)) != -1) {
+            output.write(buffer, 0, read);
+        }
+    }
+}
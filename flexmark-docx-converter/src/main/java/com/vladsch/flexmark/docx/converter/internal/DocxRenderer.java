@@ -48,6 +48,8 @@ public class DocxRenderer implements IRender {
 
     public static final DataKey<Boolean> RENDER_BODY_ONLY = new DataKey<Boolean>("RENDER_BODY_ONLY", false);
     public static final DataKey<Integer> MAX_IMAGE_WIDTH = new DataKey<Integer>("MAX_IMAGE_WIDTH", 0);
+    public static final DataKey<DocxImageLoader> IMAGE_LOADER = new DataKey<DocxImageLoader>("IMAGE_LOADER", DefaultDocxImageLoader.INSTANCE);
+    public static final DataKey<Integer> IMAGE_LOADER_THREADS = new DataKey<Integer>("IMAGE_LOADER_THREADS", 4); // images are loaded sequentially if 1 or less
 
     public static final DataKey<Boolean> DEFAULT_LINK_RESOLVER = new DataKey<Boolean>("DEFAULT_LINK_RESOLVER", true);
     public static final DataKey<String> DOC_RELATIVE_URL = new DataKey<String>("DOC_RELATIVE_URL", "");
@@ -75,6 +77,7 @@ public class DocxRenderer implements IRender {
     private final DataHolder options;
     private final Builder builder;
     private final List<LinkResolverFactory> linkResolverFactories;
+    WordprocessingMLPackage templatePrototype; // default template with styles and numbering, created on first render
 
     private DocxRenderer(Builder builder) {
         this.builder = new Builder(builder); // take a copy to avoid after creation side effects
@@ -180,6 +183,44 @@ public class DocxRenderer implements IRender {
         renderer.render(node);
     }
 
+    /**
+     * Render a node to a .docx package written to the output stream
+     * <p>
+     * Top level body elements are written out as they are rendered and removed from the package, so the complete
+     * document body is never held in memory.
+     *
+     * @param node       node to render
+     * @param output     package to use for rendering, its body should be empty
+     * @param docxOutput output for the saved .docx package
+     * @throws IOException if the package could not be written
+     */
+    public void render(Node node, WordprocessingMLPackage output, OutputStream docxOutput) throws IOException {
+        DocxBodyWriter bodyWriter = new DocxBodyWriter(output.getMainDocumentPart());
+        try {
+            DocxRenderer.MainDocxRenderer renderer = new DocxRenderer.MainDocxRenderer(options, output, node.getDocument());
+            renderer.bodyWriter = bodyWriter;
+            renderer.render(node);
+            bodyWriter.save(output, docxOutput);
+        } catch (Docx4JException e) {
+            throw new IOException(e);
+        } finally {
+            bodyWriter.discard();
+        }
+    }
+
+    /**
+     * Render a node to a .docx package written to the output stream, using the default template
+     *
+     * @param node       node to render
+     * @param docxOutput output for the saved .docx package
+     * @throws IOException if the package could not be written
+     */
+    public void render(Node node, OutputStream docxOutput) throws IOException {
+        WordprocessingMLPackage mlPackage = createTemplate(node.getDocument());
+        if (mlPackage == null) throw new IOException("Default template could not be loaded");
+        render(node, mlPackage, docxOutput);
+    }
+
     /**
      * Render the tree of nodes to DocX.
      *
@@ -187,7 +228,7 @@ public class DocxRenderer implements IRender {
      * @return the rendered HTML
      */
     public String render(Node node) {
-        WordprocessingMLPackage mlPackage = getDefaultTemplate();
+        WordprocessingMLPackage mlPackage = createTemplate(node.getDocument());
         render(node, mlPackage);
         ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
         try {
@@ -203,6 +244,30 @@ public class DocxRenderer implements IRender {
         return null;
     }
 
+    /**
+     * Create default template with styles and numbering of the renderer options
+     * <p>
+     * The template is copied from one loaded on first use, instead of loading and parsing the template package for
+     * every document, unless the document has its own styles or numbering options.
+     *
+     * @param document document to be rendered
+     * @return template package or null if the default template could not be loaded
+     */
+    WordprocessingMLPackage createTemplate(Document document) {
+        if (document.contains(STYLES_XML) || document.contains(NUMBERING_XML)) {
+            return getDefaultTemplate();
+        }
+
+        synchronized (this) {
+            if (templatePrototype == null) {
+                templatePrototype = getDefaultTemplate();
+                if (templatePrototype == null) return null;
+                setDefaultStyleAndNumbering(templatePrototype, options);
+            }
+            return (WordprocessingMLPackage) templatePrototype.clone();
+        }
+    }
+
     @Override
     public void render(final Node node, final Appendable output) {
         String docx = render(node);
@@ -386,6 +451,7 @@ public class DocxRenderer implements IRender {
         private final DataHolder options;
         private DocxRendererPhase phase;
         Node renderingNode;
+        DocxBodyWriter bodyWriter; // writes out top level body elements when rendering to a stream
         private final LinkResolver[] myLinkResolvers;
         private final HashMap<LinkType, HashMap<String, ResolvedLink>> resolvedLinkMap = new HashMap<LinkType, HashMap<String, ResolvedLink>>();
 
@@ -555,6 +621,17 @@ public class DocxRenderer implements IRender {
             return resolvedLink;
         }
 
+        @Override
+        public ResolvedLink resolveLink(Node node, LinkType linkType, CharSequence url, Attributes attributes, Boolean urlEncode) {
+            Node oldNode = renderingNode;
+            renderingNode = node;
+            try {
+                return resolveLink(linkType, url, attributes, urlEncode);
+            } finally {
+                renderingNode = oldNode;
+            }
+        }
+
         @Override
         public void render(final Node node) {
             if (node instanceof Document) {
@@ -615,6 +692,14 @@ public class DocxRenderer implements IRender {
                 Node next = node.getNext();
                 render(node);
                 node = next;
+
+                if (bodyWriter != null && parent == document) {
+                    try {
+                        bodyWriter.flush(false);
+                    } catch (IOException e) {
+                        throw new RuntimeException(e);
+                    }
+                }
             }
         }
 
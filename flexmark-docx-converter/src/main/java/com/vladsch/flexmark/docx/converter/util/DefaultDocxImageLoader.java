@@ -0,0 +1,59 @@
+package com.vladsch.flexmark.docx.converter.util;
+
+import java.io.*;
+import java.net.URL;
+
+import static java.lang.Character.isLetter;
+
+/**
+ * Loads images from http:, https: and file: urls
+ */
+public class DefaultDocxImageLoader implements DocxImageLoader {
+    public static final DefaultDocxImageLoader INSTANCE = new DefaultDocxImageLoader();
+
+    @Override
+    public byte[] loadImage(final String url) {
+        try {
+            if (url.startsWith("http:") || url.startsWith("https:")) {
+                // hyperlinked image
+                return readBytes(new URL(url).openStream());
+            } else if (url.startsWith("file:")) {
+                File file = new File(getFilePath(url));
+                if (file.isFile()) {
+                    return readBytes(new FileInputStream(file));
+                }
+            }
+        } catch (IOException ignored) {
+        }
+        return null;
+    }
+
+    public static String getFilePath(String fileUrl) {
+        String path = fileUrl.substring("file:".length());
+        if (path.startsWith("///")) {
+            path = path.substring(2);
+        } else if (path.startsWith("//")) {
+            path = path.substring(1);
+        }
+
+        if (path.length() > 3 && path.charAt(0) == '/' && isLetter(path.charAt(1)) && path.charAt(2) == ':') {
+            // windows path, remove the leading '/'
+            path = path.substring(1);
+        }
+        return path;
+    }
+
+    public static byte[] readBytes(InputStream inputStream) throws IOException {
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+            return out.toByteArray();
+        } finally {
+            inputStream.close();
+        }
+    }
+}
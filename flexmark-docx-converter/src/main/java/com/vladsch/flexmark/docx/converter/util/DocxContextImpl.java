@@ -485,7 +485,7 @@ public class DocxContextImpl<T> implements DocxContext<T>, BlockFormatProvider<T
 
     @Override
     public Style getStyle(final String styleName) {
-        return myDocumentPart.getStyleDefinitionsPart().getStyleById(styleName);
+        return myDocxHelper.getStyle(styleName);
     }
 
     @Override
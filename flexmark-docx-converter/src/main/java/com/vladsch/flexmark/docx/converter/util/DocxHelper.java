@@ -6,6 +6,7 @@ import org.docx4j.openpackaging.exceptions.Docx4JException;
 import org.docx4j.openpackaging.packages.WordprocessingMLPackage;
 import org.docx4j.openpackaging.parts.WordprocessingML.MainDocumentPart;
 import org.docx4j.openpackaging.parts.WordprocessingML.NumberingDefinitionsPart;
+import org.docx4j.openpackaging.parts.WordprocessingML.StyleDefinitionsPart;
 import org.docx4j.wml.*;
 
 import javax.xml.datatype.XMLGregorianCalendar;
@@ -23,15 +24,148 @@ public class DocxHelper {
     protected PropertyResolver myResolver;
     protected final HashMap<String, BigInteger> myNumPrColorMap;
 
+    // style and numbering lookups, indexed on first use for the styles and numbering of the document part
+    protected final HashMap<String, Style> myStyles;
+    protected final HashMap<String, RPr> myStyleRPrs;
+    protected final HashMap<String, PPrBase.Ind> myNumberingInds;
+    protected final HashMap<BigInteger, Numbering.AbstractNum> myAbstractNums;
+    private List<Style> myIndexedStyles;
+    private int myIndexedStyleCount;
+    private Numbering myIndexedNumbering;
+
     public DocxHelper(final WordprocessingMLPackage mlPackage, final ObjectFactory factory) {
         myPackage = mlPackage;
         myFactory = factory;
         myDocumentPart = mlPackage.getMainDocumentPart();
         myNumPrColorMap = new HashMap<String, BigInteger>();
+        myStyles = new HashMap<String, Style>();
+        myStyleRPrs = new HashMap<String, RPr>();
+        myNumberingInds = new HashMap<String, PPrBase.Ind>();
+        myAbstractNums = new HashMap<BigInteger, Numbering.AbstractNum>();
     }
 
     public Style getStyle(String styleId) {
-        return myDocumentPart.getStyleDefinitionsPart().getStyleById(styleId);
+        if (styleId == null) return null;
+
+        final StyleDefinitionsPart stylesPart = myDocumentPart.getStyleDefinitionsPart();
+        if (stylesPart == null || stylesPart.getJaxbElement() == null) return null;
+
+        final List<Style> styles = stylesPart.getJaxbElement().getStyle();
+        if (styles != myIndexedStyles || styles.size() != myIndexedStyleCount) {
+            // styles were replaced or added, index them again and drop anything resolved from them
+            myStyles.clear();
+            myStyleRPrs.clear();
+            for (Style style : styles) {
+                if (style.getStyleId() != null && !myStyles.containsKey(style.getStyleId())) {
+                    myStyles.put(style.getStyleId(), style);
+                }
+            }
+            myIndexedStyles = styles;
+            myIndexedStyleCount = styles.size();
+        }
+        return myStyles.get(styleId);
+    }
+
+    /**
+     * Get the character properties of a style and the styles it is based on
+     *
+     * @param styleId style id
+     * @return resolved properties, shared by all lookups of the style and must not be modified
+     */
+    protected RPr getStyleRPr(String styleId) {
+        // validate the style index before using what was resolved from it
+        Style style = getStyle(styleId);
+        RPr styleRPr = myStyleRPrs.get(styleId);
+
+        if (styleRPr == null) {
+            ArrayList<Style> styles = new ArrayList<Style>();
+            while (style != null) {
+                styles.add(style);
+                Style.BasedOn basedOn = style.getBasedOn();
+                style = null;
+                if (basedOn != null) {
+                    String basedOnId = basedOn.getVal();
+                    if (basedOnId != null) {
+                        style = getStyle(basedOnId);
+                    }
+                }
+            }
+
+            // copy out rPr from styles
+            styleRPr = myFactory.createRPr();
+            int iMax = styles.size();
+            for (int i = iMax; i-- > 0; ) {
+                StyleUtil.apply(styles.get(i).getRPr(), styleRPr);
+            }
+            myStyleRPrs.put(styleId, styleRPr);
+        }
+        return styleRPr;
+    }
+
+    /**
+     * Get the indentation of a numbering level
+     *
+     * @param numPr numbering properties with num id and level
+     * @return indentation of the level, shared by all lookups of the level and must not be modified, null if none
+     */
+    public PPrBase.Ind getNumberingInd(PPrBase.NumPr numPr) {
+        if (numPr.getNumId() == null || numPr.getNumId().getVal() == null) return null;
+        BigInteger ilvl = numPr.getIlvl() == null || numPr.getIlvl().getVal() == null ? ZERO : numPr.getIlvl().getVal();
+        return getNumberingInd(numPr.getNumId().getVal().toString(), ilvl.toString());
+    }
+
+    /**
+     * Get the indentation of a numbering level
+     *
+     * @param numId numbering id
+     * @param ilvl  level
+     * @return indentation of the level, shared by all lookups of the level and must not be modified, null if none
+     */
+    public PPrBase.Ind getNumberingInd(String numId, String ilvl) {
+        final NumberingDefinitionsPart ndp = myDocumentPart.getNumberingDefinitionsPart();
+        if (ndp == null) return null;
+
+        validateNumbering(ndp);
+
+        String key = numId + ":" + ilvl;
+        PPrBase.Ind ind = myNumberingInds.get(key);
+        if (ind == null) {
+            // not cached when missing, restarted lists add numbering instances during rendering
+            ind = ndp.getInd(numId, ilvl);
+            if (ind != null) myNumberingInds.put(key, ind);
+        }
+        return ind;
+    }
+
+    /**
+     * Get an abstract numbering definition
+     *
+     * @param abstractNumId abstract numbering id
+     * @return abstract numbering definition or null if none
+     */
+    public Numbering.AbstractNum getAbstractNum(BigInteger abstractNumId) {
+        final NumberingDefinitionsPart ndp = myDocumentPart.getNumberingDefinitionsPart();
+        if (ndp == null) return null;
+
+        validateNumbering(ndp);
+
+        if (myAbstractNums.isEmpty() && myIndexedNumbering != null) {
+            for (Numbering.AbstractNum abstractNum : myIndexedNumbering.getAbstractNum()) {
+                if (abstractNum.getAbstractNumId() != null && !myAbstractNums.containsKey(abstractNum.getAbstractNumId())) {
+                    myAbstractNums.put(abstractNum.getAbstractNumId(), abstractNum);
+                }
+            }
+        }
+        return myAbstractNums.get(abstractNumId);
+    }
+
+    private void validateNumbering(NumberingDefinitionsPart ndp) {
+        final Numbering numbering = ndp.getJaxbElement();
+        if (numbering != myIndexedNumbering) {
+            myNumberingInds.clear();
+            myAbstractNums.clear();
+            myIndexedNumbering = numbering;
+        }
     }
 
     public PropertyResolver getResolver() {
@@ -248,9 +382,8 @@ public class DocxHelper {
             final PPrBase.NumPr numPr = styledChild.getNumPr();
             if (numPr != null) {
                 // need to check that too, it may have settings we don't have
-                NumberingDefinitionsPart ndp = myDocumentPart.getNumberingDefinitionsPart();
-                if (ndp != null) {
-                    final PPrBase.Ind ndpInd = ndp.getInd(numPr);
+                final PPrBase.Ind ndpInd = getNumberingInd(numPr);
+                if (ndpInd != null) {
                     if (cInd.getLeft() == null) {
                         cInd.setLeft(ndpInd.getLeft());
                     }
@@ -297,9 +430,8 @@ public class DocxHelper {
             final PPrBase.NumPr numPr = styledChild.getNumPr();
             if (numPr != null) {
                 // need to check that too, it may have settings we don't have
-                NumberingDefinitionsPart ndp = myDocumentPart.getNumberingDefinitionsPart();
-                if (ndp != null) {
-                    final PPrBase.Ind ndpInd = ndp.getInd(numPr);
+                final PPrBase.Ind ndpInd = getNumberingInd(numPr);
+                if (ndpInd != null) {
                     if (cInd.getLeft() == null) {
                         cInd.setLeft(ndpInd.getLeft());
                     }
@@ -335,22 +467,12 @@ public class DocxHelper {
         }
 
         // we create a copy of the baseNubPr and add the changed color property
-        final NumberingDefinitionsPart ndp = myDocumentPart.getNumberingDefinitionsPart();
-        try {
-            final Numbering numbering = ndp.getContents();
-            final List<Numbering.Num> num = numbering.getNum();
-            final List<Numbering.AbstractNum> abstractNumList = numbering.getAbstractNum();
-            for (Numbering.AbstractNum abstractNum : abstractNumList) {
-                if (abstractNum.getAbstractNumId().compareTo(baseNumID) == 0) {
-                    // we have our list to copy
-                    // TODO: create a copy and set the color it the list's rpr.
-                }
-            }
-            return null;
-        } catch (Docx4JException e) {
-            e.printStackTrace();
+        final Numbering.AbstractNum abstractNum = getAbstractNum(baseNumID);
+        if (abstractNum != null) {
+            // we have our list to copy
+            // TODO: create a copy and set the color it the list's rpr.
         }
-        return  null;
+        return null;
     }
 
     public PPr getExplicitPPr(final PPr pPr) {
@@ -375,29 +497,9 @@ public class DocxHelper {
      */
     public RPr getExplicitRPr(final RPr rPr) {
         RPr styledRPr = myFactory.createRPr();
-        ArrayList<Style> styles = new ArrayList<Style>();
         final RStyle pStyle = rPr.getRStyle();
-        if (pStyle != null) {
-            String styleId = pStyle.getVal();
-            Style style = getStyle(styleId);
-            while (style != null) {
-                styles.add(style);
-                Style.BasedOn basedOn = style.getBasedOn();
-                style = null;
-                if (basedOn != null) {
-                    styleId = basedOn.getVal();
-                    if (styleId != null) {
-                        style = getStyle(basedOn.getVal());
-                    }
-                }
-            }
-        }
-
-        // copy out rPr from styles
-        int iMax = styles.size();
-        for (int i = iMax; i-- > 0; ) {
-            Style style = styles.get(i);
-            StyleUtil.apply(style.getRPr(), styledRPr);
+        if (pStyle != null && pStyle.getVal() != null) {
+            StyleUtil.apply(getStyleRPr(pStyle.getVal()), styledRPr);
         }
         StyleUtil.apply(rPr, styledRPr);
         return styledRPr;
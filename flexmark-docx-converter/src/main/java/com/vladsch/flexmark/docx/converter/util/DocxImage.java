@@ -0,0 +1,79 @@
+package com.vladsch.flexmark.docx.converter.util;
+
+import com.vladsch.flexmark.util.ImageUtils;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+
+/**
+ * Image bytes to embed in the document and image width in pixels
+ */
+public class DocxImage {
+    // formats embedded without conversion to PNG
+    public static final HashSet<String> EMBEDDED_FORMATS = new HashSet<String>(Arrays.asList("png", "jpeg", "gif"));
+
+    private final byte[] bytes;
+    private final int width;
+
+    public DocxImage(byte[] bytes, int width) {
+        this.bytes = bytes;
+        this.width = width;
+    }
+
+    public byte[] getBytes() {
+        return bytes;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * Get image from image file bytes
+     * <p>
+     * Width of an image in an embedded format is read from its header and its bytes are used as is, images in other
+     * formats are decoded and converted to PNG.
+     *
+     * @param bytes image file bytes
+     * @return image or null if bytes are not a readable image
+     */
+    public static DocxImage of(byte[] bytes) {
+        try {
+            ImageInputStream inputStream = ImageIO.createImageInputStream(new ByteArrayInputStream(bytes));
+            if (inputStream != null) {
+                try {
+                    Iterator<ImageReader> readers = ImageIO.getImageReaders(inputStream);
+                    if (readers.hasNext()) {
+                        ImageReader reader = readers.next();
+                        try {
+                            reader.setInput(inputStream, true, true);
+                            if (EMBEDDED_FORMATS.contains(reader.getFormatName().toLowerCase())) {
+                                return new DocxImage(bytes, reader.getWidth(0));
+                            }
+                        } finally {
+                            reader.dispose();
+                        }
+                    }
+                } finally {
+                    inputStream.close();
+                }
+            }
+
+            BufferedImage image = ImageIO.read(new ByteArrayInputStream(bytes));
+            if (image != null) {
+                return new DocxImage(ImageUtils.getImageBytes(image), image.getWidth());
+            }
+        } catch (IOException ignored) {
+        } catch (RuntimeException ignored) {
+            // image readers throw runtime exceptions for some malformed images
+        }
+        return null;
+    }
+}
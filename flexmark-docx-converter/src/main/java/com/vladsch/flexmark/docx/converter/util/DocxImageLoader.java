@@ -0,0 +1,15 @@
+package com.vladsch.flexmark.docx.converter.util;
+
+/**
+ * Loads image bytes for images embedded in the document, set with
+ * {@link com.vladsch.flexmark.docx.converter.internal.DocxRenderer#IMAGE_LOADER}
+ * <p>
+ * Images are loaded in parallel before the document is rendered so implementations must be thread safe.
+ */
+public interface DocxImageLoader {
+    /**
+     * @param url resolved image url
+     * @return image file bytes or null if the image could not be loaded
+     */
+    byte[] loadImage(String url);
+}
@@ -1,6 +1,5 @@
 package com.vladsch.flexmark.docx.converter.util;
 
-import org.docx4j.openpackaging.parts.WordprocessingML.NumberingDefinitionsPart;
 import org.docx4j.wml.PPr;
 import org.docx4j.wml.PPrBase;
 
@@ -38,10 +37,9 @@ public class ListItemBlockFormatProvider<T> extends BlockFormatProviderBase<T> {
             ilvl.setVal(BigInteger.valueOf(myListLevel));
         } else {
             // need to inherit indent from our base style
-            final NumberingDefinitionsPart ndp = myDocx.getDocxDocument().getNumberingDefinitionsPart();
-            PPrBase.Ind ind = ndp.getInd(String.valueOf(myIdNum), String.valueOf(myListLevel));
+            final DocxHelper helper = myDocx.getHelper();
+            PPrBase.Ind ind = helper.getNumberingInd(String.valueOf(myIdNum), String.valueOf(myListLevel));
             if (ind != null) {
-                final DocxHelper helper = myDocx.getHelper();
                 helper.ensureInd(pPr);
                 pPr.getInd().setLeft(helper.safeIndLeft(ind));
                 pPr.getInd().setHanging(BigInteger.ZERO);
@@ -44,7 +44,7 @@ public class ComboDocxConverterSpecTest extends ComboSpecTestCase {
     private static final String FILE_ALL_TESTS_DUMP_NAME = "/flexmark-docx-converter/src/test/resources/docx_converter_ast_spec/AllTests";
 
     private static final String SPEC_RESOURCE = "/docx_converter_ast_spec.md";
-    private static final DataHolder OPTIONS = new MutableDataSet()
+    static final DataHolder OPTIONS = new MutableDataSet()
             .set(HtmlRenderer.INDENT_SIZE, 2)
             .set(Parser.EXTENSIONS, Arrays.asList(
                     DefinitionExtension.create(),
@@ -64,7 +64,7 @@ public class ComboDocxConverterSpecTest extends ComboSpecTestCase {
             //.set(HtmlRenderer.PERCENT_ENCODE_URLS, true)
             ;
 
-    private static final Map<String, DataHolder> optionsMap = new HashMap<String, DataHolder>();
+    static final Map<String, DataHolder> optionsMap = new HashMap<String, DataHolder>();
     //private static WordprocessingMLPackage ourPackage = new WordprocessingMLPackage();;
 
     private static final Parser PARSER = Parser.builder(OPTIONS).build();
@@ -1,10 +1,14 @@
 package com.vladsch.flexmark.docx.converter;
 
+import com.vladsch.flexmark.docx.converter.internal.DocxRendererTemplateTest;
 import org.junit.runners.Suite;
 
 @org.junit.runner.RunWith(Suite.class)
 @Suite.SuiteClasses({
         ComboDocxConverterSpecTest.class,
+        DocxImageTest.class,
+        DocxRendererTemplateTest.class,
+        DocxRendererStreamingTest.class,
         //ComboDocxUserSpecTest.class, // added to test suite so it runs locally but not  on the travis
 })
 public class DocxConverterTestSuite {
@@ -0,0 +1,179 @@
+package com.vladsch.flexmark.docx.converter;
+
+import com.vladsch.flexmark.docx.converter.internal.DocxRenderer;
+import com.vladsch.flexmark.docx.converter.util.DocxImage;
+import com.vladsch.flexmark.docx.converter.util.DocxImageLoader;
+import com.vladsch.flexmark.parser.Parser;
+import com.vladsch.flexmark.util.options.DataHolder;
+import com.vladsch.flexmark.util.options.MutableDataSet;
+import org.docx4j.XmlUtils;
+import org.docx4j.openpackaging.packages.WordprocessingMLPackage;
+import org.docx4j.openpackaging.parts.Part;
+import org.docx4j.openpackaging.parts.WordprocessingML.BinaryPartAbstractImage;
+import org.junit.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.Assert.*;
+
+public class DocxImageTest {
+    private static final byte[] PNG_SIGNATURE = new byte[] { (byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1a, '\n' };
+
+    static byte[] imageBytes(String format, int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        for (int x = 0; x < width; x++) {
+            image.setRGB(x, x % height, 0xff0000);
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        assertTrue(format, ImageIO.write(image, format, out));
+        return out.toByteArray();
+    }
+
+    private static boolean isPng(byte[] bytes) {
+        if (bytes.length < PNG_SIGNATURE.length) return false;
+        for (int i = 0; i < PNG_SIGNATURE.length; i++) {
+            if (bytes[i] != PNG_SIGNATURE[i]) return false;
+        }
+        return true;
+    }
+
+    private static void assertEmbedded(String format) throws IOException {
+        byte[] bytes = imageBytes(format, 37, 11);
+        DocxImage image = DocxImage.of(bytes);
+        assertNotNull(format, image);
+        assertEquals(format, 37, image.getWidth());
+        assertSame(format, bytes, image.getBytes());
+    }
+
+    @Test
+    public void test_pngWidth() throws IOException {
+        assertEmbedded("png");
+    }
+
+    @Test
+    public void test_jpegWidth() throws IOException {
+        assertEmbedded("jpeg");
+    }
+
+    @Test
+    public void test_gifWidth() throws IOException {
+        assertEmbedded("gif");
+    }
+
+    @Test
+    public void test_otherFormatConvertedToPng() throws IOException {
+        byte[] bytes = imageBytes("bmp", 23, 7);
+        DocxImage image = DocxImage.of(bytes);
+        assertNotNull(image);
+        assertEquals(23, image.getWidth());
+        assertNotSame(bytes, image.getBytes());
+        assertTrue(isPng(image.getBytes()));
+        assertEquals(23, ImageIO.read(new ByteArrayInputStream(image.getBytes())).getWidth());
+    }
+
+    @Test
+    public void test_notImage() {
+        assertNull(DocxImage.of(new byte[0]));
+        assertNull(DocxImage.of("not an image".getBytes()));
+    }
+
+    static class TestImageLoader implements DocxImageLoader {
+        final Map<String, byte[]> images = new HashMap<String, byte[]>();
+        final ConcurrentHashMap<String, AtomicInteger> loads = new ConcurrentHashMap<String, AtomicInteger>();
+
+        @Override
+        public byte[] loadImage(String url) {
+            AtomicInteger count = loads.putIfAbsent(url, new AtomicInteger(1));
+            if (count != null) count.incrementAndGet();
+            if (url.endsWith("/error.png")) throw new IllegalStateException("failed to load " + url);
+            return images.get(url);
+        }
+
+        int loads(String url) {
+            AtomicInteger count = loads.get(url);
+            return count == null ? 0 : count.get();
+        }
+    }
+
+    private static List<BinaryPartAbstractImage> imageParts(WordprocessingMLPackage mlPackage) {
+        List<BinaryPartAbstractImage> imageParts = new ArrayList<BinaryPartAbstractImage>();
+        for (Part part : mlPackage.getParts().getParts().values()) {
+            if (part instanceof BinaryPartAbstractImage) imageParts.add((BinaryPartAbstractImage) part);
+        }
+        return imageParts;
+    }
+
+    private static List<String> embeddedIds(WordprocessingMLPackage mlPackage) {
+        String xml = XmlUtils.marshaltoString(mlPackage.getMainDocumentPart().getJaxbElement(), true, false);
+        List<String> ids = new ArrayList<String>();
+        Matcher matcher = Pattern.compile("r:embed=\"([^\"]*)\"").matcher(xml);
+        while (matcher.find()) {
+            ids.add(matcher.group(1));
+        }
+        return ids;
+    }
+
+    private static void assertImageLoader(int threads) throws IOException {
+        TestImageLoader imageLoader = new TestImageLoader();
+        imageLoader.images.put("http://example.com/a.png", imageBytes("png", 20, 10));
+        imageLoader.images.put("http://example.com/b.gif", imageBytes("gif", 30, 10));
+
+        DataHolder options = new MutableDataSet()
+                .set(DocxRenderer.IMAGE_LOADER, imageLoader)
+                .set(DocxRenderer.IMAGE_LOADER_THREADS, threads);
+
+        String markdown = "" +
+                "![first](http://example.com/a.png)\n" +
+                "\n" +
+                "![second](http://example.com/a.png) ![other](http://example.com/b.gif)\n" +
+                "\n" +
+                "![missing](http://example.com/missing.png)\n" +
+                "\n" +
+                "![error](http://example.com/error.png)\n" +
+                "\n" +
+                "![third][a]\n" +
+                "\n" +
+                "[a]: http://example.com/a.png\n" +
+                "";
+
+        WordprocessingMLPackage mlPackage = DocxRenderer.getDefaultTemplate();
+        assertNotNull(mlPackage);
+        DocxRenderer.builder(options).build().render(Parser.builder(options).build().parse(markdown), mlPackage);
+
+        // each url is loaded once and embedded once, loader failures are not rendered like missing images
+        assertEquals(1, imageLoader.loads("http://example.com/a.png"));
+        assertEquals(1, imageLoader.loads("http://example.com/b.gif"));
+        assertEquals(1, imageLoader.loads("http://example.com/missing.png"));
+        assertEquals(1, imageLoader.loads("http://example.com/error.png"));
+        assertEquals(2, imageParts(mlPackage).size());
+
+        List<String> ids = embeddedIds(mlPackage);
+        assertEquals(4, ids.size());
+        assertEquals(ids.get(0), ids.get(1));
+        assertEquals(ids.get(0), ids.get(3));
+        assertEquals(2, new HashSet<String>(ids).size());
+    }
+
+    @Test
+    public void test_imageLoaderSequential() throws IOException {
+        assertImageLoader(1);
+    }
+
+    @Test
+    public void test_imageLoaderParallel() throws IOException {
+        assertImageLoader(4);
+    }
+}
@@ -0,0 +1,186 @@
+package com.vladsch.flexmark.docx.converter;
+
+import com.vladsch.flexmark.ast.Node;
+import com.vladsch.flexmark.docx.converter.internal.DocxRenderer;
+import com.vladsch.flexmark.parser.Parser;
+import com.vladsch.flexmark.spec.SpecExample;
+import com.vladsch.flexmark.spec.SpecReader;
+import com.vladsch.flexmark.util.options.DataHolder;
+import com.vladsch.flexmark.util.options.MutableDataSet;
+import org.docx4j.Docx4J;
+import org.docx4j.openpackaging.packages.WordprocessingMLPackage;
+import org.junit.Test;
+import org.w3c.dom.Attr;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.NodeList;
+import org.xml.sax.InputSource;
+
+import javax.xml.XMLConstants;
+import javax.xml.parsers.DocumentBuilderFactory;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Streamed rendering to a .docx must produce the same document body as rendering the whole package in memory
+ */
+public class DocxRendererStreamingTest {
+    private static final String SPEC_RESOURCE = "/docx_converter_ast_spec.md";
+    private static final String PACKAGE_NS = "http://schemas.microsoft.com/office/2006/xmlPackage";
+    private static final String WML_NS = "http://schemas.openxmlformats.org/wordprocessingml/2006/main";
+
+    private static final DataHolder OPTIONS = new MutableDataSet(ComboDocxConverterSpecTest.OPTIONS).set(DocxRenderer.RENDER_BODY_ONLY, false);
+    private static final Parser PARSER = Parser.builder(OPTIONS).build();
+    private static final DocxRenderer RENDERER = DocxRenderer.builder(OPTIONS).build();
+
+    private static Document parseXml(InputSource source) throws Exception {
+        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+        factory.setNamespaceAware(true);
+        return factory.newDocumentBuilder().parse(source);
+    }
+
+    private static Element body(Document document) {
+        NodeList bodies = document.getElementsByTagNameNS(WML_NS, "body");
+        assertEquals(1, bodies.getLength());
+        return (Element) bodies.item(0);
+    }
+
+    /**
+     * @return body of the document part in flat OPC XML
+     */
+    private static String flatXmlBody(String flatXml) throws Exception {
+        Document document = parseXml(new InputSource(new StringReader(flatXml)));
+        NodeList parts = document.getElementsByTagNameNS(PACKAGE_NS, "part");
+        for (int i = 0; i < parts.getLength(); i++) {
+            Element part = (Element) parts.item(i);
+            if ("/word/document.xml".equals(part.getAttributeNS(PACKAGE_NS, "name"))) {
+                NodeList bodies = part.getElementsByTagNameNS(WML_NS, "body");
+                assertEquals(1, bodies.getLength());
+                return canonical((Element) bodies.item(0));
+            }
+        }
+        throw new AssertionError("no document part");
+    }
+
+    /**
+     * @return body of word/document.xml in the .docx package
+     */
+    private static String docxBody(byte[] docx) throws Exception {
+        ZipInputStream zipInput = new ZipInputStream(new ByteArrayInputStream(docx));
+        try {
+            ZipEntry entry;
+            while ((entry = zipInput.getNextEntry()) != null) {
+                if (entry.getName().equals("word/document.xml")) {
+                    return canonical(body(parseXml(new InputSource(zipInput))));
+                }
+            }
+        } finally {
+            zipInput.close();
+        }
+        throw new AssertionError("no word/document.xml");
+    }
+
+    /**
+     * Elements with sorted attributes and without namespace declarations or formatting white space, so that
+     * differences in namespace prefix placement and pretty printing are ignored
+     */
+    private static String canonical(Element element) {
+        StringBuilder out = new StringBuilder();
+        canonical(element, out);
+        return out.toString();
+    }
+
+    private static void canonical(Element element, StringBuilder out) {
+        out.append("<{").append(element.getNamespaceURI()).append('}').append(element.getLocalName());
+
+        List<String> attributes = new ArrayList<String>();
+        NamedNodeMap attributeMap = element.getAttributes();
+        for (int i = 0; i < attributeMap.getLength(); i++) {
+            Attr attr = (Attr) attributeMap.item(i);
+            if (XMLConstants.XMLNS_ATTRIBUTE_NS_URI.equals(attr.getNamespaceURI())) continue;
+            attributes.add(" {" + attr.getNamespaceURI() + "}" + attr.getLocalName() + "=\"" + attr.getValue() + "\"");
+        }
+        Collections.sort(attributes);
+        for (String attribute : attributes) out.append(attribute);
+        out.append(">\n");
+
+        NodeList children = element.getChildNodes();
+        for (int i = 0; i < children.getLength(); i++) {
+            org.w3c.dom.Node child = children.item(i);
+            if (child instanceof Element) {
+                canonical((Element) child, out);
+            } else if (child.getNodeType() == org.w3c.dom.Node.TEXT_NODE || child.getNodeType() == org.w3c.dom.Node.CDATA_SECTION_NODE) {
+                String text = child.getNodeValue();
+                if (!text.trim().isEmpty()) out.append(text).append('\n');
+            }
+        }
+        out.append("</").append(element.getLocalName()).append(">\n");
+    }
+
+    private static List<String[]> specDocuments() {
+        List<String[]> documents = new ArrayList<String[]>();
+        for (SpecExample example : SpecReader.readExamples(SPEC_RESOURCE)) {
+            // ignored examples do not render
+            if ("IGNORED".equals(example.getOptionsSet())) continue;
+            documents.add(new String[] { example.getSection() + ": " + example.getExampleNumber(), example.getOptionsSet(), example.getSource() });
+        }
+        documents.add(new String[] { "full spec", null, SpecReader.readSpec(SPEC_RESOURCE) });
+        return documents;
+    }
+
+    private static DocxRenderer renderer(String optionsSet) {
+        return optionsSet == null ? RENDERER : RENDERER.withOptions(ComboDocxConverterSpecTest.optionsMap.get(optionsSet));
+    }
+
+    private static Node parse(String optionsSet, String source) {
+        return optionsSet == null ? PARSER.parse(source) : PARSER.withOptions(ComboDocxConverterSpecTest.optionsMap.get(optionsSet)).parse(source);
+    }
+
+    @Test
+    public void test_renderToStream() throws Exception {
+        for (String[] document : specDocuments()) {
+            DocxRenderer renderer = renderer(document[1]);
+
+            String expected = flatXmlBody(renderer.render(parse(document[1], document[2])));
+            if ("full spec".equals(document[0])) assertTrue(expected.contains("<{" + WML_NS + "}p>"));
+
+            ByteArrayOutputStream docx = new ByteArrayOutputStream();
+            renderer.render(parse(document[1], document[2]), docx);
+
+            assertEquals(document[0], expected, docxBody(docx.toByteArray()));
+        }
+    }
+
+    @Test
+    public void test_renderPackageToStream() throws Exception {
+        for (String[] document : specDocuments()) {
+            DocxRenderer renderer = renderer(document[1]);
+
+            WordprocessingMLPackage mlPackage = DocxRenderer.getDefaultTemplate();
+            assertNotNull(mlPackage);
+            renderer.render(parse(document[1], document[2]), mlPackage);
+            ByteArrayOutputStream expected = new ByteArrayOutputStream();
+            mlPackage.save(expected, Docx4J.FLAG_SAVE_ZIP_FILE);
+
+            WordprocessingMLPackage streamedPackage = DocxRenderer.getDefaultTemplate();
+            assertNotNull(streamedPackage);
+            ByteArrayOutputStream docx = new ByteArrayOutputStream();
+            renderer.render(parse(document[1], document[2]), streamedPackage, docx);
+
+            // rendered content is removed from the package as it is written
+            assertTrue(document[0], streamedPackage.getMainDocumentPart().getContent().isEmpty());
+            assertEquals(document[0], docxBody(expected.toByteArray()), docxBody(docx.toByteArray()));
+        }
+    }
+}
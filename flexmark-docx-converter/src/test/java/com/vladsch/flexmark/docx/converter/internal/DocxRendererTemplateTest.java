@@ -0,0 +1,140 @@
+package com.vladsch.flexmark.docx.converter.internal;
+
+import com.vladsch.flexmark.ast.Document;
+import com.vladsch.flexmark.docx.converter.util.XmlFormatter;
+import com.vladsch.flexmark.parser.Parser;
+import com.vladsch.flexmark.util.options.DataHolder;
+import com.vladsch.flexmark.util.options.MutableDataSet;
+import org.docx4j.Docx4J;
+import org.docx4j.XmlUtils;
+import org.docx4j.openpackaging.exceptions.Docx4JException;
+import org.docx4j.openpackaging.packages.WordprocessingMLPackage;
+import org.docx4j.openpackaging.parts.WordprocessingML.MainDocumentPart;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.UnsupportedEncodingException;
+
+import static org.junit.Assert.*;
+
+public class DocxRendererTemplateTest {
+    private static final String MARKDOWN = "" +
+            "# Heading\n" +
+            "\n" +
+            "Paragraph with **bold** text.\n" +
+            "\n" +
+            "1. first\n" +
+            "2. second\n" +
+            "\n" +
+            "* item\n" +
+            "";
+
+    private static String partsXml(WordprocessingMLPackage mlPackage) {
+        MainDocumentPart documentPart = mlPackage.getMainDocumentPart();
+        return XmlUtils.marshaltoString(documentPart.getJaxbElement(), true, false) +
+                XmlUtils.marshaltoString(documentPart.getStyleDefinitionsPart().getJaxbElement(), true, false) +
+                XmlUtils.marshaltoString(documentPart.getNumberingDefinitionsPart().getJaxbElement(), true, false);
+    }
+
+    private static DocxRenderer renderer() {
+        return DocxRenderer.builder(new MutableDataSet().set(DocxRenderer.RENDER_BODY_ONLY, false)).build();
+    }
+
+    @Test
+    public void test_prototypeCreatedOnce() {
+        DocxRenderer renderer = renderer();
+        Document document = Parser.builder().build().parse(MARKDOWN);
+        assertNull(renderer.templatePrototype);
+
+        WordprocessingMLPackage template1 = renderer.createTemplate(document);
+        WordprocessingMLPackage prototype = renderer.templatePrototype;
+        assertNotNull(prototype);
+
+        WordprocessingMLPackage template2 = renderer.createTemplate(document);
+        assertSame(prototype, renderer.templatePrototype);
+
+        // each document gets its own copy
+        assertNotSame(prototype, template1);
+        assertNotSame(template1, template2);
+        assertNotSame(template1.getMainDocumentPart(), template2.getMainDocumentPart());
+        assertNotNull(template1.getMainDocumentPart().getStyleDefinitionsPart());
+        assertNotNull(template1.getMainDocumentPart().getNumberingDefinitionsPart());
+    }
+
+    @Test
+    public void test_prototypeUnchangedByRender() {
+        DocxRenderer renderer = renderer();
+        Parser parser = Parser.builder().build();
+        Document document = parser.parse(MARKDOWN);
+
+        renderer.createTemplate(document);
+        String prototypeXml = partsXml(renderer.templatePrototype);
+        assertTrue(renderer.templatePrototype.getMainDocumentPart().getContent().isEmpty());
+
+        String docx1 = renderer.render(document);
+        String docx2 = renderer.render(parser.parse(MARKDOWN));
+
+        assertEquals(prototypeXml, partsXml(renderer.templatePrototype));
+        assertTrue(renderer.templatePrototype.getMainDocumentPart().getContent().isEmpty());
+        assertEquals(docx1, docx2);
+
+        // rendering into a copy does not change the prototype or other copies
+        WordprocessingMLPackage template = renderer.createTemplate(document);
+        renderer.render(document, template);
+        assertFalse(template.getMainDocumentPart().getContent().isEmpty());
+        assertEquals(prototypeXml, partsXml(renderer.templatePrototype));
+        assertTrue(renderer.createTemplate(document).getMainDocumentPart().getContent().isEmpty());
+    }
+
+    private static String renderFresh(DocxRenderer renderer, Document document) throws Docx4JException, UnsupportedEncodingException {
+        WordprocessingMLPackage mlPackage = DocxRenderer.getDefaultTemplate();
+        renderer.render(document, mlPackage);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        mlPackage.save(outputStream, Docx4J.FLAG_SAVE_FLAT_XML);
+        return XmlFormatter.format(outputStream.toString("UTF-8"));
+    }
+
+    private static void assertOwnParts(DataHolder documentOptions) throws Exception {
+        DocxRenderer renderer = renderer();
+        Document document = Parser.builder(documentOptions).build().parse(MARKDOWN);
+
+        // loaded for the document, prototype is not created or used
+        WordprocessingMLPackage template = renderer.createTemplate(document);
+        assertNull(renderer.templatePrototype);
+        assertTrue(template.getMainDocumentPart().getContent().isEmpty());
+
+        assertEquals(renderFresh(renderer, document), renderer.render(document));
+        assertNull(renderer.templatePrototype);
+
+        // other documents still use the prototype
+        Document defaultDocument = Parser.builder().build().parse(MARKDOWN);
+        renderer.render(defaultDocument);
+        assertNotNull(renderer.templatePrototype);
+        String prototypeXml = partsXml(renderer.templatePrototype);
+
+        WordprocessingMLPackage documentTemplate = renderer.createTemplate(document);
+        assertNotSame(renderer.templatePrototype.getMainDocumentPart().getStyleDefinitionsPart(), documentTemplate.getMainDocumentPart().getStyleDefinitionsPart());
+        assertNotSame(renderer.templatePrototype.getMainDocumentPart().getNumberingDefinitionsPart(), documentTemplate.getMainDocumentPart().getNumberingDefinitionsPart());
+
+        assertEquals(renderFresh(renderer, document), renderer.render(document));
+        assertEquals(prototypeXml, partsXml(renderer.templatePrototype));
+    }
+
+    @Test
+    public void test_documentStyles() throws Exception {
+        assertOwnParts(new MutableDataSet().set(DocxRenderer.STYLES_XML, DocxRenderer.STYLES_XML.getFrom(null)));
+    }
+
+    @Test
+    public void test_documentNumbering() throws Exception {
+        assertOwnParts(new MutableDataSet().set(DocxRenderer.NUMBERING_XML, DocxRenderer.NUMBERING_XML.getFrom(null)));
+    }
+
+    @Test
+    public void test_prototypeRenderMatchesFreshTemplate() throws Exception {
+        DocxRenderer renderer = renderer();
+        Document document = Parser.builder().build().parse(MARKDOWN);
+        assertEquals(renderFresh(renderer, document), renderer.render(document));
+        assertEquals(renderFresh(renderer, document), renderer.render(document));
+    }
+}
@@ -0,0 +1,220 @@
+package com.vladsch.flexmark.ext.abbreviation.internal;
+
+import java.util.*;
+
+/**
+ * Aho-Corasick automaton finding abbreviations in text with the same results as a regex alternation of
+ * all abbreviations: leftmost match first, longest abbreviation at that position, and abbreviations starting
+ * or ending with a letter or digit only matched at word boundaries.
+ * <p>
+ * Scanning is linear in text length regardless of the number of abbreviations. Matchers are cached by
+ * abbreviation set so documents sharing abbreviations do not rebuild them.
+ */
+public class AbbreviationMatcher {
+    private static final int CACHE_SIZE = 16;
+    private static final LinkedHashMap<Set<String>, AbbreviationMatcher> CACHE = new LinkedHashMap<Set<String>, AbbreviationMatcher>(CACHE_SIZE, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Set<String>, AbbreviationMatcher> eldest) {
+            return size() > CACHE_SIZE;
+        }
+    };
+
+    private static final int BOUNDARY_BEFORE = 1;
+    private static final int BOUNDARY_AFTER = 2;
+    private static final char[] NO_CHARS = new char[0];
+    private static final int[] NO_STATES = new int[0];
+    private static final int[] NO_MATCHES = new int[0];
+
+    // per state: sorted child chars and their states, failure and dictionary suffix links
+    private final char[][] childChars;
+    private final int[][] childStates;
+    private final int[] failStates;
+    private final int[] dictionaryStates;
+    private final int[] depths;
+    private final int[] matchFlags; // -1 if state does not match an abbreviation, otherwise BOUNDARY_ flags
+
+    /**
+     * Get matcher for abbreviations, from cache if one was already built for the same abbreviations
+     *
+     * @param abbreviations abbreviations to match, must not be modified after the call
+     * @return matcher
+     */
+    public static AbbreviationMatcher of(Set<String> abbreviations) {
+        synchronized (CACHE) {
+            AbbreviationMatcher matcher = CACHE.get(abbreviations);
+            if (matcher == null) {
+                matcher = new AbbreviationMatcher(abbreviations);
+                CACHE.put(abbreviations, matcher);
+            }
+            return matcher;
+        }
+    }
+
+    public AbbreviationMatcher(Collection<String> abbreviations) {
+        ArrayList<TreeMap<Character, Integer>> children = new ArrayList<TreeMap<Character, Integer>>();
+        ArrayList<Integer> depthList = new ArrayList<Integer>();
+        ArrayList<Integer> flagList = new ArrayList<Integer>();
+
+        children.add(new TreeMap<Character, Integer>());
+        depthList.add(0);
+        flagList.add(-1);
+
+        for (String abbreviation : abbreviations) {
+            int length = abbreviation.length();
+            if (length == 0) continue;
+
+            int state = 0;
+            for (int i = 0; i < length; i++) {
+                Character c = abbreviation.charAt(i);
+                Integer next = children.get(state).get(c);
+                if (next == null) {
+                    next = children.size();
+                    children.add(new TreeMap<Character, Integer>());
+                    depthList.add(i + 1);
+                    flagList.add(-1);
+                    children.get(state).put(c, next);
+                }
+                state = next;
+            }
+
+            int flags = 0;
+            if (Character.isLetterOrDigit(abbreviation.charAt(0))) flags |= BOUNDARY_BEFORE;
+            if (Character.isLetterOrDigit(abbreviation.charAt(length - 1))) flags |= BOUNDARY_AFTER;
+            flagList.set(state, flags);
+        }
+
+        int stateCount = children.size();
+        childChars = new char[stateCount][];
+        childStates = new int[stateCount][];
+        failStates = new int[stateCount];
+        dictionaryStates = new int[stateCount];
+        depths = new int[stateCount];
+        matchFlags = new int[stateCount];
+
+        for (int state = 0; state < stateCount; state++) {
+            TreeMap<Character, Integer> stateChildren = children.get(state);
+            int size = stateChildren.size();
+            char[] chars = size == 0 ? NO_CHARS : new char[size];
+            int[] states = size == 0 ? NO_STATES : new int[size];
+            int i = 0;
+            for (Map.Entry<Character, Integer> entry : stateChildren.entrySet()) {
+                chars[i] = entry.getKey();
+                states[i] = entry.getValue();
+                i++;
+            }
+            childChars[state] = chars;
+            childStates[state] = states;
+            depths[state] = depthList.get(state);
+            matchFlags[state] = flagList.get(state);
+        }
+
+        // breadth first so failure links of shorter prefixes are known
+        int[] queue = new int[stateCount];
+        int head = 0, tail = 0;
+        dictionaryStates[0] = -1;
+        for (int child : childStates[0]) {
+            failStates[child] = 0;
+            dictionaryStates[child] = -1;
+            queue[tail++] = child;
+        }
+
+        while (head < tail) {
+            int state = queue[head++];
+            char[] chars = childChars[state];
+            int[] states = childStates[state];
+
+            for (int i = 0; i < chars.length; i++) {
+                int child = states[i];
+                int fail = failStates[state];
+                int next;
+                while ((next = childState(fail, chars[i])) == -1 && fail != 0) {
+                    fail = failStates[fail];
+                }
+
+                fail = next == -1 ? 0 : next;
+                failStates[child] = fail;
+                dictionaryStates[child] = matchFlags[fail] != -1 ? fail : dictionaryStates[fail];
+                queue[tail++] = child;
+            }
+        }
+    }
+
+    private int childState(int state, char c) {
+        int index = Arrays.binarySearch(childChars[state], c);
+        return index < 0 ? -1 : childStates[state][index];
+    }
+
+    /**
+     * Find abbreviations in a range of text, text outside the range is treated as if it did not exist
+     *
+     * @param text       text to search
+     * @param startIndex start of range
+     * @param endIndex   end of range
+     * @return start and end index pairs of non-overlapping abbreviations in ascending order
+     */
+    public int[] findAll(CharSequence text, int startIndex, int endIndex) {
+        int length = endIndex - startIndex;
+        int[] matchLengths = null;
+        int state = 0;
+
+        for (int i = startIndex; i < endIndex; i++) {
+            char c = text.charAt(i);
+            int next;
+            while ((next = childState(state, c)) == -1 && state != 0) {
+                state = failStates[state];
+            }
+            state = next == -1 ? 0 : next;
+
+            // only the longest valid abbreviation at each start is kept
+            for (int match = matchFlags[state] != -1 ? state : dictionaryStates[state]; match != -1; match = dictionaryStates[match]) {
+                int matchStart = i + 1 - depths[match];
+                int flags = matchFlags[match];
+
+                if ((flags & BOUNDARY_BEFORE) != 0 && !isWordBoundary(text, matchStart, startIndex, endIndex)) continue;
+                if ((flags & BOUNDARY_AFTER) != 0 && !isWordBoundary(text, i + 1, startIndex, endIndex)) continue;
+
+                if (matchLengths == null) matchLengths = new int[length];
+                if (matchLengths[matchStart - startIndex] < depths[match]) {
+                    matchLengths[matchStart - startIndex] = depths[match];
+                }
+            }
+        }
+
+        if (matchLengths == null) return NO_MATCHES;
+
+        int[] matches = new int[8];
+        int count = 0;
+        for (int i = 0; i < length; ) {
+            int matchLength = matchLengths[i];
+            if (matchLength > 0) {
+                if (count + 2 > matches.length) matches = Arrays.copyOf(matches, matches.length * 2);
+                matches[count++] = startIndex + i;
+                matches[count++] = startIndex + i + matchLength;
+                i += matchLength;
+            } else {
+                i++;
+            }
+        }
+        return Arrays.copyOf(matches, count);
+    }
+
+    // same as regex \b with opaque region bounds
+    static boolean isWordBoundary(CharSequence text, int index, int startIndex, int endIndex) {
+        boolean left = index > startIndex && isWordAt(text, Character.codePointBefore(text, index), index - 1, startIndex);
+        boolean right = index < endIndex && isWordAt(text, Character.codePointAt(text, index), index, startIndex);
+        return left ^ right;
+    }
+
+    private static boolean isWordAt(CharSequence text, int codePoint, int index, int startIndex) {
+        if (codePoint == '_' || Character.isLetterOrDigit(codePoint)) return true;
+        if (Character.getType(codePoint) != Character.NON_SPACING_MARK) return false;
+
+        // non spacing mark is part of a word if it follows a letter or digit
+        for (int i = index; i >= startIndex; i--) {
+            int c = Character.codePointAt(text, i);
+            if (Character.isLetterOrDigit(c)) return true;
+            if (Character.getType(c) != Character.NON_SPACING_MARK) return false;
+        }
+        return false;
+    }
+}
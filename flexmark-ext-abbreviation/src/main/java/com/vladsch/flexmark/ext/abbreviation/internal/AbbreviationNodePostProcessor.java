@@ -8,21 +8,16 @@ import com.vladsch.flexmark.ext.autolink.internal.AutolinkNodePostProcessor;
 import com.vladsch.flexmark.parser.PostProcessorFactory;
 import com.vladsch.flexmark.parser.block.NodePostProcessor;
 import com.vladsch.flexmark.parser.block.NodePostProcessorFactory;
-import com.vladsch.flexmark.util.NodeTracker;
-import com.vladsch.flexmark.util.html.Escaping;
+import com.vladsch.flexmark.parser.block.TextNodePostProcessor;
+import com.vladsch.flexmark.parser.block.UnescapedText;
 import com.vladsch.flexmark.util.sequence.BasedSequence;
-import com.vladsch.flexmark.util.sequence.ReplacedTextMapper;
 
-import java.util.*;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Set;
 
-public class AbbreviationNodePostProcessor extends NodePostProcessor {
-    //public static final String SINGLE_QUOTES = "'’‘";
-    //public static final String DOUBLE_QUOTES = "\"“”";
-    //private static final Pattern QUOTES = Pattern.compile("(?:[" + SINGLE_QUOTES + DOUBLE_QUOTES + "])");
-
-    private Pattern abbreviations = null;
+public class AbbreviationNodePostProcessor extends TextNodePostProcessor {
+    private AbbreviationMatcher abbreviations = null;
     private HashMap<String, BasedSequence> abbreviationMap = null;
 
     private AbbreviationNodePostProcessor(Document document) {
@@ -30,116 +25,39 @@ public class AbbreviationNodePostProcessor extends NodePostProcessor {
 
         if (!abbrRepository.isEmpty()) {
             abbreviationMap = new HashMap<String, BasedSequence>();
-            StringBuilder sb = new StringBuilder();
-
-            // sort reverse alphabetical order so longer ones match first. for sdk7
-            ArrayList<String> abbreviations = new ArrayList<String>(abbrRepository.keySet());
-            Collections.sort(abbreviations, new Comparator<String>() {
-                @Override
-                public int compare(String o1, String o2) {
-                    return o2.compareTo(o1);
-                }
-            });
 
-            for (String abbr : abbreviations) {
+            for (String abbr : abbrRepository.keySet()) {
                 AbbreviationBlock abbreviationBlock = abbrRepository.get(abbr);
                 BasedSequence abbreviation = abbreviationBlock.getAbbreviation();
-                if (!abbreviation.isEmpty()) {
+                if (!abbr.isEmpty() && !abbreviation.isEmpty()) {
                     abbreviationMap.put(abbr, abbreviation);
-
-                    if (sb.length() > 0) sb.append("|");
-
-                    if (Character.isLetterOrDigit(abbr.charAt(0))) sb.append("\\b");
-                    // Too simplistic. Typographic nodes need to be handled separately since they prefix/suffix text
-                    //int length = abbr.length();
-                    //int lastPos = 0;
-                    //Matcher matcher = QUOTES.matcher(abbr);
-                    //
-                    //while (lastPos < length && matcher.find()) {
-                    //    int pos = matcher.start();
-                    //    if (lastPos < pos) {
-                    //        sb.append("\\Q").append(abbr, lastPos, pos).append("\\E");
-                    //    }
-                    //
-                    //    char c = matcher.group().charAt(0);
-                    //    if (SINGLE_QUOTES.indexOf(c) != -1) {
-                    //        sb.append("[").append(SINGLE_QUOTES).append("]");
-                    //    } else if (DOUBLE_QUOTES.indexOf(c) != -1) {
-                    //        sb.append("[").append(DOUBLE_QUOTES).append("]");
-                    //    }
-                    //
-                    //    lastPos = matcher.end();
-                    //}
-                    //if (lastPos < length) {
-                    //    sb.append("\\Q").append(abbr, lastPos, length).append("\\E");
-                    //}
-                    sb.append("\\Q").append(abbr).append("\\E");
-                    if (Character.isLetterOrDigit(abbr.charAt(abbr.length() - 1))) sb.append("\\b");
                 }
             }
 
-            if (sb.length() > 0) this.abbreviations = Pattern.compile(sb.toString());
+            // matcher is shared by all documents with the same abbreviations
+            if (!abbreviationMap.isEmpty()) this.abbreviations = AbbreviationMatcher.of(new HashSet<String>(abbreviationMap.keySet()));
         }
     }
 
     @Override
-    public void process(NodeTracker state, Node node) {
+    public void decorate(UnescapedText text, int startIndex, int endIndex) {
         if (abbreviations == null) return;
 
-        BasedSequence original = node.getChars();
-        ReplacedTextMapper textMapper = new ReplacedTextMapper(original);
-        BasedSequence literal = Escaping.unescape(original, textMapper);
-
-        Matcher m = abbreviations.matcher(literal);
-        int lastEscaped = 0;
-        boolean wrapInTextBase = !(node.getParent() instanceof TextBase);
-        TextBase textBase = wrapInTextBase ? null : (TextBase) node.getParent();
-
-        while (m.find()) {
-            //String found = m.group();
-            if (abbreviationMap.containsKey(m.group(0))) {
-                BasedSequence abbreviation = abbreviationMap.get(m.group(0));
-
-                BasedSequence toDecorateText = literal.subSequence(m.start(0), m.end(0));
-                int startOffset = textMapper.originalOffset(m.start(0));
-                int endOffset = textMapper.originalOffset(m.end(0));
-
-                if (wrapInTextBase) {
-                    wrapInTextBase = false;
-                    textBase = new TextBase(original);
-                    node.insertBefore(textBase);
-                    state.nodeAdded(textBase);
-                }
-
-                if (startOffset != lastEscaped) {
-                    BasedSequence escapedChars = original.subSequence(lastEscaped, startOffset);
-                    Node node1 = new Text(escapedChars);
-                    textBase.appendChild(node1);
-                    state.nodeAdded(node1);
-                }
+        BasedSequence original = text.getOriginal();
+        BasedSequence literal = text.getLiteral();
+        int[] matches = abbreviations.findAll(literal, startIndex, endIndex);
 
-                BasedSequence origToDecorateText = original.subSequence(startOffset, endOffset);
-                Abbreviation decorationNode = new Abbreviation(origToDecorateText, abbreviation);
-                textBase.appendChild(decorationNode);
-                //Text undecoratedTextNode = new Text(origToDecorateText);
-                //decorationNode.appendChild(undecoratedTextNode);
-                //state.nodeAddedWithChildren(decorationNode);
-                state.nodeAdded(decorationNode);
+        for (int i = 0; i < matches.length; i += 2) {
+            int matchStart = matches[i];
+            int matchEnd = matches[i + 1];
+            BasedSequence abbreviation = abbreviationMap.get(literal.subSequence(matchStart, matchEnd).toString());
 
-                lastEscaped = endOffset;
-            }
-        }
-
-        if (lastEscaped > 0) {
-            if (lastEscaped != original.length()) {
-                BasedSequence escapedChars = original.subSequence(lastEscaped, original.length());
-                Node node1 = new Text(escapedChars);
-                textBase.appendChild(node1);
-                state.nodeAdded(node1);
-            }
+            int startOffset = text.originalOffset(matchStart);
+            int endOffset = text.originalOffset(matchEnd);
 
-            node.unlink();
-            state.nodeRemoved(node);
+            BasedSequence origToDecorateText = original.subSequence(startOffset, endOffset);
+            Abbreviation decorationNode = new Abbreviation(origToDecorateText, abbreviation);
+            text.addDecoration(matchStart, matchEnd, decorationNode);
         }
     }
 
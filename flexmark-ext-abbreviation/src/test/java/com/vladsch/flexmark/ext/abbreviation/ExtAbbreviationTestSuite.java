@@ -1,11 +1,13 @@
 package com.vladsch.flexmark.ext.abbreviation;
 
+import com.vladsch.flexmark.ext.abbreviation.internal.AbbreviationMatcherTest;
 import org.junit.runners.Suite;
 
 @org.junit.runner.RunWith(Suite.class)
 @Suite.SuiteClasses({
         ComboAbbreviationSpecTest.class,
         ComboAbbreviationFormatterSpecTest.class,
+        AbbreviationMatcherTest.class,
 })
 public class ExtAbbreviationTestSuite {
 }
@@ -0,0 +1,97 @@
+package com.vladsch.flexmark.ext.abbreviation.internal;
+
+import org.junit.Test;
+
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Verify that the abbreviation matcher gives the same results as the regex alternation it replaces
+ */
+public class AbbreviationMatcherTest {
+    private static final String CHARS = "aAb1 _-.&́";
+    private static final int ITERATIONS = 20000;
+
+    static String randomString(Random random, int maxLength) {
+        int length = random.nextInt(maxLength);
+        StringBuilder sb = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            sb.append(CHARS.charAt(random.nextInt(CHARS.length())));
+        }
+        return sb.toString();
+    }
+
+    // same as AbbreviationNodePostProcessor before the matcher
+    static Pattern regexPattern(Collection<String> abbreviationSet) {
+        ArrayList<String> abbreviations = new ArrayList<String>(abbreviationSet);
+        Collections.sort(abbreviations, Collections.reverseOrder());
+
+        StringBuilder sb = new StringBuilder();
+        for (String abbr : abbreviations) {
+            if (sb.length() > 0) sb.append("|");
+            if (Character.isLetterOrDigit(abbr.charAt(0))) sb.append("\\b");
+            sb.append("\\Q").append(abbr).append("\\E");
+            if (Character.isLetterOrDigit(abbr.charAt(abbr.length() - 1))) sb.append("\\b");
+        }
+        return Pattern.compile(sb.toString());
+    }
+
+    static String regexMatches(Pattern pattern, String s, int startIndex, int endIndex) {
+        StringBuilder sb = new StringBuilder();
+        Matcher matcher = pattern.matcher(s);
+        matcher.region(startIndex, endIndex);
+        while (matcher.find()) {
+            sb.append(matcher.start()).append('-').append(matcher.end()).append(' ');
+        }
+        return sb.toString();
+    }
+
+    static String matcherMatches(AbbreviationMatcher matcher, String s, int startIndex, int endIndex) {
+        StringBuilder sb = new StringBuilder();
+        int[] matches = matcher.findAll(s, startIndex, endIndex);
+        for (int i = 0; i < matches.length; i += 2) {
+            sb.append(matches[i]).append('-').append(matches[i + 1]).append(' ');
+        }
+        return sb.toString();
+    }
+
+    @Test
+    public void test_sameAsRegex() {
+        Random random = new Random(1);
+
+        for (int i = 0; i < ITERATIONS / 100; i++) {
+            HashSet<String> abbreviations = new HashSet<String>();
+            int count = 1 + random.nextInt(8);
+            while (abbreviations.size() < count) {
+                String abbr = randomString(random, 5);
+                if (!abbr.isEmpty()) abbreviations.add(abbr);
+            }
+
+            Pattern pattern = regexPattern(abbreviations);
+            AbbreviationMatcher matcher = new AbbreviationMatcher(abbreviations);
+
+            for (int j = 0; j < 100; j++) {
+                String s = randomString(random, 40);
+                int startIndex = s.isEmpty() ? 0 : random.nextInt(s.length());
+                int endIndex = startIndex + random.nextInt(s.length() - startIndex + 1);
+                assertEquals(abbreviations + " " + s, regexMatches(pattern, s, 0, s.length()), matcherMatches(matcher, s, 0, s.length()));
+                assertEquals(abbreviations + " " + s, regexMatches(pattern, s, startIndex, endIndex), matcherMatches(matcher, s, startIndex, endIndex));
+            }
+        }
+    }
+
+    @Test
+    public void test_longestMatch() {
+        AbbreviationMatcher matcher = new AbbreviationMatcher(Arrays.asList("HTML", "HTML5", "TM", "W3C"));
+        assertEquals("0-5 10-13 ", matcherMatches(matcher, "HTML5 TML W3C HTMLS", 0, 19));
+    }
+
+    @Test
+    public void test_cached() {
+        HashSet<String> abbreviations = new HashSet<String>(Arrays.asList("a", "b"));
+        assertEquals(AbbreviationMatcher.of(abbreviations), AbbreviationMatcher.of(new HashSet<String>(Arrays.asList("b", "a"))));
+    }
+}
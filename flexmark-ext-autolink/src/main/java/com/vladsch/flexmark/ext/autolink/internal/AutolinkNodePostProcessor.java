@@ -3,54 +3,81 @@ package com.vladsch.flexmark.ext.autolink.internal;
 import com.vladsch.flexmark.ast.*;
 import com.vladsch.flexmark.parser.block.NodePostProcessor;
 import com.vladsch.flexmark.parser.block.NodePostProcessorFactory;
-import com.vladsch.flexmark.util.NodeTracker;
-import com.vladsch.flexmark.util.html.Escaping;
+import com.vladsch.flexmark.parser.block.TextNodePostProcessor;
+import com.vladsch.flexmark.parser.block.UnescapedText;
 import com.vladsch.flexmark.util.sequence.BasedSequence;
-import com.vladsch.flexmark.util.sequence.ReplacedTextMapper;
 import org.nibor.autolink.LinkExtractor;
 import org.nibor.autolink.LinkSpan;
 import org.nibor.autolink.LinkType;
 
 import java.util.EnumSet;
 
-public class AutolinkNodePostProcessor extends NodePostProcessor {
+public class AutolinkNodePostProcessor extends TextNodePostProcessor {
 
-    private LinkExtractor linkExtractor = LinkExtractor.builder()
-            .linkTypes(EnumSet.of(LinkType.URL, LinkType.WWW, LinkType.EMAIL))
-            .build();
+    private final LinkExtractor linkExtractor;
 
     public AutolinkNodePostProcessor(Document document) {
+        this(document, createLinkExtractor());
+    }
+
+    public AutolinkNodePostProcessor(Document document, LinkExtractor linkExtractor) {
+        this.linkExtractor = linkExtractor;
+    }
 
+    public static LinkExtractor createLinkExtractor() {
+        return LinkExtractor.builder()
+                .linkTypes(EnumSet.of(LinkType.URL, LinkType.WWW, LinkType.EMAIL))
+                .build();
     }
 
     @Override
-    public void process(NodeTracker state, Node node) {
-        BasedSequence original = node.getChars();
-        ReplacedTextMapper textMapper = new ReplacedTextMapper(original);
-        BasedSequence literal = Escaping.unescape(original, textMapper);
-        Iterable<LinkSpan> links = linkExtractor.extractLinks(literal);
-        int lastEscaped = 0;
-        boolean wrapInTextBase = !(node.getParent() instanceof TextBase);
-        TextBase textBase = wrapInTextBase ? null : (TextBase) node.getParent();
+    public boolean isCandidate(BasedSequence chars) {
+        return hasLinkTrigger(chars);
+    }
 
-        for (LinkSpan link : links) {
-            BasedSequence linkText = literal.subSequence(link.getBeginIndex(), link.getEndIndex()).trimEnd();
+    /**
+     * Test if text has a character needed by a link, so that text without any can skip link extraction
+     * <p>
+     * URLs need a : after the scheme, emails need an @ and www links need www. Since the text is unescaped before
+     * extraction, any entity or backslash escape could be one of these characters.
+     *
+     * @param chars text to test
+     * @return true if text could contain a link
+     */
+    public static boolean hasLinkTrigger(CharSequence chars) {
+        int iMax = chars.length();
+        for (int i = 0; i < iMax; i++) {
+            char c = chars.charAt(i);
+            switch (c) {
+                case ':':
+                case '@':
+                case '&':
+                case '\\':
+                    return true;
+
+                case '.':
+                    if (i >= 3 && isW(chars.charAt(i - 1)) && isW(chars.charAt(i - 2)) && isW(chars.charAt(i - 3))) return true;
+                    break;
+
+                default:
+                    break;
+            }
+        }
+        return false;
+    }
 
-            int startOffset = textMapper.originalOffset(link.getBeginIndex());
+    private static boolean isW(char c) {
+        return c == 'w' || c == 'W';
+    }
 
-            if (wrapInTextBase) {
-                wrapInTextBase = false;
-                textBase = new TextBase(original);
-                node.insertBefore(textBase);
-                state.nodeAdded(textBase);
-            }
+    @Override
+    public void decorate(UnescapedText text, int startIndex, int endIndex) {
+        BasedSequence literal = text.getLiteral();
+        Iterable<LinkSpan> links = linkExtractor.extractLinks(literal.subSequence(startIndex, endIndex));
 
-            if (startOffset != lastEscaped) {
-                BasedSequence escapedChars = original.subSequence(lastEscaped, startOffset);
-                Node node1 = new Text(escapedChars);
-                textBase.appendChild(node1);
-                state.nodeAdded(node1);
-            }
+        for (LinkSpan link : links) {
+            int linkStart = startIndex + link.getBeginIndex();
+            BasedSequence linkText = literal.subSequence(linkStart, startIndex + link.getEndIndex()).trimEnd();
 
             Text contentNode = new Text(linkText);
             LinkNode linkNode;
@@ -65,34 +92,23 @@ public class AutolinkNodePostProcessor extends NodePostProcessor {
 
             linkNode.setCharsFromContent();
             linkNode.appendChild(contentNode);
-            textBase.appendChild(linkNode);
-            state.nodeAddedWithChildren(linkNode);
-
-            lastEscaped = textMapper.originalOffset(link.getBeginIndex() + linkText.length());
-        }
-
-        if (lastEscaped > 0) {
-            if (lastEscaped != original.length()) {
-                BasedSequence escapedChars = original.subSequence(lastEscaped, original.length());
-                Node node1 = new Text(escapedChars);
-                textBase.appendChild(node1);
-                state.nodeAdded(node1);
-            }
-
-            node.unlink();
-            state.nodeRemoved(node);
+            text.addDecoration(linkStart, linkStart + linkText.length(), linkNode);
         }
     }
 
     public static class Factory extends NodePostProcessorFactory {
+        // link extractor is immutable, one is shared by all documents of the parser
+        private final LinkExtractor linkExtractor;
+
         public Factory() {
             super(false);
             addNodeWithExclusions(Text.class, DoNotDecorate.class, DoNotLinkDecorate.class);
+            linkExtractor = createLinkExtractor();
         }
 
         @Override
         public NodePostProcessor create(Document document) {
-            return new AutolinkNodePostProcessor(document);
+            return new AutolinkNodePostProcessor(document, linkExtractor);
         }
     }
 }
@@ -1,6 +1,7 @@
 package com.vladsch.flexmark.ext.autolink;
 
 import com.vladsch.flexmark.Extension;
+import com.vladsch.flexmark.ext.autolink.internal.AutolinkNodePostProcessor;
 import com.vladsch.flexmark.html.HtmlRenderer;
 import com.vladsch.flexmark.parser.Parser;
 import com.vladsch.flexmark.spec.SpecExample;
@@ -10,6 +11,9 @@ import org.junit.Test;
 import java.util.Collections;
 import java.util.Set;
 
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
 public class AutolinkTest extends RenderingTestCase {
     private static final Set<Extension> EXTENSIONS = Collections.singleton(AutolinkExtension.create());
     private static final Parser PARSER = Parser.builder().extensions(EXTENSIONS).build();
@@ -52,6 +56,27 @@ public class AutolinkTest extends RenderingTestCase {
                 "<p>foo@com</p>\n");
     }
 
+    @Test
+    public void wwwLink() {
+        assertRendering("see www.example.com",
+                "<p>see <a href=\"www.example.com\">www.example.com</a></p>\n");
+    }
+
+    @Test
+    public void escapedWwwLink() {
+        assertRendering("www\\.example.com",
+                "<p><a href=\"www.example.com\">www.example.com</a></p>\n");
+    }
+
+    @Test
+    public void linkTrigger() {
+        assertFalse(AutolinkNodePostProcessor.hasLinkTrigger("no links here, just ww. and w.w.w."));
+        assertTrue(AutolinkNodePostProcessor.hasLinkTrigger("http://example.com"));
+        assertTrue(AutolinkNodePostProcessor.hasLinkTrigger("foo@example.com"));
+        assertTrue(AutolinkNodePostProcessor.hasLinkTrigger("WWW.example.com"));
+        assertTrue(AutolinkNodePostProcessor.hasLinkTrigger("foo&#64;example.com"));
+    }
+
     @Test
     public void dontLinkTextWithinLinks() {
         assertRendering("<http://example.com>",
@@ -37,7 +37,7 @@ public class EmojiNodeRenderer implements NodeRenderer {
 
     private void render(Emoji node, NodeRendererContext context, HtmlWriter html) {
         Emoji emoji = (Emoji) node;
-        EmojiCheatSheet.EmojiShortcut shortcut = EmojiCheatSheet.shortCutMap.get(emoji.getText().toString());
+        EmojiCheatSheet.EmojiShortcut shortcut = EmojiCheatSheet.getShortcut(emoji.getText());
         if (shortcut == null) {
             // output as text
             html.text(":");
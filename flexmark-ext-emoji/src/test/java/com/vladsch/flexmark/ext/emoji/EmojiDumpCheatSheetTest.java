@@ -1,9 +1,14 @@
 package com.vladsch.flexmark.ext.emoji;
 
+import com.vladsch.flexmark.ext.emoji.internal.EmojiCheatSheet;
 import com.vladsch.flexmark.spec.TemplateEntry;
 import com.vladsch.flexmark.test.TemplateTestCase;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 
 public class EmojiDumpCheatSheetTest extends TemplateTestCase {
     static final String SPEC_RESOURCE = "/EmojiCheatSheet.txt";
@@ -11,11 +16,26 @@ public class EmojiDumpCheatSheetTest extends TemplateTestCase {
     @Override
     public void getExpandedEntry(TemplateEntry entry, StringBuilder sb) {
         HashMap<String, String> params = new HashMap<String, String>();
-        for (String emojiShortcut : EmojiCheatSheetRaw.aliasMap.keySet()) {
+        HashSet<String> urls = new HashSet<String>();
+        List<String> emojiShortcuts = new ArrayList<String>(EmojiCheatSheetRaw.aliasMap.keySet());
+        Collections.sort(emojiShortcuts);
+
+        for (String emojiShortcut : emojiShortcuts) {
+            String image = EmojiCheatSheetRaw.aliasMap.get(emojiShortcut);
+            String url = EmojiCheatSheetRaw.urlMap.get(emojiShortcut);
+            String code = "";
+            if (url != null) {
+                code = url.startsWith(EmojiCheatSheet.GITHUB_UNICODE_EMOJI_URL) ? url.substring(EmojiCheatSheet.GITHUB_UNICODE_EMOJI_URL.length())
+                        : "/" + url.substring(EmojiCheatSheet.GITHUB_EMOJI_URL.length());
+                code = code.substring(0, code.length() - ".png".length());
+            }
+
             params.put("name", emojiShortcut);
-            params.put("image", EmojiCheatSheetRaw.aliasMap.get(emojiShortcut));
-            params.put("url", EmojiCheatSheetRaw.urlMap.get(emojiShortcut));
             params.put("category", EmojiCheatSheetRaw.categoryMap.get(emojiShortcut));
+            params.put("code", code);
+            params.put("image", image.equals(emojiShortcut + ".png") ? "" : image);
+            // first shortcut of an image is used for image to shortcut mapping, change by hand if another one is preferred
+            params.put("alias", url != null && !urls.add(url) ? "alias" : "");
 
             entry.replaceParams(params, sb);
         }
@@ -20,20 +20,18 @@ public class EmojiDumpMissingCheatSheetTest {
         System.out.println("\n## No Category\n");
         Set<String> categories = new HashSet<String>();
 
-        for (Map.Entry<String, EmojiCheatSheet.EmojiShortcut> entry : EmojiCheatSheet.shortCutMap.entrySet()) {
-            EmojiCheatSheet.EmojiShortcut shortcut = entry.getValue();
+        for (EmojiCheatSheet.EmojiShortcut shortcut : EmojiCheatSheet.getShortcuts()) {
             if (shortcut.category == null || shortcut.category.isEmpty()) {
-                System.out.println(String.format("* :%s: %s", shortcut.name, entry.getKey()));
+                System.out.println(String.format("* :%s: %s", shortcut.name, shortcut.name));
             } else {
                 categories.add(shortcut.category);
             }
         }
 
         System.out.println("\n## No GitHub URL\n");
-        for (Map.Entry<String, EmojiCheatSheet.EmojiShortcut> entry : EmojiCheatSheet.shortCutMap.entrySet()) {
-            EmojiCheatSheet.EmojiShortcut shortcut = entry.getValue();
+        for (EmojiCheatSheet.EmojiShortcut shortcut : EmojiCheatSheet.getShortcuts()) {
             if (shortcut.url == null || shortcut.url.isEmpty()) {
-                System.out.println(String.format("* :%s: %s", shortcut.name, entry.getKey()));
+                System.out.println(String.format("* :%s: %s", shortcut.name, shortcut.name));
             }
         }
 
@@ -45,17 +43,15 @@ public class EmojiDumpMissingCheatSheetTest {
             System.out.println("\n### " + category + "\n");
             List<String> shortcuts = new ArrayList<String>();
 
-            for (Map.Entry<String, EmojiCheatSheet.EmojiShortcut> entry : EmojiCheatSheet.shortCutMap.entrySet()) {
-                EmojiCheatSheet.EmojiShortcut shortcut = entry.getValue();
-
+            for (EmojiCheatSheet.EmojiShortcut shortcut : EmojiCheatSheet.getShortcuts()) {
                 if (category.equals(shortcut.category)) {
-                    shortcuts.add(entry.getKey());
+                    shortcuts.add(shortcut.name);
                 }
             }
 
             Collections.sort(shortcuts);
             for (String name : shortcuts) {
-                EmojiCheatSheet.EmojiShortcut shortcut = EmojiCheatSheet.shortCutMap.get(name);
+                EmojiCheatSheet.EmojiShortcut shortcut = EmojiCheatSheet.getShortcut(name);
                 System.out.println(String.format("* :%s: %s", shortcut.name, name));
             }
         }
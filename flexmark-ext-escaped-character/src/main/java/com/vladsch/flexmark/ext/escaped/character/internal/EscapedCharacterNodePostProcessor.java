@@ -4,78 +4,43 @@ import com.vladsch.flexmark.ast.*;
 import com.vladsch.flexmark.ext.escaped.character.EscapedCharacter;
 import com.vladsch.flexmark.parser.block.NodePostProcessor;
 import com.vladsch.flexmark.parser.block.NodePostProcessorFactory;
-import com.vladsch.flexmark.util.NodeTracker;
-import com.vladsch.flexmark.util.html.Escaping;
+import com.vladsch.flexmark.parser.block.TextNodePostProcessor;
+import com.vladsch.flexmark.parser.block.UnescapedText;
 import com.vladsch.flexmark.util.sequence.BasedSequence;
-import com.vladsch.flexmark.util.sequence.ReplacedTextMapper;
 import com.vladsch.flexmark.util.sequence.ReplacedTextRegion;
 
 import java.util.ArrayList;
 
-public class EscapedCharacterNodePostProcessor extends NodePostProcessor {
+public class EscapedCharacterNodePostProcessor extends TextNodePostProcessor {
     public EscapedCharacterNodePostProcessor(Document document) {
     }
 
     @Override
-    public void process(NodeTracker state, Node node) {
-        BasedSequence original = node.getChars();
-        ReplacedTextMapper textMapper = new ReplacedTextMapper(original);
-        BasedSequence literal = Escaping.unescape(original, textMapper);
-
-        int lastEscaped = 0;
-        boolean wrapInTextBase = !(node.getParent() instanceof TextBase);
-        TextBase textBase = wrapInTextBase ? null : (TextBase) node.getParent();
+    public boolean isCandidate(BasedSequence chars) {
+        return chars.indexOf('\\') != -1;
+    }
 
-        ArrayList<ReplacedTextRegion> replacedRegions = textMapper.getRegions();
+    @Override
+    public void decorate(UnescapedText text, int startIndex, int endIndex) {
+        BasedSequence original = text.getOriginal();
+        ArrayList<ReplacedTextRegion> replacedRegions = text.getTextMapper().getRegions();
 
         for (ReplacedTextRegion region : replacedRegions) {
+            int replacedStart = region.getReplacedRange().getStart();
+            if (replacedStart < startIndex) continue;
+            if (replacedStart >= endIndex) break;
+
             int startOffset = region.getOriginalRange().getStart();
             int endOffset = region.getOriginalRange().getEnd();
 
             if (original.charAt(startOffset) == '\\' && region.getReplacedRange().length() == 1
                     // fix for #19, ArrayIndexOutOfBounds while parsing markdown with backslash as last character of text block
                     && startOffset + 1 < original.length()) {
-                if (wrapInTextBase) {
-                    wrapInTextBase = false;
-                    textBase = new TextBase(original);
-                    node.insertBefore(textBase);
-                    state.nodeAdded(textBase);
-                }
-
-                if (startOffset != lastEscaped) {
-                    if (startOffset > original.length() || lastEscaped > original.length()) {
-                        int tmp = 0;
-                    }
-                    BasedSequence escapedChars = original.subSequence(lastEscaped, startOffset);
-                    Node node1 = new Text(escapedChars);
-                    textBase.appendChild(node1);
-                    state.nodeAdded(node1);
-                }
-
                 BasedSequence origToDecorateText = original.subSequence(startOffset, endOffset);
-                BasedSequence text = origToDecorateText.subSequence(1);
-                EscapedCharacter decorationNode = new EscapedCharacter(origToDecorateText.subSequence(0, 1), text);
-                textBase.appendChild(decorationNode);
-                //Text undecoratedTextNode = new Text(origToDecorateText);
-                //decorationNode.appendChild(undecoratedTextNode);
-                //state.nodeAddedWithChildren(decorationNode);
-                state.nodeAdded(decorationNode);
-
-                lastEscaped = endOffset;
+                EscapedCharacter decorationNode = new EscapedCharacter(origToDecorateText.subSequence(0, 1), origToDecorateText.subSequence(1));
+                text.addDecoration(replacedStart, region.getReplacedRange().getEnd(), decorationNode);
             }
         }
-
-        if (lastEscaped > 0) {
-            if (lastEscaped != original.length()) {
-                BasedSequence escapedChars = original.subSequence(lastEscaped, original.length());
-                Node node1 = new Text(escapedChars);
-                textBase.appendChild(node1);
-                state.nodeAdded(node1);
-            }
-
-            node.unlink();
-            state.nodeRemoved(node);
-        }
     }
 
     public static class Factory extends NodePostProcessorFactory {
@@ -77,6 +77,7 @@ public class FootnoteExtension implements Parser.ParserExtension, HtmlRenderer.H
     public void extend(Parser.Builder parserBuilder) {
         parserBuilder.customBlockParserFactory(new FootnoteBlockParser.Factory());
         parserBuilder.linkRefProcessorFactory(new FootnoteLinkRefProcessor.Factory());
+        parserBuilder.postProcessorFactory(new FootnoteDocumentPostProcessor.Factory());
     }
 
     @Override
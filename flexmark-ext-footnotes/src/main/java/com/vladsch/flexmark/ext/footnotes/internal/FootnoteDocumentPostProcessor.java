@@ -0,0 +1,29 @@
+package com.vladsch.flexmark.ext.footnotes.internal;
+
+import com.vladsch.flexmark.ast.Document;
+import com.vladsch.flexmark.ext.footnotes.FootnoteExtension;
+import com.vladsch.flexmark.parser.block.DocumentPostProcessor;
+import com.vladsch.flexmark.parser.block.DocumentPostProcessorFactory;
+
+/**
+ * Numbers footnotes once after parsing so renderings of the document only look up footnote ordinals
+ */
+public class FootnoteDocumentPostProcessor extends DocumentPostProcessor {
+    public FootnoteDocumentPostProcessor(Document document) {
+    }
+
+    @Override
+    public Document processDocument(Document document) {
+        if (document.contains(FootnoteExtension.FOOTNOTES)) {
+            FootnoteExtension.FOOTNOTES.getFrom(document).resolveFootnoteOrdinals();
+        }
+        return document;
+    }
+
+    public static class Factory extends DocumentPostProcessorFactory {
+        @Override
+        public DocumentPostProcessor create(Document document) {
+            return new FootnoteDocumentPostProcessor(document);
+        }
+    }
+}
@@ -10,21 +10,26 @@ import com.vladsch.flexmark.html.HtmlWriter;
 import com.vladsch.flexmark.html.renderer.*;
 import com.vladsch.flexmark.util.options.DataHolder;
 
-import java.util.Arrays;
-import java.util.HashSet;
-import java.util.Set;
+import java.util.*;
 
 public class FootnoteNodeRenderer implements PhasedNodeRenderer {
 
     private final FootnoteRepository footnoteRepository;
     private final FootnoteOptions options;
-    private boolean recheckUndefinedReferences;
+    private final boolean recheckUndefinedReferences;
+
+    // node renderers are created for each rendering, references found by recheck are kept here instead of in the document
+    private List<FootnoteBlock> referencedFootnoteBlocks;
+    private HashMap<FootnoteBlock, Integer> footnoteOrdinals;
+    private HashMap<Footnote, FootnoteBlock> recheckedFootnotes;
 
     public FootnoteNodeRenderer(DataHolder options) {
         this.options = new FootnoteOptions(options);
         this.footnoteRepository = options.get(FootnoteExtension.FOOTNOTES);
         this.recheckUndefinedReferences = HtmlRenderer.RECHECK_UNDEFINED_REFERENCES.getFrom(options);
-        this.footnoteRepository.resolveFootnoteOrdinals();
+
+        // numbered by the post processor
+        this.referencedFootnoteBlocks = footnoteRepository.getReferencedFootnoteBlocks();
     }
 
     @Override
@@ -58,18 +63,20 @@ public class FootnoteNodeRenderer implements PhasedNodeRenderer {
         if (phase == RenderingPhase.BODY_TOP) {
             if (recheckUndefinedReferences) {
                 // need to see if have undefined footnotes that were defined after parsing
-                final boolean[] hadNewFootnotes = { false };
+                final HashMap<Footnote, FootnoteBlock> rechecked = new HashMap<Footnote, FootnoteBlock>();
+                final HashMap<FootnoteBlock, Integer> addedReferenceOffsets = new HashMap<FootnoteBlock, Integer>();
                 NodeVisitor visitor = new NodeVisitor(
                         new VisitHandler<Footnote>(Footnote.class, new Visitor<Footnote>() {
                             @Override
                             public void visit(Footnote node) {
                                 if (!node.isDefined()) {
-                                    FootnoteBlock footonoteBlock = node.getFootnoteBlock(footnoteRepository);
+                                    FootnoteBlock footnoteBlock = node.getFootnoteBlock(footnoteRepository);
 
-                                    if (footonoteBlock != null) {
-                                        footnoteRepository.addFootnoteReference(footonoteBlock, node);
-                                        node.setFootnoteBlock(footonoteBlock);
-                                        hadNewFootnotes[0] = true;
+                                    if (footnoteBlock != null) {
+                                        rechecked.put(node, footnoteBlock);
+                                        if (!footnoteBlock.isReferenced() && !addedReferenceOffsets.containsKey(footnoteBlock)) {
+                                            addedReferenceOffsets.put(footnoteBlock, node.getStartOffset());
+                                        }
                                     }
                                 }
                             }
@@ -77,15 +84,38 @@ public class FootnoteNodeRenderer implements PhasedNodeRenderer {
                 );
 
                 visitor.visit(document);
-                if (hadNewFootnotes[0]) {
-                    this.footnoteRepository.resolveFootnoteOrdinals();
+                if (!rechecked.isEmpty()) {
+                    recheckedFootnotes = rechecked;
+                }
+
+                if (!addedReferenceOffsets.isEmpty()) {
+                    ArrayList<FootnoteBlock> footnoteBlocks = new ArrayList<FootnoteBlock>(referencedFootnoteBlocks);
+                    footnoteBlocks.addAll(addedReferenceOffsets.keySet());
+                    Collections.sort(footnoteBlocks, new Comparator<FootnoteBlock>() {
+                        @Override
+                        public int compare(FootnoteBlock f1, FootnoteBlock f2) {
+                            return firstReferenceOffset(f1) - firstReferenceOffset(f2);
+                        }
+
+                        private int firstReferenceOffset(FootnoteBlock footnoteBlock) {
+                            Integer offset = addedReferenceOffsets.get(footnoteBlock);
+                            return offset != null ? offset : footnoteBlock.getFirstReferenceOffset();
+                        }
+                    });
+
+                    footnoteOrdinals = new HashMap<FootnoteBlock, Integer>();
+                    int ordinal = 0;
+                    for (FootnoteBlock footnoteBlock : footnoteBlocks) {
+                        footnoteOrdinals.put(footnoteBlock, ++ordinal);
+                    }
+                    referencedFootnoteBlocks = footnoteBlocks;
                 }
             }
         }
 
         if (phase == RenderingPhase.BODY_BOTTOM) {
             // here we dump the footnote blocks that were referenced in the document body, ie. ones with footnoteOrdinal > 0
-            if (footnoteRepository.getReferencedFootnoteBlocks().size() > 0) {
+            if (referencedFootnoteBlocks.size() > 0) {
                 html.attr("class", "footnotes").withAttr().tagIndent("div", new Runnable() {
                     @Override
                     public void run() {
@@ -93,8 +123,8 @@ public class FootnoteNodeRenderer implements PhasedNodeRenderer {
                         html.tagIndent("ol", new Runnable() {
                             @Override
                             public void run() {
-                                for (final FootnoteBlock footnoteBlock : footnoteRepository.getReferencedFootnoteBlocks()) {
-                                    final int footnoteOrdinal = footnoteBlock.getFootnoteOrdinal();
+                                for (final FootnoteBlock footnoteBlock : referencedFootnoteBlocks) {
+                                    final int footnoteOrdinal = getFootnoteOrdinal(footnoteBlock);
                                     html.attr("id", "fn-" + footnoteOrdinal);
                                     html.withAttr().tagIndent("li", new Runnable() {
                                         @Override
@@ -122,13 +152,17 @@ public class FootnoteNodeRenderer implements PhasedNodeRenderer {
 
     private void render(Footnote node, NodeRendererContext context, final HtmlWriter html) {
         FootnoteBlock footnoteBlock = node.getFootnoteBlock();
+        if (footnoteBlock == null && recheckedFootnotes != null) {
+            footnoteBlock = recheckedFootnotes.get(node);
+        }
+
         if (footnoteBlock == null) {
             //just text
             html.raw("[^");
             context.renderChildren(node);
             html.raw("]");
         } else {
-            final int footnoteOrdinal = footnoteBlock.getFootnoteOrdinal();
+            final int footnoteOrdinal = getFootnoteOrdinal(footnoteBlock);
             html.attr("id", "fnref-" + footnoteOrdinal);
             html.srcPos(node.getChars()).withAttr().tag("sup", false, false, new Runnable() {
                 @Override
@@ -143,6 +177,10 @@ public class FootnoteNodeRenderer implements PhasedNodeRenderer {
         }
     }
 
+    private int getFootnoteOrdinal(FootnoteBlock footnoteBlock) {
+        return footnoteOrdinals != null ? footnoteOrdinals.get(footnoteBlock) : footnoteBlock.getFootnoteOrdinal();
+    }
+
     public static class Factory implements NodeRendererFactory {
         @Override
         public NodeRenderer create(final DataHolder options) {
@@ -9,37 +9,57 @@ import com.vladsch.flexmark.util.options.DataHolder;
 import com.vladsch.flexmark.util.options.DataKey;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 
 @SuppressWarnings("WeakerAccess")
 public class FootnoteRepository extends NodeRepository<FootnoteBlock> {
-    private ArrayList<FootnoteBlock> referencedFootnoteBlocks = new ArrayList<FootnoteBlock>();
+    private static final Comparator<FootnoteBlock> FIRST_REFERENCE_ORDER = new Comparator<FootnoteBlock>() {
+        @Override
+        public int compare(FootnoteBlock f1, FootnoteBlock f2) {
+            return f1.getFirstReferenceOffset() - f2.getFirstReferenceOffset();
+        }
+    };
+
+    private final ArrayList<FootnoteBlock> parsedFootnoteBlocks = new ArrayList<FootnoteBlock>();
+    private volatile List<FootnoteBlock> referencedFootnoteBlocks = Collections.emptyList();
 
+    /**
+     * Add a reference found while parsing, numbered by {@link #resolveFootnoteOrdinals()}
+     *
+     * @param footnoteBlock referenced footnote block
+     * @param footnote      referencing footnote
+     */
     public void addFootnoteReference(FootnoteBlock footnoteBlock, Footnote footnote) {
         if (!footnoteBlock.isReferenced()) {
-            referencedFootnoteBlocks.add(footnoteBlock);
+            parsedFootnoteBlocks.add(footnoteBlock);
         }
 
         footnoteBlock.setFirstReferenceOffset(footnote.getStartOffset());
     }
 
+    /**
+     * Number referenced footnote blocks in reference order.
+     * <p>
+     * Done once after parsing by {@link FootnoteDocumentPostProcessor}, renderings only read the result.
+     */
     public void resolveFootnoteOrdinals() {
-        // need to sort by first referenced offset then set each to its ordinal position in the array+1
-        Collections.sort(referencedFootnoteBlocks, new Comparator<FootnoteBlock>() {
-            @Override
-            public int compare(FootnoteBlock f1, FootnoteBlock f2) {
-                return f1.getFirstReferenceOffset() - f2.getFirstReferenceOffset();
-            }
-        });
+        FootnoteBlock[] footnoteBlocks = parsedFootnoteBlocks.toArray(new FootnoteBlock[parsedFootnoteBlocks.size()]);
+        Arrays.sort(footnoteBlocks, FIRST_REFERENCE_ORDER);
 
         int ordinal = 0;
-        for (FootnoteBlock footnoteBlock : referencedFootnoteBlocks) {
+        for (FootnoteBlock footnoteBlock : footnoteBlocks) {
             footnoteBlock.setFootnoteOrdinal(++ordinal);
         }
+
+        referencedFootnoteBlocks = Collections.unmodifiableList(Arrays.asList(footnoteBlocks));
     }
 
+    /**
+     * @return footnote blocks referenced in the parsed document, in ordinal order
+     */
     public List<FootnoteBlock> getReferencedFootnoteBlocks() {
         return referencedFootnoteBlocks;
     }
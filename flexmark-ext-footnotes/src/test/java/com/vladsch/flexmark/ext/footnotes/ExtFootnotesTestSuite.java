@@ -6,6 +6,7 @@ import org.junit.runners.Suite;
 @Suite.SuiteClasses({
         ComboFootnotesSpecTest.class,
         ComboFootnotesFormatterSpecTest.class,
+        FootnoteRenderingTest.class,
 })
 public class ExtFootnotesTestSuite {
 }
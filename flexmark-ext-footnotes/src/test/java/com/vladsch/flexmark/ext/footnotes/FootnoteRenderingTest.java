@@ -0,0 +1,64 @@
+package com.vladsch.flexmark.ext.footnotes;
+
+import com.vladsch.flexmark.ast.Document;
+import com.vladsch.flexmark.html.HtmlRenderer;
+import com.vladsch.flexmark.parser.Parser;
+import com.vladsch.flexmark.util.options.DataHolder;
+import com.vladsch.flexmark.util.options.MutableDataSet;
+import org.junit.Test;
+
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+
+public class FootnoteRenderingTest {
+    private static final DataHolder OPTIONS = new MutableDataSet()
+            .set(Parser.EXTENSIONS, Collections.singleton(FootnoteExtension.create()))
+            .set(HtmlRenderer.INDENT_SIZE, 2);
+
+    private static final String RECHECKED_HTML = "" +
+            "<p>Text <sup id=\"fnref-1\"><a class=\"footnote-ref\" href=\"#fn-1\">1</a></sup> and <sup id=\"fnref-2\"><a class=\"footnote-ref\" href=\"#fn-2\">2</a></sup>.</p>\n" +
+            "<div class=\"footnotes\">\n" +
+            "  <hr />\n" +
+            "  <ol>\n" +
+            "    <li id=\"fn-1\">\n" +
+            "      <p>two</p>\n" +
+            "      <a href=\"#fnref-1\" class=\"footnote-backref\">&#8617;</a>\n" +
+            "    </li>\n" +
+            "    <li id=\"fn-2\">\n" +
+            "      <p>one</p>\n" +
+            "      <a href=\"#fnref-2\" class=\"footnote-backref\">&#8617;</a>\n" +
+            "    </li>\n" +
+            "  </ol>\n" +
+            "</div>\n";
+
+    private static final String PARSED_HTML = "" +
+            "<p>Text [^2] and <sup id=\"fnref-1\"><a class=\"footnote-ref\" href=\"#fn-1\">1</a></sup>.</p>\n" +
+            "<div class=\"footnotes\">\n" +
+            "  <hr />\n" +
+            "  <ol>\n" +
+            "    <li id=\"fn-1\">\n" +
+            "      <p>one</p>\n" +
+            "      <a href=\"#fnref-1\" class=\"footnote-backref\">&#8617;</a>\n" +
+            "    </li>\n" +
+            "  </ol>\n" +
+            "</div>\n";
+
+    @Test
+    public void test_recheckedReferencesKeptPerRendering() {
+        Parser parser = Parser.builder(OPTIONS).build();
+        Document document = parser.parse("Text [^2] and [^1].\n\n[^1]: one\n");
+        Document included = parser.parse("[^2]: two\n");
+
+        // defined after parsing
+        FootnoteExtension.FOOTNOTES.getFrom(document).put("2", FootnoteExtension.FOOTNOTES.getFrom(included).get("2"));
+
+        HtmlRenderer recheckRenderer = HtmlRenderer.builder(new MutableDataSet(OPTIONS).set(HtmlRenderer.RECHECK_UNDEFINED_REFERENCES, true)).build();
+        HtmlRenderer renderer = HtmlRenderer.builder(OPTIONS).build();
+
+        assertEquals(RECHECKED_HTML, recheckRenderer.render(document));
+        assertEquals(PARSED_HTML, renderer.render(document));
+        assertEquals(RECHECKED_HTML, recheckRenderer.render(document));
+        assertEquals(1, FootnoteExtension.FOOTNOTES.getFrom(document).getReferencedFootnoteBlocks().size());
+    }
+}
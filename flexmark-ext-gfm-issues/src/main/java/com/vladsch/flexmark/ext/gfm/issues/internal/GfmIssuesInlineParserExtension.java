@@ -4,6 +4,7 @@ import com.vladsch.flexmark.ext.gfm.issues.GfmIssue;
 import com.vladsch.flexmark.parser.InlineParser;
 import com.vladsch.flexmark.parser.InlineParserExtension;
 import com.vladsch.flexmark.parser.InlineParserExtensionFactory;
+import com.vladsch.flexmark.util.Utils;
 import com.vladsch.flexmark.util.sequence.BasedSequence;
 
 import java.util.Set;
@@ -28,13 +29,16 @@ public class GfmIssuesInlineParserExtension implements InlineParserExtension {
 
     @Override
     public boolean parse(final InlineParser inlineParser) {
-        BasedSequence[] matches = inlineParser.matchWithGroups(GITHUB_ISSUE);
-        if (matches != null) {
-            BasedSequence input = inlineParser.getInput();
+        BasedSequence input = inlineParser.getInput();
+        int index = inlineParser.getIndex();
+        int end = scanIssue(input, index);
+
+        if (end != -1) {
             inlineParser.flushTextNode();
+            inlineParser.setIndex(end);
 
-            BasedSequence openMarker = matches[1];
-            BasedSequence text = matches[2];
+            BasedSequence openMarker = input.subSequence(index, index + 1);
+            BasedSequence text = input.subSequence(index + 1, end);
 
             GfmIssue gfmIssue = new GfmIssue(openMarker, text);
             inlineParser.getBlock().appendChild(gfmIssue);
@@ -43,6 +47,26 @@ public class GfmIssuesInlineParserExtension implements InlineParserExtension {
         return false;
     }
 
+    /**
+     * Same as GITHUB_ISSUE, scanned by hand since # is mostly not an issue reference
+     *
+     * @param input text
+     * @param index index of #
+     * @return end of issue reference or -1 if none
+     */
+    static int scanIssue(CharSequence input, int index) {
+        int iMax = input.length();
+        int end = index + 1;
+
+        while (end < iMax && isDigit(input.charAt(end))) end++;
+
+        return end > index + 1 && Utils.isSpaceTabEolOrEnd(input, end) ? end : -1;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
     public static class Factory implements InlineParserExtensionFactory {
         @Override
         public Set<Class<? extends InlineParserExtensionFactory>> getAfterDependents() {
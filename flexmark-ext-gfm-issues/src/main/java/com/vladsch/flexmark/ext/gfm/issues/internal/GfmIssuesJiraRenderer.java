@@ -30,13 +30,9 @@ public class GfmIssuesJiraRenderer implements NodeRenderer {
         if (context.isDoNotRenderLinks()) {
             html.raw(node.getChars());
         } else {
-            StringBuilder sb = new StringBuilder();
-
-            sb.append(options.gitHubIssuesUrlRoot).append(options.gitHubIssueUrlPrefix).append(node.getText()).append(options.gitHubIssueUrlSuffix);
-
             html.raw("[");
             html.raw(node.getChars());
-            html.raw("|").raw(sb.toString()).raw("]");
+            html.raw("|").raw(options.gitHubIssueUrlRootPrefix).raw(node.getText()).raw(options.gitHubIssueUrlSuffix).raw("]");
         }
     }
 
@@ -31,11 +31,9 @@ public class GfmIssuesNodeRenderer implements NodeRenderer
         if (context.isDoNotRenderLinks()) {
             html.text(node.getChars());
         } else {
-            StringBuilder sb = new StringBuilder();
+            String url = options.gitHubIssueUrlRootPrefix + node.getText() + options.gitHubIssueUrlSuffix;
 
-            sb.append(options.gitHubIssuesUrlRoot).append(options.gitHubIssueUrlPrefix).append(node.getText()).append(options.gitHubIssueUrlSuffix);
-
-            html.srcPos(node.getChars()).attr("href", sb.toString()).withAttr().tag("a");
+            html.srcPos(node.getChars()).attr("href", url).withAttr().tag("a");
             html.raw(options.gitHubIssueTextPrefix);
             html.text(node.getChars());
             html.raw(options.gitHubIssueTextSuffix);
@@ -9,6 +9,7 @@ class GfmIssuesOptions implements MutableDataSetter {
     public final String gitHubIssuesUrlRoot;
     public final String gitHubIssueUrlPrefix;
     public final String gitHubIssueUrlSuffix;
+    public final String gitHubIssueUrlRootPrefix;   // url root and prefix, followed by reference text and url suffix
     public final String gitHubIssueTextPrefix;
     public final String gitHubIssueTextSuffix;
 
@@ -16,6 +17,7 @@ class GfmIssuesOptions implements MutableDataSetter {
         gitHubIssuesUrlRoot = GfmIssuesExtension.GIT_HUB_ISSUES_URL_ROOT.getFrom(options);
         gitHubIssueUrlPrefix = GfmIssuesExtension.GIT_HUB_ISSUE_URL_PREFIX.getFrom(options);
         gitHubIssueUrlSuffix = GfmIssuesExtension.GIT_HUB_ISSUE_URL_SUFFIX.getFrom(options);
+        gitHubIssueUrlRootPrefix = gitHubIssuesUrlRoot + gitHubIssueUrlPrefix;
         gitHubIssueTextPrefix = GfmIssuesExtension.GIT_HUB_ISSUE_HTML_PREFIX.getFrom(options);
         gitHubIssueTextSuffix = GfmIssuesExtension.GIT_HUB_ISSUE_HTML_SUFFIX.getFrom(options);
     }
@@ -1,10 +1,12 @@
 package com.vladsch.flexmark.ext.gfm.issues;
 
+import com.vladsch.flexmark.ext.gfm.issues.internal.GfmIssuesScannerTest;
 import org.junit.runners.Suite;
 
 @org.junit.runner.RunWith(Suite.class)
 @Suite.SuiteClasses({
         ComboGfmIssuesSpecTest.class,
+        GfmIssuesScannerTest.class,
 })
 public class ExtGfmIssuesTestSuite {
 }
@@ -0,0 +1,72 @@
+package com.vladsch.flexmark.ext.gfm.issues.internal;
+
+import org.junit.Test;
+
+import java.util.Random;
+import java.util.regex.Matcher;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Verify that the issue reference scanner gives the same results as the regex pattern it replaces
+ */
+public class GfmIssuesScannerTest {
+    private static final String[] PARTS = { "#", "1", "23", "456", "a", " ", "\t", "\n", "\r", "\r\n", "\u0085", "\u2028", "\u2029", "-" };
+    private static final String[] CASES = {
+            "#",
+            "#1",
+            "#12 ",
+            "#12\t",
+            "#12\n",
+            "#12\na",
+            "#12\r",
+            "#12\ra",
+            "#12\r\n",
+            "#12\r\na",
+            "#12\u0085",
+            "#12\u0085a",
+            "#12\u2028",
+            "#12\u2028a",
+            "#12\u2029",
+            "#12a",
+            "#a",
+            "# 12",
+            "text #",
+            "text #12",
+            "#12345678901234567890123456789012345678901234567890",
+    };
+    private static final int ITERATIONS = 50000;
+
+    private static int regexEnd(String s, int index) {
+        Matcher matcher = GfmIssuesInlineParserExtension.GITHUB_ISSUE.matcher(s);
+        matcher.region(index, s.length());
+        return matcher.find() ? matcher.end() : -1;
+    }
+
+    private static void assertSameAsRegex(String s) {
+        for (int index = s.indexOf('#'); index != -1; index = s.indexOf('#', index + 1)) {
+            assertEquals(index + " '" + s + "'", regexEnd(s, index), GfmIssuesInlineParserExtension.scanIssue(s, index));
+        }
+    }
+
+    @Test
+    public void test_cases() {
+        for (String s : CASES) {
+            assertSameAsRegex(s);
+        }
+    }
+
+    @Test
+    public void test_sameAsRegex() {
+        Random random = new Random(1);
+
+        for (int i = 0; i < ITERATIONS; i++) {
+            StringBuilder sb = new StringBuilder();
+            int length = random.nextInt(8);
+            for (int j = 0; j < length; j++) {
+                sb.append(PARTS[random.nextInt(PARTS.length)]);
+            }
+            assertSameAsRegex(sb.toString());
+        }
+    }
+}
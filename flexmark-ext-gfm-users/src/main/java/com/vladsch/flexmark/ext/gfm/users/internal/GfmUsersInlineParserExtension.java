@@ -4,6 +4,7 @@ import com.vladsch.flexmark.ext.gfm.users.GfmUser;
 import com.vladsch.flexmark.parser.InlineParser;
 import com.vladsch.flexmark.parser.InlineParserExtension;
 import com.vladsch.flexmark.parser.InlineParserExtensionFactory;
+import com.vladsch.flexmark.util.Utils;
 import com.vladsch.flexmark.util.sequence.BasedSequence;
 
 import java.util.Set;
@@ -28,13 +29,17 @@ public class GfmUsersInlineParserExtension implements InlineParserExtension {
 
     @Override
     public boolean parse(final InlineParser inlineParser) {
-        BasedSequence[] matches = inlineParser.matchWithGroups(GITHUB_USER);
-        if (matches != null) {
-            BasedSequence input = inlineParser.getInput();
+        BasedSequence input = inlineParser.getInput();
+        int index = inlineParser.getIndex();
+        int start = index + 1;
+        int end = scanUser(input, index);
+
+        if (end != -1) {
             inlineParser.flushTextNode();
+            inlineParser.setIndex(end);
 
-            BasedSequence openMarker = matches[1];
-            BasedSequence text = matches[2];
+            BasedSequence openMarker = input.subSequence(index, start);
+            BasedSequence text = input.subSequence(start, end);
 
             GfmUser gitHubIssue = new GfmUser(openMarker, text);
             inlineParser.getBlock().appendChild(gitHubIssue);
@@ -43,6 +48,37 @@ public class GfmUsersInlineParserExtension implements InlineParserExtension {
         return false;
     }
 
+    /**
+     * Same as GITHUB_USER, scanned by hand since @ is mostly not a user reference
+     *
+     * @param input text
+     * @param index index of @
+     * @return end of user reference or -1 if none
+     */
+    static int scanUser(CharSequence input, int index) {
+        int iMax = input.length();
+        int start = index + 1;
+        int end = start;
+
+        // up to 39 letters or digits with single dashes between them
+        while (end < iMax && end - start < 39) {
+            char c = input.charAt(end);
+            if (isLetterOrDigit(c)) {
+                end++;
+            } else if (c == '-' && end > start && end + 1 < iMax && isLetterOrDigit(input.charAt(end + 1))) {
+                end++;
+            } else {
+                break;
+            }
+        }
+
+        return end > start && Utils.isSpaceTabEolOrEnd(input, end) ? end : -1;
+    }
+
+    private static boolean isLetterOrDigit(char c) {
+        return c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || c >= '0' && c <= '9';
+    }
+
     public static class Factory implements InlineParserExtensionFactory {
         @Override
         public Set<Class<? extends InlineParserExtensionFactory>> getAfterDependents() {
@@ -27,17 +27,13 @@ public class GfmUsersNodeRenderer implements NodeRenderer
         return set;
     }
 
-
-
     private void render(GfmUser node, NodeRendererContext context, HtmlWriter html) {
         if (context.isDoNotRenderLinks()) {
             html.text(node.getChars());
         } else {
-            StringBuilder sb = new StringBuilder();
-
-            sb.append(options.gitHubIssuesUrlRoot).append(options.gitHubIssueUrlPrefix).append(node.getText()).append(options.gitHubIssueUrlSuffix);
+            String url = options.gitHubIssueUrlRootPrefix + node.getText() + options.gitHubIssueUrlSuffix;
 
-            html.srcPos(node.getChars()).attr("href", sb.toString()).withAttr().tag("a");
+            html.srcPos(node.getChars()).attr("href", url).withAttr().tag("a");
             html.raw(options.gitHubUserTextPrefix);
             html.text(node.getChars());
             html.raw(options.gitHubUserTextSuffix);
@@ -9,6 +9,7 @@ class GfmUsersOptions implements MutableDataSetter {
     public final String gitHubIssuesUrlRoot;
     public final String gitHubIssueUrlPrefix;
     public final String gitHubIssueUrlSuffix;
+    public final String gitHubIssueUrlRootPrefix;   // url root and prefix, followed by reference text and url suffix
     public final String gitHubUserTextPrefix;
     public final String gitHubUserTextSuffix;
 
@@ -16,6 +17,7 @@ class GfmUsersOptions implements MutableDataSetter {
         gitHubIssuesUrlRoot = GfmUsersExtension.GIT_HUB_USERS_URL_ROOT.getFrom(options);
         gitHubIssueUrlPrefix = GfmUsersExtension.GIT_HUB_USER_URL_PREFIX.getFrom(options);
         gitHubIssueUrlSuffix = GfmUsersExtension.GIT_HUB_USER_URL_SUFFIX.getFrom(options);
+        gitHubIssueUrlRootPrefix = gitHubIssuesUrlRoot + gitHubIssueUrlPrefix;
         gitHubUserTextPrefix = GfmUsersExtension.GIT_HUB_USER_HTML_PREFIX.getFrom(options);
         gitHubUserTextSuffix = GfmUsersExtension.GIT_HUB_USER_HTML_SUFFIX.getFrom(options);
     }
@@ -1,10 +1,12 @@
 package com.vladsch.flexmark.ext.gfm.users;
 
+import com.vladsch.flexmark.ext.gfm.users.internal.GfmUsersScannerTest;
 import org.junit.runners.Suite;
 
 @org.junit.runner.RunWith(Suite.class)
 @Suite.SuiteClasses({
         ComboGfmUsersSpecTest.class,
+        GfmUsersScannerTest.class,
 })
 public class ExtGfmUsersTestSuite {
 }
@@ -0,0 +1,82 @@
+package com.vladsch.flexmark.ext.gfm.users.internal;
+
+import org.junit.Test;
+
+import java.util.Random;
+import java.util.regex.Matcher;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Verify that the user reference scanner gives the same results as the regex pattern it replaces
+ */
+public class GfmUsersScannerTest {
+    private static final String[] PARTS = { "@", "a", "Z", "9", "user", "-", "--", "_", "\u00e9", " ", "\t", "\n", "\r", "\r\n", "\u0085", "\u2028", "\u2029" };
+    private static final String NAME_39 = "abcdefghij-klmnopqrst-uvwxyz0123-456789";
+    private static final String[] CASES = {
+            "@",
+            "@a",
+            "@user ",
+            "@user\t",
+            "@user\n",
+            "@user\na",
+            "@user\r",
+            "@user\ra",
+            "@user\r\n",
+            "@user\r\na",
+            "@user\u0085",
+            "@user\u0085a",
+            "@user\u2028",
+            "@user\u2028a",
+            "@user\u2029",
+            "@user-",
+            "@user-name",
+            "@user--name",
+            "@-user",
+            "@user_name",
+            "@User9",
+            "@ user",
+            "text @",
+            "text @user",
+            "@" + NAME_39,
+            "@" + NAME_39 + " ",
+            "@" + NAME_39 + "a",
+            "@" + NAME_39 + "-a",
+            "@" + NAME_39 + NAME_39,
+    };
+    private static final int ITERATIONS = 50000;
+
+    private static int regexEnd(String s, int index) {
+        Matcher matcher = GfmUsersInlineParserExtension.GITHUB_USER.matcher(s);
+        matcher.region(index, s.length());
+        return matcher.find() ? matcher.end() : -1;
+    }
+
+    private static void assertSameAsRegex(String s) {
+        for (int index = s.indexOf('@'); index != -1; index = s.indexOf('@', index + 1)) {
+            assertEquals(index + " '" + s + "'", regexEnd(s, index), GfmUsersInlineParserExtension.scanUser(s, index));
+        }
+    }
+
+    @Test
+    public void test_cases() {
+        for (String s : CASES) {
+            assertSameAsRegex(s);
+        }
+    }
+
+    @Test
+    public void test_sameAsRegex() {
+        Random random = new Random(1);
+
+        for (int i = 0; i < ITERATIONS; i++) {
+            StringBuilder sb = new StringBuilder();
+            int length = random.nextInt(16);
+            for (int j = 0; j < length; j++) {
+                // mostly name characters so that some names reach the length limit
+                sb.append(PARTS[random.nextInt(random.nextInt(4) == 0 ? PARTS.length : 9)]);
+            }
+            assertSameAsRegex(sb.toString());
+        }
+    }
+}
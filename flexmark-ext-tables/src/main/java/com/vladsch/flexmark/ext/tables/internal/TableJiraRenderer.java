@@ -8,12 +8,16 @@ import com.vladsch.flexmark.html.renderer.NodeRendererContext;
 import com.vladsch.flexmark.html.renderer.NodeRendererFactory;
 import com.vladsch.flexmark.html.renderer.NodeRenderingHandler;
 import com.vladsch.flexmark.util.options.DataHolder;
+import com.vladsch.flexmark.util.sequence.BasedSequence;
+import com.vladsch.flexmark.util.sequence.CharSubSequence;
 
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
 
 public class TableJiraRenderer implements NodeRenderer {
+    private static final BasedSequence HEADER_CELL_SEPARATOR = CharSubSequence.of("||");
+    private static final BasedSequence CELL_SEPARATOR = CharSubSequence.of("|");
 
     //private final TableParserOptions options;
 
@@ -82,9 +86,9 @@ public class TableJiraRenderer implements NodeRenderer {
 
     private void render(TableRow node, NodeRendererContext context, HtmlWriter html) {
         if (node.getParent() instanceof TableHead) {
-            html.line().raw("||");
+            html.line().raw(HEADER_CELL_SEPARATOR);
         } else if (node.getParent() instanceof TableBody) {
-            html.line().raw("|");
+            html.line().raw(CELL_SEPARATOR);
         }
         context.renderChildren(node);
         html.line();
@@ -93,9 +97,9 @@ public class TableJiraRenderer implements NodeRenderer {
     private void render(TableCell node, NodeRendererContext context, HtmlWriter html) {
         context.renderChildren(node);
         if (node.getParent().getParent() instanceof TableHead) {
-            html.raw("||");
+            html.raw(HEADER_CELL_SEPARATOR);
         } else if (node.getParent().getParent() instanceof TableBody) {
-            html.raw("|");
+            html.raw(CELL_SEPARATOR);
         }
     }
 
@@ -87,7 +87,7 @@ public class TableParagraphPreProcessor implements ParagraphPreProcessor {
     }
 
     private final TableParserOptions options;
-    Pattern TABLE_HEADER_SEPARATOR;
+    private final TableSeparatorScanner separatorScanner;
 
     public static Pattern getTableHeaderSeparator(int minColumnDashes) {
         int minCol = minColumnDashes >= 1 ? minColumnDashes : 1;
@@ -106,11 +106,12 @@ public class TableParagraphPreProcessor implements ParagraphPreProcessor {
 
     private TableParagraphPreProcessor(DataHolder options) {
         this.options = new TableParserOptions(options);
-        this.TABLE_HEADER_SEPARATOR = getTableHeaderSeparator(this.options.minSeparatorDashes);
+        this.separatorScanner = new TableSeparatorScanner(this.options.minSeparatorDashes);
     }
 
     private TableParagraphPreProcessor(TableParserOptions options) {
         this.options = options;
+        this.separatorScanner = new TableSeparatorScanner(options.minSeparatorDashes);
     }
 
     @Override
@@ -140,10 +141,10 @@ public class TableParagraphPreProcessor implements ParagraphPreProcessor {
                 break;
             }
 
-            BasedSequence fullRowLine = block.getLineIndent(rowNumber) <= blockIndent ? rowLine.trimEOL() : rowLine.baseSubSequence(rowLine.getStartOffset() - (block.getLineIndent(rowNumber) - blockIndent), rowLine.getEndOffset() - rowLine.eolLength());
             if (separatorLineNumber == -1) {
                 if (rowNumber >= options.minHeaderRows
-                        && TABLE_HEADER_SEPARATOR.matcher(rowLine).matches()) {
+                        && separatorScanner.isSeparator(rowLine)) {
+                    BasedSequence fullRowLine = block.getLineIndent(rowNumber) <= blockIndent ? rowLine.trimEOL() : rowLine.baseSubSequence(rowLine.getStartOffset() - (block.getLineIndent(rowNumber) - blockIndent), rowLine.getEndOffset() - rowLine.eolLength());
                     // must start with | or cell, whitespace means its not a separator line
                     if (fullRowLine.charAt(0) != ' ' && fullRowLine.charAt(0) != '\t' || rowLine.charAt(0) != '|') {
                         separatorLineNumber = rowNumber;
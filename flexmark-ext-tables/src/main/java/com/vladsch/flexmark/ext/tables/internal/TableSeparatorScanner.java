@@ -0,0 +1,82 @@
+package com.vladsch.flexmark.ext.tables.internal;
+
+/**
+ * Recognizes table header separator lines, same as matching the whole line with {@link TableParagraphPreProcessor#getTableHeaderSeparator(int)}
+ * but without backtracking or compiling a pattern per minimum dash count.
+ * <p>
+ * A separator line is made up of columns of optional alignment colons around dashes, separated by pipes, with optional
+ * leading and trailing pipes. A single column requires at least one pipe, otherwise it is ambiguous with setext headings.
+ */
+public class TableSeparatorScanner {
+    private final int minDashes;
+    private final int minAlignedDashes;
+    private final int minCenteredDashes;
+
+    public TableSeparatorScanner(int minColumnDashes) {
+        this.minDashes = minColumnDashes >= 1 ? minColumnDashes : 1;
+        this.minAlignedDashes = minColumnDashes >= 2 ? minColumnDashes - 1 : 1;
+        this.minCenteredDashes = minColumnDashes >= 3 ? minColumnDashes - 2 : 1;
+    }
+
+    /**
+     * @param line line to test, including its EOL
+     * @return true if the whole line is a table header separator
+     */
+    public boolean isSeparator(CharSequence line) {
+        int length = line.length();
+        int index = 0;
+        boolean leadingPipe = length > 0 && line.charAt(0) == '|';
+        if (leadingPipe) index++;
+
+        int columns = 0;
+        boolean trailingPipe = false;
+
+        while (true) {
+            index = scanColumn(line, index, length);
+            if (index == -1) return false;
+            columns++;
+
+            if (index == length) break;
+            if (line.charAt(index) != '|') return false;
+
+            index++;
+            int nonBlank = skipWhitespace(line, index, length);
+            if (nonBlank == length) {
+                trailingPipe = true;
+                break;
+            }
+        }
+
+        return columns > 1 || leadingPipe || trailingPipe;
+    }
+
+    // returns index after column and its surrounding whitespace, -1 if not a column
+    private int scanColumn(CharSequence line, int index, int length) {
+        index = skipWhitespace(line, index, length);
+
+        boolean left = index < length && line.charAt(index) == ':';
+        if (left) index++;
+
+        int dashStart = index;
+        while (index < length && line.charAt(index) == '-') index++;
+        int dashes = index - dashStart;
+
+        boolean right = index < length && line.charAt(index) == ':';
+        if (right) index++;
+
+        int minColumnDashes = left && right ? minCenteredDashes : left || right ? minAlignedDashes : minDashes;
+        if (dashes == 0 || dashes < minColumnDashes) return -1;
+
+        return skipWhitespace(line, index, length);
+    }
+
+    private static int skipWhitespace(CharSequence line, int index, int length) {
+        while (index < length) {
+            char c = line.charAt(index);
+            // same as regex \s
+            if (c != ' ' && c != '\t' && c != '\n' && c != '\u000B' && c != '\f' && c != '\r') break;
+            index++;
+        }
+        return index;
+    }
+}
@@ -1,11 +1,13 @@
 package com.vladsch.flexmark.ext.tables;
 
+import com.vladsch.flexmark.ext.tables.internal.TableSeparatorScannerTest;
 import org.junit.runners.Suite;
 
 @org.junit.runner.RunWith(Suite.class)
 @Suite.SuiteClasses({
         ComboTableSpecTest.class,
         ComboTableFormatterSpecTest.class,
+        TableSeparatorScannerTest.class,
         //JiraTablesSpecTest.class,
 })
 public class ExtTablesTestSuite {
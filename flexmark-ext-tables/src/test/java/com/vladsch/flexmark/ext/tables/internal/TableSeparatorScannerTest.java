@@ -0,0 +1,38 @@
+package com.vladsch.flexmark.ext.tables.internal;
+
+import org.junit.Test;
+
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Verify that the separator scanner gives the same results as the regex patterns it replaces
+ */
+public class TableSeparatorScannerTest {
+    private static final String[] PARTS = { "|", "-", "--", "---", ":", " ", "\t", "a", "\n", "\r\n" };
+    private static final int ITERATIONS = 20000;
+
+    @Test
+    public void test_sameAsRegex() {
+        Random random = new Random(1);
+
+        for (int minDashes = 0; minDashes <= 5; minDashes++) {
+            Pattern pattern = TableParagraphPreProcessor.getTableHeaderSeparator(minDashes);
+            TableSeparatorScanner scanner = new TableSeparatorScanner(minDashes);
+
+            for (int i = 0; i < ITERATIONS; i++) {
+                StringBuilder sb = new StringBuilder();
+                int length = random.nextInt(12);
+                for (int j = 0; j < length; j++) {
+                    // mostly separator characters so that many lines are separators
+                    String part = PARTS[random.nextInt(random.nextInt(8) == 0 ? PARTS.length : 6)];
+                    sb.append(part);
+                }
+                String s = sb.toString();
+                assertEquals(minDashes + " '" + s + "'", pattern.matcher(s).matches(), scanner.isSeparator(s));
+            }
+        }
+    }
+}
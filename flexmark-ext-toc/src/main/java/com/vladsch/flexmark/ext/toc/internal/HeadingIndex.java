@@ -0,0 +1,82 @@
+package com.vladsch.flexmark.ext.toc.internal;
+
+import com.vladsch.flexmark.ast.Document;
+import com.vladsch.flexmark.ast.Heading;
+import com.vladsch.flexmark.ast.util.HeadingCollectingVisitor;
+import com.vladsch.flexmark.ast.util.TextCollectingVisitor;
+import com.vladsch.flexmark.html.renderer.NodeRendererContext;
+import com.vladsch.flexmark.html.renderer.TextCollectingAppendable;
+import com.vladsch.flexmark.util.collection.DataValueFactory;
+import com.vladsch.flexmark.util.html.Escaping;
+import com.vladsch.flexmark.util.options.DataHolder;
+import com.vladsch.flexmark.util.options.DataKey;
+
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * Headings of a document with their rendered content and text, computed on first use and shared by all toc and sim toc
+ * blocks of the document through the rendering data of the context, so it never outlives the rendering.
+ */
+public class HeadingIndex {
+    public static final DataKey<HeadingIndex> HEADING_INDEX = new DataKey<HeadingIndex>("HEADING_INDEX", new DataValueFactory<HeadingIndex>() {
+        @Override
+        public HeadingIndex create(DataHolder value) {
+            return new HeadingIndex();
+        }
+    });
+
+    private Document document;
+    private List<Heading> headings;
+    private final HashMap<Heading, String> headingContents = new HashMap<Heading, String>();
+    private final HashMap<Heading, String> headingTexts = new HashMap<Heading, String>();
+
+    /**
+     * @param context rendering context
+     * @return heading index of the current rendering
+     */
+    public static HeadingIndex of(NodeRendererContext context) {
+        return HEADING_INDEX.getFrom(context.getRenderingData());
+    }
+
+    public List<Heading> getHeadings(Document document) {
+        if (this.document != document) {
+            this.document = document;
+            headings = new HeadingCollectingVisitor().collectAndGetHeadings(document);
+            headingContents.clear();
+            headingTexts.clear();
+        }
+        return headings;
+    }
+
+    /**
+     * @param heading heading
+     * @return escaped text of the heading
+     */
+    public String getHeadingText(Heading heading) {
+        String text = headingTexts.get(heading);
+        if (text == null) {
+            text = Escaping.escapeHtml(new TextCollectingVisitor().collectAndGetText(heading), false);
+            headingTexts.put(heading, text);
+        }
+        return text;
+    }
+
+    /**
+     * @param context rendering context
+     * @param heading heading
+     * @return html of heading children, rendered without links
+     */
+    public String getHeadingContent(NodeRendererContext context, Heading heading) {
+        String content = headingContents.get(heading);
+        if (content == null) {
+            TextCollectingAppendable out = new TextCollectingAppendable();
+            NodeRendererContext subContext = context.getSubContext(out, false);
+            subContext.doNotRenderLinks();
+            subContext.renderChildren(heading);
+            content = out.getHtml();
+            headingContents.put(heading, content);
+        }
+        return content;
+    }
+}
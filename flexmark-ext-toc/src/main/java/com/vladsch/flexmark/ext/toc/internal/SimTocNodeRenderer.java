@@ -2,7 +2,6 @@ package com.vladsch.flexmark.ext.toc.internal;
 
 import com.vladsch.flexmark.ast.Heading;
 import com.vladsch.flexmark.ast.Node;
-import com.vladsch.flexmark.ast.util.HeadingCollectingVisitor;
 import com.vladsch.flexmark.ext.toc.SimTocBlock;
 import com.vladsch.flexmark.ext.toc.SimTocContent;
 import com.vladsch.flexmark.ext.toc.SimTocOption;
@@ -71,8 +70,8 @@ public class SimTocNodeRenderer implements NodeRenderer {
     }
 
     private void render(SimTocBlock node, NodeRendererContext context, HtmlWriter html) {
-        HeadingCollectingVisitor visitor = new HeadingCollectingVisitor();
-        List<Heading> headings = visitor.collectAndGetHeadings(node.getDocument());
+        HeadingIndex headingIndex = HeadingIndex.of(context);
+        List<Heading> headings = headingIndex.getHeadings(node.getDocument());
         if (headings != null) {
             SimTocOptionsParser optionsParser = new SimTocOptionsParser();
             TocOptions options = optionsParser.parseOption(node.getStyle(), this.options, null).getFirst();
@@ -80,13 +79,13 @@ public class SimTocNodeRenderer implements NodeRenderer {
             if (node.getTitle().isNotNull()) {
                 options = options.withTitle(node.getTitle().unescape());
             }
-            renderTocHeaders(context, html, node, headings, options);
+            renderTocHeaders(context, html, node, headingIndex, headings, options);
         }
     }
 
-    private void renderTocHeaders(NodeRendererContext context, HtmlWriter html, Node node, List<Heading> headings, TocOptions options) {
+    private void renderTocHeaders(NodeRendererContext context, HtmlWriter html, Node node, HeadingIndex headingIndex, List<Heading> headings, TocOptions options) {
         List<Heading> filteredHeadings = TocUtils.filteredHeadings(headings, options);
-        final Paired<List<Heading>, List<String>> paired = TocUtils.htmlHeadingTexts(context, filteredHeadings, options);
+        final Paired<List<Heading>, List<String>> paired = TocUtils.htmlHeadingTexts(context, filteredHeadings, options, headingIndex);
         TocUtils.renderHtmlToc(html, context.getHtmlOptions().sourcePositionAttribute.isEmpty() ? BasedSequence.NULL : node.getChars(), paired.getFirst(), paired.getSecond(), options);
     }
 
@@ -2,7 +2,6 @@ package com.vladsch.flexmark.ext.toc.internal;
 
 import com.vladsch.flexmark.ast.Heading;
 import com.vladsch.flexmark.ast.Node;
-import com.vladsch.flexmark.ast.util.HeadingCollectingVisitor;
 import com.vladsch.flexmark.ext.toc.TocBlock;
 import com.vladsch.flexmark.html.CustomNodeRenderer;
 import com.vladsch.flexmark.html.HtmlWriter;
@@ -39,18 +38,18 @@ public class TocNodeRenderer implements NodeRenderer {
     }
 
     private void render(TocBlock node, NodeRendererContext context, HtmlWriter html) {
-        HeadingCollectingVisitor visitor = new HeadingCollectingVisitor();
-        List<Heading> headings = visitor.collectAndGetHeadings(node.getDocument());
+        HeadingIndex headingIndex = HeadingIndex.of(context);
+        List<Heading> headings = headingIndex.getHeadings(node.getDocument());
         if (headings != null) {
             TocOptionsParser optionsParser = new TocOptionsParser();
             TocOptions options = optionsParser.parseOption(node.getStyle(), this.options.withTitle(""), null).getFirst();
-            renderTocHeaders(context, html, node, headings, options);
+            renderTocHeaders(context, html, node, headingIndex, headings, options);
         }
     }
 
-    private void renderTocHeaders(NodeRendererContext context, HtmlWriter html, Node node, List<Heading> headings, TocOptions options) {
+    private void renderTocHeaders(NodeRendererContext context, HtmlWriter html, Node node, HeadingIndex headingIndex, List<Heading> headings, TocOptions options) {
         List<Heading> filteredHeadings = TocUtils.filteredHeadings(headings, options);
-        final Paired<List<Heading>, List<String>> paired = TocUtils.htmlHeadingTexts(context, filteredHeadings, options);
+        final Paired<List<Heading>, List<String>> paired = TocUtils.htmlHeadingTexts(context, filteredHeadings, options, headingIndex);
         TocUtils.renderHtmlToc(html, context.getHtmlOptions().sourcePositionAttribute.isEmpty() ? BasedSequence.NULL : node.getChars(), paired.getFirst(), paired.getSecond(), options);
     }
 
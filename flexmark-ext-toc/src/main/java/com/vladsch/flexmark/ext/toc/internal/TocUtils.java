@@ -6,12 +6,10 @@ import com.vladsch.flexmark.ext.toc.SimTocContent;
 import com.vladsch.flexmark.html.HtmlWriter;
 import com.vladsch.flexmark.html.renderer.AttributablePart;
 import com.vladsch.flexmark.html.renderer.NodeRendererContext;
-import com.vladsch.flexmark.html.renderer.TextCollectingAppendable;
 import com.vladsch.flexmark.util.Computable;
 import com.vladsch.flexmark.util.Pair;
 import com.vladsch.flexmark.util.Paired;
 import com.vladsch.flexmark.util.ValueRunnable;
-import com.vladsch.flexmark.util.html.Escaping;
 import com.vladsch.flexmark.util.options.DelimitedBuilder;
 import com.vladsch.flexmark.util.sequence.BasedSequence;
 
@@ -173,6 +171,10 @@ public class TocUtils {
     }
 
     public static Paired<List<Heading>, List<String>> htmlHeadingTexts(NodeRendererContext context, List<Heading> headings, TocOptions tocOptions) {
+        return htmlHeadingTexts(context, headings, tocOptions, HeadingIndex.of(context));
+    }
+
+    public static Paired<List<Heading>, List<String>> htmlHeadingTexts(NodeRendererContext context, List<Heading> headings, TocOptions tocOptions, HeadingIndex headingIndex) {
         final List<String> headingContents = new ArrayList<String>(headings.size());
         final boolean isReversed = tocOptions.listType == TocOptions.ListType.SORTED_REVERSED || tocOptions.listType == TocOptions.ListType.FLAT_REVERSED;
         final boolean isSorted = tocOptions.listType == TocOptions.ListType.SORTED || tocOptions.listType == TocOptions.ListType.SORTED_REVERSED;
@@ -184,13 +186,12 @@ public class TocUtils {
             String headingContent;
             // need to skip anchor links but render emphasis
             if (tocOptions.isTextOnly) {
-                headingContent = getHeadingText(heading).toString();
+                headingContent = headingIndex.getHeadingText(heading);
             } else {
-                TextCollectingAppendable out = getHeadingContent(context, heading);
-                headingContent = out.getHtml();
+                headingContent = headingIndex.getHeadingContent(context, heading);
 
                 if (needText) {
-                    headingTexts.put(headingContent, getHeadingText(heading).toString());
+                    headingTexts.put(headingContent, headingIndex.getHeadingText(heading));
                 }
             }
 
@@ -236,18 +237,6 @@ public class TocUtils {
         return Pair.of(headings, headingContents);
     }
 
-    private static String getHeadingText(Heading header) {
-        return Escaping.escapeHtml(new TextCollectingVisitor().collectAndGetText(header), false);
-    }
-
-    private static TextCollectingAppendable getHeadingContent(NodeRendererContext context, Heading header) {
-        TextCollectingAppendable out = new TextCollectingAppendable();
-        NodeRendererContext subContext = context.getSubContext(out, false);
-        subContext.doNotRenderLinks();
-        subContext.renderChildren(header);
-        return out;
-    }
-
     public static List<String> markdownHeaderTexts(List<Heading> headings, TocOptions tocOptions) {
         ArrayList<String> headingTexts = new ArrayList<String>(headings.size());
         for (Heading header : headings) {
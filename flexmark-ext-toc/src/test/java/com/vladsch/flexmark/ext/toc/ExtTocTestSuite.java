@@ -7,6 +7,7 @@ import org.junit.runners.Suite;
         TocOptionsParserTest.class,
         ComboTocSpecTest.class,
         ComboSimTocSpecTest.class,
+        HeadingIndexTest.class,
 })
 public class ExtTocTestSuite {
 }
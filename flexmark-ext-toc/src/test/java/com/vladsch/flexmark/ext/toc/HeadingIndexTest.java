@@ -0,0 +1,76 @@
+package com.vladsch.flexmark.ext.toc;
+
+import com.vladsch.flexmark.ast.Document;
+import com.vladsch.flexmark.ast.Heading;
+import com.vladsch.flexmark.ast.Text;
+import com.vladsch.flexmark.html.CustomNodeRenderer;
+import com.vladsch.flexmark.html.HtmlRenderer;
+import com.vladsch.flexmark.html.HtmlWriter;
+import com.vladsch.flexmark.html.renderer.NodeRenderer;
+import com.vladsch.flexmark.html.renderer.NodeRendererContext;
+import com.vladsch.flexmark.html.renderer.NodeRendererFactory;
+import com.vladsch.flexmark.html.renderer.NodeRenderingHandler;
+import com.vladsch.flexmark.parser.Parser;
+import com.vladsch.flexmark.util.options.DataHolder;
+import com.vladsch.flexmark.util.options.MutableDataSet;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+
+public class HeadingIndexTest {
+    private static final DataHolder OPTIONS = new MutableDataSet()
+            .set(Parser.EXTENSIONS, Arrays.asList(TocExtension.create(), SimTocExtension.create()));
+
+    private static final String INPUT = "" +
+            "[TOC]\n" +
+            "\n" +
+            "# Heading 1\n" +
+            "\n" +
+            "## Heading 2\n" +
+            "\n" +
+            "[TOC]: #\n" +
+            "\n";
+
+    private int headingTextRenders;
+
+    private NodeRendererFactory countingFactory() {
+        return new NodeRendererFactory() {
+            @Override
+            public NodeRenderer create(DataHolder options) {
+                return new NodeRenderer() {
+                    @Override
+                    public Set<NodeRenderingHandler<?>> getNodeRenderingHandlers() {
+                        return new HashSet<NodeRenderingHandler<?>>(Collections.singletonList(
+                                new NodeRenderingHandler<Text>(Text.class, new CustomNodeRenderer<Text>() {
+                                    @Override
+                                    public void render(Text node, NodeRendererContext context, HtmlWriter html) {
+                                        if (node.getParent() instanceof Heading) headingTextRenders++;
+                                        context.delegateRender();
+                                    }
+                                })
+                        ));
+                    }
+                };
+            }
+        };
+    }
+
+    @Test
+    public void test_headingContentSharedByTocAndSimToc() {
+        Parser parser = Parser.builder(OPTIONS).build();
+        HtmlRenderer renderer = HtmlRenderer.builder(OPTIONS).nodeRendererFactory(countingFactory()).build();
+        Document document = parser.parse(INPUT);
+
+        headingTextRenders = 0;
+        String html = renderer.render(document);
+
+        // once for each heading and once more for the level 2 heading in the index shared by both toc blocks
+        assertEquals(3, headingTextRenders);
+        assertEquals(html, renderer.render(document));
+    }
+}
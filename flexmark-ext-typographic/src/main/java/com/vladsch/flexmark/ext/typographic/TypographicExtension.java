@@ -68,7 +68,7 @@ public class TypographicExtension implements Parser.ParserExtension, HtmlRendere
             parserBuilder.customDelimiterProcessor(new SingleQuoteDelimiterProcessor(options));
             parserBuilder.customDelimiterProcessor(new DoubleQuoteDelimiterProcessor(options));
         }
-        if (ENABLE_SMARTS.getFrom(parserBuilder)) parserBuilder.customInlineParserExtensionFactory(new SmartsInlineParser.Factory());
+        if (ENABLE_SMARTS.getFrom(parserBuilder)) parserBuilder.customInlineParserExtensionFactory(new SmartsInlineParser.Factory(new TypographicOptions(parserBuilder)));
     }
 
     @Override
@@ -9,10 +9,23 @@ import com.vladsch.flexmark.util.sequence.BasedSequence;
 import java.util.Set;
 
 public class SmartsInlineParser implements InlineParserExtension {
-    private final SmartsParsing parsing;
+    static final String ELLIPSIS = "...";
+    static final String ELLIPSIS_SPACED = ". . .";
+    static final String EN_DASH = "--";
+    static final String EM_DASH = "---";
+
+    private final String apostrophe;
 
     public SmartsInlineParser(final InlineParser inlineParser) {
-        this.parsing = new SmartsParsing(inlineParser.getParsing());
+        this(inlineParser, null);
+    }
+
+    /**
+     * @param inlineParser inline parser
+     * @param apostrophe   typographic text for apostrophes between letters or digits, null if they are parsed as single quotes
+     */
+    public SmartsInlineParser(final InlineParser inlineParser, final String apostrophe) {
+        this.apostrophe = apostrophe;
     }
 
     @Override
@@ -27,27 +40,82 @@ public class SmartsInlineParser implements InlineParserExtension {
 
     @Override
     public boolean parse(final InlineParser inlineParser) {
-        BasedSequence match = inlineParser.match(parsing.SMARTS);
-        if (match != null) {
-            BasedSequence input = inlineParser.getInput();
-            inlineParser.flushTextNode();
-
-            String typographicSmarts;
-
-            if (match.matches(parsing.ELIPSIS)) typographicSmarts = "&hellip;";
-            else if (match.matches(parsing.ELIPSIS_SPACED)) typographicSmarts = "&hellip;";
-            else if (match.matches(parsing.EN_DASH)) typographicSmarts = "&ndash;";
-            else if (match.matches(parsing.EM_DASH)) typographicSmarts = "&mdash;";
-            else return false;
-
-            TypographicSmarts smarts = new TypographicSmarts(match, typographicSmarts);
-            inlineParser.getBlock().appendChild(smarts);
-            return true;
+        BasedSequence input = inlineParser.getInput();
+        int index = inlineParser.getIndex();
+        int length;
+        String typographicSmarts;
+
+        switch (input.charAt(index)) {
+            case '.':
+                if (input.matchChars(ELLIPSIS_SPACED, index)) length = ELLIPSIS_SPACED.length();
+                else if (input.matchChars(ELLIPSIS, index)) length = ELLIPSIS.length();
+                else return false;
+                typographicSmarts = "&hellip;";
+                break;
+
+            case '-':
+                if (input.matchChars(EM_DASH, index)) {
+                    length = EM_DASH.length();
+                    typographicSmarts = "&mdash;";
+                } else if (input.matchChars(EN_DASH, index)) {
+                    length = EN_DASH.length();
+                    typographicSmarts = "&ndash;";
+                } else {
+                    return false;
+                }
+                break;
+
+            case '\'':
+                if (apostrophe == null || !isApostrophe(input, index)) return false;
+                length = 1;
+                typographicSmarts = apostrophe;
+                break;
+
+            default:
+                return false;
         }
-        return false;
+
+        inlineParser.flushTextNode();
+        BasedSequence match = input.subSequence(index, index + length);
+        inlineParser.setIndex(index + length);
+
+        TypographicSmarts smarts = new TypographicSmarts(match, typographicSmarts);
+        inlineParser.getBlock().appendChild(smarts);
+        return true;
+    }
+
+    /**
+     * A single quote between letters or digits, as in a contraction, can neither open nor close quotes, it would only be
+     * pushed on the delimiter stack to be converted to an unmatched quote when inline processing of the block is done.
+     *
+     * @param input text
+     * @param index index of single quote
+     * @return true if single quote is surrounded by letters or digits in input and in its base sequence
+     */
+    static boolean isApostrophe(BasedSequence input, int index) {
+        if (index == 0 || index + 1 >= input.length() || !Character.isLetterOrDigit(input.charAt(index - 1)) || !Character.isLetterOrDigit(input.charAt(index + 1))) {
+            return false;
+        }
+
+        // quote delimiter processing tests characters around the quote in the base sequence
+        BasedSequence chars = input.subSequence(index, index + 1);
+        BasedSequence base = chars.getBaseSequence();
+        int startOffset = chars.getStartOffset();
+        return startOffset > 0 && startOffset + 1 < base.length() && Character.isLetterOrDigit(base.charAt(startOffset - 1)) && Character.isLetterOrDigit(base.charAt(startOffset + 1));
     }
 
     public static class Factory implements InlineParserExtensionFactory {
+        private final String apostrophe;
+
+        public Factory() {
+            this(null);
+        }
+
+        public Factory(final TypographicOptions options) {
+            // apostrophes get the unmatched single quote text, only when single quotes are processed
+            this.apostrophe = options != null && options.typographicQuotes ? options.singleQuoteUnmatched : null;
+        }
+
         @Override
         public Set<Class<? extends InlineParserExtensionFactory>> getAfterDependents() {
             return null;
@@ -55,7 +123,7 @@ public class SmartsInlineParser implements InlineParserExtension {
 
         @Override
         public CharSequence getCharacters() {
-            return ".-";
+            return apostrophe == null ? ".-" : ".-'";
         }
 
         @Override
@@ -65,7 +133,7 @@ public class SmartsInlineParser implements InlineParserExtension {
 
         @Override
         public InlineParserExtension create(final InlineParser inlineParser) {
-            return new SmartsInlineParser(inlineParser);
+            return new SmartsInlineParser(inlineParser, apostrophe);
         }
 
         @Override
@@ -14,6 +14,7 @@ import com.vladsch.flexmark.util.format.options.ListSpacing;
 import com.vladsch.flexmark.util.html.FormattingAppendable;
 import com.vladsch.flexmark.util.options.DataHolder;
 import com.vladsch.flexmark.util.options.DataKey;
+import com.vladsch.flexmark.util.options.MutableDataHolder;
 import com.vladsch.flexmark.util.sequence.BasedSequence;
 import com.vladsch.flexmark.util.sequence.RepeatedCharSequence;
 
@@ -303,7 +304,7 @@ public class CoreNodeFormatter extends NodeRepositoryFormatter<ReferenceReposito
     }
 
     private void render(BlankLine node, NodeFormatterContext context, MarkdownWriter markdown) {
-        if (context.getDocument().get(LIST_ITEM_SPACING) == null) {
+        if (context.getFormattingState().get(LIST_ITEM_SPACING) == null) {
             if (!(node.getPrevious() == null || node.getPrevious() instanceof BlankLine)) {
                 blankLines = 0;
             }
@@ -325,7 +326,7 @@ public class CoreNodeFormatter extends NodeRepositoryFormatter<ReferenceReposito
                     || options.spaceAfterAtxMarker == AS_IS && node.getOpeningMarker().getEndOffset() < node.getText().getStartOffset();
 
             if (spaceAfterAtx) markdown.append(' ');
-            context.renderChildren(node);
+            renderInlineChildren(node, context, markdown);
             switch (options.atxHeaderTrailingMarker) {
                 case EQUALIZE:
                     if (node.getOpeningMarker().isNull()) break;
@@ -349,7 +350,7 @@ public class CoreNodeFormatter extends NodeRepositoryFormatter<ReferenceReposito
         } else {
             Ref<Integer> ref = new Ref<Integer>(markdown.offset());
             markdown.lastOffset(ref);
-            context.renderChildren(node);
+            renderInlineChildren(node, context, markdown);
             markdown.line();
             if (options.setextHeaderEqualizeMarker) {
                 markdown.repeat(node.getClosingMarker().charAt(0), Utils.minLimit(markdown.offset() - ref.value, options.minSetextMarkerLength));
@@ -563,10 +564,10 @@ public class CoreNodeFormatter extends NodeRepositoryFormatter<ReferenceReposito
             markdown.blankLine();
         }
 
-        Document document = context.getDocument();
-        ListSpacing listSpacing = document.get(LIST_ITEM_SPACING);
-        int listItemNumber = document.get(LIST_ITEM_NUMBER);
-        document.set(LIST_ITEM_NUMBER, node instanceof OrderedList ? ((OrderedList) node).getStartNumber() : 1);
+        MutableDataHolder state = context.getFormattingState();
+        ListSpacing listSpacing = state.get(LIST_ITEM_SPACING);
+        int listItemNumber = state.get(LIST_ITEM_NUMBER);
+        state.set(LIST_ITEM_NUMBER, node instanceof OrderedList ? ((OrderedList) node).getStartNumber() : 1);
 
         ListSpacing itemSpacing = null;
         switch (context.getFormatterOptions().listSpacing) {
@@ -595,13 +596,13 @@ public class CoreNodeFormatter extends NodeRepositoryFormatter<ReferenceReposito
             }
         }
 
-        document.set(LIST_ITEM_SPACING, itemSpacing);
+        state.set(LIST_ITEM_SPACING, itemSpacing);
         for (Node item : itemList) {
             if (itemSpacing == ListSpacing.LOOSE && (listSpacing == null || listSpacing == ListSpacing.LOOSE)) markdown.blankLine();
             context.render(item);
         }
-        document.set(LIST_ITEM_SPACING, listSpacing);
-        document.set(LIST_ITEM_NUMBER, listItemNumber);
+        state.set(LIST_ITEM_SPACING, listSpacing);
+        state.set(LIST_ITEM_NUMBER, listItemNumber);
 
         if (!node.isOrDescendantOfType(ListItem.class)) {
             markdown.blankLine();
@@ -634,10 +635,10 @@ public class CoreNodeFormatter extends NodeRepositoryFormatter<ReferenceReposito
             }
 
             if (options.listRenumberItems) {
-                Document document = context.getDocument();
-                Integer itemNumber = document.get(LIST_ITEM_NUMBER);
+                MutableDataHolder state = context.getFormattingState();
+                Integer itemNumber = state.get(LIST_ITEM_NUMBER);
                 openingMarker = String.format("%d%c", itemNumber++, delimiter);
-                document.set(LIST_ITEM_NUMBER, itemNumber);
+                state.set(LIST_ITEM_NUMBER, itemNumber);
             } else {
                 openingMarker = String.format("%s%c", number, delimiter);
             }
@@ -691,33 +692,101 @@ public class CoreNodeFormatter extends NodeRepositoryFormatter<ReferenceReposito
     private void render(final Paragraph node, final NodeFormatterContext context, final MarkdownWriter markdown) {
         if (!(node.getParent() instanceof ParagraphItemContainer)) {
             if (!node.isTrailingBlankLine() && (node.getNext() == null || node.getNext() instanceof ListBlock)) {
-                renderTextBlockParagraphLines(node, context, markdown);
+                renderParagraphLines(node, context, markdown);
             } else {
-                renderLooseParagraph(node, context, markdown);
+                renderLooseParagraphLines(node, context, markdown);
             }
         } else {
             boolean isItemParagraph = ((ParagraphItemContainer) node.getParent()).isItemParagraph(node);
             if (isItemParagraph) {
-                ListSpacing itemSpacing = context.getDocument().get(LIST_ITEM_SPACING);
+                ListSpacing itemSpacing = context.getFormattingState().get(LIST_ITEM_SPACING);
                 if (itemSpacing == ListSpacing.TIGHT) {
-                    renderTextBlockParagraphLines(node, context, markdown);
+                    renderParagraphLines(node, context, markdown);
                 } else if (itemSpacing == ListSpacing.LOOSE) {
                     if (node.getParent().getNextAnyNot(BlankLine.class) == null) {
-                        renderTextBlockParagraphLines(node, context, markdown);
+                        renderParagraphLines(node, context, markdown);
                     } else {
-                        renderLooseParagraph(node, context, markdown);
+                        renderLooseParagraphLines(node, context, markdown);
                     }
                 } else {
                     if (!((ParagraphItemContainer) node.getParent()).isParagraphWrappingDisabled(node, listOptions, context.getOptions())) {
-                        renderLooseParagraph(node, context, markdown);
+                        renderLooseParagraphLines(node, context, markdown);
                     } else {
-                        renderTextBlockParagraphLines(node, context, markdown);
+                        renderParagraphLines(node, context, markdown);
                     }
                 }
             } else {
-                renderLooseParagraph(node, context, markdown);
+                renderLooseParagraphLines(node, context, markdown);
+            }
+        }
+    }
+
+    private void renderParagraphLines(Paragraph node, NodeFormatterContext context, MarkdownWriter markdown) {
+        renderInlineChildren(node, context, markdown);
+        markdown.line();
+    }
+
+    private void renderLooseParagraphLines(Paragraph node, NodeFormatterContext context, MarkdownWriter markdown) {
+        renderParagraphLines(node, context, markdown);
+        markdown.tailBlankLine();
+    }
+
+    /**
+     * Render inline children of a node, when all are formatted as their text their source is appended in one call
+     */
+    private void renderInlineChildren(Node node, NodeFormatterContext context, MarkdownWriter markdown) {
+        Node firstChild = node.getFirstChild();
+        int endOffset = firstChild == null ? -1 : unchangedInlineEndOffset(node, firstChild.getStartOffset(), context);
+
+        if (endOffset != -1) {
+            markdown.append(node.getChars().baseSubSequence(firstChild.getStartOffset(), endOffset));
+        } else {
+            context.renderChildren(node);
+        }
+    }
+
+    /**
+     * Check that children of a node are formatted by this formatter as their text and there is no text between them
+     *
+     * @param parent      parent node
+     * @param startOffset start offset of the first child
+     * @param context     formatter context
+     * @return end offset of the last child or -1 if formatting of children changes their text
+     */
+    private int unchangedInlineEndOffset(Node parent, int startOffset, NodeFormatterContext context) {
+        int offset = startOffset;
+
+        for (Node node = parent.getFirstChild(); node != null; node = node.getNext()) {
+            if (node.getStartOffset() != offset || context.getNodeFormatter(node.getClass()) != this) return -1;
+
+            if (node instanceof Emphasis || node instanceof StrongEmphasis || node instanceof Code) {
+                // closing marker is formatted as the opening marker
+                DelimitedNodeImpl delimitedNode = (DelimitedNodeImpl) node;
+                BasedSequence openingMarker = delimitedNode.getOpeningMarker();
+                BasedSequence closingMarker = delimitedNode.getClosingMarker();
+                if (openingMarker.getStartOffset() != offset || !openingMarker.equals(closingMarker)) return -1;
+
+                if (node instanceof Code) {
+                    BasedSequence text = delimitedNode.getText();
+                    offset = text.getStartOffset() == openingMarker.getEndOffset() ? text.getEndOffset() : -1;
+                } else {
+                    offset = unchangedInlineEndOffset(node, openingMarker.getEndOffset(), context);
+                }
+                if (offset != closingMarker.getStartOffset()) return -1;
+                offset = closingMarker.getEndOffset();
+            } else if (node instanceof TextBase) {
+                offset = unchangedInlineEndOffset(node, offset, context);
+                if (offset == -1) return -1;
+            } else if (node instanceof Text || node instanceof SoftLineBreak || node instanceof HardLineBreak
+                    || node instanceof HtmlInline || node instanceof HtmlInlineComment || node instanceof HtmlEntity
+                    || node instanceof AutoLink || node instanceof MailLink || node instanceof ImageRef || node instanceof LinkRef
+                    || node instanceof Link && !options.keepExplicitLinksAtStart || node instanceof Image && !options.keepImageLinksAtStart) {
+                offset = node.getEndOffset();
+            } else {
+                return -1;
             }
         }
+        return offset;
     }
 
     public static BasedSequence getSoftLineBreakSpan(Node node) {
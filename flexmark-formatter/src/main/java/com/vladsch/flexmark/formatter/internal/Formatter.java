@@ -2,6 +2,7 @@ package com.vladsch.flexmark.formatter.internal;
 
 import com.vladsch.flexmark.Extension;
 import com.vladsch.flexmark.IRender;
+import com.vladsch.flexmark.ast.BlankLine;
 import com.vladsch.flexmark.ast.Document;
 import com.vladsch.flexmark.ast.Node;
 import com.vladsch.flexmark.html.AttributeProviderFactory;
@@ -9,6 +10,7 @@ import com.vladsch.flexmark.html.LinkResolverFactory;
 import com.vladsch.flexmark.html.renderer.HeaderIdGeneratorFactory;
 import com.vladsch.flexmark.parser.Parser;
 import com.vladsch.flexmark.parser.ParserEmulationProfile;
+import com.vladsch.flexmark.util.ParallelTasks;
 import com.vladsch.flexmark.util.collection.DataValueFactory;
 import com.vladsch.flexmark.util.collection.DynamicDefaultKey;
 import com.vladsch.flexmark.util.collection.NodeCollectingVisitor;
@@ -18,7 +20,9 @@ import com.vladsch.flexmark.util.format.options.*;
 import com.vladsch.flexmark.util.html.FormattingAppendable;
 import com.vladsch.flexmark.util.mappers.CharWidthProvider;
 import com.vladsch.flexmark.util.options.*;
+import com.vladsch.flexmark.util.sequence.BasedSequence;
 
+import java.io.IOException;
 import java.util.*;
 
 /**
@@ -72,6 +76,10 @@ public class Formatter implements IRender {
     //public static final DataKey<TrailingSpaces> CODE_KEEP_TRAILING_SPACES = new DataKey<TrailingSpaces>("CODE_KEEP_TRAILING_SPACES", TrailingSpaces.KEEP_ALL);
     public static final DataKey<CharWidthProvider> CHAR_WIDTH_PROVIDER = TableFormatOptions.CHAR_WIDTH_PROVIDER;
 
+    // top level blocks of a document are formatted in segments of at least this many characters, by this many threads
+    public static final DataKey<Integer> PARALLEL_THREADS = new DataKey<Integer>("PARALLEL_THREADS", 1);
+    public static final DataKey<Integer> PARALLEL_SEGMENT_SIZE = new DataKey<Integer>("PARALLEL_SEGMENT_SIZE", 16384);
+
     // formatter family override
     public static final DataKey<ParserEmulationProfile> FORMATTER_EMULATION_PROFILE = new DynamicDefaultKey<ParserEmulationProfile>(
             "FORMATTER_EMULATION_PROFILE",
@@ -142,23 +150,365 @@ public class Formatter implements IRender {
      * @param output appendable to use for the output
      */
     public void render(Node node, Appendable output) {
-        MainNodeFormatter renderer = new MainNodeFormatter(options, new MarkdownWriter(output, formatterOptions.formatFlags), node.getDocument());
-        renderer.render(node);
-        renderer.flush(formatterOptions.maxTrailingBlankLines);
+        render(node, output, formatterOptions.maxTrailingBlankLines);
     }
 
     /**
      * Render a node to the appendable
+     * <p>
+     * A document is formatted in segments of top level blocks by several threads when {@link #PARALLEL_THREADS} is
+     * more than 1, unless the formatting of blocks depends on other blocks, as with references grouped with the first
+     * or last reference.
      *
      * @param node   node to render
      * @param output appendable to use for the output
      */
     public void render(Node node, Appendable output, int maxTrailingBlankLines) {
-        MainNodeFormatter renderer = new MainNodeFormatter(options, new MarkdownWriter(output, formatterOptions.formatFlags), node.getDocument());
+        if (node instanceof Document && formatterOptions.parallelThreads > 1) {
+            Document document = (Document) node;
+            MainNodeFormatter documentFormatter = new MainNodeFormatter(options, new MarkdownWriter(new StringBuilder(), formatterOptions.formatFlags), document, null);
+            List<Node[]> segments = getSegments(document, formatterOptions.parallelSegmentSize);
+
+            if (segments.size() > 1 && documentFormatter.canFormatBlocksSeparately()) {
+                FormattedParts parts = new FormattedParts(new StringBuilder(), false, 0);
+                parts.append(documentFormatter.renderPhases(true));
+                for (FormattedPart part : renderSegments(documentFormatter, segments, formatterOptions.parallelThreads)) {
+                    parts.append(part);
+                }
+                parts.append(documentFormatter.renderPhases(false));
+                parts.finish(maxTrailingBlankLines);
+
+                try {
+                    output.append(parts.out);
+                } catch (IOException e) {
+                    throw new RuntimeException(e);
+                }
+                return;
+            }
+        }
+
+        MainNodeFormatter renderer = new MainNodeFormatter(options, new MarkdownWriter(output, formatterOptions.formatFlags), node.getDocument(), null);
         renderer.render(node);
         renderer.flush(maxTrailingBlankLines);
     }
 
+    /**
+     * Format the top level blocks of a document changed by an edit
+     * <p>
+     * The previous document must be parsed from text which was formatted with the same options, the document from the
+     * same text after it was edited. Only the top level blocks containing the changed text are formatted, with the
+     * blank lines separating them from the blocks before and after. Blocks around the change are added while the edit
+     * moved their text to other blocks, as when it opens a fenced code block. When this is not possible, as with
+     * references placed at the top or bottom of the document, or when the change is in text rendered by the document
+     * phases, like front matter, the whole document is formatted.
+     *
+     * @param previousDocument document parsed from the formatted text before the edit
+     * @param document         document parsed from the edited text
+     * @param startOffset      start offset of changed text in the edited text
+     * @param endOffset        end offset of changed text in the edited text
+     * @return edits which format the edited text, in order of their offsets, empty if the text is already formatted
+     */
+    public List<TextEdit> renderChanges(Document previousDocument, Document document, int startOffset, int endOffset) {
+        BasedSequence chars = document.getChars();
+        MainNodeFormatter documentFormatter = new MainNodeFormatter(options, new MarkdownWriter(new StringBuilder(), formatterOptions.formatFlags), document, null);
+
+        if (documentFormatter.canFormatBlocksSeparately() && !documentFormatter.hasPlacedReferences()) {
+            FormattedPart headPart = documentFormatter.renderPhases(true);
+            FormattedPart tailPart = documentFormatter.renderPhases(false);
+            Node firstChild = document.getFirstChild();
+
+            if (tailPart.text.isEmpty() && (headPart.text.isEmpty() || firstChild == null || startOffset >= firstChild.getEndOffset())) {
+                return renderChangedBlocks(documentFormatter, previousDocument, document, chars, headPart, startOffset, endOffset);
+            }
+        }
+
+        StringBuilder sb = new StringBuilder();
+        render(document, sb);
+        String text = sb.toString();
+        ArrayList<TextEdit> edits = new ArrayList<TextEdit>(1);
+        if (!text.contentEquals(chars)) edits.add(new TextEdit(0, chars.length(), text));
+        return edits;
+    }
+
+    private List<TextEdit> renderChangedBlocks(MainNodeFormatter documentFormatter, Document previousDocument, Document document, BasedSequence chars, FormattedPart headPart, int startOffset, int endOffset) {
+        // previous top level blocks by start offset in the edited text, blocks after the change are moved by the edit
+        int previousEndOffset = endOffset - chars.length() + previousDocument.getChars().length();
+        HashMap<Integer, Integer> previousBlocks = new HashMap<Integer, Integer>();
+        for (Node node = previousDocument.getFirstChild(); node != null; node = node.getNext()) {
+            if (node instanceof BlankLine) continue;
+            if (node.getEndOffset() <= startOffset) {
+                previousBlocks.put(node.getStartOffset(), node.getEndOffset());
+            } else if (node.getStartOffset() >= previousEndOffset) {
+                previousBlocks.put(node.getStartOffset() + endOffset - previousEndOffset, node.getEndOffset() + endOffset - previousEndOffset);
+            }
+        }
+
+        // changed top level blocks, extended so that blank lines are not split from the block before them
+        Node first = null;
+        Node last = null;
+        Node next = document.getFirstChild();
+
+        while (next != null && (next.getEndOffset() < startOffset || next.getEndOffset() == startOffset && startOffset < endOffset)) {
+            next = next.getNext();
+        }
+
+        while (next != null && (next.getStartOffset() < endOffset || next.getStartOffset() == startOffset || first != null && next instanceof BlankLine)) {
+            if (first == null) first = next;
+            last = next;
+            next = next.getNext();
+        }
+
+        while (first instanceof BlankLine && first.getPrevious() != null) {
+            first = first.getPrevious();
+        }
+
+        // blocks before the change are added to changed blocks until one is the same as a previous block and is
+        // formatted the same as its text, the change could have moved text of the blocks around it to other blocks
+        Node prevLast = first != null ? first.getPrevious() : next != null ? next.getPrevious() : document.getLastChild();
+        FormattedPart prevPart = headPart;
+        int prevLeadingEOL = 0;
+
+        while (prevLast != null) {
+            Node prevFirst = prevLast;
+            while (prevFirst instanceof BlankLine && prevFirst.getPrevious() != null) {
+                prevFirst = prevFirst.getPrevious();
+            }
+
+            FormattedPart part = renderPart(documentFormatter, prevFirst, prevLast);
+            if (prevFirst == document.getFirstChild() && !headPart.text.isEmpty()) {
+                // text of document phases is before the first block and is not changed
+                prevLeadingEOL = part.leadingEOL;
+                break;
+            }
+
+            if (!part.text.isEmpty() && isPreviousBlock(previousBlocks, prevFirst) && isFormatted(chars, prevFirst, prevLast, part)) {
+                prevPart = part;
+                break;
+            }
+
+            first = prevFirst;
+            if (last == null) last = prevLast;
+            prevLast = prevFirst.getPrevious();
+        }
+
+        // same for blocks after the change, the first one formatted the same as its text ends the edit
+        FormattedPart nextPart = null;
+        while (next != null) {
+            Node nextLast = next;
+            while (nextLast.getNext() instanceof BlankLine) {
+                nextLast = nextLast.getNext();
+            }
+
+            FormattedPart part = renderPart(documentFormatter, next, nextLast);
+            if (!part.text.isEmpty() && isPreviousBlock(previousBlocks, next) && isFormatted(chars, next, nextLast, part)) {
+                nextPart = part;
+                break;
+            }
+
+            if (first == null) first = next;
+            last = nextLast;
+            next = nextLast.getNext();
+        }
+
+        FormattedParts parts = prevPart.text.isEmpty() ? new FormattedParts(new StringBuilder(), false, 0)
+                : new FormattedParts(new StringBuilder(), true, Math.max(prevPart.trailingEOL, prevLeadingEOL));
+
+        int editStart = first != null ? first.getStartOffset() : next != null ? next.getStartOffset() : chars.length();
+        if (parts.started) {
+            // keep text of the block before the change and any trailing spaces of its last line
+            int pos = editStart;
+            while (pos > 0 && isWhitespace(chars.charAt(pos - 1))) pos--;
+            while (pos < editStart && !isEOL(chars.charAt(pos))) pos++;
+            editStart = pos;
+        } else {
+            editStart = 0;
+        }
+
+        if (first != null) {
+            parts.append(renderPart(documentFormatter, first, last));
+        }
+
+        int editEnd;
+        if (nextPart != null) {
+            parts.appendLeadingEOL(nextPart.leadingEOL);
+            editEnd = next.getStartOffset();
+        } else {
+            parts.finish(formatterOptions.maxTrailingBlankLines);
+            editEnd = chars.length();
+        }
+
+        ArrayList<TextEdit> edits = new ArrayList<TextEdit>(1);
+        String text = parts.out.toString();
+        if (!text.contentEquals(chars.subSequence(editStart, editEnd))) {
+            edits.add(new TextEdit(editStart, editEnd, text));
+        }
+        return edits;
+    }
+
+    private static boolean isPreviousBlock(HashMap<Integer, Integer> previousBlocks, Node node) {
+        Integer endOffset = previousBlocks.get(node.getStartOffset());
+        return endOffset != null && endOffset == node.getEndOffset();
+    }
+
+    /**
+     * @return true if text of blocks is the same as their formatted text, ignoring blank lines around it
+     */
+    private static boolean isFormatted(BasedSequence chars, Node first, Node last, FormattedPart part) {
+        int start = first.getStartOffset();
+        while (start > 0 && !isEOL(chars.charAt(start - 1))) start--;
+
+        int end = last.getEndOffset();
+        while (end > start && isWhitespace(chars.charAt(end - 1))) end--;
+
+        int textEnd = part.text.length();
+        while (textEnd > 0 && isWhitespace(part.text.charAt(textEnd - 1))) textEnd--;
+
+        return textEnd == end - start && part.text.regionMatches(0, chars.subSequence(start, end).toString(), 0, textEnd);
+    }
+
+    private static boolean isEOL(char c) {
+        return c == '\n' || c == '\r';
+    }
+
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\r';
+    }
+
+    /**
+     * Split top level blocks into segments which can be formatted separately, a segment does not start with a blank
+     * line so that the blank lines after a block are counted by the same formatter
+     *
+     * @return list of first and last node of each segment
+     */
+    private static List<Node[]> getSegments(Document document, int segmentSize) {
+        ArrayList<Node[]> segments = new ArrayList<Node[]>();
+        Node first = null;
+        int length = 0;
+
+        for (Node node = document.getFirstChild(); node != null; node = node.getNext()) {
+            if (first != null && length >= segmentSize && !(node instanceof BlankLine)) {
+                segments.add(new Node[] { first, node.getPrevious() });
+                first = null;
+            }
+
+            if (first == null) {
+                first = node;
+                length = 0;
+            }
+            length += node.getTextLength();
+        }
+
+        if (first != null) segments.add(new Node[] { first, document.getLastChild() });
+        return segments;
+    }
+
+    private List<FormattedPart> renderSegments(final MainNodeFormatter documentFormatter, List<Node[]> segments, int threads) {
+        try {
+            return ParallelTasks.run(segments, threads, "flexmark-formatter", new ParallelTasks.Task<Node[], FormattedPart, RuntimeException>() {
+                @Override
+                public FormattedPart run(Node[] segment) {
+                    return renderPart(documentFormatter, segment[0], segment[1]);
+                }
+            });
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+    }
+
+    private FormattedPart renderPart(MainNodeFormatter documentFormatter, Node first, Node last) {
+        StringBuilder sb = new StringBuilder();
+        MarkdownWriter markdown = FormattedPart.createWriter(sb, formatterOptions.formatFlags);
+        MainNodeFormatter formatter = new MainNodeFormatter(options, markdown, documentFormatter.getDocument(), documentFormatter);
+        formatter.renderBlocks(first, last);
+        return new FormattedPart(markdown, sb);
+    }
+
+    /**
+     * Text of separately formatted blocks with the line breaks requested before its first and after its last text
+     * <p>
+     * The writer is started with a character of text so that line breaks requested before the first text are output
+     * as they would be after the blocks before it. The line breaks between parts are the most requested by either part,
+     * as when the writer formats the blocks of both parts.
+     */
+    static class FormattedPart {
+        final int leadingEOL;
+        final String text;
+        final int trailingEOL;
+
+        static MarkdownWriter createWriter(StringBuilder sb, int formatFlags) {
+            MarkdownWriter markdown = new MarkdownWriter(sb, formatFlags);
+            markdown.append('-');
+            return markdown;
+        }
+
+        FormattedPart(MarkdownWriter markdown, StringBuilder sb) {
+            markdown.flush(Integer.MAX_VALUE - 1);
+
+            int start = 1;
+            int end = sb.length();
+            while (start < end && sb.charAt(start) == '\n') start++;
+
+            if (start == end) {
+                // only line breaks, they combine with ones of the parts before and after
+                leadingEOL = end - 1;
+                trailingEOL = end - 1;
+                text = "";
+            } else {
+                while (sb.charAt(end - 1) == '\n') end--;
+                leadingEOL = start - 1;
+                trailingEOL = sb.length() - end;
+                text = sb.substring(start, end);
+            }
+        }
+    }
+
+    /**
+     * Combines formatted parts as the writer would combine their text
+     */
+    static class FormattedParts {
+        final StringBuilder out;
+        boolean started;
+        int pendingEOL;
+
+        FormattedParts(StringBuilder out, boolean started, int pendingEOL) {
+            this.out = out;
+            this.started = started;
+            this.pendingEOL = pendingEOL;
+        }
+
+        void append(FormattedPart part) {
+            if (part.text.isEmpty()) {
+                pendingEOL = Math.max(pendingEOL, part.leadingEOL);
+            } else {
+                // line breaks before the first text are not output
+                if (started) appendLeadingEOL(part.leadingEOL);
+                out.append(part.text);
+                started = true;
+                pendingEOL = part.trailingEOL;
+            }
+        }
+
+        void appendLeadingEOL(int leadingEOL) {
+            if (started) appendEOL(Math.max(pendingEOL, leadingEOL));
+            pendingEOL = 0;
+        }
+
+        void finish(int maxTrailingBlankLines) {
+            if (started) {
+                // same as line() followed by flush(maxTrailingBlankLines)
+                int eolCount = Math.max(pendingEOL, 1);
+                if (eolCount > maxTrailingBlankLines + 1) eolCount = Math.max(maxTrailingBlankLines + 1, 0);
+                appendEOL(eolCount);
+            }
+            pendingEOL = 0;
+        }
+
+        private void appendEOL(int count) {
+            for (int i = 0; i < count; i++) out.append('\n');
+        }
+    }
+
     /**
      * Render the tree of nodes to HTML.
      *
@@ -322,18 +672,29 @@ public class Formatter implements IRender {
     private class MainNodeFormatter extends NodeFormatterSubContext implements NodeFormatterContext {
         private final Document document;
         private final Map<Class<?>, NodeFormattingHandler> renderers;
+        private final Map<Class<?>, NodeFormatter> nodeFormatters;
         private final SubClassingBag<Node> collectedNodes;
 
         private final List<PhasedNodeFormatter> phasedFormatters;
         private final Set<FormattingPhase> renderingPhases;
         private final DataHolder options;
+        private final MutableDataSet formattingState;
         private FormattingPhase phase;
 
-        MainNodeFormatter(DataHolder options, MarkdownWriter out, Document document) {
+        /**
+         * @param options           formatter options
+         * @param out               markdown writer
+         * @param document          document to format
+         * @param documentFormatter formatter of the whole document whose collected nodes are used when formatting
+         *                          some of its blocks, null to collect nodes of the document
+         */
+        MainNodeFormatter(DataHolder options, MarkdownWriter out, Document document, MainNodeFormatter documentFormatter) {
             super(out);
             this.options = new ScopedDataSet(options, document);
             this.document = document;
+            this.formattingState = new MutableDataSet();
             this.renderers = new HashMap<Class<?>, NodeFormattingHandler>(32);
+            this.nodeFormatters = new HashMap<Class<?>, NodeFormatter>(32);
             this.renderingPhases = new HashSet<FormattingPhase>(FormattingPhase.values().length);
             final Set<Class> collectNodeTypes = new HashSet<Class>(100);
             this.phasedFormatters = new ArrayList<PhasedNodeFormatter>(nodeFormatterFactories.size());
@@ -350,6 +711,7 @@ public class Formatter implements IRender {
                 for (NodeFormattingHandler nodeType : formattingHandlers) {
                     // Overwrite existing renderer
                     renderers.put(nodeType.getNodeType(), nodeType);
+                    nodeFormatters.put(nodeType.getNodeType(), nodeFormatter);
                 }
 
                 // get nodes of interest
@@ -371,7 +733,9 @@ public class Formatter implements IRender {
             }
 
             // collect nodes of interest from document
-            if (!collectNodeTypes.isEmpty()) {
+            if (documentFormatter != null) {
+                collectedNodes = documentFormatter.collectedNodes;
+            } else if (!collectNodeTypes.isEmpty()) {
                 NodeCollectingVisitor collectingVisitor = new NodeCollectingVisitor(collectNodeTypes);
                 collectingVisitor.collect(document);
                 collectedNodes = collectingVisitor.getSubClassingBag();
@@ -405,11 +769,113 @@ public class Formatter implements IRender {
             return phase;
         }
 
+        @Override
+        public MutableDataHolder getFormattingState() {
+            return formattingState;
+        }
+
+        @Override
+        public NodeFormatter getNodeFormatter(Class<?> nodeType) {
+            NodeFormatter nodeFormatter = nodeFormatters.get(nodeType);
+            return nodeFormatter != null ? nodeFormatter : nodeFormatters.get(Node.class);
+        }
+
         @Override
         public void render(Node node) {
             renderNode(node, this);
         }
 
+        /**
+         * Top level blocks can be formatted separately when the document is formatted by the core formatter and no
+         * references are formatted with the first or last reference in the document
+         *
+         * @return true if top level blocks can be formatted separately
+         */
+        boolean canFormatBlocksSeparately() {
+            if (!(nodeFormatters.get(Document.class) instanceof CoreNodeFormatter)) return false;
+
+            for (PhasedNodeFormatter phasedFormatter : phasedFormatters) {
+                if (phasedFormatter instanceof NodeRepositoryFormatter) {
+                    ElementPlacement placement = ((NodeRepositoryFormatter) phasedFormatter).getReferencePlacement();
+                    if (placement == ElementPlacement.GROUP_WITH_FIRST || placement == ElementPlacement.GROUP_WITH_LAST) return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * @return true if references are not formatted where they are in the document
+         */
+        boolean hasPlacedReferences() {
+            for (PhasedNodeFormatter phasedFormatter : phasedFormatters) {
+                if (phasedFormatter instanceof NodeRepositoryFormatter) {
+                    if (((NodeRepositoryFormatter) phasedFormatter).getReferencePlacement() != ElementPlacement.AS_IS) return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Format top level blocks of the document as they are formatted in the document phase
+         *
+         * @param first first block
+         * @param last  last block
+         */
+        void renderBlocks(Node first, Node last) {
+            phase = FormattingPhase.DOCUMENT;
+            renderingNode = document;
+            for (Node node = first; node != null; node = node.getNext()) {
+                renderNode(node, this);
+                if (node == last) break;
+            }
+            renderingNode = null;
+        }
+
+        /**
+         * Format document phases before or after the document phase
+         *
+         * @param beforeDocument true for phases before the document phase, false for phases after it
+         * @return formatted text of the phases
+         */
+        FormattedPart renderPhases(boolean beforeDocument) {
+            StringBuilder sb = new StringBuilder();
+            MarkdownWriter writer = FormattedPart.createWriter(sb, getMarkdown().getOptions());
+            writer.setContext(this);
+            SubNodeFormatter subContext = new SubNodeFormatter(this, writer);
+
+            for (FormattingPhase phase : FormattingPhase.values()) {
+                if (phase == FormattingPhase.DOCUMENT) {
+                    if (beforeDocument) break;
+                } else if (beforeDocument || phase.compareTo(FormattingPhase.DOCUMENT) > 0) {
+                    renderPhase(phase, document, subContext);
+                }
+            }
+            return new FormattedPart(writer, sb);
+        }
+
+        private void renderPhase(FormattingPhase phase, Node node, NodeFormatterSubContext subContext) {
+            if (phase != FormattingPhase.DOCUMENT && !renderingPhases.contains(phase)) return;
+            this.phase = phase;
+
+            if (phase == FormattingPhase.DOCUMENT) {
+                NodeFormattingHandler nodeRenderer = renderers.get(node.getClass());
+                if (nodeRenderer != null) {
+                    subContext.renderingNode = node;
+                    nodeRenderer.render(node, subContext, subContext.markdown);
+                    subContext.renderingNode = null;
+                }
+            } else {
+                // go through all renderers that want this phase
+                for (PhasedNodeFormatter phasedFormatter : phasedFormatters) {
+                    if (phasedFormatter.getFormattingPhases().contains(phase)) {
+                        subContext.renderingNode = node;
+                        phasedFormatter.renderDocument(subContext, subContext.markdown, (Document) node, phase);
+                        subContext.renderingNode = null;
+                    }
+                }
+            }
+        }
+
         @Override
         public final Iterable<? extends Node> nodesOfType(final Class<?>[] classes) {
             return collectedNodes == null ? NULL_ITERABLE : collectedNodes.itemsOfType(Node.class, classes);
@@ -444,26 +910,7 @@ public class Formatter implements IRender {
             if (node instanceof Document) {
                 // here we render multiple phases
                 for (FormattingPhase phase : FormattingPhase.values()) {
-                    if (phase != FormattingPhase.DOCUMENT && !renderingPhases.contains(phase)) { continue; }
-                    this.phase = phase;
-                    // here we render multiple phases
-                    if (getFormattingPhase() == FormattingPhase.DOCUMENT) {
-                        NodeFormattingHandler nodeRenderer = renderers.get(node.getClass());
-                        if (nodeRenderer != null) {
-                            subContext.renderingNode = node;
-                            nodeRenderer.render(node, subContext, subContext.markdown);
-                            subContext.renderingNode = null;
-                        }
-                    } else {
-                        // go through all renderers that want this phase
-                        for (PhasedNodeFormatter phasedFormatter : phasedFormatters) {
-                            if (phasedFormatter.getFormattingPhases().contains(phase)) {
-                                subContext.renderingNode = node;
-                                phasedFormatter.renderDocument(subContext, subContext.markdown, (Document) node, phase);
-                                subContext.renderingNode = null;
-                            }
-                        }
-                    }
+                    renderPhase(phase, node, subContext);
                 }
             } else {
                 NodeFormattingHandler nodeRenderer = renderers.get(node.getClass());
@@ -540,6 +987,12 @@ public class Formatter implements IRender {
             @Override
             public FormattingPhase getFormattingPhase() {return myMainNodeRenderer.getFormattingPhase();}
 
+            @Override
+            public MutableDataHolder getFormattingState() {return myMainNodeRenderer.getFormattingState();}
+
+            @Override
+            public NodeFormatter getNodeFormatter(Class<?> nodeType) {return myMainNodeRenderer.getNodeFormatter(nodeType);}
+
             @Override
             public void render(Node node) {
                 myMainNodeRenderer.renderNode(node, this);
@@ -38,6 +38,8 @@ public class FormatterOptions {
     public final boolean keepImageLinksAtStart;
     public final boolean keepExplicitLinksAtStart;
     public final CharWidthProvider charWidthProvider;
+    public final int parallelThreads;
+    public final int parallelSegmentSize;
     //public final TrailingSpaces keepTrailingSpaces;
     //public final TrailingSpaces codeKeepTrailingSpaces;
 
@@ -73,6 +75,8 @@ public class FormatterOptions {
         keepImageLinksAtStart = Formatter.KEEP_IMAGE_LINKS_AT_START.getFrom(options);
         keepExplicitLinksAtStart = Formatter.KEEP_EXPLICIT_LINKS_AT_START.getFrom(options);
         charWidthProvider = Formatter.CHAR_WIDTH_PROVIDER.getFrom(options);
+        parallelThreads = Formatter.PARALLEL_THREADS.getFrom(options);
+        parallelSegmentSize = Formatter.PARALLEL_SEGMENT_SIZE.getFrom(options);
         //keepTrailingSpaces = Formatter.KEEP_TRAILING_SPACES.getFrom(options);
         //codeKeepTrailingSpaces = Formatter.CODE_KEEP_TRAILING_SPACES.getFrom(options);
     }
@@ -4,6 +4,7 @@ import com.vladsch.flexmark.ast.Document;
 import com.vladsch.flexmark.ast.Node;
 import com.vladsch.flexmark.util.format.options.ElementPlacementSort;
 import com.vladsch.flexmark.util.options.DataHolder;
+import com.vladsch.flexmark.util.options.MutableDataHolder;
 
 import java.util.Collection;
 
@@ -63,6 +64,20 @@ public interface NodeFormatterContext {
      */
     Document getDocument();
 
+    /**
+     * Get the state kept while formatting, like the numbering of list items. Each formatting of a document has its own,
+     * so that separate parts of a document can be formatted at the same time, state must not be set on the document.
+     *
+     * @return mutable state of the current formatting
+     */
+    MutableDataHolder getFormattingState();
+
+    /**
+     * @param nodeType class of node
+     * @return node formatter whose handler formats nodes of the class
+     */
+    NodeFormatter getNodeFormatter(Class<?> nodeType);
+
     /**
      * @return the current node being rendered
      */
@@ -0,0 +1,51 @@
+package com.vladsch.flexmark.formatter.internal;
+
+/**
+ * Replacement of a range of text, offsets are those of the text before any edits are applied
+ */
+public class TextEdit {
+    private final int startOffset;
+    private final int endOffset;
+    private final String text;
+
+    public TextEdit(int startOffset, int endOffset, String text) {
+        this.startOffset = startOffset;
+        this.endOffset = endOffset;
+        this.text = text;
+    }
+
+    public int getStartOffset() {
+        return startOffset;
+    }
+
+    public int getEndOffset() {
+        return endOffset;
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    /**
+     * Apply edits to text
+     *
+     * @param text  text to edit
+     * @param edits non-overlapping edits in order of their offsets
+     * @return edited text
+     */
+    public static String apply(CharSequence text, Iterable<TextEdit> edits) {
+        StringBuilder sb = new StringBuilder(text.length());
+        int lastOffset = 0;
+        for (TextEdit edit : edits) {
+            sb.append(text, lastOffset, edit.startOffset).append(edit.text);
+            lastOffset = edit.endOffset;
+        }
+        sb.append(text, lastOffset, text.length());
+        return sb.toString();
+    }
+
+    @Override
+    public String toString() {
+        return "TextEdit[" + startOffset + ", " + endOffset + ") '" + text + "'";
+    }
+}
@@ -0,0 +1,24 @@
+package com.vladsch.flexmark.formatter;
+
+import com.vladsch.flexmark.formatter.internal.Formatter;
+import com.vladsch.flexmark.spec.SpecExample;
+import com.vladsch.flexmark.util.options.MutableDataSet;
+
+/**
+ * Runs the spec with each top level block formatted separately and the results combined
+ */
+public class ComboCoreFormatterParallelSpecTest extends ComboCoreFormatterSpecTest {
+    private static final Formatter RENDERER = new ComboCoreFormatterSpecTest(SpecExample.NULL).renderer().withOptions(new MutableDataSet()
+            .set(Formatter.PARALLEL_THREADS, 4)
+            .set(Formatter.PARALLEL_SEGMENT_SIZE, 0)
+    );
+
+    public ComboCoreFormatterParallelSpecTest(SpecExample example) {
+        super(example);
+    }
+
+    @Override
+    public Formatter renderer() {
+        return RENDERER;
+    }
+}
@@ -6,7 +6,11 @@ import org.junit.runners.Suite;
 @Suite.SuiteClasses({
         ComboCoreFormatterSpecTest.class,
         ComboCoreFormatterNoBlankLinesSpecTest.class,
+        ComboCoreFormatterParallelSpecTest.class,
+        ComboCoreFormatterNoBlankLinesParallelSpecTest.class,
         FormatterModifiedAST.class,
+        FormatterRenderChangesTest.class,
+        FormatterInlineTextTest.class,
 })
 public class CoreFormatterTestSuite {
 }
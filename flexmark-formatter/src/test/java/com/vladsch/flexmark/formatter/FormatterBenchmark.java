@@ -0,0 +1,72 @@
+package com.vladsch.flexmark.formatter;
+
+import com.vladsch.flexmark.ast.Document;
+import com.vladsch.flexmark.ast.Text;
+import com.vladsch.flexmark.formatter.internal.*;
+import com.vladsch.flexmark.parser.Parser;
+import com.vladsch.flexmark.spec.SpecReader;
+import com.vladsch.flexmark.util.options.DataHolder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+@State(Scope.Benchmark)
+public class FormatterBenchmark {
+
+    private static final Document SPEC_DOCUMENT = Parser.builder().build().parse(SpecReader.readSpec());
+    private static final Formatter FORMATTER = Formatter.builder().build();
+    private static final Formatter NODE_BY_NODE_FORMATTER = Formatter.builder().nodeFormatterFactory(new NodeFormatterFactory() {
+        @Override
+        public NodeFormatter create(DataHolder options) {
+            return new TextNodeFormatter();
+        }
+    }).build();
+
+    public static void main(String[] args) throws Exception {
+        Options options = new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .include(FormatterBenchmark.class.getName() + ".*")
+                .build();
+        new Runner(options).run();
+    }
+
+    @Benchmark
+    public long wholeSpec() {
+        return FORMATTER.render(SPEC_DOCUMENT).length();
+    }
+
+    @Benchmark
+    public long wholeSpecNodeByNode() {
+        return NODE_BY_NODE_FORMATTER.render(SPEC_DOCUMENT).length();
+    }
+
+    /**
+     * Formats text nodes the same as the core formatter, an extension formatter for text disables appending source text
+     */
+    private static class TextNodeFormatter implements NodeFormatter {
+        @Override
+        public Set<NodeFormattingHandler<?>> getNodeFormattingHandlers() {
+            return new HashSet<NodeFormattingHandler<?>>(Collections.singletonList(
+                    new NodeFormattingHandler<Text>(Text.class, new CustomNodeFormatter<Text>() {
+                        @Override
+                        public void render(Text node, NodeFormatterContext context, MarkdownWriter markdown) {
+                            markdown.append(node.getChars());
+                        }
+                    })
+            ));
+        }
+
+        @Override
+        public Set<Class<?>> getNodeClasses() {
+            return null;
+        }
+    }
+}
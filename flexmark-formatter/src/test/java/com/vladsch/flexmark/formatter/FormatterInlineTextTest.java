@@ -0,0 +1,144 @@
+package com.vladsch.flexmark.formatter;
+
+import com.vladsch.flexmark.ast.Text;
+import com.vladsch.flexmark.formatter.internal.*;
+import com.vladsch.flexmark.parser.Parser;
+import com.vladsch.flexmark.util.options.DataHolder;
+import com.vladsch.flexmark.util.options.MutableDataSet;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Verify that paragraphs and headings appended as their source text format the same as when formatted node by node
+ */
+public class FormatterInlineTextTest {
+    private static final int[] FORMAT_FLAGS = {
+            0,
+            Formatter.FORMAT_COLLAPSE_WHITESPACE,
+            Formatter.FORMAT_SUPPRESS_TRAILING_WHITESPACE,
+            Formatter.FORMAT_CONVERT_TABS,
+            Formatter.FORMAT_ALL_OPTIONS,
+    };
+
+    private int textFormats;
+
+    /**
+     * Formats text nodes the same as the core formatter, an extension formatter for text disables appending source text
+     */
+    private NodeFormatterFactory textFormatterFactory() {
+        return new NodeFormatterFactory() {
+            @Override
+            public NodeFormatter create(DataHolder options) {
+                return new NodeFormatter() {
+                    @Override
+                    public Set<NodeFormattingHandler<?>> getNodeFormattingHandlers() {
+                        return new HashSet<NodeFormattingHandler<?>>(Collections.singletonList(
+                                new NodeFormattingHandler<Text>(Text.class, new CustomNodeFormatter<Text>() {
+                                    @Override
+                                    public void render(Text node, NodeFormatterContext context, MarkdownWriter markdown) {
+                                        textFormats++;
+                                        markdown.append(node.getChars());
+                                    }
+                                })
+                        ));
+                    }
+
+                    @Override
+                    public Set<Class<?>> getNodeClasses() {
+                        return null;
+                    }
+                };
+            }
+        };
+    }
+
+    private void assertSameAsNodeByNode(String markdown) {
+        for (int formatFlags : FORMAT_FLAGS) {
+            DataHolder options = new MutableDataSet().set(Formatter.FORMAT_FLAGS, formatFlags);
+            Parser parser = Parser.builder(options).build();
+            Formatter formatter = Formatter.builder(options).build();
+            Formatter nodeByNodeFormatter = Formatter.builder(options).nodeFormatterFactory(textFormatterFactory()).build();
+
+            textFormats = 0;
+            String expected = nodeByNodeFormatter.render(parser.parse(markdown));
+            assertTrue("text formatted node by node", textFormats > 0);
+            assertEquals("format flags " + formatFlags, expected, formatter.render(parser.parse(markdown)));
+        }
+    }
+
+    @Test
+    public void test_paragraph() {
+        assertSameAsNodeByNode("" +
+                "Some plain text with words\n" +
+                "on   two lines and  double spaces.\n" +
+                "");
+    }
+
+    @Test
+    public void test_trailingSpaces() {
+        assertSameAsNodeByNode("" +
+                "Text with trailing spaces   \n" +
+                "and a hard break  \n" +
+                "and a tab\tinside\n" +
+                "");
+    }
+
+    @Test
+    public void test_escapes() {
+        assertSameAsNodeByNode("" +
+                "Escaped \\*stars\\* and \\_underscores\\_ with &amp; entities &copy;\n" +
+                "and a backslash \\\\ at the end\\\n" +
+                "next line\n" +
+                "");
+    }
+
+    @Test
+    public void test_inlines() {
+        assertSameAsNodeByNode("" +
+                "Text *emphasis* and **strong** with `code`  and __other__ _markers_\n" +
+                "[link](http://example.com) ![image](image.png) <http://example.com> [ref] <span>html</span>\n" +
+                "\n" +
+                "[ref]: http://example.com\n" +
+                "");
+    }
+
+    @Test
+    public void test_headings() {
+        assertSameAsNodeByNode("" +
+                "# Heading  with *emphasis*\n" +
+                "\n" +
+                "Setext   heading\n" +
+                "===\n" +
+                "");
+    }
+
+    @Test
+    public void test_prefix() {
+        assertSameAsNodeByNode("" +
+                "> Quoted text with  words\n" +
+                "> on two lines\n" +
+                ">\n" +
+                "> > nested quote   text\n" +
+                "");
+    }
+
+    @Test
+    public void test_listItems() {
+        assertSameAsNodeByNode("" +
+                "* item  one\n" +
+                "  continued   text\n" +
+                "* item two\n" +
+                "\n" +
+                "  loose paragraph  text\n" +
+                "\n" +
+                "  1. nested   item\n" +
+                "     > quoted   in item\n" +
+                "");
+    }
+}
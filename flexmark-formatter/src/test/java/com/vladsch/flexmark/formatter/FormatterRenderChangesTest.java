@@ -0,0 +1,199 @@
+package com.vladsch.flexmark.formatter;
+
+import com.vladsch.flexmark.ast.Document;
+import com.vladsch.flexmark.formatter.internal.Formatter;
+import com.vladsch.flexmark.formatter.internal.TextEdit;
+import com.vladsch.flexmark.parser.Parser;
+import com.vladsch.flexmark.spec.SpecReader;
+import com.vladsch.flexmark.util.options.DataHolder;
+import com.vladsch.flexmark.util.options.MutableDataSet;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class FormatterRenderChangesTest {
+    final static DataHolder OPTIONS = new MutableDataSet();
+    final static DataHolder BLANK_LINES_OPTIONS = new MutableDataSet().set(Parser.BLANK_LINES_IN_AST, true);
+
+    final static String FORMATTED = "" +
+            "# Heading\n" +
+            "\n" +
+            "First paragraph with some text\n" +
+            "on two lines.\n" +
+            "\n" +
+            "* item 1\n" +
+            "* item 2\n" +
+            "  continued\n" +
+            "* item 3\n" +
+            "\n" +
+            "> quoted text\n" +
+            "\n" +
+            "```java\n" +
+            "int i = 0;\n" +
+            "```\n" +
+            "\n" +
+            "1. one\n" +
+            "2. two\n" +
+            "\n" +
+            "Last paragraph.\n" +
+            "";
+
+    private static List<TextEdit> assertChanges(DataHolder options, String formatted, int startOffset, int endOffset, String inserted) {
+        Parser parser = Parser.builder(options).build();
+        Formatter formatter = Formatter.builder(options).build();
+        assertEquals("test text is not formatted", formatted, formatter.render(parser.parse(formatted)));
+
+        Document previousDocument = parser.parse(formatted);
+        String edited = formatted.substring(0, startOffset) + inserted + formatted.substring(endOffset);
+        Document document = parser.parse(edited);
+
+        List<TextEdit> edits = formatter.renderChanges(previousDocument, document, startOffset, startOffset + inserted.length());
+
+        int lastOffset = 0;
+        for (TextEdit edit : edits) {
+            assertTrue("edits out of order " + edits, edit.getStartOffset() >= lastOffset && edit.getEndOffset() >= edit.getStartOffset());
+            lastOffset = edit.getEndOffset();
+        }
+        assertTrue("edit past end of text " + edits, lastOffset <= edited.length());
+
+        String expected = formatter.render(parser.parse(edited));
+        assertEquals("edits " + edits, expected, TextEdit.apply(edited, edits));
+        return edits;
+    }
+
+    private static void assertChanges(String formatted, int startOffset, int endOffset, String inserted) {
+        assertChanges(OPTIONS, formatted, startOffset, endOffset, inserted);
+        assertChanges(BLANK_LINES_OPTIONS, formatted, startOffset, endOffset, inserted);
+    }
+
+    private static int offsetOf(String text) {
+        int offset = FORMATTED.indexOf(text);
+        assertTrue(text, offset != -1);
+        return offset;
+    }
+
+    @Test
+    public void test_noChange() {
+        int offset = offsetOf("some");
+        assertChanges(FORMATTED, offset, offset, "");
+
+        Parser parser = Parser.builder(OPTIONS).build();
+        Formatter formatter = Formatter.builder(OPTIONS).build();
+        assertEquals(0, formatter.renderChanges(parser.parse(FORMATTED), parser.parse(FORMATTED), offset, offset).size());
+    }
+
+    @Test
+    public void test_insertInsideBlock() {
+        int offset = offsetOf("some");
+        assertChanges(FORMATTED, offset, offset, "more   ");
+        assertChanges(FORMATTED, offset, offset, "x\ny");
+    }
+
+    @Test
+    public void test_changedBlockOnly() {
+        // only the blocks around the change are formatted, extra blank lines are removed by the edit
+        int offset = offsetOf("\n* item 1");
+        List<TextEdit> edits = assertChanges(OPTIONS, FORMATTED, offset, offset, "\n\n");
+        assertEquals(1, edits.size());
+        assertTrue(edits.toString(), edits.get(0).getStartOffset() >= offsetOf("First"));
+        assertTrue(edits.toString(), edits.get(0).getEndOffset() <= offsetOf("> quoted") + 2);
+    }
+
+    @Test
+    public void test_deleteInsideBlock() {
+        int offset = offsetOf("some");
+        assertChanges(FORMATTED, offset, offset + "some ".length(), "");
+    }
+
+    @Test
+    public void test_replaceInsideBlock() {
+        int offset = offsetOf("item 2");
+        assertChanges(FORMATTED, offset, offset + "item 2".length(), "changed   item");
+    }
+
+    @Test
+    public void test_insertAtBlockStart() {
+        int offset = offsetOf("First");
+        assertChanges(FORMATTED, offset, offset, "-  ");
+        assertChanges(FORMATTED, offset, offset, "Text\n");
+    }
+
+    @Test
+    public void test_insertAtBlockEnd() {
+        int offset = offsetOf("on two lines.") + "on two lines.".length();
+        assertChanges(FORMATTED, offset, offset, " more");
+        assertChanges(FORMATTED, offset, offset, "\n");
+        assertChanges(FORMATTED, offset + 1, offset + 1, "\n\n");
+    }
+
+    @Test
+    public void test_deleteAcrossBlocks() {
+        int start = offsetOf("two lines");
+        int end = offsetOf("item 2");
+        assertChanges(FORMATTED, start, end, "");
+        assertChanges(FORMATTED, start, end, "joined ");
+    }
+
+    @Test
+    public void test_deleteBlankLineBetweenBlocks() {
+        int offset = offsetOf("\n> quoted");
+        assertChanges(FORMATTED, offset, offset + 1, "");
+    }
+
+    @Test
+    public void test_splitList() {
+        int offset = offsetOf("* item 2");
+        assertChanges(FORMATTED, offset, offset, "\n");
+        assertChanges(FORMATTED, offset, offset, "\ntext\n\n");
+    }
+
+    @Test
+    public void test_openFence() {
+        // fence swallows all following blocks
+        int offset = offsetOf("> quoted");
+        assertChanges(FORMATTED, offset, offset, "```\n");
+    }
+
+    @Test
+    public void test_removeFenceEnd() {
+        int offset = offsetOf("```\n\n1.");
+        assertChanges(FORMATTED, offset, offset + 4, "");
+    }
+
+    @Test
+    public void test_documentEdges() {
+        assertChanges(FORMATTED, 0, 0, "Intro\n");
+        assertChanges(FORMATTED, 0, 2, "");
+        assertChanges(FORMATTED, FORMATTED.length(), FORMATTED.length(), "\n\n- new item");
+        assertChanges(FORMATTED, FORMATTED.length() - 1, FORMATTED.length(), "");
+        assertChanges(FORMATTED, 0, FORMATTED.length(), "");
+    }
+
+    @Test
+    public void test_randomEdits() {
+        Parser parser = Parser.builder(OPTIONS).build();
+        Formatter formatter = Formatter.builder(OPTIONS).build();
+
+        // formatting the spec takes a few passes to reach text that is not changed by formatting
+        String formatted = SpecReader.readSpec("/core_formatter_spec.md");
+        for (int i = 0; i < 5; i++) {
+            String text = formatter.render(parser.parse(formatted));
+            if (text.equals(formatted)) break;
+            formatted = text;
+        }
+
+        String[] snippets = { "x", "\n", "\n\n", "- item\n", "\n# Heading\n", "1. a\n2. b\n", "text  more", "> quote\n", "```\ncode\n```\n", "    indented\n" };
+        Random random = new Random(1);
+
+        for (int i = 0; i < 100; i++) {
+            int start = random.nextInt(formatted.length() + 1);
+            int end = Math.min(formatted.length(), start + (random.nextInt(3) == 0 ? random.nextInt(30) : 0));
+            String inserted = random.nextInt(4) == 0 ? "" : snippets[random.nextInt(snippets.length)];
+            assertChanges(OPTIONS, formatted, start, end, inserted);
+        }
+    }
+}
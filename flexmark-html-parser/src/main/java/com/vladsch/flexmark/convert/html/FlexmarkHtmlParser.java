@@ -1,6 +1,7 @@
 package com.vladsch.flexmark.convert.html;
 
 import com.vladsch.flexmark.ext.emoji.internal.EmojiCheatSheet;
+import com.vladsch.flexmark.util.ParallelTasks;
 import com.vladsch.flexmark.util.Utils;
 import com.vladsch.flexmark.util.format.RomanNumeral;
 import com.vladsch.flexmark.util.format.Table;
@@ -18,6 +19,8 @@ import org.jsoup.Jsoup;
 import org.jsoup.nodes.*;
 import org.jsoup.select.Elements;
 
+import java.io.IOException;
+import java.io.Reader;
 import java.util.*;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -42,6 +45,7 @@ public class FlexmarkHtmlParser {
     public static final DataKey<String> NBSP_TEXT = new DataKey<String>("NBSP_TEXT", " ");
     public static final DataKey<String> EOL_IN_TITLE_ATTRIBUTE = new DataKey<String>("EOL_IN_TITLE_ATTRIBUTE", " ");
     public static final DataKey<String> THEMATIC_BREAK = new DataKey<String>("THEMATIC_BREAK", "*** ** * ** ***");
+    public static final DataKey<Integer> STREAM_CHUNK_SIZE = new DataKey<Integer>("STREAM_CHUNK_SIZE", 65536); // min chars of top level blocks parsed at a time when parsing from a reader
 
     public static final DataKey<Integer> TABLE_MIN_SEPARATOR_COLUMN_WIDTH = TableFormatOptions.MIN_SEPARATOR_COLUMN_WIDTH;
     public static final DataKey<Integer> TABLE_MIN_SEPARATOR_DASHES = TableFormatOptions.MIN_SEPARATOR_DASHES;
@@ -84,6 +88,10 @@ public class FlexmarkHtmlParser {
         typographicMap.put("&emdash;", "---");
     }
 
+    private static final Pattern TYPOGRAPHIC_QUOTES_PATTERN = Pattern.compile(typographicQuotes);
+    private static final Pattern TYPOGRAPHIC_SMARTS_PATTERN = Pattern.compile(typographicSmarts);
+    private static final Pattern TYPOGRAPHIC_QUOTES_SMARTS_PATTERN = Pattern.compile(typographicQuotes + "|" + typographicSmarts);
+
     private static final Pattern NUMERIC_DOT_LIST = Pattern.compile("^\\d+\\.$");
     private static final Pattern NUMERIC_PAREN_LIST = Pattern.compile("^\\d+\\)$");
     private static final Pattern NON_NUMERIC_DOT_LIST = Pattern.compile("^(?:(?:" + RomanNumeral.ROMAN_NUMERAL.pattern() + ")|(?:" + RomanNumeral.LOWERCASE_ROMAN_NUMERAL.pattern() + ")|[a-z]+|[A-Z]+)\\.$");
@@ -93,33 +101,55 @@ public class FlexmarkHtmlParser {
 
     private final HtmlParserOptions myOptions;
     private final Pattern typographicPattern;
+    private final Map<String, CellAlignment> myCellAlignmentClasses;
+    private final Map<Pattern, CellAlignment> myCellAlignmentPatterns;
+    private boolean myTrace;
 
-    private Stack<State> myStateStack;
-    private Map<String, String> myAbbreviations;
+    // conversion state, only used by the copy of the parser made for each parse
+    private final Stack<State> myStateStack;
+    private final Map<String, String> myAbbreviations;
     private State myState;
-    private boolean myTrace;
+    private Table myTable;
 
     private FlexmarkHtmlParser(DataHolder options) {
         myOptions = new HtmlParserOptions(options);
 
         if (myOptions.typographicQuotes && myOptions.typographicSmarts) {
-            typographicPattern = Pattern.compile(typographicQuotes + "|" + typographicSmarts);
+            typographicPattern = TYPOGRAPHIC_QUOTES_SMARTS_PATTERN;
         } else if (myOptions.typographicQuotes) {
-            typographicPattern = Pattern.compile(typographicQuotes);
+            typographicPattern = TYPOGRAPHIC_QUOTES_PATTERN;
         } else if (myOptions.typographicSmarts) {
-            typographicPattern = Pattern.compile(typographicSmarts);
+            typographicPattern = TYPOGRAPHIC_SMARTS_PATTERN;
         } else {
             typographicPattern = null;
         }
 
+        myCellAlignmentClasses = new HashMap<String, CellAlignment>();
+        myCellAlignmentPatterns = new LinkedHashMap<Pattern, CellAlignment>();
+        for (Map.Entry<Object, CellAlignment> entry : myOptions.tableCellAlignmentMap.entrySet()) {
+            if (entry.getKey() instanceof Pattern) {
+                myCellAlignmentPatterns.put((Pattern) entry.getKey(), entry.getValue());
+            } else if (entry.getKey() instanceof String) {
+                myCellAlignmentClasses.put((String) entry.getKey(), entry.getValue());
+            }
+        }
+
         //myTrace = true;
-        resetForParse();
+        myStateStack = null;
+        myAbbreviations = null;
     }
 
-    private void resetForParse() {
+    private FlexmarkHtmlParser(FlexmarkHtmlParser other) {
+        myOptions = other.myOptions;
+        typographicPattern = other.typographicPattern;
+        myCellAlignmentClasses = other.myCellAlignmentClasses;
+        myCellAlignmentPatterns = other.myCellAlignmentPatterns;
+        myTrace = other.myTrace;
+
         myStateStack = new Stack<State>();
         myAbbreviations = new HashMap<String, String>();
         myState = null;
+        myTable = null;
     }
 
     public HtmlParserOptions getOptions() {
@@ -136,17 +166,82 @@ public class FlexmarkHtmlParser {
 
     /**
      * Parse HTML append to out
+     * <p>
+     * Conversion state is kept in a copy of the parser made for each call, so a parser can be shared by threads
      *
      * @param out  formatting appendable to append the resulting Markdown
      * @param html html to be parsed
      */
     public void parse(FormattingAppendable out, String html) {
-        resetForParse();
+        new FlexmarkHtmlParser(this).parseHtml(out, html);
+    }
 
-        Document document = Jsoup.parse(html);
+    /**
+     * Parse HTML with this parser's options and max trailing blank lines
+     *
+     * @param html          html to be parsed
+     * @param maxBlankLines max trailing blank lines, -1 will suppress trailing EOL
+     * @return resulting markdown string
+     */
+    public String convert(String html, int maxBlankLines) {
+        FormattingAppendableImpl out = new FormattingAppendableImpl(FormattingAppendable.SUPPRESS_TRAILING_WHITESPACE | FormattingAppendable.COLLAPSE_WHITESPACE);
+        parse(out, html);
+        return out.getText(maxBlankLines);
+    }
 
-        Element body = document.body();
+    /**
+     * Parse a batch of HTML documents with this parser's options
+     *
+     * @param htmlList      html documents to be parsed
+     * @param maxBlankLines max trailing blank lines, -1 will suppress trailing EOL
+     * @param threads       number of threads to use, documents are parsed sequentially if 1 or less
+     * @return resulting markdown strings in the order of the documents
+     */
+    public List<String> convert(List<String> htmlList, final int maxBlankLines, int threads) {
+        try {
+            return ParallelTasks.run(htmlList, threads, "flexmark-html-parser", new ParallelTasks.Task<String, String, RuntimeException>() {
+                @Override
+                public String run(String html) {
+                    return convert(html, maxBlankLines);
+                }
+            });
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
 
+    /**
+     * Parse HTML from a reader and append to out
+     * <p>
+     * Top level blocks, including blocks in div, section and article elements wrapping the page, are parsed and
+     * converted as they are read, in chunks of at least {@link #STREAM_CHUNK_SIZE} characters, instead of parsing the
+     * whole document at once. The result is the same as parsing the whole document,
+     * when the HTML cannot be split into blocks which give the same result, as with misnested formatting elements, the
+     * rest of it is parsed at once.
+     *
+     * @param out  formatting appendable to append the resulting Markdown
+     * @param html reader for the html to be parsed
+     * @throws IOException if reading failed
+     */
+    public void parse(FormattingAppendable out, Reader html) throws IOException {
+        new FlexmarkHtmlParser(this).parseHtml(out, new HtmlChunkReader(html, myOptions.streamChunkSize));
+    }
+
+    private void parseHtml(FormattingAppendable out, HtmlChunkReader reader) throws IOException {
+        String chunk;
+        while ((chunk = reader.nextChunk()) != null) {
+            processBody(out, Jsoup.parse(chunk).body());
+        }
+        appendAbbreviations(out);
+    }
+
+    private void parseHtml(FormattingAppendable out, String html) {
+        processBody(out, Jsoup.parse(html).body());
+        appendAbbreviations(out);
+    }
+
+    private void processBody(FormattingAppendable out, Element body) {
         if (myTrace) {
             FormattingAppendableImpl trace = new FormattingAppendableImpl(0);
             trace.setIndentPrefix("  ");
@@ -156,7 +251,9 @@ public class FlexmarkHtmlParser {
         }
 
         processHtmlTree(out, body);
+    }
 
+    private void appendAbbreviations(FormattingAppendable out) {
         // output abbreviations if any
         out.blankLine();
         if (!myAbbreviations.isEmpty()) {
@@ -173,7 +270,7 @@ public class FlexmarkHtmlParser {
      * @return html parser instance
      */
     public static FlexmarkHtmlParser build() {
-        return new FlexmarkHtmlParser(null);
+        return new FlexmarkHtmlParser((DataHolder) null);
     }
 
     /**
@@ -230,10 +327,7 @@ public class FlexmarkHtmlParser {
      * @return resulting markdown string
      */
     public static String parse(String html, int maxBlankLines, DataHolder options) {
-        FormattingAppendableImpl out = new FormattingAppendableImpl(FormattingAppendable.SUPPRESS_TRAILING_WHITESPACE | FormattingAppendable.COLLAPSE_WHITESPACE);
-        FlexmarkHtmlParser parser = new FlexmarkHtmlParser(options);
-        parser.parse(out, html);
-        return out.getText(maxBlankLines);
+        return new FlexmarkHtmlParser(options).convert(html, maxBlankLines);
     }
 
     private static class State {
@@ -1086,8 +1180,6 @@ public class FlexmarkHtmlParser {
         return ourTagProcessors.get(node.nodeName().toLowerCase());
     }
 
-    private Table myTable;
-
     private boolean processTable(FormattingAppendable out, Element table) {
         Table oldTable = myTable;
 
@@ -1226,7 +1318,7 @@ public class FlexmarkHtmlParser {
             final Set<String> classNames = element.classNames();
             if (!classNames.isEmpty()) {
                 for (String clazz : classNames) {
-                    CellAlignment cellAlignment = myOptions.tableCellAlignmentMap.get(clazz);
+                    CellAlignment cellAlignment = myCellAlignmentClasses.get(clazz);
                     if (cellAlignment != null) {
                         alignment = cellAlignment;
                         break;
@@ -1235,19 +1327,17 @@ public class FlexmarkHtmlParser {
 
                 if (alignment == null) {
                     // see if we have matching patterns
-                    for (Object key : myOptions.tableCellAlignmentMap.keySet()) {
-                        if (key instanceof Pattern) {
-                            Pattern pattern = (Pattern) key;
-                            for (String clazz : classNames) {
-                                if (pattern.matcher(clazz).find()) {
-                                    // have a match
-                                    alignment = myOptions.tableCellAlignmentMap.get(key);
-                                    break;
-                                }
+                    for (Map.Entry<Pattern, CellAlignment> entry : myCellAlignmentPatterns.entrySet()) {
+                        Pattern pattern = entry.getKey();
+                        for (String clazz : classNames) {
+                            if (pattern.matcher(clazz).find()) {
+                                // have a match
+                                alignment = entry.getValue();
+                                break;
                             }
-
-                            if (alignment != null) break;
                         }
+
+                        if (alignment != null) break;
                     }
                 }
             }
@@ -0,0 +1,328 @@
+package com.vladsch.flexmark.convert.html;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Splits HTML read from a stream into chunks of top level block elements
+ * <p>
+ * Each chunk is parsed as a separate document, so a chunk is only ended before a top level block start tag where
+ * parsing the rest on its own gives the same body content as parsing the whole document. Tags are tracked with a
+ * simplified open element stack, when it cannot follow the HTML tree builder, as with misnested formatting elements,
+ * the rest of the input is returned as one chunk.
+ * <p>
+ * Container elements which are unwrapped in conversion, like a div wrapping the whole page, are transparent: blocks
+ * directly in them are split as if they were top level and the next chunk starts with the start tags of the open
+ * containers.
+ */
+final class HtmlChunkReader {
+    // block elements which can start a new chunk
+    private static final Set<String> CHUNK_START_TAGS = new HashSet<String>(Arrays.asList(
+            "article", "aside", "blockquote", "div", "dl", "h1", "h2", "h3", "h4", "h5", "h6", "hr", "ol", "p", "pre", "section", "table", "ul"
+    ));
+
+    // elements whose content is converted the same when split into several elements
+    private static final Set<String> WRAPPER_TAGS = new HashSet<String>(Arrays.asList(
+            "article", "div", "section"
+    ));
+
+    // elements which close an open p element
+    private static final Set<String> P_CLOSING_TAGS = new HashSet<String>(Arrays.asList(
+            "address", "article", "aside", "blockquote", "center", "details", "dialog", "dir", "div", "dl", "fieldset", "figcaption", "figure",
+            "footer", "form", "h1", "h2", "h3", "h4", "h5", "h6", "header", "hgroup", "hr", "listing", "main", "menu", "nav", "ol", "p",
+            "pre", "section", "summary", "ul"
+    ));
+
+    // elements which can be closed by the end tag of an element containing them
+    private static final Set<String> OPTIONAL_END_TAGS = new HashSet<String>(Arrays.asList(
+            "caption", "colgroup", "dd", "dt", "li", "optgroup", "option", "p", "rb", "rp", "rt", "rtc", "tbody", "td", "tfoot", "th", "thead", "tr"
+    ));
+
+    private static final Set<String> VOID_TAGS = new HashSet<String>(Arrays.asList(
+            "area", "base", "basefont", "bgsound", "br", "col", "embed", "frame", "hr", "img", "input", "keygen", "link", "meta", "param",
+            "source", "track", "wbr"
+    ));
+
+    private static final Set<String> RAW_TEXT_TAGS = new HashSet<String>(Arrays.asList(
+            "iframe", "noembed", "noframes", "script", "style", "textarea", "title", "xmp"
+    ));
+
+    private final Reader myReader;
+    private final int myChunkSize;
+    private final char[] myReadBuffer;
+    private final StringBuilder myBuffer;
+    private final ArrayList<String> myOpenTags;
+    private final ArrayList<String> myWrapperStartTags;
+    private boolean myEof;
+    private int myPos;
+    private int myContentStart;
+    private String myLastTopTag;
+    private boolean myChunkingDisabled;
+    private boolean mySelfClosing;
+
+    /**
+     * @param reader    html input
+     * @param chunkSize minimum length of a chunk, chunks end at the first possible place after this length
+     */
+    HtmlChunkReader(Reader reader, int chunkSize) {
+        myReader = reader;
+        myChunkSize = chunkSize;
+        myReadBuffer = new char[8192];
+        myBuffer = new StringBuilder();
+        myOpenTags = new ArrayList<String>();
+        myWrapperStartTags = new ArrayList<String>();
+    }
+
+    /**
+     * Read the next chunk
+     *
+     * @return html of the next chunk or null if all input was read
+     * @throws IOException if reading failed
+     */
+    String nextChunk() throws IOException {
+        while (true) {
+            int c = charAt(myPos);
+
+            if (c == -1) {
+                if (myBuffer.length() == 0) return null;
+                return takeChunk(myBuffer.length());
+            }
+
+            if (c != '<') {
+                myPos++;
+            } else {
+                int tagStart = myPos;
+                int c1 = charAt(tagStart + 1);
+
+                if (c1 == '!') {
+                    if (charAt(tagStart + 2) == '-' && charAt(tagStart + 3) == '-') {
+                        myPos = indexOf("-->", tagStart + 2, 3);
+                    } else {
+                        myPos = indexOf(">", tagStart + 2, 1);
+                    }
+                } else if (c1 == '?') {
+                    myPos = indexOf(">", tagStart + 2, 1);
+                } else if (c1 == '/') {
+                    if (isLetter(charAt(tagStart + 2))) {
+                        int nameEnd = tagNameEnd(tagStart + 2);
+                        String tagName = myBuffer.substring(tagStart + 2, nameEnd).toLowerCase();
+                        myPos = tagEnd(nameEnd);
+                        endTag(tagName);
+                    } else {
+                        myPos = indexOf(">", tagStart + 2, 1);
+                    }
+                } else if (isLetter(c1)) {
+                    int nameEnd = tagNameEnd(tagStart + 1);
+                    String tagName = myBuffer.substring(tagStart + 1, nameEnd).toLowerCase();
+
+                    if (tagStart > myContentStart && tagStart >= myChunkSize && isChunkStart(tagName)) {
+                        return takeChunk(tagStart);
+                    }
+
+                    myPos = tagEnd(nameEnd);
+                    startTag(tagName, tagStart, mySelfClosing);
+                } else {
+                    myPos++;
+                }
+            }
+        }
+    }
+
+    private boolean isChunkStart(String tagName) {
+        if (myChunkingDisabled || !isWrapperLevel() || !CHUNK_START_TAGS.contains(tagName)) return false;
+
+        // consecutive lists are separated in markdown, this needs the previous list in the same document
+        return !(tagName.equals(myLastTopTag) && (tagName.equals("ul") || tagName.equals("ol")));
+    }
+
+    /**
+     * @return true if all open elements are wrappers, so blocks at this level are handled as top level blocks
+     */
+    private boolean isWrapperLevel() {
+        return myOpenTags.size() == myWrapperStartTags.size();
+    }
+
+    private String takeChunk(int end) {
+        String chunk = myBuffer.substring(0, end);
+        myBuffer.delete(0, end);
+        myPos = 0;
+
+        // reopen the wrappers in which the chunk was ended
+        for (String startTag : myWrapperStartTags) {
+            myBuffer.insert(myPos, startTag);
+            myPos += startTag.length();
+        }
+        myContentStart = myPos;
+        return chunk;
+    }
+
+    private void closeTags(int size) {
+        for (int i = myOpenTags.size(); i-- > size; ) myOpenTags.remove(i);
+        for (int i = myWrapperStartTags.size(); i-- > size; ) myWrapperStartTags.remove(i);
+    }
+
+    private void startTag(String tagName, int tagStart, boolean selfClosing) throws IOException {
+        if (tagName.equals("html") || tagName.equals("body")) return;
+
+        if (tagName.equals("plaintext")) {
+            // rest of the input is text
+            myChunkingDisabled = true;
+            return;
+        }
+
+        int iMax = myOpenTags.size();
+        if (iMax > 0) {
+            String openTag = myOpenTags.get(iMax - 1);
+            if (openTag.equals("p") && P_CLOSING_TAGS.contains(tagName)
+                    || openTag.equals("li") && tagName.equals("li")
+                    || (openTag.equals("dd") || openTag.equals("dt")) && (tagName.equals("dd") || tagName.equals("dt"))) {
+                closeTags(iMax - 1);
+            }
+        }
+
+        if (selfClosing || VOID_TAGS.contains(tagName)) {
+            if (isWrapperLevel()) myLastTopTag = tagName;
+            return;
+        }
+
+        if (isWrapperLevel() && WRAPPER_TAGS.contains(tagName)) {
+            myWrapperStartTags.add(myBuffer.substring(tagStart, myPos));
+
+            // a chunk with only the wrapper's start tags would be empty
+            myContentStart = myPos;
+        }
+        myOpenTags.add(tagName);
+
+        if (RAW_TEXT_TAGS.contains(tagName)) {
+            // content is text up to the end tag, which will be processed as usual
+            myPos = rawTextEnd(tagName, myPos);
+        }
+    }
+
+    private void endTag(String tagName) {
+        if (tagName.equals("html") || tagName.equals("body")) return;
+
+        int index = myOpenTags.lastIndexOf(tagName);
+        if (index == -1) return;
+
+        for (int i = myOpenTags.size(); i-- > index + 1; ) {
+            // misnested elements are rearranged by the tree builder, possibly across chunks
+            if (!OPTIONAL_END_TAGS.contains(myOpenTags.get(i))) myChunkingDisabled = true;
+        }
+
+        closeTags(index);
+        if (isWrapperLevel()) myLastTopTag = tagName;
+    }
+
+    private int charAt(int index) throws IOException {
+        while (index >= myBuffer.length()) {
+            if (myEof) return -1;
+
+            int read = myReader.read(myReadBuffer);
+            if (read == -1) {
+                myEof = true;
+                return -1;
+            }
+            myBuffer.append(myReadBuffer, 0, read);
+        }
+        return myBuffer.charAt(index);
+    }
+
+    private static boolean isLetter(int c) {
+        return c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z';
+    }
+
+    private static boolean isSpace(int c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\r' || c == '\f';
+    }
+
+    /**
+     * @return index after the text or end of input
+     */
+    private int indexOf(String text, int index, int length) throws IOException {
+        int i = index;
+        while (true) {
+            int c = charAt(i);
+            if (c == -1) return myBuffer.length();
+            if (c == text.charAt(0)) {
+                int j = 1;
+                while (j < length && charAt(i + j) == text.charAt(j)) j++;
+                if (j == length) return i + length;
+            }
+            i++;
+        }
+    }
+
+    private int tagNameEnd(int index) throws IOException {
+        int i = index;
+        while (true) {
+            int c = charAt(i);
+            if (c == -1 || c == '/' || c == '>' || isSpace(c)) return i;
+            i++;
+        }
+    }
+
+    /**
+     * Find end of tag and set {@link #mySelfClosing}
+     *
+     * @return index after the tag's closing &gt; or end of input
+     */
+    private int tagEnd(int index) throws IOException {
+        int i = index;
+        mySelfClosing = false;
+        while (true) {
+            int c = charAt(i);
+            if (c == -1) return myBuffer.length();
+            if (c == '>') return i + 1;
+
+            mySelfClosing = c == '/';
+            i++;
+
+            if (c == '=') {
+                // attribute value
+                while (isSpace(charAt(i))) i++;
+                int quote = charAt(i);
+                if (quote == '"' || quote == '\'') {
+                    i++;
+                    while (true) {
+                        c = charAt(i);
+                        if (c == -1) return myBuffer.length();
+                        i++;
+                        if (c == quote) break;
+                    }
+                } else {
+                    while (true) {
+                        c = charAt(i);
+                        if (c == -1 || c == '>' || isSpace(c)) break;
+                        i++;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * @return index of the end tag of a raw text element or end of input
+     */
+    private int rawTextEnd(String tagName, int index) throws IOException {
+        int i = index;
+        int length = tagName.length();
+        while (true) {
+            int c = charAt(i);
+            if (c == -1) return myBuffer.length();
+            if (c == '<' && charAt(i + 1) == '/') {
+                int j = 0;
+                while (j < length && Character.toLowerCase((char) charAt(i + 2 + j)) == tagName.charAt(j)) j++;
+                if (j == length) {
+                    int e = charAt(i + 2 + length);
+                    if (e == -1 || e == '/' || e == '>' || isSpace(e)) return i;
+                }
+            }
+            i++;
+        }
+    }
+}
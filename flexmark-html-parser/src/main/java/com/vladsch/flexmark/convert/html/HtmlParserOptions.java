@@ -26,6 +26,7 @@ public class HtmlParserOptions implements MutableDataSetter {
     public char unorderedListDelimiter;
     public int definitionMarkerSpaces;
     public int minSetextHeadingMarkerLength;
+    public int streamChunkSize;
     public String codeIndent;
     public String eolInTitleAttribute;
     public String nbspText;
@@ -53,6 +54,7 @@ public class HtmlParserOptions implements MutableDataSetter {
         unorderedListDelimiter = other.unorderedListDelimiter;
         definitionMarkerSpaces = other.definitionMarkerSpaces;
         minSetextHeadingMarkerLength = other.minSetextHeadingMarkerLength;
+        streamChunkSize = other.streamChunkSize;
         codeIndent = other.codeIndent;
         eolInTitleAttribute = other.eolInTitleAttribute;
         nbspText = other.nbspText;
@@ -77,6 +79,7 @@ public class HtmlParserOptions implements MutableDataSetter {
         unorderedListDelimiter = FlexmarkHtmlParser.UNORDERED_LIST_DELIMITER.getFrom(options);
         definitionMarkerSpaces = FlexmarkHtmlParser.DEFINITION_MARKER_SPACES.getFrom(options);
         minSetextHeadingMarkerLength = Utils.minLimit(FlexmarkHtmlParser.MIN_SETEXT_HEADING_MARKER_LENGTH.getFrom(options), 3);
+        streamChunkSize = FlexmarkHtmlParser.STREAM_CHUNK_SIZE.getFrom(options);
         codeIndent = FlexmarkHtmlParser.CODE_INDENT.getFrom(options);
         eolInTitleAttribute = FlexmarkHtmlParser.EOL_IN_TITLE_ATTRIBUTE.getFrom(options);
         nbspText = FlexmarkHtmlParser.NBSP_TEXT.getFrom(options);
@@ -102,6 +105,7 @@ public class HtmlParserOptions implements MutableDataSetter {
         dataHolder.set(FlexmarkHtmlParser.UNORDERED_LIST_DELIMITER, unorderedListDelimiter);
         dataHolder.set(FlexmarkHtmlParser.DEFINITION_MARKER_SPACES, definitionMarkerSpaces);
         dataHolder.set(FlexmarkHtmlParser.MIN_SETEXT_HEADING_MARKER_LENGTH, minSetextHeadingMarkerLength);
+        dataHolder.set(FlexmarkHtmlParser.STREAM_CHUNK_SIZE, streamChunkSize);
         dataHolder.set(FlexmarkHtmlParser.CODE_INDENT, codeIndent);
         dataHolder.set(FlexmarkHtmlParser.EOL_IN_TITLE_ATTRIBUTE, eolInTitleAttribute);
         dataHolder.set(FlexmarkHtmlParser.NBSP_TEXT, nbspText);
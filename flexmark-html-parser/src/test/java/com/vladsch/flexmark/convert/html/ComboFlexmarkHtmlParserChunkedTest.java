@@ -0,0 +1,24 @@
+package com.vladsch.flexmark.convert.html;
+
+import com.vladsch.flexmark.IParse;
+import com.vladsch.flexmark.spec.SpecExample;
+import com.vladsch.flexmark.util.options.DataHolder;
+import com.vladsch.flexmark.util.options.MutableDataSet;
+
+/**
+ * Runs the spec examples parsing HTML from a reader, split into chunks of at least 32 characters
+ */
+public class ComboFlexmarkHtmlParserChunkedTest extends ComboFlexmarkHtmlParserTest {
+    private static final DataHolder CHUNKED_OPTIONS = new MutableDataSet()
+            .set(HtmlParser.STREAM_HTML, true)
+            .set(FlexmarkHtmlParser.STREAM_CHUNK_SIZE, 32);
+
+    public ComboFlexmarkHtmlParserChunkedTest(SpecExample example) {
+        super(example);
+    }
+
+    @Override
+    public IParse parser() {
+        return super.parser().withOptions(CHUNKED_OPTIONS);
+    }
+}
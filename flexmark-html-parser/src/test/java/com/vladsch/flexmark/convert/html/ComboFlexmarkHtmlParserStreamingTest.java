@@ -0,0 +1,24 @@
+package com.vladsch.flexmark.convert.html;
+
+import com.vladsch.flexmark.IParse;
+import com.vladsch.flexmark.spec.SpecExample;
+import com.vladsch.flexmark.util.options.DataHolder;
+import com.vladsch.flexmark.util.options.MutableDataSet;
+
+/**
+ * Runs the spec examples parsing HTML from a reader, split into as many chunks as possible
+ */
+public class ComboFlexmarkHtmlParserStreamingTest extends ComboFlexmarkHtmlParserTest {
+    private static final DataHolder STREAMING_OPTIONS = new MutableDataSet()
+            .set(HtmlParser.STREAM_HTML, true)
+            .set(FlexmarkHtmlParser.STREAM_CHUNK_SIZE, 0);
+
+    public ComboFlexmarkHtmlParserStreamingTest(SpecExample example) {
+        super(example);
+    }
+
+    @Override
+    public IParse parser() {
+        return super.parser().withOptions(STREAMING_OPTIONS);
+    }
+}
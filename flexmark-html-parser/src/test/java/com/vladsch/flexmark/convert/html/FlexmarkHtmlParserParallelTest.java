@@ -0,0 +1,78 @@
+package com.vladsch.flexmark.convert.html;
+
+import com.vladsch.flexmark.html.HtmlRenderer;
+import com.vladsch.flexmark.parser.Parser;
+import com.vladsch.flexmark.spec.SpecExample;
+import com.vladsch.flexmark.spec.SpecReader;
+import com.vladsch.flexmark.util.options.DataHolder;
+import com.vladsch.flexmark.util.options.MutableDataSet;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Converts the spec inputs with one parser shared by several threads and compares to converting them one at a time
+ */
+public class FlexmarkHtmlParserParallelTest {
+    private static final int THREADS = 4;
+
+    private static List<String> readInputs() {
+        List<String> inputs = new ArrayList<String>();
+        for (SpecExample example : SpecReader.readExamples("/flexmark_html_parser_spec.md")) {
+            inputs.add(example.getSource());
+        }
+        for (SpecExample example : SpecReader.readExamples()) {
+            inputs.add(example.getHtml());
+        }
+        inputs.add(HtmlRenderer.builder().build().render(Parser.builder().build().parse(SpecReader.readSpec())));
+        return inputs;
+    }
+
+    private static void assertParallel(FlexmarkHtmlParser parser, int maxBlankLines) {
+        List<String> inputs = readInputs();
+
+        // repeat the inputs so that the same input is converted by different threads at the same time
+        List<String> htmlList = new ArrayList<String>();
+        for (int i = 0; i < 3; i++) htmlList.addAll(inputs);
+
+        List<String> expected = new ArrayList<String>();
+        for (String html : htmlList) {
+            expected.add(parser.convert(html, maxBlankLines));
+        }
+
+        List<String> actual = parser.convert(htmlList, maxBlankLines, THREADS);
+
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals("input " + i + ":\n" + htmlList.get(i), expected.get(i), actual.get(i));
+        }
+    }
+
+    @Test
+    public void test_defaultOptions() {
+        assertParallel(FlexmarkHtmlParser.build(), 0);
+    }
+
+    @Test
+    public void test_options() {
+        DataHolder options = new MutableDataSet()
+                .set(FlexmarkHtmlParser.NBSP_TEXT, "&nbsp;")
+                .set(FlexmarkHtmlParser.TYPOGRAPHIC_QUOTES, false)
+                .set(FlexmarkHtmlParser.WRAP_AUTO_LINKS, true);
+        assertParallel(FlexmarkHtmlParser.build(options), 1);
+    }
+
+    @Test
+    public void test_sequential() {
+        FlexmarkHtmlParser parser = FlexmarkHtmlParser.build();
+        List<String> inputs = readInputs();
+        List<String> results = parser.convert(inputs, 0, 1);
+
+        for (int i = 0; i < inputs.size(); i++) {
+            assertEquals(parser.convert(inputs.get(i), 0), results.get(i));
+        }
+    }
+}
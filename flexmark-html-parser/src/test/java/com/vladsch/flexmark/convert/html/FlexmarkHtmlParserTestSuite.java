@@ -6,6 +6,12 @@ import org.junit.runners.Suite;
 @Suite.SuiteClasses({
         ComboFlexmarkHtmlParserTest.class,
         ComboAppHtmlParserTest.class,
+        ComboFlexmarkHtmlParserStreamingTest.class,
+        ComboAppHtmlParserStreamingTest.class,
+        ComboFlexmarkHtmlParserChunkedTest.class,
+        ComboAppHtmlParserChunkedTest.class,
+        HtmlChunkReaderTest.class,
+        FlexmarkHtmlParserParallelTest.class,
 })
 public class FlexmarkHtmlParserTestSuite {
 }
@@ -0,0 +1,110 @@
+package com.vladsch.flexmark.convert.html;
+
+import com.vladsch.flexmark.util.html.FormattingAppendable;
+import com.vladsch.flexmark.util.html.FormattingAppendableImpl;
+import com.vladsch.flexmark.util.options.MutableDataSet;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class HtmlChunkReaderTest {
+    private static final String WRAPPER = "<div class=\"page\"><section id=\"content\">";
+
+    private static List<String> chunks(String html, int chunkSize) throws IOException {
+        HtmlChunkReader reader = new HtmlChunkReader(new StringReader(html), chunkSize);
+        List<String> chunks = new ArrayList<String>();
+        String chunk;
+        while ((chunk = reader.nextChunk()) != null) {
+            chunks.add(chunk);
+        }
+        return chunks;
+    }
+
+    private static String streamed(FlexmarkHtmlParser parser, String html) throws IOException {
+        FormattingAppendableImpl out = new FormattingAppendableImpl(FormattingAppendable.SUPPRESS_TRAILING_WHITESPACE | FormattingAppendable.COLLAPSE_WHITESPACE);
+        parser.parse(out, new StringReader(html));
+        return out.getText(0);
+    }
+
+    private static String wrappedPage(int blocks) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("<html><head><title>Page</title></head><body>\n").append(WRAPPER).append('\n');
+        for (int i = 0; i < blocks; i++) {
+            sb.append("<h2>Heading ").append(i).append("</h2>\n");
+            sb.append("<p>Paragraph ").append(i).append(" with <em>emphasis</em>, <code>code</code> and a <a href=\"http://example.com/").append(i).append("\">link</a>.</p>\n");
+            sb.append("<div class=\"note\"><p>Note ").append(i).append("</p></div>\n");
+            sb.append("<ul>\n<li>item 1</li>\n<li>item 2</li>\n</ul>\n");
+            if (i % 10 == 0) sb.append("<ul>\n<li>next list</li>\n</ul>\n");
+        }
+        sb.append("</section></div>\n<p>after the wrapper</p>\n</body></html>\n");
+        return sb.toString();
+    }
+
+    @Test
+    public void test_wrappedPageIsSplit() throws IOException {
+        String html = wrappedPage(20000);
+        assertTrue(html.length() > 4 * 1024 * 1024);
+
+        int chunkSize = FlexmarkHtmlParser.STREAM_CHUNK_SIZE.getDefaultValue(null);
+        List<String> chunks = chunks(html, chunkSize);
+        assertTrue("chunks " + chunks.size(), chunks.size() > html.length() / chunkSize / 2);
+
+        for (int i = 1; i < chunks.size() - 1; i++) {
+            assertTrue("chunk " + i, chunks.get(i).startsWith(WRAPPER));
+        }
+
+        // converting the whole document at once is too slow for a test, test_chunkedOptions compares smaller pages
+        String markdown = streamed(FlexmarkHtmlParser.build(), html);
+        int pos = 0;
+        for (int i = 0; i < 20000; i++) {
+            pos = markdown.indexOf("Heading " + i + "\n", pos);
+            assertTrue("heading " + i, pos != -1);
+        }
+        assertTrue(markdown.indexOf("after the wrapper", pos) != -1);
+    }
+
+    @Test
+    public void test_wrapperReopened() throws IOException {
+        String html = "<div class=\"page\"><p>one</p><p>two</p><section><h1>three</h1></section></div><p>four</p>";
+        List<String> expected = new ArrayList<String>();
+        expected.add("<div class=\"page\"><p>one</p>");
+        expected.add("<div class=\"page\"><p>two</p>");
+        expected.add("<div class=\"page\"><section><h1>three</h1></section></div>");
+        expected.add("<p>four</p>");
+        assertEquals(expected, chunks(html, 0));
+    }
+
+    @Test
+    public void test_chunkSize() throws IOException {
+        String html = "<p>one</p><p>two</p><p>three</p><p>four</p>";
+        List<String> expected = new ArrayList<String>();
+        expected.add("<p>one</p><p>two</p>");
+        expected.add("<p>three</p><p>four</p>");
+        assertEquals(expected, chunks(html, 15));
+    }
+
+    @Test
+    public void test_nonWrapperNotSplit() throws IOException {
+        String html = "<blockquote><p>one</p><p>two</p></blockquote><div><span>three</span><p>four</p></div>";
+        List<String> expected = new ArrayList<String>();
+        expected.add("<blockquote><p>one</p><p>two</p></blockquote>");
+        expected.add("<div><span>three</span>");
+        expected.add("<div><p>four</p></div>");
+        assertEquals(expected, chunks(html, 0));
+    }
+
+    @Test
+    public void test_chunkedOptions() throws IOException {
+        String html = wrappedPage(500);
+        for (int chunkSize : new int[] { 0, 100, 1000, 10000, FlexmarkHtmlParser.STREAM_CHUNK_SIZE.getDefaultValue(null) }) {
+            FlexmarkHtmlParser parser = FlexmarkHtmlParser.build(new MutableDataSet().set(FlexmarkHtmlParser.STREAM_CHUNK_SIZE, chunkSize));
+            assertEquals("chunk size " + chunkSize, parser.convert(html, 0), streamed(parser, html));
+        }
+    }
+}
@@ -3,11 +3,16 @@ package com.vladsch.flexmark.convert.html;
 import com.vladsch.flexmark.IParse;
 import com.vladsch.flexmark.ast.Node;
 import com.vladsch.flexmark.spec.IParseBase;
+import com.vladsch.flexmark.util.html.FormattingAppendable;
+import com.vladsch.flexmark.util.html.FormattingAppendableImpl;
 import com.vladsch.flexmark.util.options.DataHolder;
 import com.vladsch.flexmark.util.options.DataKey;
 import com.vladsch.flexmark.util.options.MutableDataSet;
 import com.vladsch.flexmark.util.sequence.BasedSequence;
 
+import java.io.IOException;
+import java.io.StringReader;
+
 class HtmlParser extends IParseBase {
     @SuppressWarnings("PointlessBitwiseExpression")
     final static public DataKey<Integer> HTML_EXTENSIONS = new DataKey<Integer>("HTML_EXTENSIONS", 0
@@ -31,6 +36,7 @@ class HtmlParser extends IParseBase {
             //| Extensions.TRACE_PARSER
     );
 
+    final static public DataKey<Boolean> STREAM_HTML = new DataKey<Boolean>("STREAM_HTML", false);
     final static public DataKey<Integer> HTML_EXTENSIONS_ADD = new DataKey<Integer>("HTML_EXTENSIONS_ADD", 0);
     final static public DataKey<Integer> HTML_EXTENSIONS_REMOVE = new DataKey<Integer>("HTML_EXTENSIONS_REMOVE", 0);
 
@@ -64,7 +70,18 @@ class HtmlParser extends IParseBase {
     @Override
     public Node parse(BasedSequence input) {
         // here we make the lexer parse the input sequence from start to finish and accumulate everything in custom nodes
-        String rootNode = FlexmarkHtmlParser.parse(input.toString(), 0, getOptions());
+        String rootNode;
+        if (STREAM_HTML.getFrom(getOptions())) {
+            FormattingAppendableImpl out = new FormattingAppendableImpl(FormattingAppendable.SUPPRESS_TRAILING_WHITESPACE | FormattingAppendable.COLLAPSE_WHITESPACE);
+            try {
+                FlexmarkHtmlParser.build(getOptions()).parse(out, new StringReader(input.toString()));
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+            rootNode = out.getText(0);
+        } else {
+            rootNode = FlexmarkHtmlParser.parse(input.toString(), 0, getOptions());
+        }
         return new RootNode(rootNode);
     }
 
@@ -0,0 +1,85 @@
+package com.vladsch.flexmark.convert.html;
+
+import com.vladsch.flexmark.html.HtmlRenderer;
+import com.vladsch.flexmark.parser.Parser;
+import com.vladsch.flexmark.spec.SpecExample;
+import com.vladsch.flexmark.spec.SpecReader;
+import com.vladsch.flexmark.util.html.FormattingAppendable;
+import com.vladsch.flexmark.util.html.FormattingAppendableImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+@State(Scope.Benchmark)
+public class HtmlParserBenchmark {
+
+    private static final String SPEC_HTML = HtmlRenderer.builder().build().render(Parser.builder().build().parse(SpecReader.readSpec()));
+    private static final List<String> EXAMPLES_HTML = readExamplesHtml();
+    private static final FlexmarkHtmlParser PARSER = FlexmarkHtmlParser.build();
+    private static final int THREADS = Runtime.getRuntime().availableProcessors();
+
+    public static void main(String[] args) throws Exception {
+        Options options = new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .include(HtmlParserBenchmark.class.getName() + ".*")
+                .build();
+        new Runner(options).run();
+    }
+
+    private static List<String> readExamplesHtml() {
+        List<String> examples = new ArrayList<String>();
+        for (SpecExample example : SpecReader.readExamples()) {
+            examples.add(example.getHtml());
+        }
+        return examples;
+    }
+
+    @Benchmark
+    public long wholeSpec() {
+        return length(PARSER.convert(Collections.singletonList(SPEC_HTML), 0, 1));
+    }
+
+    @Benchmark
+    public long wholeSpecStreaming() throws IOException {
+        FormattingAppendableImpl out = new FormattingAppendableImpl(FormattingAppendable.SUPPRESS_TRAILING_WHITESPACE | FormattingAppendable.COLLAPSE_WHITESPACE);
+        PARSER.parse(out, new StringReader(SPEC_HTML));
+        return out.getText(0).length();
+    }
+
+    @Benchmark
+    public long examples() {
+        return length(PARSER.convert(EXAMPLES_HTML, 0, 1));
+    }
+
+    @Benchmark
+    public long examplesParserPerExample() {
+        long length = 0;
+        for (String html : EXAMPLES_HTML) {
+            length += FlexmarkHtmlParser.parse(html, 0, null).length();
+        }
+        return length;
+    }
+
+    @Benchmark
+    public long examplesParallel() {
+        return length(PARSER.convert(EXAMPLES_HTML, 0, THREADS));
+    }
+
+    private static long length(List<String> results) {
+        long length = 0;
+        for (String result : results) {
+            length += result.length();
+        }
+        return length;
+    }
+}
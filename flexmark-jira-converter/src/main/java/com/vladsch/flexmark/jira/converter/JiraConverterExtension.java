@@ -4,6 +4,7 @@ import com.vladsch.flexmark.Extension;
 import com.vladsch.flexmark.html.HtmlRenderer;
 import com.vladsch.flexmark.jira.converter.internal.JiraConverterNodeRenderer;
 import com.vladsch.flexmark.parser.Parser;
+import com.vladsch.flexmark.util.options.DataKey;
 import com.vladsch.flexmark.util.options.MutableDataHolder;
 
 /**
@@ -18,6 +19,8 @@ import com.vladsch.flexmark.util.options.MutableDataHolder;
  * </p>
  */
 public class JiraConverterExtension implements Parser.ParserExtension, HtmlRenderer.HtmlRendererExtension {
+    // escape JIRA markup characters in text with a backslash
+    public static final DataKey<Boolean> ESCAPE_SPECIAL_CHARS = new DataKey<Boolean>("ESCAPE_SPECIAL_CHARS", false);
 
     private JiraConverterExtension() {
     }
@@ -42,6 +42,7 @@ public class ComboJiraConverterSpecTest extends ComboSpecTestCase {
         );
 
         optionsMap.put("keep-whitespace", new MutableDataSet().set(TablesExtension.TRIM_CELL_WHITESPACE, false));
+        optionsMap.put("escape-special-chars", new MutableDataSet().set(JiraConverterExtension.ESCAPE_SPECIAL_CHARS, true));
     }
 
     private static final Parser PARSER = Parser.builder(OPTIONS).build();
@@ -0,0 +1,78 @@
+package com.vladsch.flexmark.jira.converter;
+
+import com.vladsch.flexmark.ext.gfm.strikethrough.StrikethroughSubscriptExtension;
+import com.vladsch.flexmark.ext.ins.InsExtension;
+import com.vladsch.flexmark.ext.tables.TablesExtension;
+import com.vladsch.flexmark.ext.wikilink.WikiLinkExtension;
+import com.vladsch.flexmark.ast.Document;
+import com.vladsch.flexmark.html.HtmlRenderer;
+import com.vladsch.flexmark.parser.Parser;
+import com.vladsch.flexmark.spec.SpecExample;
+import com.vladsch.flexmark.spec.SpecReader;
+import com.vladsch.flexmark.util.options.DataHolder;
+import com.vladsch.flexmark.util.options.MutableDataSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Rendering time of the spec and its examples, documents are parsed once before the benchmarks run
+ */
+@State(Scope.Benchmark)
+public class JiraConverterBenchmark {
+
+    private static final DataHolder OPTIONS = new MutableDataSet()
+            .set(Parser.EXTENSIONS, Arrays.asList(
+                    JiraConverterExtension.create(),
+                    StrikethroughSubscriptExtension.create(),
+                    TablesExtension.create(),
+                    WikiLinkExtension.create(),
+                    InsExtension.create()
+            ));
+
+    private static final Parser PARSER = Parser.builder(OPTIONS).build();
+    private static final HtmlRenderer RENDERER = HtmlRenderer.builder(OPTIONS).build();
+
+    private Document spec;
+    private List<Document> examples;
+
+    public static void main(String[] args) throws Exception {
+        Options options = new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .include(JiraConverterBenchmark.class.getName() + ".*")
+                .build();
+        new Runner(options).run();
+    }
+
+    @Setup
+    public void setup() {
+        spec = PARSER.parse(SpecReader.readSpec());
+        examples = new ArrayList<Document>();
+        for (SpecExample example : SpecReader.readExamples()) {
+            examples.add(PARSER.parse(example.getSource()));
+        }
+    }
+
+    @Benchmark
+    public long wholeSpec() {
+        return RENDERER.render(spec).length();
+    }
+
+    @Benchmark
+    public long examples() {
+        long length = 0;
+        for (Document example : examples) {
+            length += RENDERER.render(example).length();
+        }
+        return length;
+    }
+}
@@ -0,0 +1,239 @@
+package com.vladsch.flexmark.pdf.converter;
+
+import com.vladsch.flexmark.html.HtmlWriter;
+import com.vladsch.flexmark.util.html.Attribute;
+import com.vladsch.flexmark.util.html.Attributes;
+import org.jsoup.parser.Parser;
+import org.w3c.dom.DOMException;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * HTML writer which builds a W3C DOM document instead of HTML text
+ * <p>
+ * Tags and text written by node renderers are added to the body of the document as elements and text nodes. Only raw
+ * HTML, like HTML blocks and inline HTML, is parsed. Its tags are matched against the open elements, so an inline HTML
+ * open tag and its close tag can come from different raw HTML nodes.
+ * <p>
+ * Raw HTML is split into comments, tags and text, it is not parsed to the HTML5 algorithm. Unmatched close tags are
+ * ignored and elements left open are closed by the close tag of their parent. Style, link, meta, base and title
+ * elements are added to the head of the document.
+ */
+public class DomHtmlWriter extends HtmlWriter {
+    private static final Pattern RAW_HTML = Pattern.compile("<!--.*?-->|<!\\[CDATA\\[(.*?)]]>|<(/?)([A-Za-z][A-Za-z0-9-]*)((?:\\s+[^\\s\"'>/=]+(?:\\s*=\\s*(?:\"[^\"]*\"|'[^']*'|[^\\s\"'=<>`]+))?)*)\\s*(/?)>|<[!?][^>]*>", Pattern.DOTALL);
+    private static final Pattern ATTRIBUTE = Pattern.compile("([^\\s\"'>/=]+)(?:\\s*=\\s*(?:\"([^\"]*)\"|'([^']*)'|([^\\s\"'=<>`]+)))?");
+    private static final Set<String> VOID_ELEMENTS = new HashSet<String>(Arrays.asList("area", "base", "br", "col", "embed", "hr", "img", "input", "link", "meta", "param", "source", "track", "wbr"));
+    private static final Set<String> RAW_TEXT_ELEMENTS = new HashSet<String>(Arrays.asList("script", "style"));
+    private static final Set<String> HEAD_ELEMENTS = new HashSet<String>(Arrays.asList("base", "link", "meta", "style", "title"));
+    private static final Set<String> DOCUMENT_ELEMENTS = new HashSet<String>(Arrays.asList("html", "head", "body"));
+
+    // formatting whitespace of the writer is not part of the document
+    private static final Appendable NULL_APPENDABLE = new Appendable() {
+        @Override
+        public Appendable append(CharSequence csq) {
+            return this;
+        }
+
+        @Override
+        public Appendable append(CharSequence csq, int start, int end) {
+            return this;
+        }
+
+        @Override
+        public Appendable append(char c) {
+            return this;
+        }
+    };
+
+    private final Document document;
+    private final Element head;
+    private final ArrayList<Element> openElements;
+
+    public DomHtmlWriter() {
+        super(NULL_APPENDABLE);
+
+        try {
+            document = DocumentBuilderFactory.newInstance().newDocumentBuilder().newDocument();
+        } catch (ParserConfigurationException e) {
+            throw new IllegalStateException(e);
+        }
+
+        Element html = document.createElement("html");
+        head = document.createElement("head");
+        Element body = document.createElement("body");
+        document.appendChild(html);
+        html.appendChild(head);
+        html.appendChild(body);
+
+        openElements = new ArrayList<Element>();
+        openElements.add(body);
+    }
+
+    /**
+     * @return document with the output written so far in its body
+     */
+    public Document getDocument() {
+        return document;
+    }
+
+    private Element currentElement() {
+        return openElements.get(openElements.size() - 1);
+    }
+
+    private void openElement(Element parent, Element element, boolean voidElement) {
+        parent.appendChild(element);
+        if (!voidElement) openElements.add(element);
+    }
+
+    private void closeElement(String tagName) {
+        // body is never closed
+        for (int i = openElements.size(); i-- > 1; ) {
+            if (openElements.get(i).getTagName().equalsIgnoreCase(tagName)) {
+                while (openElements.size() > i) openElements.remove(openElements.size() - 1);
+                break;
+            }
+        }
+    }
+
+    private static void setAttribute(Element element, String name, String value) {
+        try {
+            element.setAttribute(name, value);
+            if (name.equals("id")) element.setIdAttribute(name, true);
+        } catch (DOMException ignored) {
+            // not a valid XML attribute name, browsers would ignore it too
+        }
+    }
+
+    private void appendText(String text) {
+        if (!text.isEmpty()) currentElement().appendChild(document.createTextNode(text));
+    }
+
+    private void appendRaw(CharSequence html) {
+        String raw = html.toString();
+        Matcher matcher = RAW_HTML.matcher(raw);
+        int lastPos = 0;
+
+        while (matcher.find(lastPos)) {
+            appendText(Parser.unescapeEntities(raw.substring(lastPos, matcher.start()), false));
+            lastPos = matcher.end();
+
+            if (matcher.group(1) != null) {
+                appendText(matcher.group(1));
+                continue;
+            }
+
+            String tagName = matcher.group(3);
+            if (tagName == null) {
+                // comment, doctype or processing instruction
+                continue;
+            }
+
+            tagName = tagName.toLowerCase(Locale.ROOT);
+            if (DOCUMENT_ELEMENTS.contains(tagName)) continue;
+
+            if (!matcher.group(2).isEmpty()) {
+                closeElement(tagName);
+                continue;
+            }
+
+            Element element = document.createElement(tagName);
+            Matcher attributes = ATTRIBUTE.matcher(matcher.group(4));
+            while (attributes.find()) {
+                String value = attributes.group(2) != null ? attributes.group(2) : attributes.group(3) != null ? attributes.group(3) : attributes.group(4);
+                String name = attributes.group(1).toLowerCase(Locale.ROOT);
+                setAttribute(element, name.startsWith("xml:") ? name : name.replace(':', '_'), value == null ? "" : Parser.unescapeEntities(value, true));
+            }
+
+            // style sheets are only used by the renderer when they are in the head
+            boolean voidElement = VOID_ELEMENTS.contains(tagName) || !matcher.group(5).isEmpty();
+            openElement(HEAD_ELEMENTS.contains(tagName) ? head : currentElement(), element, voidElement);
+
+            if (!voidElement && RAW_TEXT_ELEMENTS.contains(tagName)) {
+                // content is not markup, up to the close tag or the end of this raw HTML
+                int end = raw.toLowerCase(Locale.ROOT).indexOf("</" + tagName, lastPos);
+                if (end == -1) end = raw.length();
+                currentElement().appendChild(document.createCDATASection(raw.substring(lastPos, end)));
+                lastPos = end;
+            }
+        }
+
+        appendText(Parser.unescapeEntities(raw.substring(lastPos), false));
+    }
+
+    @Override
+    protected void appendOpenTag(CharSequence tagName, Attributes attributes, boolean voidElement) {
+        Element element = document.createElement(tagName.toString());
+
+        if (attributes != null) {
+            for (Attribute attribute : attributes.values()) {
+                if (attribute.isNonRendering()) continue;
+                setAttribute(element, attribute.getName(), attribute.getValue());
+            }
+        }
+
+        openElement(currentElement(), element, voidElement);
+    }
+
+    @Override
+    protected void appendCloseTag(CharSequence tagName) {
+        closeElement(tagName.toString());
+    }
+
+    @Override
+    public HtmlWriter text(CharSequence s) {
+        appendText(s.toString());
+        return this;
+    }
+
+    @Override
+    public HtmlWriter raw(CharSequence s) {
+        appendRaw(s);
+        return this;
+    }
+
+    @Override
+    public HtmlWriter raw(CharSequence s, int count) {
+        for (int i = 0; i < count; i++) appendRaw(s);
+        return this;
+    }
+
+    @Override
+    public HtmlWriter rawPre(CharSequence s) {
+        appendRaw(s);
+        return this;
+    }
+
+    @Override
+    public HtmlWriter rawIndentedPre(CharSequence s) {
+        appendRaw(s);
+        return this;
+    }
+
+    @Override
+    public HtmlWriter append(CharSequence csq) {
+        appendRaw(csq);
+        return this;
+    }
+
+    @Override
+    public HtmlWriter append(CharSequence csq, int start, int end) {
+        appendRaw(csq.subSequence(start, end));
+        return this;
+    }
+
+    @Override
+    public HtmlWriter append(char c) {
+        appendRaw(String.valueOf(c));
+        return this;
+    }
+}
@@ -0,0 +1,431 @@
+package com.vladsch.flexmark.pdf.converter;
+
+import com.openhtmltopdf.DOMBuilder;
+import com.openhtmltopdf.bidi.support.ICUBidiReorderer;
+import com.openhtmltopdf.bidi.support.ICUBidiSplitter;
+import com.openhtmltopdf.extend.FSCache;
+import com.openhtmltopdf.extend.FSSupplier;
+import com.openhtmltopdf.extend.HttpStream;
+import com.openhtmltopdf.extend.HttpStreamFactory;
+import com.openhtmltopdf.pdfboxout.PdfRendererBuilder;
+import com.openhtmltopdf.swing.FSCacheKey;
+import com.openhtmltopdf.swing.NaiveUserAgent;
+import com.vladsch.flexmark.ast.Node;
+import com.vladsch.flexmark.html.HtmlRenderer;
+import com.vladsch.flexmark.util.ParallelTasks;
+import com.vladsch.flexmark.util.options.DataHolder;
+import org.jsoup.Jsoup;
+import org.w3c.dom.Document;
+
+import java.io.*;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reusable HTML to PDF converter
+ * <p>
+ * Settings, registered fonts and the bidi splitter factory are set up once when the converter is built. Downloaded
+ * resources and binary resources, like fonts referenced from stylesheets, are cached as bytes and shared by all
+ * documents converted by this instance. Stylesheets and images are still parsed for each document, the renderer keeps
+ * them in single use streams and per document PDF objects.
+ * <p>
+ * Each cache is limited to {@link Builder#maxCacheSize(long)} bytes, least recently used resources are removed first.
+ * <p>
+ * The renderer only accepts a W3C DOM and rendered HTML can contain raw HTML blocks and inlines, so HTML text is
+ * still parsed with jsoup and converted to a W3C DOM. Callers which already hold a jsoup or W3C DOM document can pass it
+ * directly to skip these steps. A markdown node can also be rendered straight to a W3C DOM with a {@link DomHtmlWriter},
+ * then only its raw HTML is parsed.
+ * <p>
+ * An instance can be used by several threads at the same time.
+ */
+public class PdfConverter {
+    public static final long DEFAULT_MAX_CACHE_SIZE = 16 * 1024 * 1024;
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private final PdfRendererBuilder.TextDirection defaultTextDirection;
+    private final ICUBidiSplitter.ICUBidiSplitterFactory bidiSplitterFactory;
+    private final List<FontEntry> fonts;
+    final ResourceCache resourceCache;
+    final CachingHttpStreamFactory httpStreamFactory;
+
+    private PdfConverter(Builder builder) {
+        this.defaultTextDirection = builder.defaultTextDirection;
+        this.bidiSplitterFactory = defaultTextDirection != null ? new ICUBidiSplitter.ICUBidiSplitterFactory() : null;
+        this.fonts = new ArrayList<FontEntry>(builder.fonts);
+        this.resourceCache = new ResourceCache(builder.maxCacheSize);
+        this.httpStreamFactory = new CachingHttpStreamFactory(builder.httpStreamFactory, builder.maxCacheSize);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static Builder builder(DataHolder options) {
+        return new Builder(options);
+    }
+
+    /**
+     * Remove all cached resources, so that changed resources are loaded again
+     */
+    public void clearCache() {
+        resourceCache.clear();
+        httpStreamFactory.clear();
+    }
+
+    /**
+     * Convert HTML to PDF
+     *
+     * @param os   output for the PDF, not closed
+     * @param html HTML text
+     * @param url  base URL for relative resource references
+     * @throws IOException if conversion failed
+     */
+    public void exportToPdf(OutputStream os, String html, String url) throws IOException {
+        exportToPdf(os, Jsoup.parse(html), url);
+    }
+
+    /**
+     * Convert a parsed HTML document to PDF
+     *
+     * @param os   output for the PDF, not closed
+     * @param doc  jsoup document
+     * @param url  base URL for relative resource references
+     * @throws IOException if conversion failed
+     */
+    public void exportToPdf(OutputStream os, org.jsoup.nodes.Document doc, String url) throws IOException {
+        exportToPdf(os, DOMBuilder.jsoup2DOM(doc), url);
+    }
+
+    /**
+     * Convert a W3C DOM document to PDF, without serializing and parsing it again
+     *
+     * @param os   output for the PDF, not closed
+     * @param dom  document
+     * @param url  base URL for relative resource references
+     * @throws IOException if conversion failed
+     */
+    public void exportToPdf(OutputStream os, Document dom, String url) throws IOException {
+        PdfRendererBuilder builder = new PdfRendererBuilder();
+
+        if (defaultTextDirection != null) {
+            builder.useUnicodeBidiSplitter(bidiSplitterFactory);
+            // reorderer keeps shaping state, one is needed for each document
+            builder.useUnicodeBidiReorderer(new ICUBidiReorderer());
+            builder.defaultTextDirection(defaultTextDirection);
+        }
+
+        for (FontEntry font : fonts) {
+            builder.useFont(font, font.family, font.weight, font.style, font.subset);
+        }
+
+        builder.useCache(resourceCache);
+        builder.useHttpStreamImplementation(httpStreamFactory);
+        builder.withW3cDocument(dom, url);
+        builder.toStream(os);
+
+        try {
+            builder.run();
+        } catch (IOException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IOException(e);
+        }
+    }
+
+    /**
+     * Render a markdown node to a W3C DOM document and convert it to PDF
+     * <p>
+     * Elements and text written by the node renderers are added to the document as they are rendered, only raw HTML is
+     * parsed.
+     *
+     * @param os       output for the PDF, not closed
+     * @param node     node to render, usually a document
+     * @param renderer HTML renderer for the node
+     * @param url      base URL for relative resource references
+     * @throws IOException if conversion failed
+     */
+    public void exportToPdf(OutputStream os, Node node, HtmlRenderer renderer, String url) throws IOException {
+        DomHtmlWriter htmlWriter = new DomHtmlWriter();
+        renderer.render(node, htmlWriter);
+        exportToPdf(os, htmlWriter.getDocument(), url);
+    }
+
+    /**
+     * Convert HTML to PDF
+     *
+     * @param html HTML text
+     * @param url  base URL for relative resource references
+     * @return PDF bytes
+     * @throws IOException if conversion failed
+     */
+    public byte[] convert(String html, String url) throws IOException {
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        exportToPdf(os, html, url);
+        return os.toByteArray();
+    }
+
+    /**
+     * Convert several HTML documents to PDF, using this converter from several threads
+     *
+     * @param htmlList HTML texts
+     * @param url      base URL for relative resource references
+     * @param threads  maximum number of documents converted at the same time
+     * @return PDF bytes for each HTML text, in the same order
+     * @throws IOException if any conversion failed
+     */
+    public List<byte[]> convert(List<String> htmlList, final String url, int threads) throws IOException {
+        try {
+            return ParallelTasks.run(htmlList, threads, "flexmark-pdf-converter", new ParallelTasks.Task<String, byte[], IOException>() {
+                @Override
+                public byte[] run(String html) throws IOException {
+                    return convert(html, url);
+                }
+            });
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException();
+        }
+    }
+
+    static byte[] readAll(InputStream inputStream) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        int read;
+        try {
+            while ((read = inputStream.read(buffer)) != -1) {
+                bytes.write(buffer, 0, read);
+            }
+        } finally {
+            inputStream.close();
+        }
+        return bytes.toByteArray();
+    }
+
+    public static class Builder {
+        PdfRendererBuilder.TextDirection defaultTextDirection;
+        final List<FontEntry> fonts;
+        long maxCacheSize;
+        HttpStreamFactory httpStreamFactory;
+
+        public Builder() {
+            this(null);
+        }
+
+        public Builder(DataHolder options) {
+            defaultTextDirection = options == null ? null : options.get(PdfConverterExtension.DEFAULT_TEXT_DIRECTION);
+            fonts = new ArrayList<FontEntry>();
+            maxCacheSize = DEFAULT_MAX_CACHE_SIZE;
+            httpStreamFactory = new NaiveUserAgent.DefaultHttpStreamFactory();
+        }
+
+        /**
+         * @param defaultTextDirection default text direction, null for no bidi text support
+         * @return this
+         */
+        public Builder defaultTextDirection(PdfRendererBuilder.TextDirection defaultTextDirection) {
+            this.defaultTextDirection = defaultTextDirection;
+            return this;
+        }
+
+        /**
+         * Add a font, the font file is read once and shared by all conversions
+         *
+         * @param fontFile   font file
+         * @param fontFamily font family name used in CSS
+         * @return this
+         * @throws IOException if font file could not be read
+         */
+        public Builder useFont(File fontFile, String fontFamily) throws IOException {
+            return useFont(readAll(new FileInputStream(fontFile)), fontFamily, 400, PdfRendererBuilder.FontStyle.NORMAL, true);
+        }
+
+        /**
+         * Add a font
+         *
+         * @param fontBytes  font data
+         * @param fontFamily font family name used in CSS
+         * @param fontWeight font weight, 400 for normal
+         * @param fontStyle  font style
+         * @param subset     true to embed only the used glyphs
+         * @return this
+         */
+        public Builder useFont(byte[] fontBytes, String fontFamily, Integer fontWeight, PdfRendererBuilder.FontStyle fontStyle, boolean subset) {
+            fonts.add(new FontEntry(fontBytes, fontFamily, fontWeight, fontStyle, subset));
+            return this;
+        }
+
+        /**
+         * @param maxCacheSize maximum number of bytes kept by each resource cache, 0 to disable caching
+         * @return this
+         */
+        public Builder maxCacheSize(long maxCacheSize) {
+            this.maxCacheSize = maxCacheSize;
+            return this;
+        }
+
+        /**
+         * @param httpStreamFactory factory used to download http and https resources, downloads are cached
+         * @return this
+         */
+        public Builder httpStreamFactory(HttpStreamFactory httpStreamFactory) {
+            this.httpStreamFactory = httpStreamFactory;
+            return this;
+        }
+
+        public PdfConverter build() {
+            return new PdfConverter(this);
+        }
+    }
+
+    static class FontEntry implements FSSupplier<InputStream> {
+        final byte[] bytes;
+        final String family;
+        final Integer weight;
+        final PdfRendererBuilder.FontStyle style;
+        final boolean subset;
+
+        FontEntry(byte[] bytes, String family, Integer weight, PdfRendererBuilder.FontStyle style, boolean subset) {
+            this.bytes = bytes;
+            this.family = family;
+            this.weight = weight;
+            this.style = style;
+            this.subset = subset;
+        }
+
+        @Override
+        public InputStream supply() {
+            return new ByteArrayInputStream(bytes);
+        }
+    }
+
+    /**
+     * Byte arrays by key, limited to a total size, least recently used entries are removed first
+     */
+    static class BytesCache<K> {
+        private final long maxSize;
+        private final LinkedHashMap<K, byte[]> cache = new LinkedHashMap<K, byte[]>(16, 0.75f, true);
+        private long size;
+
+        BytesCache(long maxSize) {
+            this.maxSize = maxSize;
+        }
+
+        synchronized byte[] get(K key) {
+            return cache.get(key);
+        }
+
+        synchronized void put(K key, byte[] bytes) {
+            if (bytes.length > maxSize) return;
+
+            byte[] previous = cache.put(key, bytes);
+            if (previous != null) size -= previous.length;
+            size += bytes.length;
+
+            Iterator<Map.Entry<K, byte[]>> iterator = cache.entrySet().iterator();
+            while (size > maxSize) {
+                size -= iterator.next().getValue().length;
+                iterator.remove();
+            }
+        }
+
+        synchronized long size() {
+            return size;
+        }
+
+        synchronized int count() {
+            return cache.size();
+        }
+
+        synchronized void clear() {
+            cache.clear();
+            size = 0;
+        }
+    }
+
+    /**
+     * Caches binary resources only, other cached types hold streams or PDF objects which cannot be shared by documents
+     */
+    static class ResourceCache implements FSCache {
+        final BytesCache<FSCacheKey> cache;
+
+        ResourceCache(long maxSize) {
+            cache = new BytesCache<FSCacheKey>(maxSize);
+        }
+
+        @Override
+        public Object get(FSCacheKey cacheKey) {
+            return cache.get(cacheKey);
+        }
+
+        @Override
+        public void put(FSCacheKey cacheKey, Object obj) {
+            if (obj instanceof byte[]) cache.put(cacheKey, (byte[]) obj);
+        }
+
+        void clear() {
+            cache.clear();
+        }
+    }
+
+    /**
+     * Downloads each URL once, later requests get a new stream for the downloaded bytes
+     */
+    static class CachingHttpStreamFactory implements HttpStreamFactory {
+        private final HttpStreamFactory httpStreamFactory;
+        final BytesCache<String> cache;
+
+        CachingHttpStreamFactory(HttpStreamFactory httpStreamFactory, long maxSize) {
+            this.httpStreamFactory = httpStreamFactory;
+            this.cache = new BytesCache<String>(maxSize);
+        }
+
+        @Override
+        public HttpStream getUrl(String url) {
+            byte[] bytes = cache.get(url);
+
+            if (bytes == null) {
+                HttpStream httpStream = httpStreamFactory.getUrl(url);
+                InputStream inputStream = httpStream == null ? null : httpStream.getStream();
+                if (inputStream == null) return httpStream;
+
+                try {
+                    bytes = readAll(inputStream);
+                } catch (IOException e) {
+                    // same as a failed download, not cached so it is tried again
+                    return new NaiveUserAgent.DefaultHttpStream(null);
+                }
+                cache.put(url, bytes);
+            }
+            return new BytesHttpStream(bytes);
+        }
+
+        void clear() {
+            cache.clear();
+        }
+    }
+
+    static class BytesHttpStream implements HttpStream {
+        private final byte[] bytes;
+
+        BytesHttpStream(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        @Override
+        public InputStream getStream() {
+            return new ByteArrayInputStream(bytes);
+        }
+
+        @Override
+        public Reader getReader() {
+            return new InputStreamReader(getStream(), UTF_8);
+        }
+    }
+}
@@ -1,18 +1,16 @@
 package com.vladsch.flexmark.pdf.converter;
 
-import com.openhtmltopdf.DOMBuilder;
-import com.openhtmltopdf.bidi.support.ICUBidiReorderer;
-import com.openhtmltopdf.bidi.support.ICUBidiSplitter;
 import com.openhtmltopdf.pdfboxout.PdfRendererBuilder;
+import com.vladsch.flexmark.ast.Node;
+import com.vladsch.flexmark.html.HtmlRenderer;
 import com.vladsch.flexmark.util.options.DataHolder;
 import com.vladsch.flexmark.util.options.DataKey;
-import org.jsoup.Jsoup;
-import org.w3c.dom.Document;
 
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.util.HashMap;
 
 /**
  * Extension for converting Markdown to PDF
@@ -25,10 +23,43 @@ import java.io.OutputStream;
  * <p>
  * The parsed Markdown text is rendered to HTML then converted to PDF
  * </p>
+ * <p>
+ * Or pass the parsed document to {@link #exportToPdf(OutputStream, Node, HtmlRenderer, String, DataHolder)}
+ * to render it straight to a W3C DOM
+ * </p>
+ * <p>
+ * These methods share one {@link PdfConverter} for each text direction, so resources downloaded for a document are
+ * reused by later ones until {@link #clearCache()} is called. To convert documents with other settings or fonts use a
+ * {@link PdfConverter} instance
+ * </p>
  */
 public class PdfConverterExtension {
     public static final DataKey<PdfRendererBuilder.TextDirection> DEFAULT_TEXT_DIRECTION = new DataKey<PdfRendererBuilder.TextDirection>("DEFAULT_TEXT_DIRECTION", (PdfRendererBuilder.TextDirection) null);
 
+    private static final HashMap<PdfRendererBuilder.TextDirection, PdfConverter> CONVERTERS = new HashMap<PdfRendererBuilder.TextDirection, PdfConverter>();
+
+    static PdfConverter getConverter(PdfRendererBuilder.TextDirection defaultTextDirection) {
+        synchronized (CONVERTERS) {
+            PdfConverter converter = CONVERTERS.get(defaultTextDirection);
+            if (converter == null) {
+                converter = PdfConverter.builder().defaultTextDirection(defaultTextDirection).build();
+                CONVERTERS.put(defaultTextDirection, converter);
+            }
+            return converter;
+        }
+    }
+
+    /**
+     * Remove resources cached by the shared converters, so that changed resources are loaded again
+     */
+    public static void clearCache() {
+        synchronized (CONVERTERS) {
+            for (PdfConverter converter : CONVERTERS.values()) {
+                converter.clearCache();
+            }
+        }
+    }
+
     public static void exportToPdf(String out, String html, String url, DataHolder options) {
         exportToPdf(out, html, url, options.get(DEFAULT_TEXT_DIRECTION));
     }
@@ -48,22 +79,26 @@ public class PdfConverterExtension {
 
     public static void exportToPdf(final OutputStream os, final String html, final String url, final PdfRendererBuilder.TextDirection defaultTextDirection) {
         try {
-            // There are more options on the builder than shown below.
-            PdfRendererBuilder builder = new PdfRendererBuilder();
-
-            if (defaultTextDirection != null) {
-                builder.useUnicodeBidiSplitter(new ICUBidiSplitter.ICUBidiSplitterFactory());
-                builder.useUnicodeBidiReorderer(new ICUBidiReorderer());
-                builder.defaultTextDirection(defaultTextDirection); // OR RTL
+            getConverter(defaultTextDirection).exportToPdf(os, html, url);
+        } catch (Exception e) {
+            e.printStackTrace();
+            // LOG exception
+        } finally {
+            try {
+                os.close();
+            } catch (IOException e) {
+                // swallow
             }
+        }
+    }
 
-            org.jsoup.nodes.Document doc;
-            doc = Jsoup.parse(html);
+    public static void exportToPdf(final OutputStream os, final Node node, final HtmlRenderer renderer, final String url, final DataHolder options) {
+        exportToPdf(os, node, renderer, url, options.get(DEFAULT_TEXT_DIRECTION));
+    }
 
-            Document dom = DOMBuilder.jsoup2DOM(doc);
-            builder.withW3cDocument(dom, url);
-            builder.toStream(os);
-            builder.run();
+    public static void exportToPdf(final OutputStream os, final Node node, final HtmlRenderer renderer, final String url, final PdfRendererBuilder.TextDirection defaultTextDirection) {
+        try {
+            getConverter(defaultTextDirection).exportToPdf(os, node, renderer, url);
         } catch (Exception e) {
             e.printStackTrace();
             // LOG exception
@@ -5,6 +5,7 @@ import org.junit.runners.Suite;
 @org.junit.runner.RunWith(Suite.class)
 @Suite.SuiteClasses({
         ComboPdfConverterSpecTest.class,
+        PdfConverterTest.class,
 })
 public class ExtPdfConverterTestSuite {
 }
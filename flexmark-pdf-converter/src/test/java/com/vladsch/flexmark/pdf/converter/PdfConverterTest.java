@@ -0,0 +1,354 @@
+package com.vladsch.flexmark.pdf.converter;
+
+import com.openhtmltopdf.DOMBuilder;
+import com.openhtmltopdf.extend.HttpStream;
+import com.openhtmltopdf.extend.HttpStreamFactory;
+import com.openhtmltopdf.pdfboxout.PdfRendererBuilder;
+import com.openhtmltopdf.swing.FSCacheKey;
+import com.openhtmltopdf.swing.NaiveUserAgent;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import com.vladsch.flexmark.ast.Document;
+import com.vladsch.flexmark.html.HtmlRenderer;
+import com.vladsch.flexmark.parser.Parser;
+import com.vladsch.flexmark.spec.SpecExample;
+import com.vladsch.flexmark.spec.SpecReader;
+import com.vladsch.flexmark.util.options.MutableDataSet;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.text.PDFTextStripper;
+import org.jsoup.Jsoup;
+import org.junit.Test;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+public class PdfConverterTest {
+    private static final String CSS = "body { color: #333; }\n";
+
+    static class CountingHttpStreamFactory implements HttpStreamFactory {
+        final Map<String, byte[]> resources = new HashMap<String, byte[]>();
+        final AtomicInteger downloads = new AtomicInteger();
+
+        @Override
+        public HttpStream getUrl(String url) {
+            downloads.incrementAndGet();
+            byte[] bytes = resources.get(url);
+            return bytes == null ? new NaiveUserAgent.DefaultHttpStream(null) : new NaiveUserAgent.DefaultHttpStream(new ByteArrayInputStream(bytes));
+        }
+    }
+
+    private static String pdfText(byte[] pdf) throws IOException {
+        PDDocument document = PDDocument.load(pdf);
+        try {
+            return document.getNumberOfPages() + "\n" + new PDFTextStripper().getText(document);
+        } finally {
+            document.close();
+        }
+    }
+
+    private static List<String> specHtml() {
+        Parser parser = Parser.builder().build();
+        HtmlRenderer renderer = HtmlRenderer.builder().build();
+
+        List<String> htmlList = new ArrayList<String>();
+        for (SpecExample example : SpecReader.readExamples("/pdf_converter_ast_spec.md")) {
+            htmlList.add("<html><body>" + renderer.render(parser.parse(example.getSource())) + "</body></html>");
+        }
+        return htmlList;
+    }
+
+    private static final String MARKDOWN = "" +
+            "<style>p { color: blue; }</style>\n" +
+            "\n" +
+            "# Heading &amp; entity\n" +
+            "\n" +
+            "Text with *emphasis*, `code`, <span class=\"inline\">inline *html*</span> and a [link](http://example.com \"title\").\n" +
+            "Hard break  \n" +
+            "next line &copy; 2017\n" +
+            "\n" +
+            "<div class=\"block\">\n" +
+            "<p>HTML block with <b>bold</b></p>\n" +
+            "</div>\n" +
+            "\n" +
+            "<!-- comment -->\n" +
+            "\n" +
+            "* item 1\n" +
+            "* item 2\n" +
+            "\n" +
+            "```\n" +
+            "fenced <code> & text\n" +
+            "```\n" +
+            "\n" +
+            "> quoted ![image](image.png) <![CDATA[a < b]]> <abbr xml:lang=\"en\" title=\"&quot;t&quot;\">abbr</abbr>\n" +
+            "";
+
+    /**
+     * Elements, attributes and text of a node, whitespace around text is not included
+     */
+    private static void appendDom(StringBuilder sb, Node node) {
+        if (node.getNodeType() == Node.ELEMENT_NODE) {
+            sb.append('<').append(node.getNodeName());
+            NamedNodeMap attributes = node.getAttributes();
+            Map<String, String> sorted = new TreeMap<String, String>();
+            for (int i = 0; i < attributes.getLength(); i++) {
+                sorted.put(attributes.item(i).getNodeName(), attributes.item(i).getNodeValue());
+            }
+            for (Map.Entry<String, String> entry : sorted.entrySet()) {
+                sb.append(' ').append(entry.getKey()).append("=\"").append(entry.getValue()).append('"');
+            }
+            sb.append('>');
+
+            // adjacent text nodes are compared as one text with collapsed whitespace
+            StringBuilder text = new StringBuilder();
+            NodeList children = node.getChildNodes();
+            for (int i = 0; i < children.getLength(); i++) {
+                Node child = children.item(i);
+                if (child.getNodeType() == Node.TEXT_NODE || child.getNodeType() == Node.CDATA_SECTION_NODE) {
+                    text.append(child.getNodeValue());
+                } else {
+                    appendText(sb, text);
+                    appendDom(sb, child);
+                }
+            }
+            appendText(sb, text);
+            sb.append("</").append(node.getNodeName()).append('>');
+        }
+    }
+
+    private static void appendText(StringBuilder sb, StringBuilder text) {
+        String collapsed = text.toString().replaceAll("\\s+", " ").trim();
+        if (!collapsed.isEmpty()) sb.append(collapsed);
+        text.setLength(0);
+    }
+
+    private static String domText(org.w3c.dom.Document document) {
+        StringBuilder sb = new StringBuilder();
+        appendDom(sb, document.getDocumentElement());
+        return sb.toString();
+    }
+
+    private static String renderedDomText(String markdown) {
+        Document document = Parser.builder().build().parse(markdown);
+        DomHtmlWriter htmlWriter = new DomHtmlWriter();
+        HtmlRenderer.builder().build().render(document, htmlWriter);
+        return domText(htmlWriter.getDocument());
+    }
+
+    private static String parsedDomText(String markdown) {
+        String html = HtmlRenderer.builder().build().render(Parser.builder().build().parse(markdown));
+        return domText(DOMBuilder.jsoup2DOM(Jsoup.parse(html)));
+    }
+
+    @Test
+    public void test_domHtmlWriter() {
+        assertEquals(parsedDomText(MARKDOWN), renderedDomText(MARKDOWN));
+    }
+
+    @Test
+    public void test_exportNode() throws IOException {
+        Parser parser = Parser.builder().build();
+        HtmlRenderer renderer = HtmlRenderer.builder().build();
+        PdfConverter converter = PdfConverter.builder().build();
+        Document document = parser.parse(MARKDOWN);
+
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        converter.exportToPdf(os, document, renderer, "");
+        assertEquals(pdfText(converter.convert(renderer.render(document), "")), pdfText(os.toByteArray()));
+    }
+
+    @Test
+    public void test_sharedConverters() {
+        PdfConverter converter = PdfConverterExtension.getConverter(null);
+        assertSame(converter, PdfConverterExtension.getConverter(null));
+        assertNotSame(converter, PdfConverterExtension.getConverter(PdfRendererBuilder.TextDirection.RTL));
+        assertSame(PdfConverterExtension.getConverter(PdfRendererBuilder.TextDirection.RTL), PdfConverterExtension.getConverter(PdfRendererBuilder.TextDirection.RTL));
+    }
+
+    @Test
+    public void test_builderDefaults() {
+        PdfConverter.Builder builder = PdfConverter.builder();
+        assertNull(builder.defaultTextDirection);
+        assertEquals(0, builder.fonts.size());
+        assertEquals(PdfConverter.DEFAULT_MAX_CACHE_SIZE, builder.maxCacheSize);
+        assertNotNull(builder.httpStreamFactory);
+    }
+
+    @Test
+    public void test_builderOptions() {
+        PdfConverter.Builder builder = PdfConverter.builder(new MutableDataSet().set(PdfConverterExtension.DEFAULT_TEXT_DIRECTION, PdfRendererBuilder.TextDirection.RTL));
+        assertEquals(PdfRendererBuilder.TextDirection.RTL, builder.defaultTextDirection);
+
+        builder.defaultTextDirection(PdfRendererBuilder.TextDirection.LTR);
+        assertEquals(PdfRendererBuilder.TextDirection.LTR, builder.defaultTextDirection);
+
+        builder.defaultTextDirection(null);
+        assertNull(builder.defaultTextDirection);
+    }
+
+    @Test
+    public void test_builderFonts() throws IOException {
+        byte[] fontBytes = new byte[] { 1, 2, 3 };
+        PdfConverter.Builder builder = PdfConverter.builder().useFont(fontBytes, "Test", 700, PdfRendererBuilder.FontStyle.ITALIC, false);
+
+        assertEquals(1, builder.fonts.size());
+        PdfConverter.FontEntry font = builder.fonts.get(0);
+        assertEquals("Test", font.family);
+        assertEquals(Integer.valueOf(700), font.weight);
+        assertEquals(PdfRendererBuilder.FontStyle.ITALIC, font.style);
+        assertFalse(font.subset);
+
+        // each supplied stream reads the same bytes
+        assertArrayEquals(fontBytes, PdfConverter.readAll(font.supply()));
+        assertArrayEquals(fontBytes, PdfConverter.readAll(font.supply()));
+    }
+
+    @Test
+    public void test_builderCache() {
+        CountingHttpStreamFactory streamFactory = new CountingHttpStreamFactory();
+        PdfConverter converter = PdfConverter.builder().maxCacheSize(10).httpStreamFactory(streamFactory).build();
+
+        streamFactory.resources.put("http://test/a", new byte[] { 1, 2, 3 });
+        converter.httpStreamFactory.getUrl("http://test/a");
+        converter.httpStreamFactory.getUrl("http://test/a");
+        assertEquals(1, streamFactory.downloads.get());
+        assertEquals(3, converter.httpStreamFactory.cache.size());
+    }
+
+    @Test
+    public void test_cacheLeastRecentlyUsed() {
+        PdfConverter.BytesCache<String> cache = new PdfConverter.BytesCache<String>(10);
+        cache.put("a", new byte[4]);
+        cache.put("b", new byte[4]);
+        assertNotNull(cache.get("a"));
+
+        // b is least recently used
+        cache.put("c", new byte[4]);
+        assertNotNull(cache.get("a"));
+        assertNull(cache.get("b"));
+        assertNotNull(cache.get("c"));
+        assertEquals(8, cache.size());
+
+        // replacing an entry counts its new size only
+        cache.put("a", new byte[2]);
+        assertEquals(6, cache.size());
+        assertEquals(2, cache.count());
+
+        cache.put("d", new byte[10]);
+        assertEquals(10, cache.size());
+        assertEquals(1, cache.count());
+
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertNull(cache.get("d"));
+    }
+
+    @Test
+    public void test_cacheSkipsLargeEntries() {
+        PdfConverter.BytesCache<String> cache = new PdfConverter.BytesCache<String>(10);
+        cache.put("a", new byte[4]);
+        cache.put("b", new byte[11]);
+        assertNull(cache.get("b"));
+        assertNotNull(cache.get("a"));
+
+        PdfConverter.BytesCache<String> disabled = new PdfConverter.BytesCache<String>(0);
+        disabled.put("a", new byte[1]);
+        assertNull(disabled.get("a"));
+        assertEquals(0, disabled.count());
+    }
+
+    @Test
+    public void test_resourceCacheBytesOnly() {
+        PdfConverter.ResourceCache cache = new PdfConverter.ResourceCache(100);
+        FSCacheKey bytesKey = new FSCacheKey("bytes", byte[].class);
+        FSCacheKey stringKey = new FSCacheKey("string", String.class);
+
+        byte[] bytes = new byte[] { 1 };
+        cache.put(bytesKey, bytes);
+        cache.put(stringKey, "text");
+        assertSame(bytes, cache.get(bytesKey));
+        assertNull(cache.get(stringKey));
+
+        cache.clear();
+        assertNull(cache.get(bytesKey));
+    }
+
+    @Test
+    public void test_failedDownloadNotCached() {
+        CountingHttpStreamFactory streamFactory = new CountingHttpStreamFactory();
+        PdfConverter.CachingHttpStreamFactory cachingFactory = new PdfConverter.CachingHttpStreamFactory(streamFactory, 100);
+
+        assertNull(cachingFactory.getUrl("http://test/missing").getStream());
+        assertNull(cachingFactory.getUrl("http://test/missing").getStream());
+        assertEquals(2, streamFactory.downloads.get());
+    }
+
+    @Test
+    public void test_cacheReuse() throws IOException {
+        final AtomicInteger requests = new AtomicInteger();
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/style.css", new HttpHandler() {
+            @Override
+            public void handle(HttpExchange exchange) throws IOException {
+                requests.incrementAndGet();
+                byte[] bytes = CSS.getBytes("UTF-8");
+                exchange.getResponseHeaders().set("Content-Type", "text/css");
+                exchange.sendResponseHeaders(200, bytes.length);
+                OutputStream os = exchange.getResponseBody();
+                os.write(bytes);
+                os.close();
+            }
+        });
+        server.start();
+
+        try {
+            String url = "http://127.0.0.1:" + server.getAddress().getPort() + "/";
+            String html = "<html><head><link rel=\"stylesheet\" href=\"style.css\"/></head><body><p>Styled text</p></body></html>";
+            PdfConverter converter = PdfConverter.builder().build();
+
+            byte[] pdf1 = converter.convert(html, url);
+            byte[] pdf2 = converter.convert(html, url);
+            assertEquals(1, requests.get());
+            assertEquals(pdfText(pdf1), pdfText(pdf2));
+            assertTrue(pdfText(pdf1).contains("Styled text"));
+
+            converter.clearCache();
+            converter.convert(html, url);
+            assertEquals(2, requests.get());
+
+            // each converter has its own cache
+            PdfConverter.builder().build().convert(html, url);
+            assertEquals(3, requests.get());
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    public void test_batchConvert() throws IOException {
+        List<String> htmlList = specHtml();
+        PdfConverter converter = PdfConverter.builder().build();
+
+        List<byte[]> pdfList = converter.convert(htmlList, "", 4);
+        assertEquals(htmlList.size(), pdfList.size());
+
+        for (int i = 0; i < htmlList.size(); i++) {
+            assertEquals("document " + i, pdfText(converter.convert(htmlList.get(i), "")), pdfText(pdfList.get(i)));
+        }
+    }
+}
@@ -42,8 +42,8 @@ public class TemplateEntry {
 
             if (pos < m.start()) {
                 sb.append(source.substring(pos, m.start()));
-                pos = m.end();
             }
+            pos = m.end();
 
             // append parameter if exists
             if (params.containsKey(param)) {
@@ -0,0 +1,97 @@
+package com.vladsch.flexmark.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Run a task for each item of a list on a fixed pool of daemon threads
+ */
+public class ParallelTasks {
+    private ParallelTasks() {
+    }
+
+    /**
+     * Task run for each item
+     *
+     * @param <T> type of item
+     * @param <R> type of result
+     * @param <E> type of checked exception thrown by the task, use RuntimeException if none
+     */
+    public interface Task<T, R, E extends Exception> {
+        R run(T item) throws E;
+    }
+
+    /**
+     * Run task for all items
+     * <p>
+     * A pool of at most threads daemon threads is created for the call and shut down when all results are collected.
+     * If threads is 1 or less or there is only one item then the items are processed in the calling thread.
+     *
+     * @param items      items to process
+     * @param threads    maximum number of items processed at the same time
+     * @param threadName prefix of the names of the pool's threads, each is named threadName-n with n starting at 1
+     * @param task       task to run for each item
+     * @param <T>        type of item
+     * @param <R>        type of result
+     * @param <E>        type of checked exception thrown by the task
+     * @return results in the order of items
+     * @throws E                    first exception thrown by the task in the order of items, runtime exceptions and
+     *                              errors are rethrown as they are
+     * @throws InterruptedException if interrupted while waiting for results, tasks not yet started are cancelled
+     */
+    public static <T, R, E extends Exception> List<R> run(List<? extends T> items, int threads, final String threadName, final Task<? super T, ? extends R, E> task) throws E, InterruptedException {
+        ArrayList<R> results = new ArrayList<R>(items.size());
+
+        if (threads <= 1 || items.size() <= 1) {
+            for (T item : items) {
+                results.add(task.run(item));
+            }
+            return results;
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(threads, items.size()), new ThreadFactory() {
+            private final AtomicInteger threadCount = new AtomicInteger();
+
+            @Override
+            public Thread newThread(final Runnable runnable) {
+                Thread thread = new Thread(runnable, threadName + "-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+
+        try {
+            ArrayList<Future<? extends R>> futures = new ArrayList<Future<? extends R>>(items.size());
+            for (final T item : items) {
+                futures.add(executor.submit(new Callable<R>() {
+                    @Override
+                    public R call() throws Exception {
+                        return task.run(item);
+                    }
+                }));
+            }
+
+            for (Future<? extends R> future : futures) {
+                try {
+                    results.add(future.get());
+                } catch (ExecutionException e) {
+                    throw ParallelTasks.<E>rethrow(e.getCause());
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return results;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E extends Exception> E rethrow(Throwable cause) throws E {
+        if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+        if (cause instanceof Error) throw (Error) cause;
+
+        // only checked exceptions declared by the task can be thrown by it
+        throw (E) cause;
+    }
+}
@@ -310,6 +310,37 @@ public class Utils {
         return receiver.length() >= prefix.length() && regionMatches(receiver, 0, prefix, 0, prefix.length(), ignoreCase);
     }
 
+    /**
+     * Same as regex lookahead {@code (?=[ \t]|\n|$)} at index, with $ of a pattern without MULTILINE flag which also
+     * matches before a final line terminator
+     *
+     * @param receiver text
+     * @param index    index in text
+     * @return true if index is followed by a space, tab, line feed, final line terminator or end of text
+     */
+    public static boolean isSpaceTabEolOrEnd(CharSequence receiver, int index) {
+        int iMax = receiver.length();
+        if (index == iMax) return true;
+
+        switch (receiver.charAt(index)) {
+            case ' ':
+            case '\t':
+            case '\n':
+                return true;
+
+            case '\r':
+                return index + 1 == iMax || index + 2 == iMax && receiver.charAt(index + 1) == '\n';
+
+            case '\u0085':
+            case '\u2028':
+            case '\u2029':
+                return index + 1 == iMax;
+
+            default:
+                return false;
+        }
+    }
+
     public static String splice(String[] receiver, String delimiter) {
         StringBuilder result = new StringBuilder(receiver.length * (delimiter.length() + 10));
         String delim = "";
@@ -0,0 +1,226 @@
+package com.vladsch.flexmark.util.collection;
+
+import com.vladsch.flexmark.ast.Document;
+import com.vladsch.flexmark.ast.Node;
+import com.vladsch.flexmark.util.NodeTracker;
+
+import java.util.*;
+
+/**
+ * Node tracker which keeps nodes of given types in document order, indexed by their type, together with
+ * a bit mask of exclusion types of the node and its ancestors.
+ * <p>
+ * Only nodes of the tracked types are stored and no per node hashing is done, so it is cheaper than
+ * {@link ClassifyingNodeTracker} with {@link NodeClassifierVisitor} for large documents. Nodes are tracked by their exact class.
+ * At most 64 distinct exclusion types are supported.
+ */
+public class TypeIndexedNodeTracker implements NodeTracker {
+    public static final int MAX_EXCLUSION_TYPES = 64;
+
+    private static class TypeInfo {
+        final int typeIndex;
+        final long exclusionMask;
+
+        TypeInfo(int typeIndex, long exclusionMask) {
+            this.typeIndex = typeIndex;
+            this.exclusionMask = exclusionMask;
+        }
+    }
+
+    private final HashMap<Class<?>, Integer> myTypeIndex;
+    private final Class<?>[] myExclusionTypes;
+    private final HashMap<Class<?>, TypeInfo> myTypeInfo;
+    private final BitSet[] myTypeItems;
+    private final ArrayList<Node> myItems;
+    private long[] myAncestryMasks;
+
+    public TypeIndexedNodeTracker(Map<Class<? extends Node>, Set<Class<?>>> exclusionMap) {
+        myTypeIndex = new HashMap<Class<?>, Integer>(exclusionMap.size());
+        LinkedHashSet<Class<?>> exclusionTypes = new LinkedHashSet<Class<?>>();
+
+        for (Map.Entry<Class<? extends Node>, Set<Class<?>>> entry : exclusionMap.entrySet()) {
+            myTypeIndex.put(entry.getKey(), myTypeIndex.size());
+            exclusionTypes.addAll(entry.getValue());
+        }
+
+        if (exclusionTypes.size() > MAX_EXCLUSION_TYPES) {
+            throw new IllegalStateException("At most " + MAX_EXCLUSION_TYPES + " exclusion types are supported, got " + exclusionTypes.size());
+        }
+
+        myExclusionTypes = exclusionTypes.toArray(new Class<?>[exclusionTypes.size()]);
+        myTypeInfo = new HashMap<Class<?>, TypeInfo>();
+        myTypeItems = new BitSet[myTypeIndex.size()];
+        for (int i = 0; i < myTypeItems.length; i++) {
+            myTypeItems[i] = new BitSet();
+        }
+        myItems = new ArrayList<Node>();
+        myAncestryMasks = new long[16];
+    }
+
+    /**
+     * Track all descendants of the document
+     *
+     * @param document document node
+     * @return this tracker
+     */
+    public TypeIndexedNodeTracker track(Document document) {
+        addDescendants(document, 0);
+        return this;
+    }
+
+    private TypeInfo getTypeInfo(Node node) {
+        Class<?> nodeClass = node.getClass();
+        TypeInfo typeInfo = myTypeInfo.get(nodeClass);
+        if (typeInfo == null) {
+            long exclusionMask = 0;
+            for (int i = 0; i < myExclusionTypes.length; i++) {
+                if (myExclusionTypes[i].isAssignableFrom(nodeClass)) exclusionMask |= 1L << i;
+            }
+
+            Integer typeIndex = myTypeIndex.get(nodeClass);
+            typeInfo = new TypeInfo(typeIndex == null ? -1 : typeIndex, exclusionMask);
+            myTypeInfo.put(nodeClass, typeInfo);
+        }
+        return typeInfo;
+    }
+
+    private long addNode(Node node, TypeInfo typeInfo, long parentMask) {
+        long mask = parentMask | typeInfo.exclusionMask;
+        if (typeInfo.typeIndex != -1) {
+            int index = myItems.size();
+            if (index == myAncestryMasks.length) {
+                myAncestryMasks = Arrays.copyOf(myAncestryMasks, index * 2);
+            }
+
+            myItems.add(node);
+            myAncestryMasks[index] = mask;
+            myTypeItems[typeInfo.typeIndex].set(index);
+        }
+        return mask;
+    }
+
+    private void addDescendants(Node parent, long parentMask) {
+        // iterative pre-order walk, keeping exclusion masks of ancestors on a stack
+        long[] maskStack = new long[16];
+        int depth = 0;
+        long mask = parentMask;
+        Node node = parent.getFirstChild();
+
+        while (node != null) {
+            long nodeMask = addNode(node, getTypeInfo(node), mask);
+
+            Node firstChild = node.getFirstChild();
+            if (firstChild != null) {
+                if (depth == maskStack.length) maskStack = Arrays.copyOf(maskStack, depth * 2);
+                maskStack[depth++] = mask;
+                mask = nodeMask;
+                node = firstChild;
+            } else {
+                while (node.getNext() == null && depth > 0) {
+                    node = node.getParent();
+                    mask = maskStack[--depth];
+                }
+                node = node.getNext();
+            }
+        }
+    }
+
+    private long getParentMask(Node node) {
+        long mask = 0;
+        Node parent = node.getParent();
+        while (parent != null && !(parent instanceof Document)) {
+            mask |= getTypeInfo(parent).exclusionMask;
+            parent = parent.getParent();
+        }
+        return mask;
+    }
+
+    private void validateLinked(Node node) {
+        if (node.getNext() == null && node.getParent() == null) {
+            throw new IllegalStateException("Added block " + node + " is not linked into the AST");
+        }
+    }
+
+    private void validateUnlinked(Node node) {
+        if (!(node.getNext() == null && node.getParent() == null)) {
+            throw new IllegalStateException("Removed block " + node + " is still linked in the AST");
+        }
+    }
+
+    @Override
+    public void nodeAdded(Node node) {
+        validateLinked(node);
+        addNode(node, getTypeInfo(node), getParentMask(node));
+    }
+
+    @Override
+    public void nodeAddedWithChildren(Node node) {
+        validateLinked(node);
+        long mask = addNode(node, getTypeInfo(node), getParentMask(node));
+        for (Node child = node.getFirstChild(); child != null; child = child.getNext()) {
+            addNode(child, getTypeInfo(child), mask);
+        }
+    }
+
+    @Override
+    public void nodeAddedWithDescendants(Node node) {
+        validateLinked(node);
+        addDescendants(node, addNode(node, getTypeInfo(node), getParentMask(node)));
+    }
+
+    @Override
+    public void nodeRemoved(Node node) {
+        validateUnlinked(node);
+    }
+
+    @Override
+    public void nodeRemovedWithChildren(Node node) {
+        validateUnlinked(node);
+    }
+
+    @Override
+    public void nodeRemovedWithDescendants(Node node) {
+        validateUnlinked(node);
+    }
+
+    /**
+     * @param index index of tracked node
+     * @return tracked node
+     */
+    public Node getItem(int index) {
+        return myItems.get(index);
+    }
+
+    /**
+     * @param index index of tracked node
+     * @return bit mask of exclusion types of the node and its ancestors at the time the node was tracked
+     */
+    public long getAncestryMask(int index) {
+        return myAncestryMasks[index];
+    }
+
+    /**
+     * @param exclusionTypes exclusion types
+     * @return bit mask for exclusion types, types which are not exclusion types are ignored
+     */
+    public long getExclusionMask(Collection<Class<?>> exclusionTypes) {
+        long mask = 0;
+        for (int i = 0; i < myExclusionTypes.length; i++) {
+            if (exclusionTypes.contains(myExclusionTypes[i])) mask |= 1L << i;
+        }
+        return mask;
+    }
+
+    /**
+     * @param nodeTypes node types
+     * @return new bit set of indices of nodes of given types, in document order
+     */
+    public BitSet getTypeItems(Collection<? extends Class<?>> nodeTypes) {
+        BitSet bitSet = new BitSet();
+        for (Class<?> nodeType : nodeTypes) {
+            Integer typeIndex = myTypeIndex.get(nodeType);
+            if (typeIndex != null) bitSet.or(myTypeItems[typeIndex]);
+        }
+        return bitSet;
+    }
+}
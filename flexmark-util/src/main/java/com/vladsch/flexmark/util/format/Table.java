@@ -264,13 +264,11 @@ public class Table {
         columnWidths = new int[sepColumns];
         BitSet spanAlignment = new BitSet(sepColumns);
         List<ColumnSpan> columnSpans = new ArrayList<ColumnSpan>();
-        Ref<Integer> delta = new Ref<Integer>(0);
 
         if (separator.rows.size() > 0) {
             TableRow row = separator.rows.get(0);
             int j = 0;
             int jSpan = 0;
-            delta.value = 0;
             for (TableCell cell : row.cells) {
                 // set alignment if not already set or was set by a span and this column is not a span
                 if ((alignments[jSpan] == null || cell.columnSpan == 1 && spanAlignment.get(jSpan)) && cell.alignment != CellAlignment.NONE) {
@@ -287,7 +285,6 @@ public class Table {
             for (TableRow row : heading.rows) {
                 int j = 0;
                 int jSpan = 0;
-                delta.value = 0;
                 for (TableCell cell : row.cells) {
                     // set alignment if not already set or was set by a span and this column is not a span
                     if ((alignments[jSpan] == null || cell.columnSpan == 1 && spanAlignment.get(jSpan)) && cell.alignment != CellAlignment.NONE) {
@@ -295,8 +292,7 @@ public class Table {
                         if (cell.columnSpan > 1) spanAlignment.set(jSpan);
                     }
 
-                    BasedSequence cellText = cellText(cell.text, 0, null, delta);
-                    int width = options.charWidthProvider.charWidth(cellText) + options.spacePad + options.pipeWidth * cell.columnSpan;
+                    int width = options.charWidthProvider.charWidth(cell.text) + options.spacePad + options.pipeWidth * cell.columnSpan;
                     if (cell.columnSpan > 1) {
                         columnSpans.add(new ColumnSpan(j, cell.columnSpan, width));
                     } else {
@@ -312,13 +308,11 @@ public class Table {
 
         if (body.rows.size() > 0) {
             int i = 0;
-            delta.value = 0;
             for (TableRow row : body.rows) {
                 int j = 0;
                 int jSpan = 0;
                 for (TableCell cell : row.cells) {
-                    BasedSequence cellText = cellText(cell.text, 0, null, delta);
-                    int width = options.charWidthProvider.charWidth(cellText) + options.spacePad + options.pipeWidth * cell.columnSpan;
+                    int width = options.charWidthProvider.charWidth(cell.text) + options.spacePad + options.pipeWidth * cell.columnSpan;
                     if (cell.columnSpan > 1) {
                         columnSpans.add(new ColumnSpan(jSpan, cell.columnSpan, width));
                     } else {
@@ -335,7 +329,6 @@ public class Table {
         // add separator column widths to the calculation
         if (separator.rows.size() == 0 || body.rows.size() > 0 || heading.rows.size() > 0) {
             int j = 0;
-            delta.value = 0;
             for (CellAlignment alignment : alignments) {
                 CellAlignment alignment1 = adjustCellAlignment(alignment);
                 int colonCount = alignment1 == CellAlignment.LEFT || alignment1 == CellAlignment.RIGHT ? 1 : alignment1 == CellAlignment.CENTER ? 2 : 0;
@@ -349,7 +342,6 @@ public class Table {
         } else {
             // keep as is
             int j = 0;
-            delta.value = 0;
             for (TableCell cell : separator.rows.get(0).cells) {
                 CellAlignment alignment = adjustCellAlignment(cell.alignment);
                 int colonCount = alignment == CellAlignment.LEFT || alignment == CellAlignment.RIGHT ? 1 : alignment == CellAlignment.CENTER ? 2 : 0;
@@ -432,48 +424,14 @@ public class Table {
         // we will prepare the separator based on max columns
         int formatterOptions = out.getOptions();
         out.setOptions(formatterOptions & ~FormattingAppendable.COLLAPSE_WHITESPACE);
-        Ref<Integer> delta = new Ref<Integer>(0);
 
-        if (heading.rows.size() > 0) {
-            for (TableRow row : heading.rows) {
-                int j = 0;
-                int jSpan = 0;
-                delta.value = 0;
-                for (TableCell cell : row.cells) {
-                    if (j == 0) {
-                        if (options.leadTrailPipes) {
-                            out.append('|');
-                            if (options.spaceAroundPipes) out.append(' ');
-                        }
-                    } else {
-                        if (options.spaceAroundPipes) out.append(' ');
-                    }
-
-                    CellAlignment cellAlignment = cell.alignment != CellAlignment.NONE ? cell.alignment : alignments[jSpan];
-                    out.append(cellText(cell.text, spanWidth(jSpan, cell.columnSpan) - options.spacePad - options.pipeWidth * cell.columnSpan, cellAlignment, delta));
-
-                    j++;
-                    jSpan += cell.columnSpan;
-
-                    if (j < alignments.length) {
-                        if (options.spaceAroundPipes) out.append(' ');
-                        out.repeat('|', cell.columnSpan);
-                    } else if (options.leadTrailPipes) {
-                        if (options.spaceAroundPipes) out.append(' ');
-                        out.repeat('|', cell.columnSpan);
-                    } else {
-                        if (options.spaceAroundPipes) out.append(' ');
-                        out.repeat('|', cell.columnSpan - 1);
-                    }
-                }
-
-                if (j > 0) out.line();
-            }
+        for (TableRow row : heading.rows) {
+            appendRow(out, row, true);
         }
 
         {
             int j = 0;
-            delta.value = 0;
+            int delta = 0;
             for (CellAlignment alignment : alignments) {
                 CellAlignment alignment1 = adjustCellAlignment(alignment);
                 int colonCount = alignment1 == CellAlignment.LEFT || alignment1 == CellAlignment.RIGHT ? 1 : alignment1 == CellAlignment.CENTER ? 2 : 0;
@@ -481,9 +439,9 @@ public class Table {
                 int dashesOnly = Utils.minLimit(dashCount, options.minSeparatorColumnWidth - colonCount, options.minSeparatorDashes);
                 if (dashCount < dashesOnly) dashCount = dashesOnly;
 
-                if (delta.value * 2 >= options.dashWidth) {
+                if (delta * 2 >= options.dashWidth) {
                     dashCount++;
-                    delta.value -= options.dashWidth;
+                    delta -= options.dashWidth;
                 }
 
                 if (options.leadTrailPipes && j == 0) out.append('|');
@@ -496,46 +454,81 @@ public class Table {
             out.line();
         }
 
-        if (body.rows.size() > 0) {
-            for (TableRow row : body.rows) {
-                int j = 0;
-                int jSpan = 0;
-                delta.value = 0;
-                for (TableCell cell : row.cells) {
-                    if (j == 0) {
-                        if (options.leadTrailPipes) {
-                            out.append('|');
-                            if (options.spaceAroundPipes) out.append(' ');
-                        }
-                    } else {
-                        if (options.spaceAroundPipes) out.append(' ');
-                    }
+        for (TableRow row : body.rows) {
+            appendRow(out, row, false);
+        }
 
-                    out.append(cellText(cell.text, spanWidth(jSpan, cell.columnSpan) - options.spacePad - options.pipeWidth * cell.columnSpan, alignments[jSpan], delta));
+        out.setOptions(formatterOptions);
 
-                    j++;
-                    jSpan += cell.columnSpan;
+        if (caption != null && !options.removeCaption) {
+            out.line().append('[').append(caption).append(']').line();
+        }
+    }
 
-                    if (j < alignments.length) {
-                        if (options.spaceAroundPipes) out.append(' ');
-                        out.repeat('|', cell.columnSpan);
-                    } else if (options.leadTrailPipes) {
-                        if (options.spaceAroundPipes) out.append(' ');
-                        out.repeat('|', cell.columnSpan);
-                    } else {
-                        if (options.spaceAroundPipes) out.append(' ');
-                        out.repeat('|', cell.columnSpan - 1);
-                    }
+    /**
+     * Append a row, padding cells directly to output, column widths must already be computed by {@link #finalizeTable()}
+     *
+     * @param out            where to append
+     * @param row            row to append
+     * @param cellAlignments true if cell alignment overrides column alignment, as for heading rows
+     */
+    private void appendRow(final FormattingAppendable out, final TableRow row, final boolean cellAlignments) {
+        int j = 0;
+        int jSpan = 0;
+        for (TableCell cell : row.cells) {
+            if (j == 0) {
+                if (options.leadTrailPipes) {
+                    out.append('|');
+                    if (options.spaceAroundPipes) out.append(' ');
                 }
+            } else {
+                if (options.spaceAroundPipes) out.append(' ');
+            }
 
-                if (j > 0) out.line();
+            CellAlignment cellAlignment = cellAlignments && cell.alignment != CellAlignment.NONE ? cell.alignment : alignments[jSpan];
+            appendCellText(out, cell.text, spanWidth(jSpan, cell.columnSpan) - options.spacePad - options.pipeWidth * cell.columnSpan, cellAlignment);
+
+            j++;
+            jSpan += cell.columnSpan;
+
+            if (j < alignments.length) {
+                if (options.spaceAroundPipes) out.append(' ');
+                out.repeat('|', cell.columnSpan);
+            } else if (options.leadTrailPipes) {
+                if (options.spaceAroundPipes) out.append(' ');
+                out.repeat('|', cell.columnSpan);
+            } else {
+                if (options.spaceAroundPipes) out.append(' ');
+                out.repeat('|', cell.columnSpan - 1);
             }
         }
 
-        out.setOptions(formatterOptions);
+        if (j > 0) out.line();
+    }
 
-        if (caption != null && !options.removeCaption) {
-            out.line().append('[').append(caption).append(']').line();
+    /**
+     * Same as appending {@link #cellText(CharSequence, int, CellAlignment, Ref)} but without creating a padded sequence for the cell
+     */
+    private void appendCellText(final FormattingAppendable out, final BasedSequence text, final int width, CellAlignment alignment) {
+        final int length = options.charWidthProvider.charWidth(text);
+        if (length < width && options.adjustColumnWidth) {
+            if (!options.applyColumnAlignment || alignment == null || alignment == CellAlignment.NONE) alignment = CellAlignment.LEFT;
+            int spaceCount = (width - length) / options.spaceWidth;
+
+            switch (alignment) {
+                case LEFT:
+                    out.append(text).repeat(' ', spaceCount);
+                    break;
+                case RIGHT:
+                    out.repeat(' ', spaceCount).append(text);
+                    break;
+                case CENTER:
+                    int count = spaceCount / 2;
+                    out.repeat(' ', count).append(text).repeat(' ', spaceCount - count);
+                    break;
+            }
+        } else {
+            out.append(text);
         }
     }
 
@@ -405,6 +405,13 @@ public class FormattingAppendableImpl implements FormattingAppendable {
                         setOffsetBefore(myAppendable.getLength());
                         firstAppend = false;
                     }
+
+                    if (pos != -1 && myConditionalFrames.isEmpty()) {
+                        // words after this text are output as they are, append them in one call
+                        spanEnd = plainTextEnd(seq, pos, end);
+                        if (spanEnd > pos) pos = seq.indexOfAny(myWhitespaceEOL, spanEnd, end);
+                    }
+
                     myAppendable.append(csq, lastPos, spanEnd);
                     myModCount++;
                 }
@@ -433,6 +440,35 @@ public class FormattingAppendableImpl implements FormattingAppendable {
         }
     }
 
+    /**
+     * Find end of words separated by spaces which would be output unchanged after text, spaces are output as pending
+     * spaces before the next word unless they are collapsed or come before an EOL or other whitespace
+     *
+     * @param seq text
+     * @param pos index of whitespace after text
+     * @param end end of text
+     * @return end of the last such word or pos if there are none
+     */
+    private int plainTextEnd(final BasedSequence seq, final int pos, final int end) {
+        boolean collapseWhitespace = isCollapseWhitespace();
+        int textEnd = pos;
+        int i = pos;
+
+        while (i < end && seq.charAt(i) == ' ') {
+            int wordStart = i + 1;
+            while (wordStart < end && seq.charAt(wordStart) == ' ') wordStart++;
+            if (collapseWhitespace && wordStart - i > 1) break;
+
+            int wordEnd = seq.indexOfAny(myWhitespaceEOL, wordStart, end);
+            if (wordEnd == -1) wordEnd = end;
+            if (wordEnd == wordStart) break;
+
+            textEnd = wordEnd;
+            i = wordEnd;
+        }
+        return textEnd;
+    }
+
     @Override
     public IOException getIOException() {
         return myIOException;
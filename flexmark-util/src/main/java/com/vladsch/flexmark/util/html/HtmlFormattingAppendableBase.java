@@ -244,6 +244,20 @@ public class HtmlFormattingAppendableBase<T extends HtmlFormattingAppendableBase
             withAttributes = false;
         }
 
+        appendOpenTag(tagName, attributes, voidElement);
+        if (!voidElement) tagOpened(tagName);
+
+        return (T) this;
+    }
+
+    /**
+     * Output an open tag, subclasses which do not output HTML text override this and {@link #appendCloseTag(CharSequence)}
+     *
+     * @param tagName     tag name
+     * @param attributes  attributes of the tag or null
+     * @param voidElement true if the element has no close tag
+     */
+    protected void appendOpenTag(CharSequence tagName, Attributes attributes, boolean voidElement) {
         out.append("<");
         out.append(tagName);
 
@@ -261,30 +275,28 @@ public class HtmlFormattingAppendableBase<T extends HtmlFormattingAppendableBase
             }
         }
 
-        if (voidElement) {
-            out.append(" />");
-        } else {
-            out.append(">");
-            tagOpened(tagName);
-        }
-
-        return (T) this;
+        out.append(voidElement ? " />" : ">");
     }
 
     @Override
     public T closeTag(final CharSequence tagName) {
         if (tagName.length() == 0) throw new IllegalStateException("closeTag called with tag:'" + tagName + "'");
 
-        if (tagName.charAt(0) == '/') {
-            out.append("<").append(tagName).append(">");
-            tagClosed(tagName.subSequence(1, tagName.length()));
-        } else {
-            out.append("</").append(tagName).append(">");
-            tagClosed(tagName);
-        }
+        CharSequence name = tagName.charAt(0) == '/' ? tagName.subSequence(1, tagName.length()) : tagName;
+        appendCloseTag(name);
+        tagClosed(name);
         return (T) this;
     }
 
+    /**
+     * Output a close tag
+     *
+     * @param tagName tag name, without the leading /
+     */
+    protected void appendCloseTag(CharSequence tagName) {
+        out.append("</").append(tagName).append(">");
+    }
+
     @Override
     public T tag(CharSequence tagName, final boolean withIndent, final boolean withLine, Runnable runnable) {
         if (withIndent && !suppressOpenTagLine) {
@@ -642,6 +642,51 @@ public class FormattingAppendableImplTest {
         assertEquals(81, fa.offset());
     }
 
+    private static String appendChars(CharSequence text, int formatOptions, boolean asString) {
+        StringBuilder sb = new StringBuilder();
+        FormattingAppendable fa = new FormattingAppendableImpl(sb, formatOptions).setPrefix("> ");
+
+        if (asString) {
+            fa.append(text);
+        } else {
+            for (int i = 0; i < text.length(); i++) fa.append(text.charAt(i));
+        }
+        fa.flush();
+        return sb.toString();
+    }
+
+    @Test
+    public void test_plainText() throws Exception {
+        String[] texts = {
+                "abc def",
+                "abc def ghi",
+                "abc  def   ghi",
+                " abc def ",
+                "abc def  \nghi jkl",
+                "abc def \n  ghi\tjkl",
+                "abc def\n\n\nghi  jkl  \n",
+                "a b c d e f",
+                "abc\tdef ghi \t jkl",
+        };
+        int[] options = {
+                0,
+                FormattingAppendable.COLLAPSE_WHITESPACE,
+                FormattingAppendable.SUPPRESS_TRAILING_WHITESPACE,
+                FormattingAppendable.CONVERT_TABS,
+                FormattingAppendable.FORMAT_ALL,
+        };
+
+        for (String text : texts) {
+            for (int formatOptions : options) {
+                assertEquals("options " + formatOptions + " text '" + text + "'", appendChars(text, formatOptions, false), appendChars(text, formatOptions, true));
+            }
+        }
+
+        assertEquals("> abc def ghi", appendChars("abc def ghi", FormattingAppendable.FORMAT_ALL, true));
+        assertEquals("> abc def\n> ghi", appendChars("abc  def  \n  ghi", FormattingAppendable.FORMAT_ALL, true));
+        assertEquals("> abc  def  \n> ghi", appendChars("abc  def  \n  ghi", 0, true));
+    }
+
     // TODO: add delayed prefix tests
 
 }
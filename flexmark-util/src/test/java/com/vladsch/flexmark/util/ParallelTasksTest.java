@@ -0,0 +1,115 @@
+package com.vladsch.flexmark.util;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.Assert.*;
+
+public class ParallelTasksTest {
+    private static final ParallelTasks.Task<Integer, String, RuntimeException> TO_STRING = new ParallelTasks.Task<Integer, String, RuntimeException>() {
+        @Override
+        public String run(Integer item) {
+            return String.valueOf(item);
+        }
+    };
+
+    private static List<Integer> items(int count) {
+        ArrayList<Integer> items = new ArrayList<Integer>();
+        for (int i = 0; i < count; i++) items.add(i);
+        return items;
+    }
+
+    @Test
+    public void test_resultsInOrder() throws Exception {
+        List<Integer> items = items(100);
+        List<String> expected = ParallelTasks.run(items, 1, "test", TO_STRING);
+
+        assertEquals(100, expected.size());
+        assertEquals("42", expected.get(42));
+        assertEquals(expected, ParallelTasks.run(items, 4, "test", TO_STRING));
+        assertEquals(expected, ParallelTasks.run(items, 200, "test", TO_STRING));
+    }
+
+    @Test
+    public void test_empty() throws Exception {
+        assertEquals(Collections.<String>emptyList(), ParallelTasks.run(Collections.<Integer>emptyList(), 4, "test", TO_STRING));
+    }
+
+    @Test
+    public void test_daemonThreads() throws Exception {
+        List<Boolean> daemon = ParallelTasks.run(items(4), 4, "test-pool", new ParallelTasks.Task<Integer, Boolean, RuntimeException>() {
+            @Override
+            public Boolean run(Integer item) {
+                return Thread.currentThread().isDaemon() && Thread.currentThread().getName().startsWith("test-pool-");
+            }
+        });
+        assertEquals(Arrays.asList(true, true, true, true), daemon);
+    }
+
+    @Test
+    public void test_distinctThreadNames() throws Exception {
+        // each task waits for all to start so every item runs on its own pool thread
+        final CountDownLatch started = new CountDownLatch(3);
+        List<String> names = ParallelTasks.run(items(3), 3, "test-pool", new ParallelTasks.Task<Integer, String, InterruptedException>() {
+            @Override
+            public String run(Integer item) throws InterruptedException {
+                started.countDown();
+                started.await();
+                return Thread.currentThread().getName();
+            }
+        });
+
+        assertEquals(new HashSet<String>(Arrays.asList("test-pool-1", "test-pool-2", "test-pool-3")), new HashSet<String>(names));
+    }
+
+    @Test
+    public void test_callingThread() throws Exception {
+        final String name = Thread.currentThread().getName();
+        List<Boolean> calling = ParallelTasks.run(items(3), 1, "test-pool", new ParallelTasks.Task<Integer, Boolean, RuntimeException>() {
+            @Override
+            public Boolean run(Integer item) {
+                return Thread.currentThread().getName().equals(name);
+            }
+        });
+        assertEquals(Arrays.asList(true, true, true), calling);
+    }
+
+    @Test
+    public void test_checkedException() throws Exception {
+        try {
+            ParallelTasks.run(items(10), 4, "test", new ParallelTasks.Task<Integer, String, IOException>() {
+                @Override
+                public String run(Integer item) throws IOException {
+                    if (item == 5) throw new IOException("item " + item);
+                    return String.valueOf(item);
+                }
+            });
+            fail("IOException expected");
+        } catch (IOException e) {
+            assertEquals("item 5", e.getMessage());
+        }
+    }
+
+    @Test
+    public void test_runtimeException() throws Exception {
+        try {
+            ParallelTasks.run(items(10), 4, "test", new ParallelTasks.Task<Integer, String, RuntimeException>() {
+                @Override
+                public String run(Integer item) {
+                    if (item == 3) throw new IllegalArgumentException("item " + item);
+                    return String.valueOf(item);
+                }
+            });
+            fail("IllegalArgumentException expected");
+        } catch (IllegalArgumentException e) {
+            assertEquals("item 3", e.getMessage());
+        }
+    }
+}
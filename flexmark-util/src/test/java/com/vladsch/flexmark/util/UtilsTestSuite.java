@@ -16,6 +16,7 @@ import org.junit.runners.Suite;
         OrderedMapTest.class,
         OrderedMultiMapTest.class,
         ClassificationBagTest.class,
+        TypeIndexedNodeTrackerTest.class,
         BasedSequenceImplTest.class,
         AttributeTest.class,
         MutableAttributeTest.class,
@@ -23,6 +24,7 @@ import org.junit.runners.Suite;
         FormattingAppendableImplTest.class,
         RepeatedCharSequenceTest.class,
         HtmlFormattingAppendableBaseTest.class,
+        ParallelTasksTest.class,
 })
 public class UtilsTestSuite {
 }
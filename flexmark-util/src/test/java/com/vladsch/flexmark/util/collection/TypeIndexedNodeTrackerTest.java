@@ -0,0 +1,104 @@
+package com.vladsch.flexmark.util.collection;
+
+import com.vladsch.flexmark.ast.DoNotDecorate;
+import com.vladsch.flexmark.ast.Document;
+import com.vladsch.flexmark.ast.Node;
+import com.vladsch.flexmark.util.options.MutableDataSet;
+import com.vladsch.flexmark.util.sequence.BasedSequence;
+import org.junit.Test;
+
+import java.util.*;
+
+import static org.junit.Assert.assertEquals;
+
+public class TypeIndexedNodeTrackerTest {
+    static class TestNode extends Node {
+        final String name;
+
+        TestNode(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public BasedSequence[] getSegments() {
+            return EMPTY_SEGMENTS;
+        }
+    }
+
+    static class TestText extends TestNode {
+        TestText(String name) {
+            super(name);
+        }
+    }
+
+    static class TestCode extends TestNode implements DoNotDecorate {
+        TestCode(String name) {
+            super(name);
+        }
+    }
+
+    static Map<Class<? extends Node>, Set<Class<?>>> exclusionMap() {
+        HashMap<Class<? extends Node>, Set<Class<?>>> map = new HashMap<Class<? extends Node>, Set<Class<?>>>();
+        map.put(TestText.class, new HashSet<Class<?>>(Collections.<Class<?>>singletonList(DoNotDecorate.class)));
+        return map;
+    }
+
+    static String trackedItems(TypeIndexedNodeTracker tracker, long exclusionMask) {
+        StringBuilder sb = new StringBuilder();
+        BitSet items = tracker.getTypeItems(Collections.<Class<?>>singleton(TestText.class));
+        for (int i = items.nextSetBit(0); i >= 0; i = items.nextSetBit(i + 1)) {
+            if (sb.length() > 0) sb.append(' ');
+            sb.append(((TestNode) tracker.getItem(i)).name);
+            if ((tracker.getAncestryMask(i) & exclusionMask) != 0) sb.append('-');
+        }
+        return sb.toString();
+    }
+
+    @Test
+    public void test_documentOrderAndExclusions() {
+        Document document = new Document(new MutableDataSet(), BasedSequence.NULL);
+        TestNode paragraph = new TestNode("p");
+        TestNode code = new TestCode("code");
+        TestNode emphasis = new TestNode("em");
+
+        document.appendChild(paragraph);
+        paragraph.appendChild(new TestText("t1"));
+        paragraph.appendChild(code);
+        code.appendChild(new TestText("t2"));
+        paragraph.appendChild(new TestCode("leaf"));
+        paragraph.appendChild(emphasis);
+        emphasis.appendChild(new TestText("t3"));
+        paragraph.appendChild(new TestText("t4"));
+        document.appendChild(new TestText("t5"));
+
+        TypeIndexedNodeTracker tracker = new TypeIndexedNodeTracker(exclusionMap()).track(document);
+        long exclusionMask = tracker.getExclusionMask(Collections.<Class<?>>singleton(DoNotDecorate.class));
+
+        // excluded leaf only affects its own descendants, not following siblings
+        assertEquals("t1 t2- t3 t4 t5", trackedItems(tracker, exclusionMask));
+    }
+
+    @Test
+    public void test_nodeAdded() {
+        Document document = new Document(new MutableDataSet(), BasedSequence.NULL);
+        TestNode paragraph = new TestNode("p");
+        TestNode code = new TestCode("code");
+        document.appendChild(paragraph);
+        paragraph.appendChild(new TestText("t1"));
+        paragraph.appendChild(code);
+
+        TypeIndexedNodeTracker tracker = new TypeIndexedNodeTracker(exclusionMap()).track(document);
+        long exclusionMask = tracker.getExclusionMask(Collections.<Class<?>>singleton(DoNotDecorate.class));
+
+        TestNode added = new TestText("t2");
+        code.appendChild(added);
+        tracker.nodeAdded(added);
+
+        TestNode wrapper = new TestNode("w");
+        wrapper.appendChild(new TestText("t3"));
+        paragraph.appendChild(wrapper);
+        tracker.nodeAddedWithDescendants(wrapper);
+
+        assertEquals("t1 t2- t3", trackedItems(tracker, exclusionMask));
+    }
+}
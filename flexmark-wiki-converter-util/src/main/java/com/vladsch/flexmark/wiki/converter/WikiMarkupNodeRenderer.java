@@ -0,0 +1,585 @@
+package com.vladsch.flexmark.wiki.converter;
+
+import com.vladsch.flexmark.ast.*;
+import com.vladsch.flexmark.ast.util.ReferenceRepository;
+import com.vladsch.flexmark.html.CustomNodeRenderer;
+import com.vladsch.flexmark.html.HtmlWriter;
+import com.vladsch.flexmark.html.renderer.*;
+import com.vladsch.flexmark.parser.ListOptions;
+import com.vladsch.flexmark.parser.Parser;
+import com.vladsch.flexmark.util.html.Escaping;
+import com.vladsch.flexmark.util.options.DataHolder;
+import com.vladsch.flexmark.util.sequence.BasedSequence;
+import com.vladsch.flexmark.util.sequence.CharSubSequence;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import static com.vladsch.flexmark.util.sequence.BasedSequence.NULL;
+
+/**
+ * Base of node renderers which convert the markdown AST to wiki markup, like JIRA or YouTrack formatted text
+ * <p>
+ * Markup is output from sequences created once. Appending a String to the writer copies its characters, so markup
+ * strings are only used for text which differs per node. List item prefixes are kept in one buffer which grows and
+ * shrinks with the nesting of lists.
+ * <p>
+ * Subclasses provide the markup which differs between wiki dialects and render headings and block quotes. Each dialect
+ * also has an escape table of characters which are markup in its text, when it is given the special characters of
+ * {@link Text} and {@link HtmlEntity} output are escaped with a backslash.
+ * <p>
+ * Base shared by the JIRA and YouTrack converters, it is not part of the renderer API.
+ */
+@SuppressWarnings("WeakerAccess")
+public abstract class WikiMarkupNodeRenderer implements NodeRenderer {
+    protected static final BasedSequence SPACE = CharSubSequence.of(" ");
+    protected static final BasedSequence LINK_OPEN = CharSubSequence.of("[");
+    protected static final BasedSequence LINK_SEPARATOR = CharSubSequence.of("|");
+    protected static final BasedSequence MAILTO_SEPARATOR = CharSubSequence.of("|mailto:");
+    protected static final BasedSequence LINK_CLOSE = CharSubSequence.of("]");
+    protected static final BasedSequence IMAGE_MARKER = CharSubSequence.of("!");
+    protected static final BasedSequence STRONG_EMPHASIS_MARKER = CharSubSequence.of("*");
+    protected static final BasedSequence CODE_BLOCK = CharSubSequence.of("{code}");
+    protected static final BasedSequence CODE_BLOCK_LANG_OPEN = CharSubSequence.of("{code:lang=");
+    protected static final BasedSequence CODE_BLOCK_LANG_CLOSE = CharSubSequence.of("}");
+    protected static final BasedSequence HTML_CODE_BLOCK = CharSubSequence.of("{code:html}");
+    protected static final BasedSequence NO_FORMAT_BLOCK = CharSubSequence.of("{noformat}");
+    protected static final char ESCAPE_CHAR = '\\';
+
+    protected final ReferenceRepository referenceRepository;
+    protected final ListOptions listOptions;
+    private final BasedSequence thematicBreak;
+    private final BasedSequence emphasisMarker;
+    private final BasedSequence codeOpen;
+    private final BasedSequence codeClose;
+    private final BasedSequence[] escapes;
+    private final StringBuilder listPrefix;
+    private int listPrefixStart;
+    protected int inBlockQuote = 0;
+
+    /**
+     * @param options        options
+     * @param thematicBreak  markup of a thematic break
+     * @param emphasisMarker markup before and after emphasized text
+     * @param codeOpen       markup before inline code and inline html
+     * @param codeClose      markup after inline code and inline html
+     * @param escapes        escape table of the dialect, indexed by character, or null if text is not escaped
+     */
+    protected WikiMarkupNodeRenderer(DataHolder options, String thematicBreak, String emphasisMarker, String codeOpen, String codeClose, BasedSequence[] escapes) {
+        this.referenceRepository = options.get(Parser.REFERENCES);
+        this.listOptions = ListOptions.getFrom(options);
+        this.thematicBreak = CharSubSequence.of(thematicBreak);
+        this.emphasisMarker = CharSubSequence.of(emphasisMarker);
+        this.codeOpen = CharSubSequence.of(codeOpen);
+        this.codeClose = CharSubSequence.of(codeClose);
+        this.escapes = escapes;
+        this.listPrefix = new StringBuilder();
+        this.listPrefixStart = 0;
+    }
+
+    @Override
+    public Set<NodeRenderingHandler<?>> getNodeRenderingHandlers() {
+        return new HashSet<NodeRenderingHandler<? extends Node>>(Arrays.asList(
+                new NodeRenderingHandler<AutoLink>(AutoLink.class, new CustomNodeRenderer<AutoLink>() {
+                    @Override
+                    public void render(AutoLink node, NodeRendererContext context, HtmlWriter html) { WikiMarkupNodeRenderer.this.render(node, context, html); }
+                }),
+                new NodeRenderingHandler<BlockQuote>(BlockQuote.class, new CustomNodeRenderer<BlockQuote>() {
+                    @Override
+                    public void render(BlockQuote node, NodeRendererContext context, HtmlWriter html) { WikiMarkupNodeRenderer.this.render(node, context, html); }
+                }),
+                new NodeRenderingHandler<BulletList>(BulletList.class, new CustomNodeRenderer<BulletList>() {
+                    @Override
+                    public void render(BulletList node, NodeRendererContext context, HtmlWriter html) { WikiMarkupNodeRenderer.this.render(node, context, html); }
+                }),
+                new NodeRenderingHandler<BulletListItem>(BulletListItem.class, new CustomNodeRenderer<BulletListItem>() {
+                    @Override
+                    public void render(BulletListItem node, NodeRendererContext context, HtmlWriter html) { WikiMarkupNodeRenderer.this.render(node, context, html); }
+                }),
+                new NodeRenderingHandler<Code>(Code.class, new CustomNodeRenderer<Code>() {
+                    @Override
+                    public void render(Code node, NodeRendererContext context, HtmlWriter html) { WikiMarkupNodeRenderer.this.render(node, context, html); }
+                }),
+                new NodeRenderingHandler<Document>(Document.class, new CustomNodeRenderer<Document>() {
+                    @Override
+                    public void render(Document node, NodeRendererContext context, HtmlWriter html) { WikiMarkupNodeRenderer.this.render(node, context, html); }
+                }),
+                new NodeRenderingHandler<Emphasis>(Emphasis.class, new CustomNodeRenderer<Emphasis>() {
+                    @Override
+                    public void render(Emphasis node, NodeRendererContext context, HtmlWriter html) { WikiMarkupNodeRenderer.this.render(node, context, html); }
+                }),
+                new NodeRenderingHandler<FencedCodeBlock>(FencedCodeBlock.class, new CustomNodeRenderer<FencedCodeBlock>() {
+                    @Override
+                    public void render(FencedCodeBlock node, NodeRendererContext context, HtmlWriter html) { WikiMarkupNodeRenderer.this.render(node, context, html); }
+                }),
+                new NodeRenderingHandler<HardLineBreak>(HardLineBreak.class, new CustomNodeRenderer<HardLineBreak>() {
+                    @Override
+                    public void render(HardLineBreak node, NodeRendererContext context, HtmlWriter html) { WikiMarkupNodeRenderer.this.render(node, context, html); }
+                }),
+                new NodeRenderingHandler<Heading>(Heading.class, new CustomNodeRenderer<Heading>() {
+                    @Override
+                    public void render(Heading node, NodeRendererContext context, HtmlWriter html) { WikiMarkupNodeRenderer.this.render(node, context, html); }
+                }),
+                new NodeRenderingHandler<HtmlBlock>(HtmlBlock.class, new CustomNodeRenderer<HtmlBlock>() {
+                    @Override
+                    public void render(HtmlBlock node, NodeRendererContext context, HtmlWriter html) { WikiMarkupNodeRenderer.this.render(node, context, html); }
+                }),
+                new NodeRenderingHandler<HtmlCommentBlock>(HtmlCommentBlock.class, new CustomNodeRenderer<HtmlCommentBlock>() {
+                    @Override
+                    public void render(HtmlCommentBlock node, NodeRendererContext context, HtmlWriter html) { WikiMarkupNodeRenderer.this.render(node, context, html); }
+                }),
+                new NodeRenderingHandler<HtmlEntity>(HtmlEntity.class, new CustomNodeRenderer<HtmlEntity>() {
+                    @Override
+                    public void render(HtmlEntity node, NodeRendererContext context, HtmlWriter html) { WikiMarkupNodeRenderer.this.render(node, context, html); }
+                }),
+                new NodeRenderingHandler<HtmlInline>(HtmlInline.class, new CustomNodeRenderer<HtmlInline>() {
+                    @Override
+                    public void render(HtmlInline node, NodeRendererContext context, HtmlWriter html) { WikiMarkupNodeRenderer.this.render(node, context, html); }
+                }),
+                new NodeRenderingHandler<HtmlInlineComment>(HtmlInlineComment.class, new CustomNodeRenderer<HtmlInlineComment>() {
+                    @Override
+                    public void render(HtmlInlineComment node, NodeRendererContext context, HtmlWriter html) { WikiMarkupNodeRenderer.this.render(node, context, html); }
+                }),
+                new NodeRenderingHandler<HtmlInnerBlock>(HtmlInnerBlock.class, new CustomNodeRenderer<HtmlInnerBlock>() {
+                    @Override
+                    public void render(HtmlInnerBlock node, NodeRendererContext context, HtmlWriter html) { WikiMarkupNodeRenderer.this.render(node, context, html); }
+                }),
+                new NodeRenderingHandler<HtmlInnerBlockComment>(HtmlInnerBlockComment.class, new CustomNodeRenderer<HtmlInnerBlockComment>() {
+                    @Override
+                    public void render(HtmlInnerBlockComment node, NodeRendererContext context, HtmlWriter html) { WikiMarkupNodeRenderer.this.render(node, context, html); }
+                }),
+                new NodeRenderingHandler<Image>(Image.class, new CustomNodeRenderer<Image>() {
+                    @Override
+                    public void render(Image node, NodeRendererContext context, HtmlWriter html) { WikiMarkupNodeRenderer.this.render(node, context, html); }
+                }),
+                new NodeRenderingHandler<ImageRef>(ImageRef.class, new CustomNodeRenderer<ImageRef>() {
+                    @Override
+                    public void render(ImageRef node, NodeRendererContext context, HtmlWriter html) { WikiMarkupNodeRenderer.this.render(node, context, html); }
+                }),
+                new NodeRenderingHandler<IndentedCodeBlock>(IndentedCodeBlock.class, new CustomNodeRenderer<IndentedCodeBlock>() {
+                    @Override
+                    public void render(IndentedCodeBlock node, NodeRendererContext context, HtmlWriter html) { WikiMarkupNodeRenderer.this.render(node, context, html); }
+                }),
+                new NodeRenderingHandler<Link>(Link.class, new CustomNodeRenderer<Link>() {
+                    @Override
+                    public void render(Link node, NodeRendererContext context, HtmlWriter html) { WikiMarkupNodeRenderer.this.render(node, context, html); }
+                }),
+                new NodeRenderingHandler<LinkRef>(LinkRef.class, new CustomNodeRenderer<LinkRef>() {
+                    @Override
+                    public void render(LinkRef node, NodeRendererContext context, HtmlWriter html) { WikiMarkupNodeRenderer.this.render(node, context, html); }
+                }),
+                new NodeRenderingHandler<MailLink>(MailLink.class, new CustomNodeRenderer<MailLink>() {
+                    @Override
+                    public void render(MailLink node, NodeRendererContext context, HtmlWriter html) { WikiMarkupNodeRenderer.this.render(node, context, html); }
+                }),
+                new NodeRenderingHandler<OrderedList>(OrderedList.class, new CustomNodeRenderer<OrderedList>() {
+                    @Override
+                    public void render(OrderedList node, NodeRendererContext context, HtmlWriter html) { WikiMarkupNodeRenderer.this.render(node, context, html); }
+                }),
+                new NodeRenderingHandler<OrderedListItem>(OrderedListItem.class, new CustomNodeRenderer<OrderedListItem>() {
+                    @Override
+                    public void render(OrderedListItem node, NodeRendererContext context, HtmlWriter html) { WikiMarkupNodeRenderer.this.render(node, context, html); }
+                }),
+                new NodeRenderingHandler<Paragraph>(Paragraph.class, new CustomNodeRenderer<Paragraph>() {
+                    @Override
+                    public void render(Paragraph node, NodeRendererContext context, HtmlWriter html) { WikiMarkupNodeRenderer.this.render(node, context, html); }
+                }),
+                new NodeRenderingHandler<Reference>(Reference.class, new CustomNodeRenderer<Reference>() {
+                    @Override
+                    public void render(Reference node, NodeRendererContext context, HtmlWriter html) { WikiMarkupNodeRenderer.this.render(node, context, html); }
+                }),
+                new NodeRenderingHandler<SoftLineBreak>(SoftLineBreak.class, new CustomNodeRenderer<SoftLineBreak>() {
+                    @Override
+                    public void render(SoftLineBreak node, NodeRendererContext context, HtmlWriter html) { WikiMarkupNodeRenderer.this.render(node, context, html); }
+                }),
+                new NodeRenderingHandler<StrongEmphasis>(StrongEmphasis.class, new CustomNodeRenderer<StrongEmphasis>() {
+                    @Override
+                    public void render(StrongEmphasis node, NodeRendererContext context, HtmlWriter html) { WikiMarkupNodeRenderer.this.render(node, context, html); }
+                }),
+                new NodeRenderingHandler<Text>(Text.class, new CustomNodeRenderer<Text>() {
+                    @Override
+                    public void render(Text node, NodeRendererContext context, HtmlWriter html) { WikiMarkupNodeRenderer.this.render(node, context, html); }
+                }),
+                new NodeRenderingHandler<TextBase>(TextBase.class, new CustomNodeRenderer<TextBase>() {
+                    @Override
+                    public void render(TextBase node, NodeRendererContext context, HtmlWriter html) { WikiMarkupNodeRenderer.this.render(node, context, html); }
+                }),
+                new NodeRenderingHandler<ThematicBreak>(ThematicBreak.class, new CustomNodeRenderer<ThematicBreak>() {
+                    @Override
+                    public void render(ThematicBreak node, NodeRendererContext context, HtmlWriter html) { WikiMarkupNodeRenderer.this.render(node, context, html); }
+                })
+        ));
+    }
+
+    protected abstract void render(Heading node, NodeRendererContext context, HtmlWriter html);
+
+    protected abstract void render(BlockQuote node, NodeRendererContext context, HtmlWriter html);
+
+    /**
+     * Output text which has no markup, only EOLs are normalized
+     *
+     * @param text text to output
+     * @param html writer
+     */
+    protected static void renderText(BasedSequence text, HtmlWriter html) {
+        if (text.indexOf('\r') == -1) {
+            html.raw(text);
+        } else {
+            html.raw(Escaping.normalizeEOL(text));
+        }
+    }
+
+    /**
+     * Create an escape table which escapes the given characters with a backslash
+     *
+     * @param specialChars characters which are markup in text of the dialect
+     * @return escape table with the escaped sequence of each special character and null for all others
+     */
+    protected static BasedSequence[] escapeTable(String specialChars) {
+        int size = 0;
+        for (int i = 0; i < specialChars.length(); i++) {
+            size = Math.max(size, specialChars.charAt(i) + 1);
+        }
+
+        BasedSequence[] escapes = new BasedSequence[size];
+        for (int i = 0; i < specialChars.length(); i++) {
+            char c = specialChars.charAt(i);
+            escapes[c] = CharSubSequence.of(String.valueOf(new char[] { ESCAPE_CHAR, c }));
+        }
+        return escapes;
+    }
+
+    /**
+     * Output text with special characters of the dialect escaped, EOLs must already be normalized
+     *
+     * @param text text to output
+     * @param html writer
+     */
+    private void renderEscapedText(CharSequence text, HtmlWriter html) {
+        int length = text.length();
+        int lastPos = 0;
+
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+            if (c < escapes.length && escapes[c] != null) {
+                if (i > lastPos) html.raw(text.subSequence(lastPos, i));
+                html.raw(escapes[c]);
+                lastPos = i + 1;
+            }
+        }
+
+        if (lastPos == 0) {
+            html.raw(text);
+        } else if (lastPos < length) {
+            html.raw(text.subSequence(lastPos, length));
+        }
+    }
+
+    /**
+     * @param c      character output as text
+     * @param markup sequence of the character
+     * @return escaped sequence of the character when it is escaped in text of the dialect, markup otherwise
+     */
+    private BasedSequence escaped(char c, BasedSequence markup) {
+        return escapes != null && c < escapes.length && escapes[c] != null ? escapes[c] : markup;
+    }
+
+    private void render(Document node, NodeRendererContext context, HtmlWriter html) {
+        // No rendering itself
+        context.renderChildren(node);
+    }
+
+    private void render(FencedCodeBlock node, NodeRendererContext context, HtmlWriter html) {
+        BasedSequence info = node.getInfo();
+        if (info.isNotNull() && !info.isBlank()) {
+            html.line().raw(CODE_BLOCK_LANG_OPEN).raw(info.unescape()).raw(CODE_BLOCK_LANG_CLOSE).line();
+        } else {
+            html.line().raw(CODE_BLOCK).line();
+        }
+
+        renderText(node.getContentChars(), html);
+        html.line().raw(CODE_BLOCK).blankLine();
+    }
+
+    private void render(ThematicBreak node, NodeRendererContext context, HtmlWriter html) {
+        html.line().raw(thematicBreak).blankLine();
+    }
+
+    private void render(IndentedCodeBlock node, NodeRendererContext context, HtmlWriter html) {
+        html.line().raw(NO_FORMAT_BLOCK).line();
+        html.raw(node.getContentChars().trimTailBlankLines().normalizeEndWithEOL());
+        html.line().raw(NO_FORMAT_BLOCK).line();
+    }
+
+    private void renderListItem(ListItem node, NodeRendererContext context, HtmlWriter html) {
+        // prefix has a marker for each list, from the item's list up to the first one which is not in a list item
+        html.line().append(listPrefix, listPrefixStart, listPrefix.length()).raw(SPACE);
+
+        context.renderChildren(node);
+        if (!listOptions.isTightListItem(node)) {
+            if (node.getFirstChild() != null && node.getFirstChild().getNext() != null) {
+                html.blankLine();
+            }
+        }
+    }
+
+    private void renderList(ListBlock node, char marker, NodeRendererContext context, HtmlWriter html) {
+        int savedPrefixStart = listPrefixStart;
+        if (!(node.getParent() instanceof ListItem)) listPrefixStart = listPrefix.length();
+        listPrefix.insert(listPrefixStart, marker);
+
+        context.renderChildren(node);
+
+        listPrefix.deleteCharAt(listPrefixStart);
+        listPrefixStart = savedPrefixStart;
+
+        if (node.getParent() instanceof Document) {
+            if (node.getLastChild() == null || listOptions.isTightListItem((ListItem) node.getLastChild())) {
+                html.blankLine();
+            }
+        }
+    }
+
+    private void render(BulletList node, NodeRendererContext context, HtmlWriter html) {
+        renderList(node, '*', context, html);
+    }
+
+    private void render(OrderedList node, NodeRendererContext context, HtmlWriter html) {
+        renderList(node, '#', context, html);
+    }
+
+    private void render(BulletListItem node, NodeRendererContext context, HtmlWriter html) {
+        renderListItem(node, context, html);
+    }
+
+    private void render(OrderedListItem node, NodeRendererContext context, HtmlWriter html) {
+        renderListItem(node, context, html);
+    }
+
+    private static void renderTextBlockParagraphLines(Node node, NodeRendererContext context, HtmlWriter html) {
+        context.renderChildren(node);
+        html.line();
+    }
+
+    private void renderLooseParagraph(final Paragraph node, final NodeRendererContext context, final HtmlWriter html) {
+        renderTextBlockParagraphLines(node, context, html);
+
+        if (inBlockQuote > 0 && node.getNext() == null) {
+            html.line();
+        } else {
+            html.blankLine();
+        }
+    }
+
+    private void render(Paragraph node, NodeRendererContext context, HtmlWriter html) {
+        if (!(node.getParent() instanceof ParagraphItemContainer)
+                || !((ParagraphItemContainer) node.getParent()).isParagraphWrappingDisabled(node, listOptions, context.getOptions())) {
+            renderLooseParagraph(node, context, html);
+        } else {
+            renderTextBlockParagraphLines(node, context, html);
+        }
+    }
+
+    public static BasedSequence getSoftLineBreakSpan(Node node) {
+        if (node == null) return NULL;
+
+        Node lastNode = node;
+        Node nextNode = node.getNext();
+
+        while (nextNode != null && !(nextNode instanceof SoftLineBreak)) {
+            lastNode = nextNode;
+            nextNode = nextNode.getNext();
+        }
+
+        return Node.spanningChars(node.getChars(), lastNode.getChars());
+    }
+
+    private void render(SoftLineBreak node, NodeRendererContext context, HtmlWriter html) {
+        html.raw(SPACE);
+    }
+
+    private void render(HardLineBreak node, NodeRendererContext context, HtmlWriter html) {
+        html.line();
+    }
+
+    private void render(Emphasis node, NodeRendererContext context, HtmlWriter html) {
+        html.raw(emphasisMarker);
+        context.renderChildren(node);
+        html.raw(emphasisMarker);
+    }
+
+    private void render(StrongEmphasis node, NodeRendererContext context, HtmlWriter html) {
+        html.raw(STRONG_EMPHASIS_MARKER);
+        context.renderChildren(node);
+        html.raw(STRONG_EMPHASIS_MARKER);
+    }
+
+    private void render(Text node, NodeRendererContext context, HtmlWriter html) {
+        BasedSequence chars = node.getChars();
+        if (escapes != null) {
+            String text = chars.unescape();
+            renderEscapedText(text.indexOf('\r') == -1 ? text : Escaping.normalizeEOL(text), html);
+        } else if (chars.indexOfAny('\\', '&') == -1) {
+            renderText(chars, html);
+        } else {
+            html.raw(Escaping.normalizeEOL(chars.unescape()));
+        }
+    }
+
+    private void render(TextBase node, NodeRendererContext context, HtmlWriter html) {
+        context.renderChildren(node);
+    }
+
+    private void render(Code node, NodeRendererContext context, HtmlWriter html) {
+        html.raw(codeOpen);
+        html.raw(Escaping.collapseWhitespace(node.getText(), true));
+        html.raw(codeClose);
+    }
+
+    private void render(HtmlBlock node, NodeRendererContext context, HtmlWriter html) {
+        if (node.hasChildren()) {
+            // inner blocks handle rendering
+            context.renderChildren(node);
+        } else {
+            renderHtmlBlock(node, context, html, context.getHtmlOptions().suppressHtmlBlocks, context.getHtmlOptions().escapeHtmlBlocks);
+        }
+    }
+
+    private void render(HtmlCommentBlock node, NodeRendererContext context, HtmlWriter html) {
+        renderHtmlBlock(node, context, html, context.getHtmlOptions().suppressHtmlCommentBlocks, context.getHtmlOptions().escapeHtmlCommentBlocks);
+    }
+
+    private void render(HtmlInnerBlock node, NodeRendererContext context, HtmlWriter html) {
+        renderHtmlBlock(node, context, html, context.getHtmlOptions().suppressHtmlBlocks, context.getHtmlOptions().escapeHtmlBlocks);
+    }
+
+    private void render(HtmlInnerBlockComment node, NodeRendererContext context, HtmlWriter html) {
+        renderHtmlBlock(node, context, html, context.getHtmlOptions().suppressHtmlCommentBlocks, context.getHtmlOptions().escapeHtmlCommentBlocks);
+    }
+
+    public void renderHtmlBlock(HtmlBlockBase node, NodeRendererContext context, HtmlWriter html, boolean suppress, boolean escape) {
+        if (suppress) return;
+
+        html.line().raw(HTML_CODE_BLOCK).line();
+        renderText(node.getContentChars(), html);
+        html.line().raw(HTML_CODE_BLOCK).line();
+    }
+
+    private void render(HtmlInline node, NodeRendererContext context, HtmlWriter html) {
+        renderInlineHtml(node, context, html, context.getHtmlOptions().suppressInlineHtml, context.getHtmlOptions().escapeInlineHtml);
+    }
+
+    private void render(HtmlInlineComment node, NodeRendererContext context, HtmlWriter html) {
+        renderInlineHtml(node, context, html, context.getHtmlOptions().suppressInlineHtmlComments, context.getHtmlOptions().escapeInlineHtmlComments);
+    }
+
+    public void renderInlineHtml(HtmlInlineBase node, NodeRendererContext context, HtmlWriter html, boolean suppress, boolean escape) {
+        if (suppress) return;
+        html.raw(codeOpen);
+        renderText(node.getChars(), html);
+        html.raw(codeClose);
+    }
+
+    private void render(Reference node, NodeRendererContext context, HtmlWriter html) {
+
+    }
+
+    private void render(HtmlEntity node, NodeRendererContext context, HtmlWriter html) {
+        if (escapes != null) {
+            renderEscapedText(node.getChars().unescape(), html);
+        } else {
+            html.raw(node.getChars().unescape());
+        }
+    }
+
+    private void render(AutoLink node, NodeRendererContext context, HtmlWriter html) {
+        BasedSequence text = node.getText();
+        if (context.isDoNotRenderLinks()) {
+            html.text(text);
+        } else {
+            ResolvedLink resolvedLink = context.resolveLink(LinkType.LINK, text, null);
+            html.raw(LINK_OPEN).raw(text).raw(LINK_SEPARATOR).raw(resolvedLink.getUrl()).raw(LINK_CLOSE);
+        }
+    }
+
+    private void render(MailLink node, NodeRendererContext context, HtmlWriter html) {
+        String text = node.getText().unescape();
+        if (context.isDoNotRenderLinks()) {
+            html.text(text);
+        } else {
+            ResolvedLink resolvedLink = context.resolveLink(LinkType.LINK, text, null);
+            html.raw(LINK_OPEN).raw(text).raw(MAILTO_SEPARATOR).raw(resolvedLink.getUrl()).raw(LINK_CLOSE);
+        }
+    }
+
+    private void render(Image node, NodeRendererContext context, HtmlWriter html) {
+        if (!context.isDoNotRenderLinks()) {
+            ResolvedLink resolvedLink = context.resolveLink(LinkType.IMAGE, node.getUrl().unescape(), null);
+            html.raw(IMAGE_MARKER).raw(resolvedLink.getUrl()).raw(IMAGE_MARKER);
+        }
+    }
+
+    private void render(Link node, NodeRendererContext context, HtmlWriter html) {
+        if (context.isDoNotRenderLinks()) {
+            context.renderChildren(node);
+        } else {
+            ResolvedLink resolvedLink = context.resolveLink(LinkType.LINK, node.getUrl().unescape(), null);
+            html.raw(LINK_OPEN);
+            context.renderChildren(node);
+            html.raw(LINK_SEPARATOR).raw(resolvedLink.getUrl()).raw(LINK_CLOSE);
+        }
+    }
+
+    private void render(ImageRef node, NodeRendererContext context, HtmlWriter html) {
+        if (!node.isDefined()) {
+            // empty ref, we treat it as text
+            html.text(node.getChars().unescape());
+        } else {
+            if (!context.isDoNotRenderLinks()) {
+                Reference reference = node.getReferenceNode(referenceRepository);
+                assert reference != null;
+
+                ResolvedLink resolvedLink = context.resolveLink(LinkType.IMAGE, reference.getUrl().unescape(), null);
+                html.raw(IMAGE_MARKER).raw(resolvedLink.getUrl()).raw(IMAGE_MARKER);
+            }
+        }
+    }
+
+    private void render(LinkRef node, NodeRendererContext context, HtmlWriter html) {
+        if (!node.isDefined()) {
+            // empty ref, we treat it as text
+            BasedSequence linkOpen = escaped('[', LINK_OPEN);
+            BasedSequence linkClose = escaped(']', LINK_CLOSE);
+
+            html.raw(linkOpen);
+            context.renderChildren(node);
+            html.raw(linkClose);
+
+            if (!node.isReferenceTextCombined()) {
+                html.raw(linkOpen);
+                if (escapes != null) {
+                    renderEscapedText(node.getReference().unescape(), html);
+                } else {
+                    html.raw(node.getReference().unescape());
+                }
+                html.raw(linkClose);
+            }
+        } else {
+            if (context.isDoNotRenderLinks()) {
+                context.renderChildren(node);
+            } else {
+                Reference reference = node.getReferenceNode(referenceRepository);
+                assert reference != null;
+
+                ResolvedLink resolvedLink = context.resolveLink(LinkType.LINK, reference.getUrl().unescape(), null);
+
+                html.raw(LINK_OPEN);
+                context.renderChildren(node);
+                html.raw(LINK_SEPARATOR);
+                html.raw(resolvedLink.getUrl());
+                html.raw(LINK_CLOSE);
+            }
+        }
+    }
+}
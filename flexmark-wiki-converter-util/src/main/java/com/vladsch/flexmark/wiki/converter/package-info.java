@@ -0,0 +1 @@
+package com.vladsch.flexmark.wiki.converter;
@@ -3,6 +3,7 @@ package com.vladsch.flexmark.youtrack.converter;
 import com.vladsch.flexmark.Extension;
 import com.vladsch.flexmark.html.HtmlRenderer;
 import com.vladsch.flexmark.parser.Parser;
+import com.vladsch.flexmark.util.options.DataKey;
 import com.vladsch.flexmark.util.options.MutableDataHolder;
 import com.vladsch.flexmark.youtrack.converter.internal.YouTrackConverterNodeRenderer;
 
@@ -18,6 +19,9 @@ import com.vladsch.flexmark.youtrack.converter.internal.YouTrackConverterNodeRen
  * </p>
  */
 public class YouTrackConverterExtension implements Parser.ParserExtension, HtmlRenderer.HtmlRendererExtension {
+    // escape YouTrack markup characters in text with a backslash
+    public static final DataKey<Boolean> ESCAPE_SPECIAL_CHARS = new DataKey<Boolean>("ESCAPE_SPECIAL_CHARS", false);
+
     private YouTrackConverterExtension() {
     }
 
@@ -31,6 +31,7 @@ public class ComboYouTrackConverterSpecTest extends ComboSpecTestCase {
         );
 
         optionsMap.put("keep-whitespace", new MutableDataSet().set(TablesExtension.TRIM_CELL_WHITESPACE, false));
+        optionsMap.put("escape-special-chars", new MutableDataSet().set(YouTrackConverterExtension.ESCAPE_SPECIAL_CHARS, true));
     }
 
     private static final Parser PARSER = Parser.builder(OPTIONS).build();
@@ -0,0 +1,293 @@
+package com.vladsch.flexmark.ast.util;
+
+import com.vladsch.flexmark.parser.Parser;
+import com.vladsch.flexmark.util.options.DataHolder;
+
+/**
+ * Hand-written scanners for inline HTML and entities.
+ * <p>
+ * Each scanner takes the sequence and a start index and returns the index after the matched construct
+ * or -1 if there is no match. The scanners are single pass and give the same results as the corresponding
+ * {@link Parsing} patterns without their backtracking on pathological input.
+ */
+public class HtmlScanner {
+    public static final int MAX_ENTITY_DIGITS = 8;
+    public static final int MAX_ENTITY_NAME = 32;
+
+    public final boolean intellijDummyIdentifier;
+
+    public HtmlScanner(DataHolder options) {
+        this.intellijDummyIdentifier = Parser.INTELLIJ_DUMMY_IDENTIFIER.getFrom(options);
+    }
+
+    private boolean isAdditionalChar(char c) {
+        return intellijDummyIdentifier && c == '\u001f';
+    }
+
+    private static boolean isAsciiLetter(char c) {
+        return c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z';
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isHexDigit(char c) {
+        return c >= '0' && c <= '9' || c >= 'a' && c <= 'f' || c >= 'A' && c <= 'F';
+    }
+
+    /**
+     * Test for regex \s character
+     *
+     * @param c character to test
+     * @return true if white space
+     */
+    public static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    private static int skipWhitespace(CharSequence s, int index, int length) {
+        int i = index;
+        while (i < length && isWhitespace(s.charAt(i))) i++;
+        return i;
+    }
+
+    private static int indexOf(CharSequence s, String pattern, int index, int length) {
+        int iMax = length - pattern.length();
+        char first = pattern.charAt(0);
+        for (int i = index; i <= iMax; i++) {
+            if (s.charAt(i) == first && regionMatches(s, i, pattern, length)) return i;
+        }
+        return -1;
+    }
+
+    private static boolean regionMatches(CharSequence s, int index, String pattern, int length) {
+        int iMax = pattern.length();
+        if (index + iMax > length) return false;
+        for (int i = 0; i < iMax; i++) {
+            if (s.charAt(index + i) != pattern.charAt(i)) return false;
+        }
+        return true;
+    }
+
+    private static boolean regionMatchesIgnoreCase(CharSequence s, int index, String pattern, int length) {
+        int iMax = pattern.length();
+        if (index + iMax > length) return false;
+        for (int i = 0; i < iMax; i++) {
+            char c = s.charAt(index + i);
+            if (c >= 'a' && c <= 'z') c -= 'a' - 'A';
+            if (c != pattern.charAt(i)) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Scan an entity, same as {@link Parsing#ENTITY_HERE}
+     *
+     * @param s     characters to scan
+     * @param index index of the &amp;
+     * @return index after the terminating ; or -1 if no match
+     */
+    public int scanEntity(CharSequence s, int index) {
+        int length = s.length();
+        if (index + 1 >= length || s.charAt(index) != '&') return -1;
+
+        int i = index + 1;
+        char c = s.charAt(i);
+        int start;
+
+        if (c == '#') {
+            i++;
+            if (i < length && (s.charAt(i) == 'x' || s.charAt(i) == 'X')) {
+                start = ++i;
+                while (i < length && (isHexDigit(s.charAt(i)) || isAdditionalChar(s.charAt(i)))) i++;
+            } else {
+                start = i;
+                while (i < length && isDigit(s.charAt(i))) i++;
+            }
+
+            if (i == start || i - start > MAX_ENTITY_DIGITS) return -1;
+        } else {
+            start = i;
+            if (!isAsciiLetter(c) && !isAdditionalChar(c)) return -1;
+            i++;
+            while (i < length && (isAsciiLetter(s.charAt(i)) || isDigit(s.charAt(i)) || isAdditionalChar(s.charAt(i)))) i++;
+
+            if (i - start < 2 || i - start > MAX_ENTITY_NAME) return -1;
+        }
+
+        return i < length && s.charAt(i) == ';' ? i + 1 : -1;
+    }
+
+    private boolean isTagNameStart(char c) {
+        return isAsciiLetter(c) || isAdditionalChar(c);
+    }
+
+    private boolean isTagNameChar(char c) {
+        return isAsciiLetter(c) || isDigit(c) || c == '-' || isAdditionalChar(c);
+    }
+
+    private boolean isAttributeNameStart(char c) {
+        return isAsciiLetter(c) || c == '_' || c == ':' || isAdditionalChar(c);
+    }
+
+    private boolean isAttributeNameChar(char c) {
+        return isAsciiLetter(c) || isDigit(c) || c == ':' || c == '.' || c == '_' || c == '-' || isAdditionalChar(c);
+    }
+
+    private boolean isUnquotedValueChar(char c) {
+        switch (c) {
+            case '"':
+            case '\'':
+            case '=':
+            case '<':
+            case '>':
+            case '`':
+                return false;
+            default:
+                return c > ' ' || isAdditionalChar(c);
+        }
+    }
+
+    /**
+     * Scan an HTML tag, comment, processing instruction, declaration or CDATA section, same as {@link Parsing#HTML_TAG}
+     *
+     * @param s     characters to scan
+     * @param index index of the opening &lt;
+     * @return index after the closing &gt; or -1 if no match
+     */
+    public int scanHtmlTag(CharSequence s, int index) {
+        int length = s.length();
+        if (index + 2 >= length || s.charAt(index) != '<') return -1;
+
+        char c = s.charAt(index + 1);
+        if (isTagNameStart(c)) {
+            return scanOpenTag(s, index, length);
+        } else if (c == '/') {
+            return scanCloseTag(s, index, length);
+        } else if (c == '?') {
+            return scanProcessingInstruction(s, index, length);
+        } else if (c == '!') {
+            char next = s.charAt(index + 2);
+            if (next == '-') {
+                return scanComment(s, index, length);
+            } else if (next == '[') {
+                return scanCData(s, index, length);
+            } else {
+                return scanDeclaration(s, index, length);
+            }
+        }
+        return -1;
+    }
+
+    private int scanOpenTag(CharSequence s, int index, int length) {
+        int i = index + 2;
+        while (i < length && isTagNameChar(s.charAt(i))) i++;
+
+        // attributes
+        while (true) {
+            int nameStart = skipWhitespace(s, i, length);
+            if (nameStart == i || nameStart >= length || !isAttributeNameStart(s.charAt(nameStart))) break;
+
+            i = nameStart + 1;
+            while (i < length && isAttributeNameChar(s.charAt(i))) i++;
+
+            // optional value, attribute without value if value is not valid
+            int pos = skipWhitespace(s, i, length);
+            if (pos < length && s.charAt(pos) == '=') {
+                pos = skipWhitespace(s, pos + 1, length);
+                if (pos < length) {
+                    char quote = s.charAt(pos);
+                    if (quote == '\'' || quote == '"') {
+                        int end = pos + 1;
+                        while (end < length && s.charAt(end) != quote) end++;
+                        if (end < length) i = end + 1;
+                    } else if (isUnquotedValueChar(quote)) {
+                        int end = pos + 1;
+                        while (end < length && isUnquotedValueChar(s.charAt(end))) end++;
+                        i = end;
+                    }
+                }
+            }
+        }
+
+        i = skipWhitespace(s, i, length);
+        if (i < length && s.charAt(i) == '/') i++;
+        return i < length && s.charAt(i) == '>' ? i + 1 : -1;
+    }
+
+    private int scanCloseTag(CharSequence s, int index, int length) {
+        int i = index + 2;
+        if (!isTagNameStart(s.charAt(i))) return -1;
+
+        i++;
+        while (i < length && isTagNameChar(s.charAt(i))) i++;
+
+        i = skipWhitespace(s, i, length);
+        return i < length && s.charAt(i) == '>' ? i + 1 : -1;
+    }
+
+    private int scanComment(CharSequence s, int index, int length) {
+        if (!regionMatches(s, index, "<!--", length)) return -1;
+        if (regionMatches(s, index, "<!---->", length)) return index + 7;
+
+        // text does not start with > or ->, does not contain -- and does not end with -
+        int i = index + 4;
+        if (i >= length) return -1;
+
+        char c = s.charAt(i);
+        if (c == '-') {
+            if (i + 1 >= length) return -1;
+            c = s.charAt(i + 1);
+            if (c == '>' || c == '-') return -1;
+            i += 2;
+        } else if (c == '>') {
+            return -1;
+        } else {
+            i++;
+        }
+
+        while (i < length) {
+            if (s.charAt(i) == '-') {
+                if (i + 1 >= length) return -1;
+                if (s.charAt(i + 1) == '-') break;
+                i += 2;
+            } else {
+                i++;
+            }
+        }
+
+        return regionMatches(s, i, "-->", length) ? i + 3 : -1;
+    }
+
+    private int scanProcessingInstruction(CharSequence s, int index, int length) {
+        // . does not match line terminators
+        int i = index + 2;
+        while (i + 1 < length) {
+            char c = s.charAt(i);
+            if (c == '?' && s.charAt(i + 1) == '>') return i + 2;
+            if (LinkScanner.isLineTerminator(c)) break;
+            i++;
+        }
+        return -1;
+    }
+
+    private int scanDeclaration(CharSequence s, int index, int length) {
+        int i = index + 2;
+        while (i < length && (isAsciiLetter(s.charAt(i)) || isAdditionalChar(s.charAt(i)))) i++;
+        if (i == index + 2 || i >= length || !isWhitespace(s.charAt(i))) return -1;
+
+        while (i < length) {
+            if (s.charAt(i) == '>') return i + 1;
+            i++;
+        }
+        return -1;
+    }
+
+    private int scanCData(CharSequence s, int index, int length) {
+        if (!regionMatchesIgnoreCase(s, index, "<![CDATA[", length)) return -1;
+
+        int end = indexOf(s, "]]>", index + 9, length);
+        return end == -1 ? -1 : end + 3;
+    }
+}
@@ -0,0 +1,577 @@
+package com.vladsch.flexmark.ast.util;
+
+import com.vladsch.flexmark.parser.Parser;
+import com.vladsch.flexmark.util.options.DataHolder;
+
+/**
+ * Hand-written scanners for link elements: labels, destinations, titles and autolinks.
+ * <p>
+ * Each scanner takes the sequence and a start index and returns the index after the matched construct
+ * or -1 if there is no match, so a single cursor can be threaded through all of them without allocating
+ * a {@link java.util.regex.Matcher} or any sub-sequences.
+ * <p>
+ * The scanners give exactly the same results as the corresponding {@link Parsing} patterns, including
+ * the cases where the patterns backtrack over escaped closing markers, so they can be used in place of
+ * those patterns without affecting the resulting AST.
+ */
+public class LinkScanner {
+    // maximum number of repetitions in Parsing.LINK_LABEL
+    public static final int MAX_LINK_LABEL_REPEAT = 999;
+    // maximum nesting of matched parentheses in link destinations
+    public static final int MAX_LINK_PAREN_NESTING = 32;
+
+    public final boolean intellijDummyIdentifier;
+    public final boolean spaceInLinkUrls;
+    public final boolean parseJekyllMacrosInUrls;
+    public final boolean linksAllowMatchedParentheses;
+
+    public LinkScanner(DataHolder options) {
+        this.intellijDummyIdentifier = Parser.INTELLIJ_DUMMY_IDENTIFIER.getFrom(options);
+        this.spaceInLinkUrls = Parser.SPACE_IN_LINK_URLS.getFrom(options);
+        this.parseJekyllMacrosInUrls = Parser.PARSE_JEKYLL_MACROS_IN_URLS.getFrom(options);
+        this.linksAllowMatchedParentheses = Parser.LINKS_ALLOW_MATCHED_PARENTHESES.getFrom(options);
+    }
+
+    /**
+     * Test if the character can be backslash escaped, same as {@link com.vladsch.flexmark.util.html.Escaping#ESCAPABLE}
+     *
+     * @param c character to test
+     * @return true if ASCII punctuation
+     */
+    public static boolean isEscapable(char c) {
+        return c >= '!' && c <= '/' || c >= ':' && c <= '@' || c >= '[' && c <= '`' || c >= '{' && c <= '~';
+    }
+
+    /**
+     * Test for characters excluded from URLs, same as {@link Parsing#EXCLUDED_0_TO_SPACE()}
+     *
+     * @param c character to test
+     * @return true if excluded
+     */
+    public boolean isExcluded(char c) {
+        return c <= ' ' && !(intellijDummyIdentifier && c == '\u001f');
+    }
+
+    private static int countBackslashes(CharSequence s, int index, int length) {
+        int i = index;
+        while (i < length && s.charAt(i) == '\\') i++;
+        return i - index;
+    }
+
+    /**
+     * Scan a link label, same as {@link Parsing#LINK_LABEL}
+     * <p>
+     * An escaped closing bracket preceded by an odd number of backslashes will be used as the closing bracket
+     * of the label if no unescaped closing bracket follows, just like backtracking in the regex does.
+     *
+     * @param s     characters to scan
+     * @param index index of the opening [
+     * @return index after the closing ] or -1 if no label
+     */
+    public int scanLinkLabel(CharSequence s, int index) {
+        int length = s.length();
+        if (index >= length || s.charAt(index) != '[') return -1;
+
+        int fallback = -1;
+        int count = 0;
+        int i = index + 1;
+
+        while (i < length) {
+            char c = s.charAt(i);
+
+            if (c == ']') {
+                return i + 1;
+            } else if (c == '[') {
+                break;
+            } else if (c == '\\') {
+                int backslashes = countBackslashes(s, i, length);
+                int runEnd = i + backslashes;
+                if (runEnd >= length) break;
+
+                char next = s.charAt(runEnd);
+                boolean even = (backslashes & 1) == 0;
+
+                if (next == ']' && even) {
+                    if (count + backslashes / 2 <= MAX_LINK_LABEL_REPEAT) return runEnd + 1;
+                    break;
+                }
+
+                // minimum number of repeats needed to get past the escaped character
+                count += backslashes / 2 + (even || isEscapable(next) ? 1 : 2);
+                if (count > MAX_LINK_LABEL_REPEAT) break;
+
+                // odd escaped ] can close the label if nothing after it does
+                if (next == ']') fallback = runEnd + 1;
+                i = runEnd + 1;
+            } else {
+                if (++count > MAX_LINK_LABEL_REPEAT) break;
+                i++;
+            }
+        }
+        return fallback;
+    }
+
+    /**
+     * Scan zero or more spaces or tabs
+     *
+     * @param s     characters to scan
+     * @param index index from which to scan
+     * @return index after spaces and tabs
+     */
+    public static int scanSp(CharSequence s, int index) {
+        int length = s.length();
+        int i = index;
+        while (i < length) {
+            char c = s.charAt(i);
+            if (c != ' ' && c != '\t') break;
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * Scan an end of line sequence: \r\n, \r or \n
+     *
+     * @param s     characters to scan
+     * @param index index from which to scan
+     * @return index after EOL or -1 if not at EOL
+     */
+    public static int scanEol(CharSequence s, int index) {
+        int length = s.length();
+        if (index < length) {
+            char c = s.charAt(index);
+            if (c == '\n') return index + 1;
+            if (c == '\r') return index + 1 < length && s.charAt(index + 1) == '\n' ? index + 2 : index + 1;
+        }
+        return -1;
+    }
+
+    /**
+     * Scan spaces and tabs with at most one EOL, same as {@link Parsing#SPNL}
+     *
+     * @param s     characters to scan
+     * @param index index from which to scan
+     * @return index after matched characters
+     */
+    public static int scanSpnl(CharSequence s, int index) {
+        int i = scanSp(s, index);
+        int eol = scanEol(s, i);
+        return eol == -1 ? i : scanSp(s, eol);
+    }
+
+    /**
+     * Scan optional spaces and tabs followed by EOL or end of input, same as {@link Parsing#LINE_END}
+     *
+     * @param s     characters to scan
+     * @param index index from which to scan
+     * @return index after matched characters or -1 if not at line end
+     */
+    public static int scanLineEnd(CharSequence s, int index) {
+        int length = s.length();
+        int i = scanSp(s, index);
+        if (i == length) return i;
+
+        int eol = scanEol(s, i);
+        if (eol != -1) return eol;
+
+        // $ also matches before a final line terminator
+        if (i == length - 1) {
+            char c = s.charAt(i);
+            if (c == '\u0085' || c == '\u2028' || c == '\u2029') return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Test for a line terminator, these are not matched by . in a regex
+     *
+     * @param c character to test
+     * @return true if line terminator
+     */
+    public static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+
+    /**
+     * Scan to end of line including the EOL, same as {@link Parsing#REST_OF_LINE}
+     *
+     * @param s     characters to scan
+     * @param index index from which to scan
+     * @return index after EOL or -1 if no EOL
+     */
+    public static int scanRestOfLine(CharSequence s, int index) {
+        int length = s.length();
+        int i = index;
+        while (i < length && !isLineTerminator(s.charAt(i))) i++;
+        return scanEol(s, i);
+    }
+
+    /**
+     * Scan a link destination in angle brackets, same as {@link Parsing#LINK_DESTINATION_ANGLES}
+     *
+     * @param s     characters to scan
+     * @param index index of the opening &lt;
+     * @return index after closing &gt; or -1 if no match
+     */
+    public int scanLinkDestinationAngles(CharSequence s, int index) {
+        int length = s.length();
+        if (index >= length || s.charAt(index) != '<') return -1;
+
+        int fallback = -1;
+        int i = index + 1;
+
+        while (i < length) {
+            char c = s.charAt(i);
+
+            if (c == '>') {
+                return i + 1;
+            } else if (c == '\\') {
+                int backslashes = countBackslashes(s, i, length);
+                int runEnd = i + backslashes;
+                if (runEnd >= length) break;
+
+                char next = s.charAt(runEnd);
+                if (next == '>') {
+                    if ((backslashes & 1) == 0) return runEnd + 1;
+                    fallback = runEnd + 1;
+                } else if (!isEscapable(next) && !isAngleDestinationChar(s, runEnd, length)) {
+                    break;
+                }
+                i = runEnd + 1;
+            } else if (isAngleDestinationChar(s, i, length)) {
+                i++;
+            } else {
+                break;
+            }
+        }
+        return fallback;
+    }
+
+    private boolean isAngleDestinationChar(CharSequence s, int i, int length) {
+        char c = s.charAt(i);
+        switch (c) {
+            case '<':
+            case '>':
+            case '\t':
+            case '\n':
+            case '\\':
+            case '\0':
+                return false;
+
+            case ' ':
+                return spaceInLinkUrls && (i + 1 >= length || s.charAt(i + 1) != '"');
+
+            default:
+                return true;
+        }
+    }
+
+    /**
+     * Test for URL characters other than backslash and parentheses, same as {@link Parsing#REG_CHAR} or
+     * {@link Parsing#REG_CHAR_SP} depending on {@link Parser#SPACE_IN_LINK_URLS}
+     *
+     * @param s      characters
+     * @param i      index of character to test
+     * @param length length of characters
+     * @return true if regular link destination character
+     */
+    public boolean isDestinationChar(CharSequence s, int i, int length) {
+        char c = s.charAt(i);
+        if (c == '\\' || c == '(' || c == ')') return false;
+        if (c == ' ') return spaceInLinkUrls && (i + 1 >= length || s.charAt(i + 1) != '"');
+        return !isExcluded(c);
+    }
+
+    /**
+     * Scan a jekyll macro in a link destination, same as {@link Parsing#IN_BRACES_W_SP}
+     *
+     * @param s     characters to scan
+     * @param index index of the opening {{
+     * @return index after closing }} or -1 if no match
+     */
+    public int scanJekyllMacro(CharSequence s, int index) {
+        int length = s.length();
+        if (index + 1 >= length || s.charAt(index) != '{' || s.charAt(index + 1) != '{') return -1;
+
+        int i = index + 2;
+        while (i < length) {
+            char c = s.charAt(i);
+            if (c == '{' || c == '}' || c == '\\' || isExcluded(c) && c != ' ' && c != '\t') break;
+            i++;
+        }
+
+        return i + 1 < length && s.charAt(i) == '}' && s.charAt(i + 1) == '}' ? i + 2 : -1;
+    }
+
+    /**
+     * Scan a parenthesized part of a link destination, same as {@link Parsing#IN_PARENS_NOSP} or
+     * {@link Parsing#IN_PARENS_W_SP} depending on {@link Parser#SPACE_IN_LINK_URLS}
+     *
+     * @param s     characters to scan
+     * @param index index of the opening (
+     * @return index after closing ) or -1 if no match
+     */
+    public int scanInParens(CharSequence s, int index) {
+        int length = s.length();
+        if (index >= length || s.charAt(index) != '(') return -1;
+
+        int i = index + 1;
+        while (i < length) {
+            if (isDestinationChar(s, i, length)) {
+                i++;
+            } else if (s.charAt(i) == '\\' && i + 1 < length && isEscapable(s.charAt(i + 1))) {
+                i += 2;
+            } else {
+                break;
+            }
+        }
+
+        return i < length && s.charAt(i) == ')' ? i + 1 : -1;
+    }
+
+    /**
+     * Scan a link destination not in angle brackets, same as {@link Parsing#LINK_DESTINATION_MATCHED_PARENS}
+     * followed by truncation at the first unmatched ) when {@link Parser#LINKS_ALLOW_MATCHED_PARENTHESES} is
+     * set or {@link Parsing#LINK_DESTINATION} otherwise.
+     * <p>
+     * Matched parentheses may be nested at most {@link #MAX_LINK_PAREN_NESTING} deep so that unclosed
+     * links do not cause the rest of the input to be scanned for each one.
+     *
+     * @param s     characters to scan
+     * @param index index from which to scan
+     * @return index after the destination, which may be equal to index for an empty destination, or -1 if
+     *         parentheses are nested too deep
+     */
+    public int scanLinkDestinationNoAngles(CharSequence s, int index) {
+        int length = s.length();
+        int openCount = 0;
+        int i = index;
+
+        while (i < length) {
+            char c = s.charAt(i);
+
+            if (c == '{' && parseJekyllMacrosInUrls) {
+                int end = scanJekyllMacro(s, i);
+                if (end != -1) {
+                    if (linksAllowMatchedParentheses) {
+                        // parentheses in macros count for matching
+                        for (int j = i + 2; j < end - 2; j++) {
+                            char m = s.charAt(j);
+                            if (m == '(') {
+                                if (++openCount > MAX_LINK_PAREN_NESTING) return -1;
+                            } else if (m == ')') {
+                                if (openCount == 0) return j;
+                                openCount--;
+                            }
+                        }
+                    }
+                    i = end;
+                    continue;
+                }
+            }
+
+            if (isDestinationChar(s, i, length)) {
+                i++;
+                while (i < length && isDestinationChar(s, i, length)) i++;
+            } else if (c == '\\') {
+                i += i + 1 < length && isEscapable(s.charAt(i + 1)) ? 2 : 1;
+            } else if (linksAllowMatchedParentheses) {
+                if (c == '(') {
+                    if (++openCount > MAX_LINK_PAREN_NESTING) return -1;
+                } else if (c == ')') {
+                    // truncate to first unmatched ')' and leave it to be parsed
+                    if (openCount == 0) return i;
+                    openCount--;
+                } else {
+                    break;
+                }
+                i++;
+            } else {
+                int end = scanInParens(s, i);
+                if (end == -1) break;
+                i = end;
+            }
+        }
+        return i;
+    }
+
+    /**
+     * Trim trailing spaces from a link destination not in angle brackets when spaces in link URLs are allowed
+     *
+     * @param s     characters of the destination
+     * @param start start index of the destination
+     * @param end   end index of the destination
+     * @return end index of trimmed destination
+     */
+    public int trimLinkDestinationEnd(CharSequence s, int start, int end) {
+        if (spaceInLinkUrls) {
+            while (end > start && s.charAt(end - 1) == ' ') end--;
+        }
+        return end;
+    }
+
+    /**
+     * Scan a link title in double quotes, single quotes or parentheses, same as {@link Parsing#LINK_TITLE}
+     * <p>
+     * An escaped closing quote preceded by an odd number of backslashes will be used as the closing quote
+     * of the title if no unescaped closing quote follows, just like backtracking in the regex does.
+     *
+     * @param s     characters to scan
+     * @param index index of the opening quote
+     * @return index after the closing quote or -1 if no match
+     */
+    public static int scanLinkTitle(CharSequence s, int index) {
+        int length = s.length();
+        if (index >= length) return -1;
+
+        char closer;
+        switch (s.charAt(index)) {
+            case '"':
+                closer = '"';
+                break;
+            case '\'':
+                closer = '\'';
+                break;
+            case '(':
+                closer = ')';
+                break;
+            default:
+                return -1;
+        }
+
+        int fallback = -1;
+        int i = index + 1;
+
+        while (i < length) {
+            char c = s.charAt(i);
+
+            if (c == closer) {
+                return i + 1;
+            } else if (c == '\0') {
+                break;
+            } else if (c == '\\') {
+                int backslashes = countBackslashes(s, i, length);
+                int runEnd = i + backslashes;
+                if (runEnd >= length) break;
+
+                char next = s.charAt(runEnd);
+                if (next == closer) {
+                    if ((backslashes & 1) == 0) return runEnd + 1;
+                    fallback = runEnd + 1;
+                } else if (next == '\0') {
+                    break;
+                }
+                i = runEnd + 1;
+            } else {
+                i++;
+            }
+        }
+        return fallback;
+    }
+
+    private boolean isAdditionalChar(char c) {
+        return intellijDummyIdentifier && c == '\u001f';
+    }
+
+    private static boolean isAsciiLetter(char c) {
+        return c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z';
+    }
+
+    private static boolean isAsciiAlphaNumeric(char c) {
+        return c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || c >= '0' && c <= '9';
+    }
+
+    private boolean isEmailLocalChar(char c) {
+        if (isAsciiAlphaNumeric(c) || isAdditionalChar(c)) return true;
+        switch (c) {
+            case '.':
+            case '!':
+            case '#':
+            case '$':
+            case '%':
+            case '&':
+            case '\'':
+            case '*':
+            case '+':
+            case '/':
+            case '=':
+            case '?':
+            case '^':
+            case '_':
+            case '`':
+            case '{':
+            case '|':
+            case '}':
+            case '~':
+            case '-':
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private boolean isEmailDomainChar(char c) {
+        return isAsciiAlphaNumeric(c) || isAdditionalChar(c);
+    }
+
+    /**
+     * Scan an email autolink, same as {@link Parsing#EMAIL_AUTOLINK}
+     *
+     * @param s     characters to scan
+     * @param index index of the opening &lt;
+     * @return index after closing &gt; or -1 if no match
+     */
+    public int scanEmailAutolink(CharSequence s, int index) {
+        int length = s.length();
+        if (index >= length || s.charAt(index) != '<') return -1;
+
+        int i = index + 1;
+        while (i < length && isEmailLocalChar(s.charAt(i))) i++;
+        if (i == index + 1 || i >= length || s.charAt(i) != '@') return -1;
+
+        // domain labels of 1 to 63 characters, starting and ending with alpha-numeric, separated by .
+        while (true) {
+            int labelStart = ++i;
+            while (i < length && (isEmailDomainChar(s.charAt(i)) || s.charAt(i) == '-')) i++;
+
+            int labelLength = i - labelStart;
+            if (labelLength == 0 || labelLength > 63 || s.charAt(labelStart) == '-' || s.charAt(i - 1) == '-') return -1;
+            if (i >= length) return -1;
+
+            char c = s.charAt(i);
+            if (c == '>') return i + 1;
+            if (c != '.') return -1;
+        }
+    }
+
+    private boolean isSchemeChar(char c) {
+        return isAsciiAlphaNumeric(c) || isAdditionalChar(c) || c == '.' || c == '+' || c == '-';
+    }
+
+    /**
+     * Scan a URI autolink, same as {@link Parsing#AUTOLINK}
+     *
+     * @param s     characters to scan
+     * @param index index of the opening &lt;
+     * @return index after closing &gt; or -1 if no match
+     */
+    public int scanAutolink(CharSequence s, int index) {
+        int length = s.length();
+        if (index + 1 >= length || s.charAt(index) != '<' || !isAsciiLetter(s.charAt(index + 1))) return -1;
+
+        int i = index + 2;
+        while (i < length && isSchemeChar(s.charAt(i))) i++;
+
+        int schemeLength = i - index - 1;
+        if (schemeLength < 2 || schemeLength > 32 || i >= length || s.charAt(i) != ':') return -1;
+
+        i++;
+        while (i < length) {
+            char c = s.charAt(i);
+            if (c == '>') return i + 1;
+            if (c == '<' || isExcluded(c)) break;
+            i++;
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,26 @@
+package com.vladsch.flexmark.html;
+
+import com.vladsch.flexmark.ast.Node;
+import com.vladsch.flexmark.html.renderer.LinkResolverContext;
+import com.vladsch.flexmark.html.renderer.ResolvedLink;
+
+import java.util.List;
+
+/**
+ * Link resolver which resolves all link targets of a node before it is rendered, for resolvers which can look up links
+ * in bulk.
+ * <p>
+ * Targets are collected from core link nodes: links, images, auto links, mail links and link or image references. Links
+ * which are not resolved in bulk are passed to {@link #resolveLink(Node, LinkResolverContext, ResolvedLink)} when
+ * rendered. Links resolved in bulk are used in place of calling resolveLink, in the same order of link resolvers, so
+ * the result cannot depend on the node being rendered.
+ */
+public interface BatchLinkResolver extends LinkResolver {
+    /**
+     * @param node    node about to be rendered
+     * @param context link resolver context
+     * @param links   distinct link targets of the node, with {@link com.vladsch.flexmark.html.renderer.LinkStatus#UNKNOWN} status
+     * @return resolved links in the same order as links, null or a link with UNKNOWN status for links not resolved by this resolver
+     */
+    List<ResolvedLink> resolveLinks(Node node, LinkResolverContext context, List<ResolvedLink> links);
+}
@@ -0,0 +1,20 @@
+package com.vladsch.flexmark.html;
+
+import com.vladsch.flexmark.ast.Document;
+
+/**
+ * Link resolver whose resolved links can be shared through a {@link com.vladsch.flexmark.html.renderer.ResolvedLinkCache}
+ * by renderings of documents with equal cache scopes.
+ * <p>
+ * The renderer only uses the cache when all its link resolvers implement this interface, since any other resolver may
+ * resolve links differently for each document.
+ */
+public interface CachingLinkResolver extends LinkResolver {
+    /**
+     * @param document document about to be rendered
+     * @return value standing for everything in the document which affects resolution of its links, for example its
+     * location, or null if links do not depend on the document. Must implement equals and hashCode and should not
+     * reference the document.
+     */
+    Object getCacheScope(Document document);
+}
@@ -126,6 +126,11 @@ public class HtmlRenderer implements IRender {
     public static final DataKey<Boolean> HTML_BLOCK_CLOSE_TAG_EOL = new DataKey<Boolean>("HTML_BLOCK_CLOSE_TAG_EOL", true);
     public static final DataKey<Boolean> UNESCAPE_HTML_ENTITIES = new DataKey<Boolean>("UNESCAPE_HTML_ENTITIES", true);
 
+    /**
+     * cache of resolved links shared by renderings of the renderer when all its link resolvers are {@link CachingLinkResolver}, see {@link ResolvedLinkCache}
+     */
+    public static final DataKey<ResolvedLinkCache> RESOLVED_LINK_CACHE = new DataKey<ResolvedLinkCache>("RESOLVED_LINK_CACHE", (ResolvedLinkCache) null);
+
     /**
      * output control for FormattingAppendable, see {@link com.vladsch.flexmark.util.html.FormattingAppendable#setOptions(int)}
      */
@@ -145,6 +150,8 @@ public class HtmlRenderer implements IRender {
     private final HtmlRendererOptions htmlOptions;
     private final DataHolder options;
     private final Builder builder;
+    private final ResolvedLinkCache resolvedLinkCache;
+    private final Object resolvedLinkCacheScope = new Object(); // stands for this renderer in cache keys without referencing it
 
     HtmlRenderer(Builder builder) {
         this.builder = new Builder(builder); // take a copy to avoid after creation side effects
@@ -172,6 +179,7 @@ public class HtmlRenderer implements IRender {
 
         this.attributeProviderFactories = FlatDependencyHandler.computeDependencies(builder.attributeProviderFactories);
         this.linkResolverFactories = FlatDependencyHandler.computeDependencies(builder.linkResolverFactories);
+        this.resolvedLinkCache = RESOLVED_LINK_CACHE.getFrom(this.options);
     }
 
     /**
@@ -201,6 +209,7 @@ public class HtmlRenderer implements IRender {
      */
     public void render(Node node, Appendable output) {
         MainNodeRenderer renderer = new MainNodeRenderer(options, new HtmlWriter(output, htmlOptions.indentSize, htmlOptions.formatFlags, !htmlOptions.htmlBlockOpenTagEol, !htmlOptions.htmlBlockCloseTagEol), node.getDocument());
+        renderer.resolveLinks(node);
         renderer.render(node);
         renderer.flush(htmlOptions.maxTrailingBlankLines);
     }
@@ -213,10 +222,27 @@ public class HtmlRenderer implements IRender {
      */
     public void render(Node node, Appendable output, int maxTrailingBlankLines) {
         MainNodeRenderer renderer = new MainNodeRenderer(options, new HtmlWriter(output, htmlOptions.indentSize, htmlOptions.formatFlags, !htmlOptions.htmlBlockOpenTagEol, !htmlOptions.htmlBlockCloseTagEol), node.getDocument());
+        renderer.resolveLinks(node);
         renderer.render(node);
         renderer.flush(maxTrailingBlankLines);
     }
 
+    /**
+     * Render a node to the given writer
+     * <p>
+     * Used with writers which build other output than HTML text from the tags, text and raw HTML written by the node
+     * renderers.
+     *
+     * @param node       node to render
+     * @param htmlWriter writer to use for the output
+     */
+    public void render(Node node, HtmlWriter htmlWriter) {
+        MainNodeRenderer renderer = new MainNodeRenderer(options, htmlWriter, node.getDocument());
+        renderer.resolveLinks(node);
+        renderer.render(node);
+        renderer.flush(htmlOptions.maxTrailingBlankLines);
+    }
+
     /**
      * Render the tree of nodes to HTML.
      *
@@ -524,9 +550,13 @@ public class HtmlRenderer implements IRender {
         private final LinkResolver[] myLinkResolvers;
         private final Set<RenderingPhase> renderingPhases;
         private final DataHolder options;
+        private final MutableDataSet renderingData = new MutableDataSet();
         private RenderingPhase phase;
         private final HtmlIdGenerator htmlIdGenerator;
         private final HashMap<LinkType, HashMap<String, ResolvedLink>> resolvedLinkMap = new HashMap<LinkType, HashMap<String, ResolvedLink>>();
+        private final boolean haveBatchLinkResolvers;
+        private HashMap<LinkResolver, HashMap<ResolvedLinkCache.Key, ResolvedLink>> batchResolvedLinkMap = null;
+        private final List<Object> resolvedLinkDocumentScope;
         private final AttributeProvider[] attributeProviders;
 
         MainNodeRenderer(DataHolder options, HtmlWriter htmlWriter, Document document) {
@@ -558,9 +588,27 @@ public class HtmlRenderer implements IRender {
                 }
             }
 
+            boolean haveBatchLinkResolvers = false;
             for (int i = 0; i < linkResolverFactories.size(); i++) {
                 myLinkResolvers[i] = linkResolverFactories.get(i).create(this);
+                if (myLinkResolvers[i] instanceof BatchLinkResolver) haveBatchLinkResolvers = true;
             }
+            this.haveBatchLinkResolvers = haveBatchLinkResolvers;
+
+            // links are shared with other renderings only if all resolvers say what they depend on in the document
+            List<Object> documentScope = null;
+            if (resolvedLinkCache != null) {
+                Object[] scopes = new Object[myLinkResolvers.length];
+                for (int i = 0; i < myLinkResolvers.length; i++) {
+                    if (!(myLinkResolvers[i] instanceof CachingLinkResolver)) {
+                        scopes = null;
+                        break;
+                    }
+                    scopes[i] = ((CachingLinkResolver) myLinkResolvers[i]).getCacheScope(document);
+                }
+                if (scopes != null) documentScope = Arrays.asList(scopes);
+            }
+            this.resolvedLinkDocumentScope = documentScope;
 
             this.attributeProviders = new AttributeProvider[attributeProviderFactories.size()];
             for (int i = 0; i < attributeProviderFactories.size(); i++) {
@@ -573,6 +621,35 @@ public class HtmlRenderer implements IRender {
             return renderingNode;
         }
 
+        void resolveLinks(Node node) {
+            if (!haveBatchLinkResolvers) return;
+
+            List<ResolvedLink> links = null;
+
+            for (LinkResolver linkResolver : myLinkResolvers) {
+                if (linkResolver instanceof BatchLinkResolver) {
+                    if (links == null) {
+                        links = new LinkTargetCollector(getOptions()).collectTargets(node);
+                        if (links.isEmpty()) return;
+                        batchResolvedLinkMap = new HashMap<LinkResolver, HashMap<ResolvedLinkCache.Key, ResolvedLink>>();
+                    }
+
+                    List<ResolvedLink> resolved = ((BatchLinkResolver) linkResolver).resolveLinks(node, this, links);
+                    HashMap<ResolvedLinkCache.Key, ResolvedLink> resolvedLinks = new HashMap<ResolvedLinkCache.Key, ResolvedLink>();
+
+                    int iMax = Math.min(links.size(), resolved.size());
+                    for (int i = 0; i < iMax; i++) {
+                        ResolvedLink resolvedLink = resolved.get(i);
+                        if (resolvedLink != null && resolvedLink.getStatus() != LinkStatus.UNKNOWN) {
+                            ResolvedLink link = links.get(i);
+                            resolvedLinks.put(new ResolvedLinkCache.Key(null, null, link.getLinkType(), link.getUrl(), null), resolvedLink);
+                        }
+                    }
+                    batchResolvedLinkMap.put(linkResolver, resolvedLinks);
+                }
+            }
+        }
+
         @Override
         public ResolvedLink resolveLink(LinkType linkType, CharSequence url, Boolean urlEncode) {
             return resolveLink(linkType, url, (Attributes) null, urlEncode);
@@ -589,19 +666,42 @@ public class HtmlRenderer implements IRender {
             String urlSeq = url instanceof String ? (String) url : String.valueOf(url);
             ResolvedLink resolvedLink = resolvedLinks.get(urlSeq);
             if (resolvedLink == null) {
-                resolvedLink = new ResolvedLink(linkType, urlSeq, attributes);
+                Node currentNode = getCurrentNode();
+
+                // only links resolved with renderer options are shared with other renderings
+                ResolvedLinkCache.Key cacheKey = null;
+                if (resolvedLinkDocumentScope != null && attributes == null && urlEncode == null && !urlSeq.isEmpty()) {
+                    cacheKey = new ResolvedLinkCache.Key(resolvedLinkCacheScope, resolvedLinkDocumentScope, linkType, urlSeq, currentNode == null ? null : currentNode.getClass());
+                    ResolvedLink cachedLink = resolvedLinkCache.get(cacheKey);
+                    if (cachedLink != null) resolvedLink = copyOf(cachedLink);
+                }
 
-                if (!urlSeq.isEmpty()) {
-                    Node currentNode = getCurrentNode();
+                if (resolvedLink == null) {
+                    resolvedLink = new ResolvedLink(linkType, urlSeq, attributes);
 
-                    for (LinkResolver linkResolver : myLinkResolvers) {
-                        resolvedLink = linkResolver.resolveLink(currentNode, this, resolvedLink);
-                        if (resolvedLink.getStatus() != LinkStatus.UNKNOWN) break;
-                    }
+                    if (!urlSeq.isEmpty()) {
+                        ResolvedLinkCache.Key batchKey = null;
+                        if (batchResolvedLinkMap != null) batchKey = new ResolvedLinkCache.Key(null, null, linkType, urlSeq, null);
+
+                        for (LinkResolver linkResolver : myLinkResolvers) {
+                            ResolvedLink batchResolvedLink = null;
+
+                            // batch results apply only to the link as collected, not one modified by a previous resolver
+                            if (batchKey != null && resolvedLink.getLinkType() == linkType && resolvedLink.getUrl().equals(urlSeq)) {
+                                HashMap<ResolvedLinkCache.Key, ResolvedLink> batchLinks = batchResolvedLinkMap.get(linkResolver);
+                                if (batchLinks != null) batchResolvedLink = batchLinks.get(batchKey);
+                            }
+
+                            resolvedLink = batchResolvedLink != null ? batchResolvedLink : linkResolver.resolveLink(currentNode, this, resolvedLink);
+                            if (resolvedLink.getStatus() != LinkStatus.UNKNOWN) break;
+                        }
 
-                    if (urlEncode == null && htmlOptions.percentEncodeUrls || urlEncode != null && urlEncode) {
-                        resolvedLink = resolvedLink.withUrl(Escaping.percentEncodeUrl(resolvedLink.getUrl()));
+                        if (urlEncode == null && htmlOptions.percentEncodeUrls || urlEncode != null && urlEncode) {
+                            resolvedLink = resolvedLink.withUrl(Escaping.percentEncodeUrl(resolvedLink.getUrl()));
+                        }
                     }
+
+                    if (cacheKey != null) resolvedLinkCache.put(cacheKey, copyOf(resolvedLink));
                 }
 
                 // put it in the map
@@ -611,6 +711,10 @@ public class HtmlRenderer implements IRender {
             return resolvedLink;
         }
 
+        private ResolvedLink copyOf(ResolvedLink resolvedLink) {
+            return new ResolvedLink(resolvedLink.getLinkType(), resolvedLink.getUrl(), resolvedLink.getAttributes(), resolvedLink.getStatus());
+        }
+
         @Override
         public String getNodeId(Node node) {
             String id = htmlIdGenerator.getId(node);
@@ -632,6 +736,11 @@ public class HtmlRenderer implements IRender {
             return options;
         }
 
+        @Override
+        public MutableDataHolder getRenderingData() {
+            return renderingData;
+        }
+
         @Override
         public HtmlRendererOptions getHtmlOptions() {
             return htmlOptions;
@@ -805,6 +914,9 @@ public class HtmlRenderer implements IRender {
             @Override
             public DataHolder getOptions() {return myMainNodeRenderer.getOptions();}
 
+            @Override
+            public MutableDataHolder getRenderingData() {return myMainNodeRenderer.getRenderingData();}
+
             @Override
             public HtmlRendererOptions getHtmlOptions() {return myMainNodeRenderer.getHtmlOptions();}
 
@@ -0,0 +1,94 @@
+package com.vladsch.flexmark.html.renderer;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Thread safe {@link ResolvedLinkCache} keeping the most recently used links, with optional expiry of entries
+ */
+public class BoundedResolvedLinkCache implements ResolvedLinkCache {
+    private final int maxSize;
+    private final long timeToLiveMillis;
+    private final LinkedHashMap<Key, Entry> entries;
+
+    /**
+     * @param maxSize maximum number of cached links
+     */
+    public BoundedResolvedLinkCache(int maxSize) {
+        this(maxSize, 0);
+    }
+
+    /**
+     * @param maxSize          maximum number of cached links
+     * @param timeToLiveMillis time after which a cached link is resolved again, 0 if links do not expire
+     */
+    public BoundedResolvedLinkCache(final int maxSize, long timeToLiveMillis) {
+        if (maxSize <= 0) throw new IllegalArgumentException("maxSize must be greater than 0, got " + maxSize);
+        if (timeToLiveMillis < 0) throw new IllegalArgumentException("timeToLiveMillis must not be negative, got " + timeToLiveMillis);
+
+        this.maxSize = maxSize;
+        this.timeToLiveMillis = timeToLiveMillis;
+        this.entries = new LinkedHashMap<Key, Entry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public long getTimeToLiveMillis() {
+        return timeToLiveMillis;
+    }
+
+    @Override
+    public ResolvedLink get(Key key) {
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry == null) return null;
+
+            if (timeToLiveMillis > 0 && currentTimeMillis() - entry.created >= timeToLiveMillis) {
+                entries.remove(key);
+                return null;
+            }
+            return entry.resolvedLink;
+        }
+    }
+
+    @Override
+    public void put(Key key, ResolvedLink resolvedLink) {
+        Entry entry = new Entry(resolvedLink, timeToLiveMillis > 0 ? currentTimeMillis() : 0);
+        synchronized (entries) {
+            entries.put(key, entry);
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    protected long currentTimeMillis() {
+        return System.currentTimeMillis();
+    }
+
+    private static class Entry {
+        final ResolvedLink resolvedLink;
+        final long created;
+
+        Entry(ResolvedLink resolvedLink, long created) {
+            this.resolvedLink = resolvedLink;
+            this.created = created;
+        }
+    }
+}
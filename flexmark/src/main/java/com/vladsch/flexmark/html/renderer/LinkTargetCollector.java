@@ -0,0 +1,79 @@
+package com.vladsch.flexmark.html.renderer;
+
+import com.vladsch.flexmark.ast.*;
+import com.vladsch.flexmark.ast.util.ReferenceRepository;
+import com.vladsch.flexmark.html.HtmlRenderer;
+import com.vladsch.flexmark.parser.Parser;
+import com.vladsch.flexmark.util.options.DataHolder;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+
+/**
+ * Collects distinct link targets of core link nodes, with the link type and url used by {@link CoreNodeRenderer} to
+ * resolve them
+ */
+public class LinkTargetCollector {
+    private final ReferenceRepository referenceRepository;
+    private final boolean recheckUndefinedReferences;
+
+    public LinkTargetCollector(DataHolder options) {
+        this.referenceRepository = Parser.REFERENCES.getFrom(options);
+        this.recheckUndefinedReferences = HtmlRenderer.RECHECK_UNDEFINED_REFERENCES.getFrom(options);
+    }
+
+    /**
+     * @param node node whose descendants and itself are collected
+     * @return distinct links with UNKNOWN status, in order of first use
+     */
+    public List<ResolvedLink> collectTargets(Node node) {
+        ArrayList<ResolvedLink> links = new ArrayList<ResolvedLink>();
+        HashMap<LinkType, HashSet<String>> urls = new HashMap<LinkType, HashSet<String>>();
+
+        collect(node, links, urls);
+        for (Node descendant : node.getDescendants()) {
+            collect(descendant, links, urls);
+        }
+        return links;
+    }
+
+    private void collect(Node node, ArrayList<ResolvedLink> links, HashMap<LinkType, HashSet<String>> urls) {
+        if (node instanceof Link) {
+            add(LinkType.LINK, ((Link) node).getUrl().unescape(), links, urls);
+        } else if (node instanceof Image) {
+            add(LinkType.IMAGE, ((Image) node).getUrl().unescape(), links, urls);
+        } else if (node instanceof AutoLink) {
+            add(LinkType.LINK, ((AutoLink) node).getText().toString(), links, urls);
+        } else if (node instanceof MailLink) {
+            add(LinkType.LINK, ((MailLink) node).getText().unescape(), links, urls);
+        } else if (node instanceof RefNode) {
+            RefNode refNode = (RefNode) node;
+            boolean isImage = node instanceof ImageRef;
+            Reference reference = refNode.isDefined() || recheckUndefinedReferences ? refNode.getReferenceNode(referenceRepository) : null;
+
+            if (reference != null) {
+                add(isImage ? LinkType.IMAGE : LinkType.LINK, reference.getUrl().unescape(), links, urls);
+            } else if (isImage) {
+                add(LinkType.IMAGE_REF, referenceRepository.normalizeKey(refNode.getReference()), links, urls);
+            } else {
+                add(LinkType.LINK_REF, refNode.getReference().unescape(), links, urls);
+            }
+        }
+    }
+
+    private static void add(LinkType linkType, String url, ArrayList<ResolvedLink> links, HashMap<LinkType, HashSet<String>> urls) {
+        if (url.isEmpty()) return;
+
+        HashSet<String> typeUrls = urls.get(linkType);
+        if (typeUrls == null) {
+            typeUrls = new HashSet<String>();
+            urls.put(linkType, typeUrls);
+        }
+
+        if (typeUrls.add(url)) {
+            links.add(new ResolvedLink(linkType, url));
+        }
+    }
+}
@@ -7,6 +7,7 @@ import com.vladsch.flexmark.html.HtmlRendererOptions;
 import com.vladsch.flexmark.html.HtmlWriter;
 import com.vladsch.flexmark.util.html.Attributes;
 import com.vladsch.flexmark.util.options.DataHolder;
+import com.vladsch.flexmark.util.options.MutableDataHolder;
 
 /**
  * The context for node rendering, including configuration and functionality for the node renderer to use.
@@ -27,6 +28,14 @@ public interface NodeRendererContext extends LinkResolverContext {
      */
     HtmlWriter getHtmlWriter();
 
+    /**
+     * Data shared by all node renderers and sub-contexts of the current rendering of the document. It is discarded
+     * when the rendering completes so values computed from the document or the rendering options can be cached here.
+     *
+     * @return mutable data holder scoped to the current rendering
+     */
+    MutableDataHolder getRenderingData();
+
     /**
      * Creates a child rendering context that can be used to collect rendered html text. The child context inherits
      * everything but the HtmlRenderer, renderedNode, renderingHandler and doNotRenderLinksNesting from the parent.
@@ -0,0 +1,89 @@
+package com.vladsch.flexmark.html.renderer;
+
+/**
+ * Cache of resolved links shared by renderings of different documents, set with {@link com.vladsch.flexmark.html.HtmlRenderer#RESOLVED_LINK_CACHE}
+ * <p>
+ * Keys include a token of the renderer resolving the link, so renderers with different options or link resolvers can
+ * share one cache, the cache scopes provided by the link resolvers for the document, see
+ * {@link com.vladsch.flexmark.html.CachingLinkResolver}, and the type of node being rendered. Keys do not reference the
+ * renderer or the document.
+ * <p>
+ * Implementations must be thread safe. The renderer adds and retrieves copies of resolved links, since their attributes
+ * are modified during rendering.
+ */
+public interface ResolvedLinkCache {
+    /**
+     * @param key link key
+     * @return resolved link or null if not cached
+     */
+    ResolvedLink get(Key key);
+
+    /**
+     * @param key          link key
+     * @param resolvedLink resolved link
+     */
+    void put(Key key, ResolvedLink resolvedLink);
+
+    final class Key {
+        private final Object rendererScope;
+        private final Object documentScope;
+        private final LinkType linkType;
+        private final String url;
+        private final Class<?> nodeType;
+
+        /**
+         * @param rendererScope object standing for the options and link resolvers used to resolve the link, compared by identity
+         * @param documentScope value standing for the document as far as link resolution goes or null, compared by equals
+         * @param linkType      link type
+         * @param url           url
+         * @param nodeType      class of the node being rendered or null
+         */
+        public Key(Object rendererScope, Object documentScope, LinkType linkType, String url, Class<?> nodeType) {
+            this.rendererScope = rendererScope;
+            this.documentScope = documentScope;
+            this.linkType = linkType;
+            this.url = url;
+            this.nodeType = nodeType;
+        }
+
+        public Object getRendererScope() {
+            return rendererScope;
+        }
+
+        public Object getDocumentScope() {
+            return documentScope;
+        }
+
+        public LinkType getLinkType() {
+            return linkType;
+        }
+
+        public String getUrl() {
+            return url;
+        }
+
+        public Class<?> getNodeType() {
+            return nodeType;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+
+            Key key = (Key) o;
+            return rendererScope == key.rendererScope && linkType == key.linkType && nodeType == key.nodeType && url.equals(key.url)
+                    && (documentScope != null ? documentScope.equals(key.documentScope) : key.documentScope == null);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = System.identityHashCode(rendererScope);
+            result = 31 * result + (documentScope != null ? documentScope.hashCode() : 0);
+            result = 31 * result + linkType.hashCode();
+            result = 31 * result + url.hashCode();
+            result = 31 * result + (nodeType != null ? nodeType.hashCode() : 0);
+            return result;
+        }
+    }
+}
@@ -135,7 +135,6 @@ public class HeadingParser extends AbstractBlockParser {
 
             BasedSequence line = state.getLine();
             int nextNonSpace = state.getNextNonSpaceIndex();
-            BasedSequence paragraph = matchedBlockParser.getParagraphContent();
             Matcher matcher;
             BasedSequence trySequence = line.subSequence(nextNonSpace, line.length());
             matcher = myParsing.ATX_HEADING.matcher(trySequence);
@@ -171,7 +170,7 @@ public class HeadingParser extends AbstractBlockParser {
                         .atIndex(line.length());
             } else {
                 if ((matcher = myParsing.SETEXT_HEADING.matcher(trySequence)).find()) {
-                    if (paragraph != null) {
+                    if (matchedBlockParser.getBlockParser().isParagraphParser()) {
                         // setext heading line
                         int level = matcher.group(0).charAt(0) == '=' ? 1 : 2;
 
@@ -1,10 +1,13 @@
 package com.vladsch.flexmark.internal;
 
 import com.vladsch.flexmark.ast.*;
+import com.vladsch.flexmark.ast.util.HtmlScanner;
+import com.vladsch.flexmark.ast.util.LinkScanner;
 import com.vladsch.flexmark.ast.util.Parsing;
 import com.vladsch.flexmark.ast.util.ReferenceRepository;
 import com.vladsch.flexmark.ast.util.TextNodeConverter;
 import com.vladsch.flexmark.internal.inline.AsteriskDelimiterProcessor;
+import com.vladsch.flexmark.internal.inline.EmphasisDelimiterProcessor;
 import com.vladsch.flexmark.internal.inline.UnderscoreDelimiterProcessor;
 import com.vladsch.flexmark.parser.*;
 import com.vladsch.flexmark.parser.block.CharacterNodeFactory;
@@ -19,7 +22,6 @@ import com.vladsch.flexmark.util.sequence.BasedSequence;
 import com.vladsch.flexmark.util.sequence.SegmentedSequence;
 
 import java.util.*;
-import java.util.regex.MatchResult;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -130,6 +132,18 @@ public class InlineParserImpl implements InlineParser, ParagraphPreProcessor {
 
     protected ArrayList<BasedSequence> currentText;
 
+    /**
+     * Results of earlier scans of the input, used to keep parsing of pathological input linear: start of last
+     * backtick run by length, once a search for closing backticks reached the end of input, and span of the
+     * last failed link title scan by opening character, which contains no closing characters. Reset whenever the
+     * input is set.
+     */
+    private boolean backticksScanned;
+    private int[] lastBacktickRun = new int[16];    // start of last run indexed by run length, -1 if none
+    private int maxBacktickRunLength;               // longest run recorded in lastBacktickRun
+    private final int[] linkTitleFailedStart = new int[3];
+    private final int[] linkTitleFailedEnd = new int[3];
+
     protected Document document;
 
     protected final InlineParserOptions options;
@@ -185,6 +199,8 @@ public class InlineParserImpl implements InlineParser, ParagraphPreProcessor {
     }
 
     protected Parsing myParsing;
+    protected final LinkScanner myLinkScanner;
+    protected final HtmlScanner myHtmlScanner;
 
     public InlineParserImpl(
             DataHolder options,
@@ -195,6 +211,8 @@ public class InlineParserImpl implements InlineParser, ParagraphPreProcessor {
             List<InlineParserExtensionFactory> inlineParserExtensionFactories
     ) {
         this.myParsing = new Parsing(options);
+        this.myLinkScanner = new LinkScanner(options);
+        this.myHtmlScanner = new HtmlScanner(options);
         this.options = new InlineParserOptions(options);
         this.delimiterProcessors = delimiterProcessors;
         this.linkRefProcessorsData = linkRefProcessorsData;
@@ -202,6 +220,7 @@ public class InlineParserImpl implements InlineParser, ParagraphPreProcessor {
         this.originalSpecialCharacters = specialCharacters;
         this.specialCharacters = specialCharacters;
         this.inlineParserExtensionFactories = !inlineParserExtensionFactories.isEmpty() ? inlineParserExtensionFactories : null;
+        Arrays.fill(lastBacktickRun, -1);
     }
 
     public static BitSet calculateDelimiterCharacters(DataHolder options, Set<Character> characters) {
@@ -377,6 +396,7 @@ public class InlineParserImpl implements InlineParser, ParagraphPreProcessor {
         this.block = block;
         this.input = content.trim();
         this.index = 0;
+        resetScannedInput();
         this.lastDelimiter = null;
         this.lastBracket = null;
 
@@ -498,58 +518,58 @@ public class InlineParserImpl implements InlineParser, ParagraphPreProcessor {
     protected int parseReference(Block block, BasedSequence s) {
         this.input = s;
         this.index = 0;
+        resetScannedInput();
         BasedSequence dest;
-        BasedSequence title;
-        int matchChars;
-        int startIndex = index;
+        BasedSequence title = null;
+        int length = s.length();
 
-        // label:
-        matchChars = parseLinkLabel();
-        if (matchChars == 0) {
+        // label: fast reject anything not starting with [ or not followed by a colon
+        int labelEnd = myLinkScanner.scanLinkLabel(s, 0);
+        if (labelEnd == -1 || labelEnd >= length || s.charAt(labelEnd) != ':') {
             return 0;
         }
 
-        // colon:
-        if (peek() != ':') {
+        BasedSequence rawLabel = s.subSequence(0, labelEnd + 1);
+
+        // link url
+        int destStart = LinkScanner.scanSpnl(s, labelEnd + 1);
+        if (destStart >= length) {
             return 0;
         }
 
-        BasedSequence rawLabel = input.subSequence(0, matchChars + 1);
-        index++;
-
-        // link url
-        spnl();
+        int destEnd = myLinkScanner.scanLinkDestinationAngles(s, destStart);
+        int pos;
+        if (destEnd != -1) {
+            pos = destEnd;
+        } else {
+            pos = myLinkScanner.scanLinkDestinationNoAngles(s, destStart);
+            if (pos == -1) {
+                return 0;
+            }
+            destEnd = myLinkScanner.trimLinkDestinationEnd(s, destStart, pos);
+        }
 
-        dest = parseLinkDestination();
-        if (dest == null || dest.length() == 0) {
+        if (destEnd == destStart) {
             return 0;
         }
 
-        int beforeTitle = index;
-        spnl();
-        title = parseLinkTitle();
-        if (title == null) {
-            // rewind before spaces
-            index = beforeTitle;
+        int beforeTitle = pos;
+        int titleStart = LinkScanner.scanSpnl(s, pos);
+        int titleEnd = LinkScanner.scanLinkTitle(s, titleStart);
+        if (titleEnd != -1) {
+            pos = titleEnd;
         }
 
-        boolean atLineEnd = true;
-        if (index != input.length() && match(myParsing.LINE_END) == null) {
-            if (title == null) {
-                atLineEnd = false;
-            } else {
-                // the potential title we found is not at the line end,
-                // but it could still be a legal link reference if we
-                // discard the title
-                title = null;
-                // rewind before spaces
-                index = beforeTitle;
-                // and instead check if the link URL is at the line end
-                atLineEnd = match(myParsing.LINE_END) != null;
-            }
+        int lineEnd = pos == length ? pos : LinkScanner.scanLineEnd(s, pos);
+        if (lineEnd == -1 && titleEnd != -1) {
+            // the potential title we found is not at the line end,
+            // but it could still be a legal link reference if we
+            // discard the title and instead check if the link URL is at the line end
+            titleEnd = -1;
+            lineEnd = LinkScanner.scanLineEnd(s, beforeTitle);
         }
 
-        if (!atLineEnd) {
+        if (lineEnd == -1) {
             return 0;
         }
 
@@ -558,6 +578,11 @@ public class InlineParserImpl implements InlineParser, ParagraphPreProcessor {
             return 0;
         }
 
+        dest = s.subSequence(destStart, destEnd);
+        if (titleEnd != -1) {
+            title = s.subSequence(titleStart, titleEnd);
+        }
+
         Reference reference = new Reference(rawLabel, dest, title);
 
         // NOTE: whether first or last reference is kept is defined by the repository modify behavior setting
@@ -566,7 +591,8 @@ public class InlineParserImpl implements InlineParser, ParagraphPreProcessor {
 
         block.insertBefore(reference);
 
-        return index - startIndex;
+        this.index = lineEnd;
+        return lineEnd;
     }
 
     public void appendText(BasedSequence text) {
@@ -753,8 +779,7 @@ public class InlineParserImpl implements InlineParser, ParagraphPreProcessor {
         boolean m = matcher.find();
         if (m) {
             index = matcher.end();
-            MatchResult result = matcher.toMatchResult();
-            return input.subSequence(result.start(), result.end());
+            return input.subSequence(matcher.start(), matcher.end());
         } else {
             return null;
         }
@@ -776,13 +801,12 @@ public class InlineParserImpl implements InlineParser, ParagraphPreProcessor {
         boolean m = matcher.find();
         if (m) {
             index = matcher.end();
-            MatchResult result = matcher.toMatchResult();
             final int iMax = matcher.groupCount() + 1;
             BasedSequence[] results = new BasedSequence[iMax];
-            results[0] = input.subSequence(result.start(), result.end());
+            results[0] = input.subSequence(matcher.start(), matcher.end());
             for (int i = 1; i < iMax; i++) {
-                if (matcher.group(i) != null) {
-                    results[i] = input.subSequence(result.start(i), result.end(i));
+                if (matcher.start(i) != -1) {
+                    results[i] = input.subSequence(matcher.start(i), matcher.end(i));
                 } else {
                     results[i] = null;
                 }
@@ -843,7 +867,9 @@ public class InlineParserImpl implements InlineParser, ParagraphPreProcessor {
      */
     @Override
     public boolean spnl() {
-        match(myParsing.SPNL);
+        if (index < input.length()) {
+            index = LinkScanner.scanSpnl(input, index);
+        }
         return true;
     }
 
@@ -865,7 +891,9 @@ public class InlineParserImpl implements InlineParser, ParagraphPreProcessor {
      */
     @Override
     public boolean sp() {
-        match(myParsing.SP);
+        if (index < input.length()) {
+            index = LinkScanner.scanSp(input, index);
+        }
         return true;
     }
 
@@ -876,7 +904,12 @@ public class InlineParserImpl implements InlineParser, ParagraphPreProcessor {
      */
     @Override
     public boolean spnlUrl() {
-        return match(myParsing.SPNL_URL) != null;
+        if (index >= input.length()) return false;
+
+        int end = LinkScanner.scanEol(input, LinkScanner.scanSp(input, index));
+        if (end == -1) return false;
+        index = end;
+        return true;
     }
 
     /**
@@ -886,7 +919,13 @@ public class InlineParserImpl implements InlineParser, ParagraphPreProcessor {
      */
     @Override
     public BasedSequence toEOL() {
-        return match(myParsing.REST_OF_LINE);
+        if (index >= input.length()) return null;
+
+        int end = LinkScanner.scanRestOfLine(input, index);
+        if (end == -1) return null;
+        BasedSequence line = input.subSequence(index, end);
+        index = end;
+        return line;
     }
 
     /**
@@ -951,7 +990,7 @@ public class InlineParserImpl implements InlineParser, ParagraphPreProcessor {
             int charsMatched = peek(1) == '\n' ? 2 : 1;
             appendNode(new HardLineBreak(input.subSequence(index - 1, index + charsMatched)));
             index += charsMatched;
-        } else if (index < input.length() && myParsing.ESCAPABLE.matcher(input.subSequence(index, index + 1)).matches()) {
+        } else if (index < input.length() && LinkScanner.isEscapable(input.charAt(index))) {
             appendText(input, index - 1, index + 1);
             index++;
         } else {
@@ -966,56 +1005,58 @@ public class InlineParserImpl implements InlineParser, ParagraphPreProcessor {
      * @return true if matched backticks, false otherwise
      */
     protected boolean parseBackticks() {
-        BasedSequence ticks = match(myParsing.TICKS_HERE);
-        if (ticks == null) {
+        int inputLength = input.length();
+        int afterOpenTicks = index;
+        while (afterOpenTicks < inputLength && input.charAt(afterOpenTicks) == '`') afterOpenTicks++;
+        if (afterOpenTicks == index) {
             return false;
         }
-        int afterOpenTicks = index;
-        BasedSequence matched;
-        while ((matched = match(myParsing.TICKS)) != null) {
-            if (matched.equals(ticks)) {
-                int ticksLength = ticks.length();
-                BasedSequence content = input.subSequence(afterOpenTicks - ticksLength, index - ticksLength);
-                final BasedSequence codeText = input.subSequence(afterOpenTicks, index - ticksLength);
-                Code node = new Code(input.subSequence(afterOpenTicks - ticksLength, afterOpenTicks), codeText, input.subSequence(index - ticksLength, index));
-
-                if (options.codeSoftLineBreaks) {
-                    // add softbreaks to code ast
-                    final int length = codeText.length();
-                    int lastPos = 0;
-                    while (lastPos < length) {
-                        int softBreak = codeText.indexOfAny("\n\r", lastPos);
-                        int pos = softBreak == -1 ? length : softBreak;
-                        int lineBreak = pos;
-
-                        final Text textNode = new Text(codeText.subSequence(lastPos, pos));
-                        node.appendChild(textNode);
-
-                        lastPos = pos;
-                        if (lastPos >= length) break;
-                        if (codeText.charAt(lastPos) == '\r') {
-                            lastPos++;
-                            if (lastPos >= length) break;
-                            if (codeText.charAt(lastPos) == '\n') lastPos++;
-                        } else {
-                            lastPos++;
-                        }
 
+        BasedSequence ticks = input.subSequence(index, afterOpenTicks);
+        int ticksLength = ticks.length();
+        int closeEnd = scanClosingBackticks(afterOpenTicks, ticksLength);
+        if (closeEnd != -1) {
+            index = closeEnd;
+            BasedSequence content = input.subSequence(afterOpenTicks - ticksLength, index - ticksLength);
+            final BasedSequence codeText = input.subSequence(afterOpenTicks, index - ticksLength);
+            Code node = new Code(input.subSequence(afterOpenTicks - ticksLength, afterOpenTicks), codeText, input.subSequence(index - ticksLength, index));
+
+            if (options.codeSoftLineBreaks) {
+                // add softbreaks to code ast
+                final int length = codeText.length();
+                int lastPos = 0;
+                while (lastPos < length) {
+                    int softBreak = codeText.indexOfAny("\n\r", lastPos);
+                    int pos = softBreak == -1 ? length : softBreak;
+                    int lineBreak = pos;
+
+                    final Text textNode = new Text(codeText.subSequence(lastPos, pos));
+                    node.appendChild(textNode);
+
+                    lastPos = pos;
+                    if (lastPos >= length) break;
+                    if (codeText.charAt(lastPos) == '\r') {
+                        lastPos++;
                         if (lastPos >= length) break;
+                        if (codeText.charAt(lastPos) == '\n') lastPos++;
+                    } else {
+                        lastPos++;
+                    }
 
-                        if (lineBreak < lastPos) {
-                            SoftLineBreak softLineBreak = new SoftLineBreak(codeText.subSequence(softBreak, lastPos));
-                            node.appendChild(softLineBreak);
-                        }
+                    if (lastPos >= length) break;
+
+                    if (lineBreak < lastPos) {
+                        SoftLineBreak softLineBreak = new SoftLineBreak(codeText.subSequence(softBreak, lastPos));
+                        node.appendChild(softLineBreak);
                     }
-                } else {
-                    final Text textNode = new Text(codeText);
-                    node.appendChild(textNode);
                 }
-
-                appendNode(node);
-                return true;
+            } else {
+                final Text textNode = new Text(codeText);
+                node.appendChild(textNode);
             }
+
+            appendNode(node);
+            return true;
         }
 
         // If we got here, we didn't match a closing backtick sequence.
@@ -1024,6 +1065,55 @@ public class InlineParserImpl implements InlineParser, ParagraphPreProcessor {
         return true;
     }
 
+    private void resetScannedInput() {
+        backticksScanned = false;
+        Arrays.fill(lastBacktickRun, 0, Math.min(maxBacktickRunLength + 1, lastBacktickRun.length), -1);
+        maxBacktickRunLength = 0;
+        Arrays.fill(linkTitleFailedEnd, -1);
+    }
+
+    private void setLastBacktickRun(int runLength, int runStart) {
+        if (runLength >= lastBacktickRun.length) {
+            int oldLength = lastBacktickRun.length;
+            lastBacktickRun = Arrays.copyOf(lastBacktickRun, Math.max(runLength + 1, oldLength * 2));
+            Arrays.fill(lastBacktickRun, oldLength, lastBacktickRun.length, -1);
+        }
+        lastBacktickRun[runLength] = runStart;
+        if (maxBacktickRunLength < runLength) maxBacktickRunLength = runLength;
+    }
+
+    /**
+     * Find a run of backticks of given length
+     * <p>
+     * After a search reaches the end of input all backtick runs after it are known so searches for a length
+     * which has no more runs fail without scanning.
+     *
+     * @param startIndex  index from which to search
+     * @param ticksLength number of backticks in the run
+     * @return index after the run or -1 if not found
+     */
+    private int scanClosingBackticks(int startIndex, int ticksLength) {
+        if (backticksScanned) {
+            if (ticksLength > maxBacktickRunLength || lastBacktickRun[ticksLength] < startIndex) return -1;
+        }
+
+        int length = input.length();
+        int i = startIndex;
+        while (i < length) {
+            if (input.charAt(i) == '`') {
+                int runStart = i;
+                while (i < length && input.charAt(i) == '`') i++;
+                if (!backticksScanned) setLastBacktickRun(i - runStart, runStart);
+                if (i - runStart == ticksLength) return i;
+            } else {
+                i++;
+            }
+        }
+
+        backticksScanned = true;
+        return -1;
+    }
+
     private static class DelimiterData {
         final int count;
         final boolean canClose;
@@ -1252,7 +1342,7 @@ public class InlineParserImpl implements InlineParser, ParagraphPreProcessor {
                 } else {
                     spnl();
                     // title needs a whitespace before
-                    if (myParsing.WHITESPACE.matcher(input.subSequence(index - 1, index)).matches()) {
+                    if (HtmlScanner.isWhitespace(input.charAt(index - 1))) {
                         title = parseLinkTitle();
                         spnl();
                     }
@@ -1558,44 +1648,26 @@ public class InlineParserImpl implements InlineParser, ParagraphPreProcessor {
      */
     @Override
     public BasedSequence parseLinkDestination() {
-        BasedSequence res = match(myParsing.LINK_DESTINATION_ANGLES);
-        if (res != null) {
-            return res;
-        } else {
-            if (options.linksAllowMatchedParentheses) {
-                // allow matched parenthesis
-                BasedSequence matched = match(myParsing.LINK_DESTINATION_MATCHED_PARENS);
-                if (matched != null) {
-                    int openCount = 0;
-                    int iMax = matched.length();
-                    for (int i = 0; i < iMax; i++) {
-                        char c = matched.charAt(i);
-                        if (c == '\\') {
-                            // escape
-                            i++;
-                        } else if (c == '(') {
-                            openCount++;
-                        } else if (c == ')') {
-                            if (openCount == 0) {
-                                // truncate to this and leave ')' to be parsed
-                                index -= iMax - i;
-                                matched = matched.subSequence(0, i);
-                                break;
-                            }
-                            openCount--;
-                        }
-                    }
+        int length = input.length();
+        if (index >= length) {
+            return null;
+        }
 
-                    return options.spaceInLinkUrls ? matched.trimEnd(BasedSequence.SPACE) : matched;
-                }
+        int startIndex = index;
+        int end = myLinkScanner.scanLinkDestinationAngles(input, startIndex);
+        if (end != -1) {
+            index = end;
+            return input.subSequence(startIndex, end);
+        }
 
-                return null;
-            } else {
-                // spec 0.27 compatibility
-                final BasedSequence matched = match(myParsing.LINK_DESTINATION);
-                return matched != null && options.spaceInLinkUrls ? matched.trimEnd(BasedSequence.SPACE) : matched;
-            }
+        // spec 0.27 compatibility or allow matched parenthesis
+        end = myLinkScanner.scanLinkDestinationNoAngles(input, startIndex);
+        if (end == -1) {
+            return null;
         }
+
+        index = end;
+        return input.subSequence(startIndex, myLinkScanner.trimLinkDestinationEnd(input, startIndex, end));
     }
 
     /**
@@ -1605,11 +1677,23 @@ public class InlineParserImpl implements InlineParser, ParagraphPreProcessor {
      */
     @Override
     public BasedSequence parseLinkTitle() {
-        BasedSequence title = match(myParsing.LINK_TITLE);
-        if (title != null) {
-            // chop off quotes from title and unescape:
-            return title; //Escaping.unescapeString(title.substring(1, title.length() - 1));
+        // a failed scan means there are no closing characters before where it stopped
+        int closer = index < input.length() ? "\"'(".indexOf(input.charAt(index)) : -1;
+        if (closer != -1 && index >= linkTitleFailedStart[closer] && index < linkTitleFailedEnd[closer]) {
+            return null;
+        }
+
+        int end = LinkScanner.scanLinkTitle(input, index);
+        if (end != -1) {
+            BasedSequence title = input.subSequence(index, end);
+            index = end;
+            return title;
         } else {
+            if (closer != -1) {
+                int nul = input.indexOf('\0', index + 1);
+                linkTitleFailedStart[closer] = index;
+                linkTitleFailedEnd[closer] = nul == -1 ? input.length() : nul;
+            }
             return null;
         }
     }
@@ -1621,8 +1705,12 @@ public class InlineParserImpl implements InlineParser, ParagraphPreProcessor {
      */
     @Override
     public int parseLinkLabel() {
-        BasedSequence m = match(myParsing.LINK_LABEL);
-        return m == null ? 0 : m.length();
+        int end = myLinkScanner.scanLinkLabel(input, index);
+        if (end == -1) return 0;
+
+        int matched = end - index;
+        index = end;
+        return matched;
     }
 
     /**
@@ -1632,13 +1720,16 @@ public class InlineParserImpl implements InlineParser, ParagraphPreProcessor {
      */
     @Override
     public boolean parseAutolink() {
-        BasedSequence m;
-        if ((m = match(myParsing.EMAIL_AUTOLINK)) != null) {
-            MailLink node = new MailLink(m.subSequence(0, 1), m.subSequence(1, m.length() - 1), m.subSequence(m.length() - 1, m.length()));
+        int startIndex = index;
+        int end;
+        if ((end = myLinkScanner.scanEmailAutolink(input, startIndex)) != -1) {
+            index = end;
+            MailLink node = new MailLink(input.subSequence(startIndex, startIndex + 1), input.subSequence(startIndex + 1, end - 1), input.subSequence(end - 1, end));
             appendNode(node);
             return true;
-        } else if ((m = match(myParsing.AUTOLINK)) != null) {
-            AutoLink node = new AutoLink(m.subSequence(0, 1), m.subSequence(1, m.length() - 1), m.subSequence(m.length() - 1, m.length()));
+        } else if ((end = myLinkScanner.scanAutolink(input, startIndex)) != -1) {
+            index = end;
+            AutoLink node = new AutoLink(input.subSequence(startIndex, startIndex + 1), input.subSequence(startIndex + 1, end - 1), input.subSequence(end - 1, end));
             appendNode(node);
             return true;
         } else {
@@ -1653,8 +1744,10 @@ public class InlineParserImpl implements InlineParser, ParagraphPreProcessor {
      */
     @Override
     public boolean parseHtmlInline() {
-        BasedSequence m = match(myParsing.HTML_TAG);
-        if (m != null) {
+        int end = myHtmlScanner.scanHtmlTag(input, index);
+        if (end != -1) {
+            BasedSequence m = input.subSequence(index, end);
+            index = end;
             // separate HTML comment from herd
             HtmlInlineBase node;
             if (m.startsWith("<!--") && m.endsWith("-->")) {
@@ -1676,9 +1769,10 @@ public class InlineParserImpl implements InlineParser, ParagraphPreProcessor {
      */
     @Override
     public boolean parseEntity() {
-        BasedSequence m;
-        if ((m = match(myParsing.ENTITY_HERE)) != null) {
-            HtmlEntity node = new HtmlEntity(m);
+        int end = myHtmlScanner.scanEntity(input, index);
+        if (end != -1) {
+            HtmlEntity node = new HtmlEntity(input.subSequence(index, end));
+            index = end;
             appendNode(node);
             return true;
         } else {
@@ -1780,6 +1874,9 @@ public class InlineParserImpl implements InlineParser, ParagraphPreProcessor {
     public void processDelimiters(Delimiter stackBottom) {
         Map<Character, Delimiter> openersBottom = new HashMap<Character, Delimiter>();
 
+        // lower bounds for openers rejected by the "multiple of 3" rule, indexed by closer's can open and length modulo 3
+        Map<Character, Delimiter[]> rejectedOpenersBottom = null;
+
         // find first closer above stackBottom:
         Delimiter closer = lastDelimiter;
         while (closer != null && closer.previous != stackBottom) {
@@ -1802,8 +1899,22 @@ public class InlineParserImpl implements InlineParser, ParagraphPreProcessor {
             int useDelims = 0;
             boolean openerFound = false;
             boolean potentialOpenerFound = false;
+
+            // emphasis rejects openers only by the "multiple of 3" rule, so openers rejected for a closer are also
+            // rejected for all following closers with the same can open and length modulo 3
+            boolean isEmphasis = delimiterProcessor instanceof EmphasisDelimiterProcessor;
+            Delimiter[] rejectedBottoms = rejectedOpenersBottom == null ? null : rejectedOpenersBottom.get(delimiterChar);
+            int rejectedIndex = (closer.canOpen ? 3 : 0) + closer.numDelims % 3;
+            Delimiter rejectedBottom = isEmphasis && rejectedBottoms != null ? rejectedBottoms[rejectedIndex] : null;
+
             Delimiter opener = closer.previous;
             while (opener != null && opener != stackBottom && opener != openersBottom.get(delimiterChar)) {
+                if (opener == rejectedBottom) {
+                    // all openers below were rejected
+                    potentialOpenerFound = true;
+                    break;
+                }
+
                 if (opener.canOpen && opener.delimiterChar == openingDelimiterChar) {
                     potentialOpenerFound = true;
                     useDelims = delimiterProcessor.getDelimiterUse(opener, closer);
@@ -1817,6 +1928,16 @@ public class InlineParserImpl implements InlineParser, ParagraphPreProcessor {
             }
 
             if (!openerFound) {
+                if (potentialOpenerFound && isEmphasis) {
+                    // openers were rejected by the "multiple of 3" rule, skip them for closers of the same kind
+                    if (rejectedOpenersBottom == null) rejectedOpenersBottom = new HashMap<Character, Delimiter[]>();
+                    if (rejectedBottoms == null) {
+                        rejectedBottoms = new Delimiter[6];
+                        rejectedOpenersBottom.put(delimiterChar, rejectedBottoms);
+                    }
+                    rejectedBottoms[rejectedIndex] = closer.previous;
+                }
+
                 if (!potentialOpenerFound) {
                     // Set lower bound for future searches for openers.
                     // Only do this when we didn't even have a potential
@@ -1853,6 +1974,16 @@ public class InlineParserImpl implements InlineParser, ParagraphPreProcessor {
             opener.numDelims -= useDelims;
             closer.numDelims -= useDelims;
 
+            if (rejectedBottoms != null) {
+                // opener length changed, it has to be considered again by closers which skipped it
+                for (int i = 0; i < rejectedBottoms.length; i++) {
+                    Delimiter bottom = rejectedBottoms[i];
+                    if (bottom != null && bottom.index >= opener.index) {
+                        rejectedBottoms[i] = opener.previous;
+                    }
+                }
+            }
+
             // No delimiter characters left to process, so we can remove delimiter and the now empty node.
             if (opener.numDelims == 0) {
                 removeDelimiterAndNode(opener);
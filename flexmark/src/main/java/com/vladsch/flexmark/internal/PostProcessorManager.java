@@ -2,18 +2,19 @@ package com.vladsch.flexmark.internal;
 
 import com.vladsch.flexmark.ast.Document;
 import com.vladsch.flexmark.ast.Node;
+import com.vladsch.flexmark.ast.Text;
 import com.vladsch.flexmark.parser.PostProcessor;
 import com.vladsch.flexmark.parser.PostProcessorFactory;
-import com.vladsch.flexmark.util.collection.ClassifyingNodeTracker;
-import com.vladsch.flexmark.util.collection.NodeClassifierVisitor;
-import com.vladsch.flexmark.util.collection.OrderedSet;
-import com.vladsch.flexmark.util.collection.iteration.ReversibleIterable;
+import com.vladsch.flexmark.parser.block.TextNodePostProcessor;
+import com.vladsch.flexmark.parser.block.UnescapedText;
+import com.vladsch.flexmark.util.collection.TypeIndexedNodeTracker;
 import com.vladsch.flexmark.util.dependency.DependencyHandler;
 import com.vladsch.flexmark.util.dependency.DependentItem;
 import com.vladsch.flexmark.util.dependency.DependentItemMap;
 import com.vladsch.flexmark.util.dependency.ResolvedDependencies;
 import com.vladsch.flexmark.util.options.DataHolder;
 import com.vladsch.flexmark.util.options.DataKey;
+import com.vladsch.flexmark.util.sequence.BasedSequence;
 
 import java.util.*;
 
@@ -24,7 +25,6 @@ public class PostProcessorManager {
     }
 
     private final PostProcessorDependencies postProcessorDependencies;
-    private OrderedSet<Node> allPostProcessNodes = new OrderedSet<Node>();
 
     public PostProcessorManager(PostProcessorDependencies postProcessorDependencies) {
         this.postProcessorDependencies = postProcessorDependencies;
@@ -58,62 +58,57 @@ public class PostProcessorManager {
 
     public Document postProcess(Document document) {
         // first initialize node tracker if
-        ClassifyingNodeTracker classifyingNodeTracker;
+        TypeIndexedNodeTracker nodeTracker;
 
-        classifyingNodeTracker = null;
+        nodeTracker = null;
         for (PostProcessorDependencyStage stage : postProcessorDependencies.getDependentStages()) {
             // idiosyncrasy of post processors the last dependency can be global, in which case it processes the whole document and no ancestry info is
             // provided
-            //new ClassifyingNodeTracker()
             boolean hadGlobal = false;
-            for (PostProcessorFactory dependent : stage.dependents) {
+            List<PostProcessorFactory> dependents = stage.dependents;
+            int iMax = dependents.size();
+            PostProcessor createdPostProcessor = null;
+            for (int i = 0; i < iMax; i++) {
+                PostProcessorFactory dependent = dependents.get(i);
                 if (dependent.affectsGlobalScope()) {
                     document = dependent.create(document).processDocument(document);
                     hadGlobal = true;
                     // assume it no longer reflects reality;
-                    classifyingNodeTracker = null;
+                    nodeTracker = null;
                 } else {
-                    if (hadGlobal) {
-                        int tmp = 0;
-                    }
                     assert !hadGlobal;
 
-                    if (classifyingNodeTracker == null) {
-                        // build the node type information by traversing the document tree
-                        classifyingNodeTracker = new NodeClassifierVisitor(stage.myNodeMap).classify(document);
+                    if (nodeTracker == null) {
+                        // collect nodes of the stage's types with exclusion masks of their ancestors
+                        nodeTracker = new TypeIndexedNodeTracker(stage.myNodeMap).track(document);
                     }
 
-                    Map<Class<?>, Set<Class<?>>> dependentNodeTypes = dependent.getNodeTypes();
-                    PostProcessor postProcessor = dependent.create(document);
-                    BitSet exclusionSet = new BitSet();
-                    for (Set<Class<?>> excluded : dependentNodeTypes.values()) {
-                        BitSet mapped = classifyingNodeTracker.getExclusionSet().indexBitSet(excluded);
-                        exclusionSet.or(mapped);
-                    }
+                    PostProcessor postProcessor = createdPostProcessor != null ? createdPostProcessor : dependent.create(document);
+                    createdPostProcessor = null;
+
+                    if (postProcessor instanceof TextNodePostProcessor && isTextOnly(dependent)) {
+                        // run consecutive text node post processors together
+                        ArrayList<TextNodePostProcessor> textPostProcessors = new ArrayList<TextNodePostProcessor>();
+                        ArrayList<Long> exclusionMasks = new ArrayList<Long>();
+                        textPostProcessors.add((TextNodePostProcessor) postProcessor);
+                        exclusionMasks.add(nodeTracker.getExclusionMask(dependent.getNodeTypes().get(Text.class)));
 
-                    ReversibleIterable<Node> nodes = classifyingNodeTracker.getCategoryItems(Node.class, dependentNodeTypes.keySet());
-                    for (Node node : nodes) {
-                        if (node.getParent() == null) continue; // was already removed
-                        // now we need to get the bitset for the excluded ancestors of the node, then intersect it with the actual ancestors of this factory
-                        int index;
-                        BitSet nodeAncestors;
-                        BitSet nodeExclusions;
-                        Set<Class<?>> excluded = dependentNodeTypes.get(node.getClass());
-                        if (excluded != null) {
-                            index = classifyingNodeTracker.getItems().indexOf(node);
-                            if (index != -1) {
-                                 nodeAncestors = classifyingNodeTracker.getNodeAncestryMap().get(index);
-                                if (nodeAncestors != null) {
-                                    nodeExclusions = classifyingNodeTracker.getExclusionSet().indexBitSet(excluded);
-                                    nodeExclusions.and(nodeAncestors);
-                                    if (!nodeExclusions.isEmpty()) {
-                                        // has excluded ancestor
-                                        continue;
-                                    }
-                                }
+                        while (i + 1 < iMax && isTextOnly(dependents.get(i + 1))) {
+                            PostProcessorFactory nextDependent = dependents.get(i + 1);
+                            PostProcessor nextPostProcessor = nextDependent.create(document);
+                            if (!(nextPostProcessor instanceof TextNodePostProcessor)) {
+                                createdPostProcessor = nextPostProcessor;
+                                break;
                             }
+
+                            textPostProcessors.add((TextNodePostProcessor) nextPostProcessor);
+                            exclusionMasks.add(nodeTracker.getExclusionMask(nextDependent.getNodeTypes().get(Text.class)));
+                            i++;
                         }
-                        postProcessor.process(classifyingNodeTracker, node);
+
+                        processTextNodes(nodeTracker, textPostProcessors, exclusionMasks);
+                    } else {
+                        processNodes(nodeTracker, dependent, postProcessor);
                     }
                 }
             }
@@ -122,6 +117,56 @@ public class PostProcessorManager {
         return document;
     }
 
+    private static boolean isTextOnly(PostProcessorFactory dependent) {
+        Map<Class<?>, Set<Class<?>>> nodeTypes = dependent.getNodeTypes();
+        return !dependent.affectsGlobalScope() && nodeTypes.size() == 1 && nodeTypes.containsKey(Text.class);
+    }
+
+    private static void processNodes(TypeIndexedNodeTracker nodeTracker, PostProcessorFactory dependent, PostProcessor postProcessor) {
+        Map<Class<?>, Set<Class<?>>> dependentNodeTypes = dependent.getNodeTypes();
+        HashMap<Class<?>, Long> exclusionMasks = new HashMap<Class<?>, Long>(dependentNodeTypes.size());
+        for (Map.Entry<Class<?>, Set<Class<?>>> entry : dependentNodeTypes.entrySet()) {
+            exclusionMasks.put(entry.getKey(), nodeTracker.getExclusionMask(entry.getValue()));
+        }
+
+        BitSet items = nodeTracker.getTypeItems(dependentNodeTypes.keySet());
+        for (int i = items.nextSetBit(0); i >= 0; i = items.nextSetBit(i + 1)) {
+            Node node = nodeTracker.getItem(i);
+            if (node.getParent() == null) continue; // was already removed
+
+            // skip nodes which have an excluded ancestor
+            Long exclusionMask = exclusionMasks.get(node.getClass());
+            if (exclusionMask != null && (nodeTracker.getAncestryMask(i) & exclusionMask) != 0) continue;
+
+            postProcessor.process(nodeTracker, node);
+        }
+    }
+
+    private static void processTextNodes(TypeIndexedNodeTracker nodeTracker, List<TextNodePostProcessor> postProcessors, List<Long> exclusionMasks) {
+        int jMax = postProcessors.size();
+        BitSet items = nodeTracker.getTypeItems(Collections.<Class<?>>singleton(Text.class));
+        for (int i = items.nextSetBit(0); i >= 0; i = items.nextSetBit(i + 1)) {
+            Node node = nodeTracker.getItem(i);
+            if (node.getParent() == null) continue; // was already removed
+
+            // unescape once, each processor decorates what is left undecorated by the ones before it
+            long ancestryMask = nodeTracker.getAncestryMask(i);
+            BasedSequence chars = node.getChars();
+            UnescapedText text = null;
+            for (int j = 0; j < jMax; j++) {
+                if ((ancestryMask & exclusionMasks.get(j)) != 0) continue;
+
+                TextNodePostProcessor postProcessor = postProcessors.get(j);
+                if (!postProcessor.isCandidate(chars)) continue;
+
+                if (text == null) text = new UnescapedText(chars);
+                text.decorate(postProcessor);
+            }
+
+            if (text != null) text.replace(node, nodeTracker);
+        }
+    }
+
     public static class PostProcessorDependencyStage {
         private final Map<Class<? extends Node>, Set<Class<?>>> myNodeMap;
         private final boolean myWithExclusions;
@@ -0,0 +1,47 @@
+package com.vladsch.flexmark.parser.block;
+
+import com.vladsch.flexmark.ast.Node;
+import com.vladsch.flexmark.util.NodeTracker;
+import com.vladsch.flexmark.util.sequence.BasedSequence;
+
+/**
+ * Node post processor which decorates the unescaped text of Text nodes.
+ * <p>
+ * Consecutive text node post processors of a dependency stage are run together on each Text node,
+ * sharing one unescaped copy of its text and splitting the node once for all their decorations.
+ * A processor only sees text not already decorated by the processors before it.
+ */
+public abstract class TextNodePostProcessor extends NodePostProcessor {
+    /**
+     * Find decorations in a range of unescaped text and add them with {@link UnescapedText#addDecoration(int, int, Node)}
+     * <p>
+     * The range is to be treated as if it was the whole text of a node.
+     *
+     * @param text       unescaped text of the node
+     * @param startIndex start of range in unescaped text
+     * @param endIndex   end of range in unescaped text
+     */
+    public abstract void decorate(UnescapedText text, int startIndex, int endIndex);
+
+    /**
+     * Quick test of the original text of a Text node, done before the text is unescaped.
+     * <p>
+     * Text which is not a candidate is not unescaped nor passed to {@link #decorate(UnescapedText, int, int)} for this processor.
+     * The test has to allow for characters produced by unescaping, such as entities.
+     *
+     * @param chars original text of the node
+     * @return false if the text cannot contain anything to decorate
+     */
+    public boolean isCandidate(BasedSequence chars) {
+        return true;
+    }
+
+    @Override
+    public void process(NodeTracker state, Node node) {
+        if (!isCandidate(node.getChars())) return;
+
+        UnescapedText text = new UnescapedText(node.getChars());
+        text.decorate(this);
+        text.replace(node, state);
+    }
+}
@@ -0,0 +1,167 @@
+package com.vladsch.flexmark.parser.block;
+
+import com.vladsch.flexmark.ast.Node;
+import com.vladsch.flexmark.ast.Text;
+import com.vladsch.flexmark.ast.TextBase;
+import com.vladsch.flexmark.util.NodeTracker;
+import com.vladsch.flexmark.util.html.Escaping;
+import com.vladsch.flexmark.util.sequence.BasedSequence;
+import com.vladsch.flexmark.util.sequence.ReplacedTextMapper;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+
+/**
+ * Unescaped text of a Text node shared by {@link TextNodePostProcessor}s, with decoration nodes they found in it.
+ * <p>
+ * The node is unescaped once and split once, no matter how many processors decorate it.
+ */
+public class UnescapedText {
+    private static class Decoration {
+        final int startIndex;
+        final int endIndex;
+        final int startOffset;
+        final int endOffset;
+        final Node node;
+
+        Decoration(int startIndex, int endIndex, int startOffset, int endOffset, Node node) {
+            this.startIndex = startIndex;
+            this.endIndex = endIndex;
+            this.startOffset = startOffset;
+            this.endOffset = endOffset;
+            this.node = node;
+        }
+    }
+
+    private static final Comparator<Decoration> DECORATION_COMPARATOR = new Comparator<Decoration>() {
+        @Override
+        public int compare(Decoration o1, Decoration o2) {
+            return o1.startIndex - o2.startIndex;
+        }
+    };
+
+    private final BasedSequence original;
+    private final ReplacedTextMapper textMapper;
+    private final BasedSequence literal;
+    private final ArrayList<Decoration> decorations;
+
+    public UnescapedText(BasedSequence original) {
+        this.original = original;
+        this.textMapper = new ReplacedTextMapper(original);
+        this.literal = Escaping.unescape(original, textMapper);
+        this.decorations = new ArrayList<Decoration>();
+    }
+
+    public BasedSequence getOriginal() {
+        return original;
+    }
+
+    public ReplacedTextMapper getTextMapper() {
+        return textMapper;
+    }
+
+    public BasedSequence getLiteral() {
+        return literal;
+    }
+
+    /**
+     * @param literalIndex index in unescaped text
+     * @return offset in original text
+     */
+    public int originalOffset(int literalIndex) {
+        return textMapper.originalOffset(literalIndex);
+    }
+
+    /**
+     * Add decoration node to replace the original text of a range of unescaped text
+     *
+     * @param startIndex start index in unescaped text
+     * @param endIndex   end index in unescaped text
+     * @param node       decoration node, its children are added to the node tracker with it
+     */
+    public void addDecoration(int startIndex, int endIndex, Node node) {
+        decorations.add(new Decoration(startIndex, endIndex, textMapper.originalOffset(startIndex), textMapper.originalOffset(endIndex), node));
+    }
+
+    public boolean isDecorated() {
+        return !decorations.isEmpty();
+    }
+
+    /**
+     * Let post processor decorate the unescaped text not already decorated by previous processors
+     *
+     * @param postProcessor post processor
+     */
+    public void decorate(TextNodePostProcessor postProcessor) {
+        int iMax = decorations.size();
+        int literalLength = literal.length();
+
+        if (iMax == 0) {
+            postProcessor.decorate(this, 0, literalLength);
+        } else {
+            // only ranges between existing decorations are left, each is processed as if it was a separate text node
+            int startIndex = 0;
+            for (int i = 0; i < iMax; i++) {
+                Decoration decoration = decorations.get(i);
+                if (startIndex < decoration.startIndex) postProcessor.decorate(this, startIndex, decoration.startIndex);
+                startIndex = decoration.endIndex;
+            }
+
+            if (startIndex < literalLength) postProcessor.decorate(this, startIndex, literalLength);
+
+            if (decorations.size() > iMax) {
+                Collections.sort(decorations, DECORATION_COMPARATOR);
+            }
+        }
+    }
+
+    /**
+     * Replace the node with its undecorated text and decoration nodes, does nothing if there are no decorations
+     *
+     * @param node  text node whose chars were unescaped
+     * @param state node tracker
+     */
+    public void replace(Node node, NodeTracker state) {
+        if (decorations.isEmpty()) return;
+
+        // when already a child of text base, the pieces are inserted in place of the node
+        TextBase textBase = null;
+        if (!(node.getParent() instanceof TextBase)) {
+            textBase = new TextBase(original);
+            node.insertBefore(textBase);
+            state.nodeAdded(textBase);
+        }
+
+        int lastEscaped = 0;
+        for (Decoration decoration : decorations) {
+            if (decoration.startOffset != lastEscaped) {
+                addPiece(node, textBase, new Text(original.subSequence(lastEscaped, decoration.startOffset)), state);
+            }
+
+            addPiece(node, textBase, decoration.node, state);
+            lastEscaped = decoration.endOffset;
+        }
+
+        if (lastEscaped != original.length()) {
+            addPiece(node, textBase, new Text(original.subSequence(lastEscaped, original.length())), state);
+        }
+
+        node.unlink();
+        state.nodeRemoved(node);
+    }
+
+    private static void addPiece(Node node, TextBase textBase, Node piece, NodeTracker state) {
+        if (textBase != null) {
+            textBase.appendChild(piece);
+        } else {
+            node.insertBefore(piece);
+        }
+
+        if (piece.getFirstChild() != null) {
+            state.nodeAddedWithDescendants(piece);
+        } else {
+            state.nodeAdded(piece);
+        }
+    }
+}
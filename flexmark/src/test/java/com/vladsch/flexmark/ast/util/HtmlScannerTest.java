@@ -0,0 +1,83 @@
+package com.vladsch.flexmark.ast.util;
+
+import com.vladsch.flexmark.parser.Parser;
+import com.vladsch.flexmark.util.options.MutableDataSet;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static com.vladsch.flexmark.ast.util.LinkScannerTest.regexEnd;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Verify that hand-written HTML scanners give the same results as the regex patterns they replace
+ */
+public class HtmlScannerTest {
+    private static final int ITERATIONS = 50000;
+
+    static String randomString(Random random, String prefix, String chars, int maxLength) {
+        StringBuilder sb = new StringBuilder(prefix);
+        int length = random.nextInt(maxLength);
+        for (int i = 0; i < length; i++) {
+            sb.append(chars.charAt(random.nextInt(chars.length())));
+        }
+        return sb.toString();
+    }
+
+    static MutableDataSet options(boolean intellijDummyIdentifier) {
+        return new MutableDataSet().set(Parser.INTELLIJ_DUMMY_IDENTIFIER, intellijDummyIdentifier);
+    }
+
+    @Test
+    public void test_entity() {
+        Random random = new Random(1);
+        String chars = "#xX09aFgZ;\u001f";
+
+        for (boolean intellij : new boolean[] { false, true }) {
+            HtmlScanner scanner = new HtmlScanner(options(intellij));
+            Parsing parsing = new Parsing(options(intellij));
+
+            for (int i = 0; i < ITERATIONS; i++) {
+                String s = randomString(random, "&", chars, 40);
+                assertEquals(s, regexEnd(parsing.ENTITY_HERE, s, 0), scanner.scanEntity(s, 0));
+            }
+        }
+    }
+
+    @Test
+    public void test_htmlTag() {
+        Random random = new Random(1);
+        String[] prefixes = { "<", "<a", "</", "<?", "<!", "<!-", "<!--", "<![CDATA[", "<![cdata[", "<!DOC" };
+        String chars = "<>/!?-=\"' \t\n\r aZ1_:.`]\u001f";
+
+        for (boolean intellij : new boolean[] { false, true }) {
+            HtmlScanner scanner = new HtmlScanner(options(intellij));
+            Parsing parsing = new Parsing(options(intellij));
+
+            for (String prefix : prefixes) {
+                for (int i = 0; i < ITERATIONS; i++) {
+                    String s = randomString(random, prefix, chars, 16);
+                    assertEquals(s, regexEnd(parsing.HTML_TAG, s, 0), scanner.scanHtmlTag(s, 0));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void test_htmlTagAttributes() {
+        Random random = new Random(1);
+        String[] parts = { " ", "\t", "\n", "a", "b:c", "=", "\"v\"", "'v'", "v", "/", ">", "\"", "'", "`" };
+        HtmlScanner scanner = new HtmlScanner(options(false));
+        Parsing parsing = new Parsing(options(false));
+
+        for (int i = 0; i < ITERATIONS; i++) {
+            StringBuilder sb = new StringBuilder("<div");
+            int length = random.nextInt(10);
+            for (int j = 0; j < length; j++) {
+                sb.append(parts[random.nextInt(parts.length)]);
+            }
+            String s = sb.toString();
+            assertEquals(s, regexEnd(parsing.HTML_TAG, s, 0), scanner.scanHtmlTag(s, 0));
+        }
+    }
+}
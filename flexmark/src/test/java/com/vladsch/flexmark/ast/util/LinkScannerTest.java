@@ -0,0 +1,196 @@
+package com.vladsch.flexmark.ast.util;
+
+import com.vladsch.flexmark.parser.Parser;
+import com.vladsch.flexmark.test.Strings;
+import com.vladsch.flexmark.util.options.MutableDataSet;
+import org.junit.Test;
+
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Verify that hand-written scanners give the same results as the regex patterns they replace
+ */
+public class LinkScannerTest {
+    private static final String CHARS = "[]\\\\\\()<>\"'{{}} \t\n\ra:\u0000\u001f";
+    private static final int ITERATIONS = 20000;
+
+    static int regexEnd(Pattern pattern, CharSequence s, int index) {
+        if (index >= s.length()) return -1;
+        Matcher matcher = pattern.matcher(s);
+        matcher.region(index, s.length());
+        return matcher.find() ? matcher.end() : -1;
+    }
+
+    static String randomString(Random random, int maxLength) {
+        int length = random.nextInt(maxLength);
+        StringBuilder sb = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            sb.append(CHARS.charAt(random.nextInt(CHARS.length())));
+        }
+        return sb.toString();
+    }
+
+    static MutableDataSet options(int variant) {
+        MutableDataSet options = new MutableDataSet();
+        options.set(Parser.SPACE_IN_LINK_URLS, (variant & 1) != 0);
+        options.set(Parser.PARSE_JEKYLL_MACROS_IN_URLS, (variant & 2) != 0);
+        options.set(Parser.LINKS_ALLOW_MATCHED_PARENTHESES, (variant & 4) != 0);
+        options.set(Parser.INTELLIJ_DUMMY_IDENTIFIER, (variant & 8) != 0);
+        return options;
+    }
+
+    // same as InlineParserImpl.parseLinkDestination() before scanners
+    static int regexDestinationEnd(Parsing parsing, LinkScanner scanner, String s, int index) {
+        int end = regexEnd(parsing.LINK_DESTINATION_ANGLES, s, index);
+        if (end != -1) return end;
+
+        if (scanner.linksAllowMatchedParentheses) {
+            end = regexEnd(parsing.LINK_DESTINATION_MATCHED_PARENS, s, index);
+            if (end == -1) return -1;
+
+            int openCount = 0;
+            for (int i = index; i < end; i++) {
+                char c = s.charAt(i);
+                if (c == '\\') {
+                    i++;
+                } else if (c == '(') {
+                    openCount++;
+                } else if (c == ')') {
+                    if (openCount == 0) return i;
+                    openCount--;
+                }
+            }
+            return end;
+        }
+        return regexEnd(parsing.LINK_DESTINATION, s, index);
+    }
+
+    @Test
+    public void test_linkLabel() {
+        Random random = new Random(1);
+        LinkScanner scanner = new LinkScanner(options(0));
+        Parsing parsing = new Parsing(options(0));
+
+        for (int i = 0; i < ITERATIONS; i++) {
+            String s = "[" + randomString(random, 30);
+            assertEquals(s, regexEnd(parsing.LINK_LABEL, s, 0), scanner.scanLinkLabel(s, 0));
+        }
+    }
+
+    @Test
+    public void test_linkLabelMaxLength() {
+        Random random = new Random(1);
+        LinkScanner scanner = new LinkScanner(options(0));
+        Parsing parsing = new Parsing(options(0));
+        String[] parts = { "a", "\\", "\\\\", "\\a", "\\]", "\\[", "]" };
+
+        for (int i = 0; i < 500; i++) {
+            StringBuilder sb = new StringBuilder("[");
+            int length = 980 + random.nextInt(40);
+            while (sb.length() < length) {
+                sb.append(random.nextInt(10) == 0 ? parts[random.nextInt(parts.length - 1)] : "a");
+            }
+            sb.append(parts[random.nextInt(parts.length)]);
+            sb.append(parts[random.nextInt(parts.length)]);
+            String s = sb.toString();
+            assertEquals(s, regexEnd(parsing.LINK_LABEL, s, 0), scanner.scanLinkLabel(s, 0));
+        }
+    }
+
+    @Test
+    public void test_linkDestination() {
+        Random random = new Random(1);
+
+        for (int variant = 0; variant < 16; variant++) {
+            LinkScanner scanner = new LinkScanner(options(variant));
+            Parsing parsing = new Parsing(options(variant));
+
+            for (int i = 0; i < ITERATIONS; i++) {
+                String s = randomString(random, 30);
+                int expected = regexDestinationEnd(parsing, scanner, s, 0);
+                int actual = s.isEmpty() ? -1 : scanner.scanLinkDestinationAngles(s, 0);
+                if (actual == -1 && !s.isEmpty()) actual = scanner.scanLinkDestinationNoAngles(s, 0);
+                assertEquals("variant " + variant + " " + s, expected, actual);
+            }
+        }
+    }
+
+    @Test
+    public void test_linkDestinationParenNesting() {
+        LinkScanner scanner = new LinkScanner(options(4));
+        Parsing parsing = new Parsing(options(4));
+
+        for (int i = 1; i <= LinkScanner.MAX_LINK_PAREN_NESTING + 1; i++) {
+            String s = Strings.repeat("(", i) + "a" + Strings.repeat(")", i + 1);
+            int expected = i <= LinkScanner.MAX_LINK_PAREN_NESTING ? regexDestinationEnd(parsing, scanner, s, 0) : -1;
+            assertEquals(s, expected, scanner.scanLinkDestinationNoAngles(s, 0));
+        }
+    }
+
+    @Test
+    public void test_linkTitle() {
+        Random random = new Random(1);
+        Parsing parsing = new Parsing(options(0));
+
+        for (int i = 0; i < ITERATIONS; i++) {
+            String s = "\"'(".charAt(random.nextInt(3)) + randomString(random, 30);
+            assertEquals(s, regexEnd(parsing.LINK_TITLE, s, 0), LinkScanner.scanLinkTitle(s, 0));
+        }
+    }
+
+    @Test
+    public void test_spnlLineEnd() {
+        Random random = new Random(1);
+        Parsing parsing = new Parsing(options(0));
+        String chars = " \t\r\n\u0085\u2028a";
+
+        for (int i = 0; i < ITERATIONS; i++) {
+            StringBuilder sb = new StringBuilder();
+            int length = 1 + random.nextInt(8);
+            for (int j = 0; j < length; j++) {
+                sb.append(chars.charAt(random.nextInt(chars.length())));
+            }
+            String s = sb.toString();
+            assertEquals(s, regexEnd(parsing.SPNL, s, 0), LinkScanner.scanSpnl(s, 0));
+            assertEquals(s, regexEnd(parsing.LINE_END, s, 0), LinkScanner.scanLineEnd(s, 0));
+        }
+    }
+
+    @Test
+    public void test_autolink() {
+        Random random = new Random(1);
+        String chars = "<>@.:-+aZ9_ \u0000\u001f";
+
+        for (int variant = 0; variant < 16; variant += 8) {
+            LinkScanner scanner = new LinkScanner(options(variant));
+            Parsing parsing = new Parsing(options(variant));
+
+            for (int i = 0; i < ITERATIONS; i++) {
+                StringBuilder sb = new StringBuilder("<");
+                int length = random.nextInt(20);
+                for (int j = 0; j < length; j++) {
+                    sb.append(chars.charAt(random.nextInt(chars.length())));
+                }
+                String s = sb.toString();
+                assertEquals(s, regexEnd(parsing.EMAIL_AUTOLINK, s, 0), scanner.scanEmailAutolink(s, 0));
+                assertEquals(s, regexEnd(parsing.AUTOLINK, s, 0), scanner.scanAutolink(s, 0));
+            }
+        }
+    }
+
+    @Test
+    public void test_emailAutolinkLabelLength() {
+        LinkScanner scanner = new LinkScanner(options(0));
+        Parsing parsing = new Parsing(options(0));
+
+        for (int i = 60; i < 66; i++) {
+            String label = "a" + Strings.repeat("-", i - 2) + "b";
+            String s = "<user@" + label + ".com>";
+            assertEquals(s, regexEnd(parsing.EMAIL_AUTOLINK, s, 0), scanner.scanEmailAutolink(s, 0));
+        }
+    }
+}
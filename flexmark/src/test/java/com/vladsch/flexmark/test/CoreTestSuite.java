@@ -1,5 +1,7 @@
 package com.vladsch.flexmark.test;
 
+import com.vladsch.flexmark.ast.util.HtmlScannerTest;
+import com.vladsch.flexmark.ast.util.LinkScannerTest;
 import com.vladsch.flexmark.ast.util.TextCollectingVisitor;
 import com.vladsch.flexmark.ast.util.TextCollectingVisitorTest;
 import com.vladsch.flexmark.internal.HtmlDeepParserTest;
@@ -25,6 +27,8 @@ import org.junit.runners.Suite;
         CoreCompatibilityTestSuite.class,
         ComboIssuesSpecTest.class,
         TextCollectingVisitorTest.class,
+        LinkScannerTest.class,
+        HtmlScannerTest.class,
         HtmlDeepParserTest.class,
 })
 public class CoreTestSuite {
@@ -1,6 +1,8 @@
 package com.vladsch.flexmark.test;
 
+import com.vladsch.flexmark.ast.Document;
 import com.vladsch.flexmark.ast.FencedCodeBlock;
+import com.vladsch.flexmark.ast.HtmlCommentBlock;
 import com.vladsch.flexmark.ast.Image;
 import com.vladsch.flexmark.ast.Link;
 import com.vladsch.flexmark.ast.Node;
@@ -9,10 +11,13 @@ import com.vladsch.flexmark.html.renderer.*;
 import com.vladsch.flexmark.parser.Parser;
 import com.vladsch.flexmark.util.html.Attributes;
 import com.vladsch.flexmark.util.options.DataHolder;
+import com.vladsch.flexmark.util.options.MutableDataSet;
 import org.junit.Test;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import static org.junit.Assert.assertEquals;
@@ -400,6 +405,174 @@ public class HtmlRendererTest {
                 defaultRenderer().render(parse("![foo &auml;](/url)\n")));
     }
 
+    @Test
+    public void resolvedLinkCacheSharedByDocuments() {
+        final int[] resolved = { 0 };
+        HtmlRenderer renderer = HtmlRenderer.builder(new MutableDataSet().set(HtmlRenderer.RESOLVED_LINK_CACHE, new BoundedResolvedLinkCache(10)))
+                .linkResolverFactory(countingLinkResolverFactory(resolved))
+                .build();
+
+        assertEquals("<p><a href=\"/resolved/url\">a</a> <a href=\"/resolved/url\">b</a></p>\n", renderer.render(parse("[a](/url) [b](/url)")));
+        assertEquals(1, resolved[0]);
+        assertEquals("<p><a href=\"/resolved/url\" title=\"c\">c</a></p>\n", renderer.render(parse("[c](/url \"c\")")));
+        assertEquals("<p><a href=\"/resolved/url\">d</a></p>\n", renderer.render(parse("[d](/url)")));
+        assertEquals(1, resolved[0]);
+
+        // image of the same url is a different link type
+        assertEquals("<p><img src=\"/resolved/url\" alt=\"e\" /></p>\n", renderer.render(parse("![e](/url)")));
+        assertEquals(2, resolved[0]);
+    }
+
+    @Test
+    public void resolvedLinkCacheScopedByRenderer() {
+        final int[] resolved = { 0 };
+        BoundedResolvedLinkCache cache = new BoundedResolvedLinkCache(10);
+        HtmlRenderer renderer = HtmlRenderer.builder(new MutableDataSet().set(HtmlRenderer.RESOLVED_LINK_CACHE, cache)).linkResolverFactory(countingLinkResolverFactory(resolved)).build();
+        HtmlRenderer otherRenderer = HtmlRenderer.builder(new MutableDataSet().set(HtmlRenderer.RESOLVED_LINK_CACHE, cache)).build();
+
+        assertEquals("<p><a href=\"/resolved/url\">a</a></p>\n", renderer.render(parse("[a](/url)")));
+        assertEquals("<p><a href=\"/url\">a</a></p>\n", otherRenderer.render(parse("[a](/url)")));
+        assertEquals(2, cache.size());
+        assertEquals(1, resolved[0]);
+    }
+
+    @Test
+    public void resolvedLinkCacheScopedByDocument() {
+        final int[] resolved = { 0 };
+        BoundedResolvedLinkCache cache = new BoundedResolvedLinkCache(10);
+        HtmlRenderer renderer = HtmlRenderer.builder(new MutableDataSet().set(HtmlRenderer.RESOLVED_LINK_CACHE, cache)).linkResolverFactory(countingLinkResolverFactory(resolved)).build();
+
+        renderer.render(parse("<!-- a -->\n\n[a](/url)"));
+        renderer.render(parse("<!-- a -->\n\n[b](/url)"));
+        assertEquals(1, resolved[0]);
+        renderer.render(parse("<!-- b -->\n\n[a](/url)"));
+        assertEquals(2, resolved[0]);
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void resolvedLinkCacheNotUsedWithDocumentLinkResolver() {
+        final int[] resolved = { 0 };
+        final int[] documentResolved = { 0 };
+        BoundedResolvedLinkCache cache = new BoundedResolvedLinkCache(10);
+        HtmlRenderer renderer = HtmlRenderer.builder(new MutableDataSet().set(HtmlRenderer.RESOLVED_LINK_CACHE, cache))
+                .linkResolverFactory(documentLinkResolverFactory(documentResolved))
+                .linkResolverFactory(countingLinkResolverFactory(resolved))
+                .build();
+
+        assertEquals("<p><a href=\"/resolved/url\">a</a></p>\n", renderer.render(parse("[a](/url)")));
+        assertEquals("<p><a href=\"/resolved/url\">a</a></p>\n", renderer.render(parse("[a](/url)")));
+        assertEquals(2, resolved[0]);
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void boundedResolvedLinkCache() {
+        final long[] time = { 0 };
+        BoundedResolvedLinkCache cache = new BoundedResolvedLinkCache(2, 100) {
+            @Override
+            protected long currentTimeMillis() {
+                return time[0];
+            }
+        };
+
+        ResolvedLinkCache.Key a = new ResolvedLinkCache.Key(this, null, LinkType.LINK, "a", null);
+        ResolvedLinkCache.Key b = new ResolvedLinkCache.Key(this, null, LinkType.LINK, "b", null);
+        ResolvedLinkCache.Key c = new ResolvedLinkCache.Key(this, null, LinkType.LINK, "c", null);
+        cache.put(a, new ResolvedLink(LinkType.LINK, "a"));
+        cache.put(b, new ResolvedLink(LinkType.LINK, "b"));
+        assertEquals("a", cache.get(a).getUrl());
+
+        // least recently used is evicted
+        cache.put(c, new ResolvedLink(LinkType.LINK, "c"));
+        assertEquals(null, cache.get(b));
+        assertEquals("a", cache.get(a).getUrl());
+        assertEquals("c", cache.get(new ResolvedLinkCache.Key(this, null, LinkType.LINK, "c", null)).getUrl());
+        assertEquals(null, cache.get(new ResolvedLinkCache.Key(this, null, LinkType.IMAGE, "c", null)));
+
+        time[0] = 100;
+        assertEquals(null, cache.get(a));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void batchLinkResolver() {
+        final List<ResolvedLink> batchLinks = new ArrayList<ResolvedLink>();
+        final int[] resolved = { 0 };
+
+        HtmlRenderer renderer = HtmlRenderer.builder().linkResolverFactory(new IndependentLinkResolverFactory() {
+            @Override
+            public LinkResolver create(LinkResolverContext context) {
+                return new BatchLinkResolver() {
+                    @Override
+                    public List<ResolvedLink> resolveLinks(Node node, LinkResolverContext context, List<ResolvedLink> links) {
+                        batchLinks.addAll(links);
+                        List<ResolvedLink> resolvedLinks = new ArrayList<ResolvedLink>();
+                        for (ResolvedLink link : links) {
+                            resolvedLinks.add(link.getUrl().startsWith("/page") ? link.withUrl("/batch" + link.getUrl()).withStatus(LinkStatus.VALID) : null);
+                        }
+                        return resolvedLinks;
+                    }
+
+                    @Override
+                    public ResolvedLink resolveLink(Node node, LinkResolverContext context, ResolvedLink link) {
+                        resolved[0]++;
+                        return link;
+                    }
+                };
+            }
+        }).build();
+
+        String rendered = renderer.render(parse("[a](/page1) [b](/page1) ![c](/page1) [d][ref] [e] <http://example.com>\n\n[ref]: /page2\n"));
+        assertEquals("<p><a href=\"/batch/page1\">a</a> <a href=\"/batch/page1\">b</a> <img src=\"/batch/page1\" alt=\"c\" /> <a href=\"/batch/page2\">d</a> [e] <a href=\"http://example.com\">http://example.com</a></p>\n", rendered);
+        assertEquals("[LINK /page1, IMAGE /page1, LINK /page2, LINK_REF e, LINK http://example.com]", linkList(batchLinks));
+        assertEquals(2, resolved[0]);
+    }
+
+    private static String linkList(List<ResolvedLink> links) {
+        StringBuilder sb = new StringBuilder();
+        for (ResolvedLink link : links) {
+            sb.append(sb.length() == 0 ? "[" : ", ").append(link.getLinkType().getName()).append(' ').append(link.getUrl());
+        }
+        return sb.append(']').toString();
+    }
+
+    private static LinkResolverFactory countingLinkResolverFactory(final int[] resolved) {
+        return new IndependentLinkResolverFactory() {
+            @Override
+            public LinkResolver create(LinkResolverContext context) {
+                return new CachingLinkResolver() {
+                    @Override
+                    public Object getCacheScope(Document document) {
+                        // documents starting with a comment give their location in it
+                        return document.getFirstChild() instanceof HtmlCommentBlock ? document.getFirstChild().getChars().trim().toString() : null;
+                    }
+
+                    @Override
+                    public ResolvedLink resolveLink(Node node, LinkResolverContext context, ResolvedLink link) {
+                        resolved[0]++;
+                        return link.withUrl("/resolved" + link.getUrl()).withStatus(LinkStatus.VALID);
+                    }
+                };
+            }
+        };
+    }
+
+    private static LinkResolverFactory documentLinkResolverFactory(final int[] resolved) {
+        return new IndependentLinkResolverFactory() {
+            @Override
+            public LinkResolver create(LinkResolverContext context) {
+                return new LinkResolver() {
+                    @Override
+                    public ResolvedLink resolveLink(Node node, LinkResolverContext context, ResolvedLink link) {
+                        resolved[0]++;
+                        return link;
+                    }
+                };
+            }
+        };
+    }
+
     private static HtmlRenderer defaultRenderer() {
         return HtmlRenderer.builder().build();
     }
@@ -0,0 +1,51 @@
+package com.vladsch.flexmark.test;
+
+import com.vladsch.flexmark.html.HtmlRenderer;
+import com.vladsch.flexmark.parser.Parser;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing time of pathological input by input size, time per repetition should stay flat as size grows.
+ * <p>
+ * run with: mvn -P benchmark -Dbenchmark.class=com.vladsch.flexmark.test.PathologicalBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PathologicalBenchmark {
+
+    private static final Parser PARSER = Parser.builder().build();
+    private static final HtmlRenderer RENDERER = HtmlRenderer.builder().build();
+
+    @Param({ "1000", "10000", "100000" })
+    public int size;
+
+    @Param({ "a_ ", "_a ", "a] ", "[a ", "[ a_ ", "*a_ ", "a***b ", "[ (](", "[a](<b", "[a](b", "[](" })
+    public String repeated;
+
+    private String input;
+
+    public static void main(String[] args) throws Exception {
+        Options options = new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .include(PathologicalBenchmark.class.getName() + ".*")
+                .build();
+        new Runner(options).run();
+    }
+
+    @Setup
+    public void setup() {
+        input = Strings.repeat(repeated, size);
+    }
+
+    @Benchmark
+    public int parseAndRender() {
+        return RENDERER.render(PARSER.parse(input)).length();
+    }
+}
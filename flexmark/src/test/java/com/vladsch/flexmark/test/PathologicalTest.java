@@ -81,6 +81,77 @@ public class PathologicalTest extends CoreRenderingTestCase {
                 "<p>" + Strings.repeat("*a_ ", x - 1) + "*a_</p>\n");
     }
 
+    @Test
+    public void openersAndClosersMultipleOf3() {
+        assertRendering(
+                "a**b" + Strings.repeat("c* ", x),
+                "<p>a**b" + Strings.repeat("c* ", x - 1) + "c*</p>\n");
+    }
+
+    @Test
+    public void openersAndClosersMultipleOf3Both() {
+        assertRendering(
+                Strings.repeat("a***b ", x),
+                "<p>" + Strings.repeat("a***b ", x - 1) + "a***b</p>\n");
+    }
+
+    @Test
+    public void linkWithUnclosedTitle() {
+        assertRendering(
+                Strings.repeat("[ (](", x),
+                "<p>" + Strings.repeat("[ (](", x) + "</p>\n");
+    }
+
+    @Test
+    public void unclosedLinksAngleBrackets() {
+        assertRendering(
+                Strings.repeat("[a](<b", x),
+                "<p>" + Strings.repeat("[a](&lt;b", x) + "</p>\n");
+    }
+
+    @Test
+    public void unclosedLinks() {
+        assertRendering(
+                Strings.repeat("[a](b", x),
+                "<p>" + Strings.repeat("[a](b", x) + "</p>\n");
+    }
+
+    @Test
+    public void unclosedLinksNested() {
+        assertRendering(
+                Strings.repeat("[](", x),
+                "<p>" + Strings.repeat("[](", x) + "</p>\n");
+    }
+
+    @Test
+    public void unmatchedBackticks() {
+        // backtick runs of increasing length, none of which can be closed
+        x = 900;
+        StringBuilder input = new StringBuilder();
+        for (int i = 1; i <= x; i++) {
+            input.append('e').append(Strings.repeat("`", i));
+        }
+        assertRendering(input.toString(), "<p>" + input + "</p>\n");
+    }
+
+    @Test
+    public void backticksInConsecutiveParagraphs() {
+        // runs found in one paragraph must not be used to fail or match code spans in the next
+        x = 1000;
+        assertRendering(
+                Strings.repeat("a `` b ```\n\nc `` d ``\n\n", x),
+                Strings.repeat("<p>a `` b ```</p>\n<p>c <code>d</code></p>\n", x));
+    }
+
+    @Test
+    public void manyReferenceDefinitions() {
+        // each repetition is a definition and a reference so input is twice as long
+        x = 20000;
+        assertRendering(
+                Strings.repeat("[a]: u\n", x) + "\n" + Strings.repeat("[a] ", x),
+                "<p>" + Strings.repeat("<a href=\"u\">a</a> ", x - 1) + "<a href=\"u\">a</a></p>\n");
+    }
+
     @Test
     public void nestedBrackets() {
         assertRendering(